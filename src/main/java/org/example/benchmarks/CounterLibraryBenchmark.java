@@ -0,0 +1,53 @@
+package org.example.benchmarks;
+
+import org.example.synchronization.counter.Counter;
+import org.example.synchronization.counter.CounterType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * COUNTER PAKETİ - JMH BENCHMARK
+ *
+ * org.example.synchronization.counter içindeki tüm stratejileri
+ * tek paylaşılan sayaç üzerinde karşılaştırır.
+ *
+ * Çekişme eğrisi için thread sayısını -t ile değiştirin:
+ *   java -jar target/benchmarks.jar CounterLibraryBenchmark -t 1
+ *   java -jar target/benchmarks.jar CounterLibraryBenchmark -t 4
+ *   java -jar target/benchmarks.jar CounterLibraryBenchmark -t 16
+ *   java -jar target/benchmarks.jar CounterLibraryBenchmark -p type=STRIPED,LONG_ADDER -t max
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CounterLibraryBenchmark {
+
+    @Param({"SYNCHRONIZED", "ATOMIC", "LONG_ADDER", "STRIPED", "BATCHING"})
+    public CounterType type;
+
+    private Counter counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        counter = type.create();
+    }
+
+    @Benchmark
+    public void increment() {
+        counter.increment();
+    }
+
+    /**
+     * Okuma maliyeti: striped/adder sayaçlarda sum() tüm hücreleri gezer
+     */
+    @Benchmark
+    @Threads(1)
+    public long sum() {
+        return counter.sum();
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SYNCHRONIZATION SAYAÇ STRATEJİLERİ - JMH BENCHMARK
+ *
+ * TESTT, TESTT_Synchronized, TESTT_InstanceBased, TESTT_MultipleCounters ve
+ * TESTT_TrueParallel main() içinde System.nanoTime ile 10 x 100M artırım ölçüyor.
+ * Bu ölçümlere JIT warmup, dead-code elimination ve thread başlatma maliyeti karışıyor.
+ *
+ * Burada aynı stratejiler JMH ile ölçülüyor:
+ * - Warmup iterasyonları JIT'in oturmasını bekler
+ * - Fork'lar her ölçümü temiz bir JVM'de tekrarlar
+ * - Dönen değerler JMH tarafından tüketilir (DCE yok)
+ * - Thread'ler JMH tarafından önceden başlatılır (thread start maliyeti yok)
+ *
+ * Çalıştırma:
+ *   mvn package
+ *   java -jar target/benchmarks.jar CounterStrategyBenchmark
+ *   java -jar target/benchmarks.jar CounterStrategyBenchmark -t 8   (tek sayaçlı testler için thread sayısı)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CounterStrategyBenchmark {
+
+    /**
+     * TESTT: Senkronizasyonsuz (race condition var, sadece referans maliyet)
+     */
+    @State(Scope.Benchmark)
+    public static class UnsynchronizedCounter {
+        int counter;
+
+        int increment() {
+            int temp = counter;
+            counter = temp + 1;
+            return counter;
+        }
+    }
+
+    /**
+     * TESTT_Synchronized: static synchronized → Class objesi kilitlenir
+     */
+    @State(Scope.Benchmark)
+    public static class StaticSynchronizedCounter {
+        static int counter;
+
+        static synchronized int increment() {
+            int temp = counter;
+            counter = temp + 1;
+            return counter;
+        }
+    }
+
+    /**
+     * TESTT_InstanceBased: synchronized instance method → 'this' kilitlenir
+     */
+    @State(Scope.Benchmark)
+    public static class InstanceSynchronizedCounter {
+        private int count;
+
+        synchronized int increment() {
+            int temp = count;
+            count = temp + 1;
+            return count;
+        }
+    }
+
+    /**
+     * TESTT_MultipleCounters: İki sayaç, ama ikisi de AYNI Class lock'unu kullanıyor
+     * (orijinaldeki static synchronized gibi SharedLockCounters.class kilitlenir)
+     */
+    @State(Scope.Group)
+    public static class SharedLockCounters {
+        int counter1;
+        int counter2;
+
+        int incrementCounter1() {
+            synchronized (SharedLockCounters.class) {
+                int temp = counter1;
+                counter1 = temp + 1;
+                return counter1;
+            }
+        }
+
+        int incrementCounter2() {
+            synchronized (SharedLockCounters.class) {
+                int temp = counter2;
+                counter2 = temp + 1;
+                return counter2;
+            }
+        }
+    }
+
+    /**
+     * TESTT_TrueParallel: İki sayaç, her biri için FARKLI lock objesi
+     */
+    @State(Scope.Group)
+    public static class SeparateLockCounters {
+        int counter1;
+        int counter2;
+        final Object lock1 = new Object();
+        final Object lock2 = new Object();
+
+        int incrementCounter1() {
+            synchronized (lock1) {
+                int temp = counter1;
+                counter1 = temp + 1;
+                return counter1;
+            }
+        }
+
+        int incrementCounter2() {
+            synchronized (lock2) {
+                int temp = counter2;
+                counter2 = temp + 1;
+                return counter2;
+            }
+        }
+    }
+
+    // ===== Tek paylaşılan sayaç (TESTT, TESTT_Synchronized, TESTT_InstanceBased) =====
+
+    @Benchmark
+    @Threads(2)
+    public int unsynchronized(UnsynchronizedCounter state) {
+        return state.increment();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public int staticSynchronized(StaticSynchronizedCounter state) {
+        return StaticSynchronizedCounter.increment();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public int instanceSynchronized(InstanceSynchronizedCounter state) {
+        return state.increment();
+    }
+
+    // ===== İki sayaç, her thread kendi sayacını artırıyor (TESTT_MultipleCounters) =====
+
+    @Benchmark
+    @Group("multipleCountersSharedLock")
+    @GroupThreads(1)
+    public int sharedLockCounter1(SharedLockCounters state) {
+        return state.incrementCounter1();
+    }
+
+    @Benchmark
+    @Group("multipleCountersSharedLock")
+    @GroupThreads(1)
+    public int sharedLockCounter2(SharedLockCounters state) {
+        return state.incrementCounter2();
+    }
+
+    // ===== İki sayaç, iki farklı lock (TESTT_TrueParallel) =====
+
+    @Benchmark
+    @Group("trueParallelSeparateLocks")
+    @GroupThreads(1)
+    public int separateLockCounter1(SeparateLockCounters state) {
+        return state.incrementCounter1();
+    }
+
+    @Benchmark
+    @Group("trueParallelSeparateLocks")
+    @GroupThreads(1)
+    public int separateLockCounter2(SeparateLockCounters state) {
+        return state.incrementCounter2();
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.benchmarks;
+
+import org.example.synchronization.counter.CounterLayout;
+import org.example.synchronization.counter.IndependentCounters;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FALSE SHARING - JMH BENCHMARK
+ *
+ * Her JMH thread'i kendi bağımsız sayacını artırır (TESTT_MultipleCounters gibi,
+ * ama lock yok). Layout'lar arasındaki fark tamamen cache coherence trafiğidir.
+ *
+ * Sayaç sayısı = thread sayısı (-t ile 2..N):
+ *   java -jar target/benchmarks.jar FalseSharingBenchmark -t 2
+ *   java -jar target/benchmarks.jar FalseSharingBenchmark -t 8
+ *
+ * CONTENDED layout'u için fork'lara -XX:-RestrictContended ekleniyor.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-XX:-RestrictContended")
+@Threads(2)
+public class FalseSharingBenchmark {
+
+    // Desteklenen en fazla thread sayısı (-t bundan büyük olamaz)
+    private static final int MAX_COUNTERS = 256;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"ADJACENT", "PADDED", "CONTENDED"})
+        public CounterLayout layout;
+
+        IndependentCounters counters;
+        final AtomicInteger nextIndex = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            counters = layout.create(MAX_COUNTERS);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Slot {
+        int index;
+
+        @Setup(Level.Trial)
+        public void setUp(Shared shared) {
+            // Thread'ler 0, 1, 2... sırayla yan yana sayaçları alır
+            index = shared.nextIndex.getAndIncrement();
+        }
+    }
+
+    @Benchmark
+    public void incrementOwnCounter(Shared shared, Slot slot) {
+        shared.counters.increment(slot.index);
+    }
+}
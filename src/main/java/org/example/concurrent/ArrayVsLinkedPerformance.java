@@ -1,5 +1,13 @@
 package org.example.concurrent;
 
+import org.example.concurrent.load.OpenLoopLoadGenerator;
+import org.example.concurrent.metrics.BatchStats;
+import org.example.concurrent.metrics.LatencyHistogram;
+import org.example.concurrent.queue.BatchBlockingQueue;
+import org.example.concurrent.queue.QueueTopology;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -11,6 +19,29 @@ import java.util.concurrent.atomic.AtomicInteger;
  * - ArrayBlockingQueue'da producer ve consumer PARALEL çalışır
  * - Lock sadece queue işlemleri sırasında tutulur (çok kısa süre)
  * - Business logic paralel çalışır
+ *
+ * Testte 1 producer ve 1 consumer var; genel amaçlı blocking kuyrukların yanında
+ * bu topoloji için güvenli en ucuz lock-free kuyruk da ölçülür (AUTO → SPSC).
+ *
+ * Batch modu (batchSize > 1): producer batchSize task biriktirip toplu yayınlar,
+ * consumer take() ile ilk task'i bekler, kalanları drainTo() ile tek lock alımında alır.
+ *
+ * Her task'in gecikmesi LatencyHistogram'a kaydedilir ve kuyruk başına yüzdelikler yazılır:
+ * - Kuyruk bekleme: task oluşturulduğu an → consumer'ın onu kuyruktan aldığı an
+ *   (put'ta bloklanma ve batch'te bekleme dahil)
+ * - Uçtan uca: task oluşturulduğu an → işlenmesi bittiği an
+ *
+ * Open-loop modu (rate > 0): producer sleep yerine OpenLoopLoadGenerator ile
+ * sabit hızda (task/sn) üretir ve task'in zamanı PLANLANAN gönderim anıdır.
+ * Consumer kapasitesi ~1000/consumerDelay task/sn; bunun üstünde bir hız
+ * verildiğinde gecikmenin nasıl büyüdüğü (coordinated omission olmadan) görülür.
+ * Bu modda producer tekil put() yapar, batch sadece consumer tarafında uygulanır.
+ *
+ * Çalıştırma:
+ *   java ... ArrayVsLinkedPerformance           (AUTO → SPSC)
+ *   java ... ArrayVsLinkedPerformance MPMC      (topolojiyi zorla)
+ *   java ... ArrayVsLinkedPerformance AUTO 16   (batch modu, max 16 task)
+ *   java ... ArrayVsLinkedPerformance AUTO 1 150  (open-loop, 150 task/sn)
  */
 public class ArrayVsLinkedPerformance {
 
@@ -19,8 +50,12 @@ public class ArrayVsLinkedPerformance {
         final long createdAt;
 
         Task(int id) {
+            this(id, System.nanoTime());
+        }
+
+        Task(int id, long createdAt) {
             this.id = id;
-            this.createdAt = System.nanoTime();
+            this.createdAt = createdAt;
         }
     }
 
@@ -30,27 +65,50 @@ public class ArrayVsLinkedPerformance {
         int taskCount = 1000;
         int producerDelay = 10;  // ms - item üretme süresi (business logic)
         int consumerDelay = 10;  // ms - item işleme süresi (business logic)
+        QueueTopology topology = QueueTopology.select(args.length > 0 ? args[0] : "AUTO", 1, 1);
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 1;  // 1 = batch yok
+        double rate = args.length > 2 ? Double.parseDouble(args[2]) : 0;  // 0 = kapalı döngü (sleep)
 
         System.out.println("Test Parametreleri:");
         System.out.println("- Task sayısı: " + taskCount);
         System.out.println("- Producer delay: " + producerDelay + "ms (item üretme)");
         System.out.println("- Consumer delay: " + consumerDelay + "ms (item işleme)");
+        System.out.println("- Ring buffer topolojisi: " + topology);
+        System.out.println("- Batch boyutu: " + (batchSize > 1 ? batchSize : "yok (tekil put/take)"));
+        System.out.println("- Yük modeli: " + (rate > 0 ? "open-loop, " + rate + " task/sn" : "kapalı döngü (producer delay)"));
         System.out.println();
 
         // Test 1: ArrayBlockingQueue
         System.out.println("--- Test 1: ArrayBlockingQueue ---");
-        long arrayTime = testQueue(new ArrayBlockingQueue<>(100), taskCount, producerDelay, consumerDelay);
+        LatencyHistogram arrayLatency = new LatencyHistogram();
+        long arrayTime = testQueue(new ArrayBlockingQueue<>(100), taskCount, producerDelay, consumerDelay, batchSize, rate,
+                new LatencyHistogram(), arrayLatency);
 
         Thread.sleep(1000);
 
         // Test 2: LinkedBlockingQueue
         System.out.println("\n--- Test 2: LinkedBlockingQueue ---");
-        long linkedTime = testQueue(new LinkedBlockingQueue<>(100), taskCount, producerDelay, consumerDelay);
+        LatencyHistogram linkedLatency = new LatencyHistogram();
+        long linkedTime = testQueue(new LinkedBlockingQueue<>(100), taskCount, producerDelay, consumerDelay, batchSize, rate,
+                new LatencyHistogram(), linkedLatency);
+
+        Thread.sleep(1000);
+
+        // Test 3: Topolojiye özel lock-free ring buffer
+        System.out.println("\n--- Test 3: " + topology + " Ring Buffer ---");
+        LatencyHistogram ringLatency = new LatencyHistogram();
+        long ringTime = testQueue(topology.create(100), taskCount, producerDelay, consumerDelay, batchSize, rate,
+                new LatencyHistogram(), ringLatency);
 
         // Karşılaştırma
         System.out.println("\n=== SONUÇLAR ===");
         System.out.println("ArrayBlockingQueue:  " + arrayTime + "ms");
         System.out.println("LinkedBlockingQueue: " + linkedTime + "ms");
+        System.out.println(topology + " Ring Buffer:    " + ringTime + "ms");
+        System.out.println("\nUçtan uca gecikme:");
+        System.out.println(arrayLatency.summary("  ArrayBlockingQueue "));
+        System.out.println(linkedLatency.summary("  LinkedBlockingQueue"));
+        System.out.println(ringLatency.summary("  " + topology + " Ring Buffer"));
         double diff = ((double) arrayTime / linkedTime - 1) * 100;
         System.out.printf("Fark: %.1f%%\n", Math.abs(diff));
 
@@ -65,26 +123,59 @@ public class ArrayVsLinkedPerformance {
             java.util.concurrent.BlockingQueue<Task> queue,
             int taskCount,
             int producerDelay,
-            int consumerDelay
+            int consumerDelay,
+            int batchSize,
+            double rate,
+            LatencyHistogram queueWaitLatency,
+            LatencyHistogram endToEndLatency
     ) throws InterruptedException {
 
         AtomicInteger produced = new AtomicInteger(0);
         AtomicInteger consumed = new AtomicInteger(0);
         AtomicInteger parallelCount = new AtomicInteger(0);
+        BatchStats producerStats = new BatchStats("  Producer");
+        BatchStats consumerStats = new BatchStats("  Consumer");
+        OpenLoopLoadGenerator.Result[] loadResult = new OpenLoopLoadGenerator.Result[1];
 
         long startTime = System.currentTimeMillis();
 
         // Producer thread
         Thread producer = new Thread(() -> {
+            long batches = 0, calls = 0;
+            List<Task> batch = new ArrayList<>(batchSize);
             try {
+                if (rate > 0) {
+                    // Open-loop: planlanan zamanlarda gönder, kuyruk dolsa da plan kaymaz
+                    loadResult[0] = new OpenLoopLoadGenerator(rate, taskCount).run(queue, 1, (id, intendedAt) -> {
+                        produced.incrementAndGet();
+                        if (consumed.get() > 0 && consumed.get() < taskCount) {
+                            parallelCount.incrementAndGet();
+                        }
+                        return new Task(id, intendedAt);
+                    });
+                    calls = batches = taskCount;
+                    return;
+                }
                 for (int i = 1; i <= taskCount; i++) {
                     // BUSINESS LOGIC - Lock dışında! Paralel çalışabilir
                     Thread.sleep(producerDelay);
                     Task task = new Task(i);
 
                     // Queue işlemi - Lock tutulur (çok kısa süre)
-                    queue.put(task);
-                    produced.incrementAndGet();
+                    if (batchSize > 1) {
+                        batch.add(task);
+                        if (batch.size() == batchSize || i == taskCount) {
+                            calls += BatchBlockingQueue.putAll(queue, batch);
+                            batches++;
+                            produced.addAndGet(batch.size());
+                            batch.clear();
+                        }
+                    } else {
+                        queue.put(task);
+                        calls++;
+                        batches++;
+                        produced.incrementAndGet();
+                    }
 
                     // Paralel çalışma kontrolü
                     if (consumed.get() > 0 && consumed.get() < taskCount) {
@@ -93,27 +184,52 @@ public class ArrayVsLinkedPerformance {
                 }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
+            } finally {
+                producerStats.add(produced.get(), batches, calls, 0);
             }
         }, "Producer");
 
-        // Consumer thread
+        // Consumer thread (tek consumer → histogramlara sadece o yazar, join sonrası okunur)
         Thread consumer = new Thread(() -> {
+            long batches = 0, calls = 0;
+            List<Task> buffer = new ArrayList<>(batchSize);  // Tekrar kullanılan buffer
             try {
-                for (int i = 1; i <= taskCount; i++) {
+                int i = 0;
+                while (i < taskCount) {
                     // Queue işlemi - Lock tutulur (çok kısa süre)
-                    Task task = queue.take();
-                    consumed.incrementAndGet();
+                    buffer.add(queue.take());  // İlk task'i bekle
+                    calls++;
+                    if (batchSize > 1) {
+                        queue.drainTo(buffer, batchSize - 1);  // Kalanları tek lock alımıyla al
+                        calls++;
+                    }
+                    batches++;
 
-                    // BUSINESS LOGIC - Lock dışında! Paralel çalışabilir
-                    Thread.sleep(consumerDelay);
+                    long takenAt = System.nanoTime();
+                    for (Task task : buffer) {
+                        queueWaitLatency.record(takenAt - task.createdAt);
+                    }
+
+                    for (Task task : buffer) {
+                        i++;
+                        consumed.incrementAndGet();
 
-                    long latency = (System.nanoTime() - task.createdAt) / 1_000_000;
-                    if (i == 1 || i == taskCount / 2 || i == taskCount) {
-                        System.out.println("  Task-" + task.id + " işlendi (latency: " + latency + "ms)");
+                        // BUSINESS LOGIC - Lock dışında! Paralel çalışabilir
+                        Thread.sleep(consumerDelay);
+
+                        long latencyNanos = System.nanoTime() - task.createdAt;
+                        endToEndLatency.record(latencyNanos);
+                        long latency = latencyNanos / 1_000_000;
+                        if (i == 1 || i == taskCount / 2 || i == taskCount) {
+                            System.out.println("  Task-" + task.id + " işlendi (latency: " + latency + "ms)");
+                        }
                     }
+                    buffer.clear();
                 }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
+            } finally {
+                consumerStats.add(consumed.get(), batches, calls, 0);
             }
         }, "Consumer");
 
@@ -128,6 +244,14 @@ public class ArrayVsLinkedPerformance {
         System.out.println("  Toplam süre: " + totalTime + "ms");
         System.out.println("  Paralel çalışma tespit sayısı: " + parallelCount.get() + "/" + taskCount);
         System.out.println("  Paralellik oranı: " + (parallelCount.get() * 100 / taskCount) + "%");
+        System.out.println("  Throughput: " + (taskCount * 1000L / Math.max(1, totalTime)) + " task/sec");
+        System.out.println(producerStats.summary());
+        System.out.println(consumerStats.summary());
+        if (loadResult[0] != null) {
+            System.out.println(loadResult[0].summary());
+        }
+        System.out.println(queueWaitLatency.summary("  Kuyruk bekleme"));
+        System.out.println(endToEndLatency.summary("  Uçtan uca    "));
 
         return totalTime;
     }
@@ -1,5 +1,9 @@
 package org.example.concurrent;
 
+import org.example.concurrent.timer.IndexedDelayQueue;
+import org.example.concurrent.timer.TimerWheel;
+
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.DelayQueue;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.TimeUnit;
@@ -12,10 +16,17 @@ import java.util.concurrent.TimeUnit;
  * - Thread-safe ve blocking
  *
  * Kullanım alanları:
- * - Cache expiration
+ * - Cache expiration (çalışan örnek: cache.TtlCache)
  * - Scheduled tasks
  * - Session timeout
- * - Rate limiting
+ * - Rate limiting (throughput sınırı için bkz. ratelimit paketi: token bucket, kayan pencere)
+ *
+ * Çok sayıda timer (milyonlarca timeout, çoğu iptal) için bkz. timer.TimerWheel:
+ * ekleme ve iptal O(1), DelayQueue'da remove(Object) O(n).
+ * Karşılaştırma: timer.TimerWheelBenchmark
+ *
+ * İptal edilebilir handle'lı yığın: timer.IndexedDelayQueue (iptal O(log n), nanoTime deadline,
+ * Delayed nesnesi gerekmez). Çoğu iptal edilen istek timeout'ları: timer.RequestTimeoutBenchmark
  */
 public class DelayQueueExample {
 
@@ -111,5 +122,72 @@ public class DelayQueueExample {
         System.out.println("   3. Task-1 (5 saniye)");
         System.out.println("   4. Task-3 (8 saniye)");
         System.out.println("   → Ekleme sırasına göre DEĞİL, delay'e göre! ✅");
+
+        indexedDelayQueueExample();
+        timerWheelExample();
+    }
+
+    /**
+     * Aynı 4 task IndexedDelayQueue ile: schedule() handle döner, Task-3 handle ile iptal edilir.
+     * DelayQueue.remove(Object) tüm yığını tarardı; handle yığındaki konumunu bildiği için O(log n).
+     */
+    private static void indexedDelayQueueExample() throws InterruptedException {
+        System.out.println("\n=== Aynı Task'ler IndexedDelayQueue ile (iptal edilebilir handle) ===\n");
+
+        IndexedDelayQueue<String> queue = new IndexedDelayQueue<>();
+        queue.schedule("Task-1", 5000, TimeUnit.MILLISECONDS);
+        queue.schedule("Task-2", 2000, TimeUnit.MILLISECONDS);
+        IndexedDelayQueue.Handle<String> task3 = queue.schedule("Task-3", 8000, TimeUnit.MILLISECONDS);
+        queue.schedule("Task-4", 1000, TimeUnit.MILLISECONDS);
+        System.out.println("✅ 4 task eklendi (5, 2, 8, 1 saniye delay)");
+
+        System.out.println("❌ Task-3 iptal edildi: " + task3.cancel() + " (kuyruk boyutu: " + queue.size() + ")");
+        System.out.println("⏳ Kalan task'ler take() ile bekleniyor...\n");
+
+        long startTime = System.currentTimeMillis();
+        while (queue.size() > 0) {
+            String name = queue.take();
+            System.out.println("✅ [CONSUMER] " + name + " alındı ("
+                    + (System.currentTimeMillis() - startTime) + "ms)");
+        }
+        System.out.println("\n⏱️  Toplam süre: " + (System.currentTimeMillis() - startTime)
+                + "ms (Task-3 iptal edildiği için 8 sn beklenmedi)");
+    }
+
+    /**
+     * Aynı 4 task TimerWheel ile: consumer thread'i yok, task süresi dolunca çark thread'inde çalışır.
+     * Task-3 süresi dolmadan iptal edilir (DelayQueue'da bu remove(Object) = O(n) tarama olurdu).
+     */
+    private static void timerWheelExample() throws InterruptedException {
+        System.out.println("\n=== Aynı Task'ler TimerWheel ile ===\n");
+
+        long startTime = System.currentTimeMillis();
+        CountDownLatch done = new CountDownLatch(3);
+        try (TimerWheel wheel = new TimerWheel(10, TimeUnit.MILLISECONDS, 64, null).start()) {
+            String[] names = {"Task-1", "Task-2", "Task-3", "Task-4"};
+            long[] delays = {5000, 2000, 8000, 1000};
+            TimerWheel.Timeout[] timeouts = new TimerWheel.Timeout[names.length];
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delays[i]);
+                timeouts[i] = wheel.schedule(() -> {
+                    System.out.printf("✅ [TIMER] %s çalıştı (deadline'dan %.1fms sonra)%n",
+                            name, (System.nanoTime() - deadline) / 1e6);
+                    done.countDown();
+                }, delays[i], TimeUnit.MILLISECONDS);
+                System.out.println("✅ " + name + " zamanlandı (" + delays[i] / 1000 + " saniye delay)");
+            }
+
+            // İptal: O(1), kovadan çıkarma çark thread'inde
+            System.out.println("\n❌ Task-3 iptal edildi: " + timeouts[2].cancel());
+            System.out.println("⏳ Kalan task'ler bekleniyor...\n");
+
+            done.await();
+            System.out.println("\n📊 Çalışan: " + wheel.expired() + ", iptal: " + wheel.cancelled()
+                    + ", bekleyen: " + wheel.pending());
+        }
+        System.out.println("⏱️  Toplam süre: " + (System.currentTimeMillis() - startTime)
+                + "ms (Task-3 iptal edildiği için 8 sn beklenmedi)");
+        System.out.println("\n💡 Çözünürlük tick kadar (10ms): task deadline'ından önce çalışmaz, ~bir tick (+ thread uyanma gecikmesi) içinde çalışır");
     }
 }
@@ -0,0 +1,138 @@
+package org.example.concurrent;
+
+import org.example.concurrent.engine.SchedulingPolicy;
+import org.example.concurrent.engine.TaskEngine;
+import org.example.concurrent.engine.TaskType;
+import org.example.concurrent.load.OpenLoopLoadGenerator;
+import org.example.concurrent.metrics.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tek FIFO kuyruk vs Tip Başına Adil Zamanlama - Karışık Yükte Tip Başına Gecikme
+ *
+ * TaskProcessorExample'ın orijinal tasarımında tüm tipler tek ArrayBlockingQueue'yu
+ * paylaşıyordu. Yavaş REPORT'lar patlama halinde gelince hızlı SMS'ler
+ * arkalarında bekler: ortalama iyi görünür, SMS p99'u REPORT süresine çıkar.
+ *
+ * Yük (open-loop, gecikme planlanan gönderim anından ölçülür):
+ * - Sabit akış: rate task/sn → %60 SMS (5ms), %25 NOTIFICATION (10ms), %15 EMAIL (30ms)
+ * - Her saniye bir REPORT patlaması: 12 task, 100-200ms
+ * Varsayılanlarla 4 worker'ın ~%75'i dolu.
+ *
+ * Karşılaştırılan düzenler (hepsi aynı toplam worker sayısıyla):
+ * 1. Tek FIFO kuyruk        - paylaşılan havuz, geliş sırası (mevcut tasarım)
+ * 2. Weighted fair (DRR)    - paylaşılan havuz, ağırlık SMS=8 NOTIFICATION=4 EMAIL=2 REPORT=1
+ * 3. Strict priority        - paylaşılan havuz, aynı sırayla kesin öncelik
+ * 4. Tipe özel havuzlar     - her tipe workers/4 worker (izolasyon, ama boştaki worker yardım edemez)
+ *
+ * Çalıştırma:
+ *   java ... FairSchedulingTest               (6 sn, 120 task/sn, 4 worker)
+ *   java ... FairSchedulingTest 10 150 8      (süre, hız, worker)
+ */
+public class FairSchedulingTest {
+
+    private static final int REPORT_BURST = 12;
+
+    public static void main(String[] args) throws InterruptedException {
+        int durationSec = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+        double rate = args.length > 1 ? Double.parseDouble(args[1]) : 120;
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        System.out.println("=== Tip Başına Adil Zamanlama Testi ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.println("- Süre: " + durationSec + " sn");
+        System.out.println("- Sabit akış: " + rate + " task/sn (%60 SMS 5ms, %25 NOTIFICATION 10ms, %15 EMAIL 30ms)");
+        System.out.println("- REPORT patlaması: saniyede bir " + REPORT_BURST + " task (100-200ms)");
+        System.out.println("- Toplam worker: " + workers);
+        System.out.println();
+
+        Map<String, Map<TaskType, LatencyHistogram>> results = new LinkedHashMap<>();
+        results.put("Tek FIFO kuyruk", run("FIFO", shared(workers, SchedulingPolicy.FIFO), durationSec, rate));
+        results.put("Weighted fair (DRR)", run("DRR", shared(workers, SchedulingPolicy.WEIGHTED_FAIR), durationSec, rate));
+        results.put("Strict priority", run("PRIORITY", shared(workers, SchedulingPolicy.STRICT_PRIORITY), durationSec, rate));
+        results.put("Tipe özel havuzlar", run("DEDICATED",
+                TaskEngine.builder().workers(Math.max(1, workers / TaskType.values().length)), durationSec, rate));
+
+        // Karşılaştırma: tip başına p50 / p99 / max
+        System.out.println("\n=== SONUÇLAR (uçtan uca gecikme) ===");
+        for (TaskType type : TaskType.values()) {
+            System.out.println("\n" + type + ":");
+            for (Map.Entry<String, Map<TaskType, LatencyHistogram>> entry : results.entrySet()) {
+                LatencyHistogram h = entry.getValue().get(type);
+                System.out.printf("  %-20s p50=%-9s p99=%-9s max=%-9s (n=%d)%n", entry.getKey(),
+                        LatencyHistogram.formatNanos(h.valueAtPercentile(50)),
+                        LatencyHistogram.formatNanos(h.valueAtPercentile(99)),
+                        LatencyHistogram.formatNanos(h.max()), h.count());
+            }
+        }
+
+        System.out.println("\n💡 Tek FIFO kuyrukta SMS'ler REPORT patlamasının arkasında bekler.");
+        System.out.println("   DRR ve strict priority SMS'i öne alır; DRR REPORT'u aç bırakmaz.");
+        System.out.println("   Zamanlama kesintisizdir: tüm worker'lar REPORT işlerken gelen SMS yine bekler (p99'daki kuyruk).");
+        System.out.println("   Tipe özel havuzlar SMS'i tamamen izole eder ama REPORT'a sadece kendi worker'ları kalır.");
+    }
+
+    private static TaskEngine.Builder shared(int workers, SchedulingPolicy policy) {
+        return TaskEngine.builder()
+                .shared(workers, policy)
+                .weight(TaskType.SMS, 8)
+                .weight(TaskType.NOTIFICATION, 4)
+                .weight(TaskType.EMAIL, 2)
+                .weight(TaskType.REPORT, 1);
+    }
+
+    private static Map<TaskType, LatencyHistogram> run(String name, TaskEngine.Builder builder,
+                                                       int durationSec, double rate) throws InterruptedException {
+        System.out.println("--- " + name + " ---");
+        // Kapasite bol: producer bloklanmasın, fark sadece sıralamadan gelsin
+        TaskEngine engine = builder.name(name).queueCapacity(10_000).build();
+        engine.start();
+
+        // REPORT patlamaları - her düzende aynı süreler (sabit seed)
+        Thread burster = new Thread(() -> {
+            Random random = new Random(7);
+            try {
+                for (int second = 0; second < durationSec; second++) {
+                    Thread.sleep(second == 0 ? 500 : 1000);
+                    long burstAt = System.nanoTime();
+                    for (int i = 0; i < REPORT_BURST; i++) {
+                        int ms = 100 + random.nextInt(100);
+                        engine.submit(TaskType.REPORT, () -> Thread.sleep(ms), burstAt);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "ReportBurster");
+        burster.start();
+
+        // Sabit akış - open-loop
+        Random mix = new Random(42);
+        new OpenLoopLoadGenerator(rate, (int) (rate * durationSec)).run(1, (seq, intendedAt) -> {
+            int roll = mix.nextInt(100);
+            if (roll < 60) {
+                engine.submit(TaskType.SMS, () -> Thread.sleep(5), intendedAt);
+            } else if (roll < 85) {
+                engine.submit(TaskType.NOTIFICATION, () -> Thread.sleep(10), intendedAt);
+            } else {
+                engine.submit(TaskType.EMAIL, () -> Thread.sleep(30), intendedAt);
+            }
+        });
+        burster.join();
+
+        engine.shutdown();
+        engine.awaitTermination(60, TimeUnit.SECONDS);
+        System.out.println(engine.summary());
+
+        Map<TaskType, LatencyHistogram> latencies = new EnumMap<>(TaskType.class);
+        for (TaskType type : TaskType.values()) {
+            latencies.put(type, engine.latency(type));
+        }
+        return latencies;
+    }
+}
@@ -1,9 +1,24 @@
 package org.example.concurrent;
 
+import org.example.concurrent.metrics.Allocations;
+import org.example.concurrent.metrics.BatchStats;
+import org.example.concurrent.metrics.CpuTime;
+import org.example.concurrent.queue.ArrayBatchBlockingQueue;
+import org.example.concurrent.queue.BatchBlockingQueue;
+import org.example.concurrent.queue.IntBlockingQueue;
+import org.example.concurrent.queue.QueueTopology;
+import org.example.concurrent.queue.WaitStrategy;
+import org.example.concurrent.queue.WaitStrategyType;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
 
 /**
  * High Contention (Yüksek Çekişme) Testi
@@ -12,6 +27,33 @@ import java.util.concurrent.atomic.AtomicInteger;
  * iki lock avantajı ortaya çıkar.
  *
  * Senaryo: Business logic çok kısa (lock'a çok sık dokunuluyor)
+ *
+ * Üçüncü yarışmacı: lock-free ring buffer. Producer/consumer sayısına göre
+ * güvenli olan en ucuz topoloji seçilir (10x10 → MPMC, bkz. QueueTopology).
+ * Kapasite 2'nin kuvvetine yuvarlanır (1000 → 1024).
+ *
+ * Dördüncü yarışmacı: IntBlockingQueue (int[] tabanlı, boxing yok).
+ * BlockingQueue<Integer> testlerinde ölçülenin önemli kısmı autoboxing ve GC'dir;
+ * bu yüzden her test ops/sec'in yanında allocation miktarını da yazar.
+ *
+ * Batch modu (batchSize > 1):
+ * - Consumer'lar poll() yerine drainTo(buffer, batchSize) ile toplu alır
+ * - Producer'lar batchSize item biriktirip tek seferde yayınlar
+ *   (BatchBlockingQueue.putAll; JDK kuyruklarında eleman eleman put'a düşer)
+ * - Ek yarışmacı: ArrayBatchBlockingQueue (putAll TEK lock alımı)
+ * - Her test ortalama batch boyutu ve item başına lock alımını yazar
+ *
+ * Çalıştırma:
+ *   java ... HighContentionTest                    (AUTO, 10 producer, 10 consumer)
+ *   java ... HighContentionTest AUTO 10 1          (→ MPSC)
+ *   java ... HighContentionTest MPMC 1 1           (topolojiyi zorla)
+ *   java ... HighContentionTest AUTO 10 10 64      (batch modu, max 64 item)
+ *   java ... HighContentionTest AUTO 10 10 1 SPIN_PARK   (bekleme stratejisi)
+ *
+ * Bekleme stratejisi (varsayılan BUSY_SPIN = orijinal poll() döngüsü):
+ * BUSY_SPIN | SPIN_YIELD | SPIN_PARK | BLOCKING (bkz. WaitStrategy).
+ * Her test consumer'ların harcadığı CPU zamanını item başına yazar;
+ * duvar saati süresiyle birlikte okunduğunda "kaç çekirdek yakıldı" görülür.
  */
 public class HighContentionTest {
 
@@ -20,8 +62,13 @@ public class HighContentionTest {
         System.out.println("Senaryo: Çok producer + çok consumer, az business logic");
         System.out.println("         (Lock'a çok sık dokunuluyor)\n");
 
-        int producerCount = 10;
-        int consumerCount = 10;
+        String topologyArg = args.length > 0 ? args[0] : "AUTO";
+        int producerCount = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int consumerCount = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        QueueTopology topology = QueueTopology.select(topologyArg, producerCount, consumerCount);
+        int batchSize = args.length > 3 ? Integer.parseInt(args[3]) : 1;  // 1 = batch yok
+        WaitStrategyType waitType = WaitStrategyType.parse(args.length > 4 ? args[4] : null, WaitStrategyType.BUSY_SPIN);
+        WaitStrategy waitStrategy = waitType.create();
         int itemsPerProducer = 1000000;
         int businessLogicDelay = 0;  // Çok kısa! Lock contention yüksek
 
@@ -30,16 +77,21 @@ public class HighContentionTest {
         System.out.println("- Consumer sayısı: " + consumerCount);
         System.out.println("- Her producer'dan: " + itemsPerProducer + " item");
         System.out.println("- Business logic: " + businessLogicDelay + "ms (çok kısa!)");
+        System.out.println("- Ring buffer topolojisi: " + topology);
+        System.out.println("- Batch boyutu: " + (batchSize > 1 ? batchSize : "yok (tekil put/poll)"));
+        System.out.println("- Consumer bekleme stratejisi: " + waitType);
         System.out.println();
 
         // Test 1: ArrayBlockingQueue
         System.out.println("--- ArrayBlockingQueue ---");
         long arrayTime = testHighContention(
-            new ArrayBlockingQueue<>(1000),
+            Channel.of(new ArrayBlockingQueue<>(1000)),
             producerCount,
             consumerCount,
             itemsPerProducer,
-            businessLogicDelay
+            businessLogicDelay,
+            batchSize,
+            waitStrategy
         );
 
         Thread.sleep(1000);
@@ -47,29 +99,227 @@ public class HighContentionTest {
         // Test 2: LinkedBlockingQueue
         System.out.println("\n--- LinkedBlockingQueue ---");
         long linkedTime = testHighContention(
-            new LinkedBlockingQueue<>(1000),
+            Channel.of(new LinkedBlockingQueue<>(1000)),
+            producerCount,
+            consumerCount,
+            itemsPerProducer,
+            businessLogicDelay,
+            batchSize,
+            waitStrategy
+        );
+
+        Thread.sleep(1000);
+
+        // Test 3: Lock-free ring buffer (topolojiye göre SPSC/MPSC/SPMC/MPMC)
+        System.out.println("\n--- " + topology + " Ring Buffer (lock-free) ---");
+        long ringTime = testHighContention(
+            Channel.of(topology.create(1000)),
+            producerCount,
+            consumerCount,
+            itemsPerProducer,
+            businessLogicDelay,
+            batchSize,
+            waitStrategy
+        );
+
+        Thread.sleep(1000);
+
+        // Test 4: IntBlockingQueue (boxing yok)
+        System.out.println("\n--- IntBlockingQueue (primitive, boxing yok) ---");
+        long primitiveTime = testHighContention(
+            Channel.of(new IntBlockingQueue(1000)),
             producerCount,
             consumerCount,
             itemsPerProducer,
-            businessLogicDelay
+            businessLogicDelay,
+            batchSize,
+            waitStrategy
         );
 
+        long batchQueueTime = -1;
+        if (batchSize > 1) {
+            Thread.sleep(1000);
+
+            // Test 5: ArrayBatchBlockingQueue (putAll tek lock alımı)
+            System.out.println("\n--- ArrayBatchBlockingQueue (toplu put + toplu drain) ---");
+            batchQueueTime = testHighContention(
+                Channel.of(new ArrayBatchBlockingQueue<>(1000)),
+                producerCount,
+                consumerCount,
+                itemsPerProducer,
+                businessLogicDelay,
+                batchSize,
+                waitStrategy
+            );
+        }
+
         // Sonuç
         System.out.println("\n=== SONUÇLAR ===");
         System.out.println("ArrayBlockingQueue:  " + arrayTime + "ms");
         System.out.println("LinkedBlockingQueue: " + linkedTime + "ms");
+        System.out.println(topology + " Ring Buffer:    " + ringTime + "ms");
+        System.out.println("IntBlockingQueue:    " + primitiveTime + "ms");
+        if (batchQueueTime >= 0) {
+            System.out.println("ArrayBatchBlockingQueue: " + batchQueueTime + "ms");
+        }
         double speedup = (double) arrayTime / linkedTime;
         System.out.printf("LinkedBlockingQueue %.2fx daha hızlı!\n", speedup);
+        System.out.printf("%s Ring Buffer: ArrayBlockingQueue'ya göre %.2fx, LinkedBlockingQueue'ya göre %.2fx\n",
+                topology, (double) arrayTime / ringTime, (double) linkedTime / ringTime);
         System.out.println("\n✅ Çok producer/consumer + kısa business logic durumunda");
         System.out.println("   LinkedBlockingQueue'nun iki lock avantajı ortaya çıkıyor!");
+        System.out.println("   Lock-free ring buffer'da thread'ler lock için park edilmiyor, sadece CAS yarışı var.");
+        System.out.println("   IntBlockingQueue ArrayBlockingQueue ile aynı lock yapısında; aradaki fark boxing + GC maliyeti.");
+    }
+
+    /**
+     * Harness'in kuyruğa dokunduğu yer: thread'ler, latch'ler ve ölçüm kuyruk tipinden bağımsız.
+     * Her producer/consumer thread'i kendi Endpoint'ini açar (batch buffer'ı thread'e ait).
+     */
+    interface Channel {
+        Endpoint open(int batchSize, WaitStrategy waitStrategy);
+
+        static Channel of(BlockingQueue<Integer> queue) {
+            return (batchSize, waitStrategy) -> new BoxedEndpoint(queue, batchSize, waitStrategy);
+        }
+
+        static Channel of(IntBlockingQueue queue) {
+            return (batchSize, waitStrategy) -> new IntEndpoint(queue, batchSize, waitStrategy);
+        }
+    }
+
+    interface Endpoint {
+        void put(int item) throws InterruptedException;
+
+        /**
+         * Batch'e ekler (yayınlamaz)
+         */
+        void add(int item);
+
+        int pending();
+
+        /**
+         * Biriken batch'i yayınlar
+         *
+         * @return kuyruk çağrısı (lock alımı) sayısı
+         */
+        int flush() throws InterruptedException;
+
+        /**
+         * Beklemeden en fazla maxElements item alır (tek çağrı)
+         */
+        int drain(int maxElements);
+
+        /**
+         * Bekleme stratejisiyle tek item alır
+         *
+         * @return running false olunca (tüm item'lar tüketildi) false
+         */
+        boolean take(BooleanSupplier running) throws InterruptedException;
+    }
+
+    private static final class BoxedEndpoint implements Endpoint {
+        private final BlockingQueue<Integer> queue;
+        private final WaitStrategy waitStrategy;
+        private final List<Integer> buffer;  // Producer'da batch, consumer'da tekrar kullanılan drain buffer'ı
+
+        BoxedEndpoint(BlockingQueue<Integer> queue, int batchSize, WaitStrategy waitStrategy) {
+            this.queue = queue;
+            this.waitStrategy = waitStrategy;
+            this.buffer = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void put(int item) throws InterruptedException {
+            queue.put(item);  // Autoboxing: Integer.valueOf(item)
+        }
+
+        @Override
+        public void add(int item) {
+            buffer.add(item);  // Autoboxing: Integer.valueOf(item)
+        }
+
+        @Override
+        public int pending() {
+            return buffer.size();
+        }
+
+        @Override
+        public int flush() throws InterruptedException {
+            int calls = BatchBlockingQueue.putAll(queue, buffer);
+            buffer.clear();
+            return calls;
+        }
+
+        @Override
+        public int drain(int maxElements) {
+            int n = queue.drainTo(buffer, maxElements);  // Tek lock alımı, n item
+            buffer.clear();
+            return n;
+        }
+
+        @Override
+        public boolean take(BooleanSupplier running) throws InterruptedException {
+            return waitStrategy.take(queue, running) != null;
+        }
+    }
+
+    /**
+     * IntBlockingQueue ile: put/poll yolunda boxing yok
+     */
+    private static final class IntEndpoint implements Endpoint {
+        private final IntBlockingQueue queue;
+        private final WaitStrategy waitStrategy;
+        private final int[] buffer;
+        private int pending;
+
+        IntEndpoint(IntBlockingQueue queue, int batchSize, WaitStrategy waitStrategy) {
+            this.queue = queue;
+            this.waitStrategy = waitStrategy;
+            this.buffer = new int[Math.max(1, batchSize)];
+        }
+
+        @Override
+        public void put(int item) throws InterruptedException {
+            queue.put(item);  // int olarak, boxing yok
+        }
+
+        @Override
+        public void add(int item) {
+            buffer[pending++] = item;
+        }
+
+        @Override
+        public int pending() {
+            return pending;
+        }
+
+        @Override
+        public int flush() throws InterruptedException {
+            int calls = queue.putAll(buffer, 0, pending);
+            pending = 0;
+            return calls;
+        }
+
+        @Override
+        public int drain(int maxElements) {
+            return queue.drainTo(buffer, 0, maxElements);
+        }
+
+        @Override
+        public boolean take(BooleanSupplier running) throws InterruptedException {
+            return waitStrategy.take(queue, running, -1) != -1;  // Durunca -1 (item'lar >= 0)
+        }
     }
 
     private static long testHighContention(
-            java.util.concurrent.BlockingQueue<Integer> queue,
+            Channel channel,
             int producerCount,
             int consumerCount,
             int itemsPerProducer,
-            int businessLogicDelay
+            int businessLogicDelay,
+            int batchSize,
+            WaitStrategy waitStrategy
     ) throws InterruptedException {
 
         int totalItems = producerCount * itemsPerProducer;
@@ -77,23 +327,45 @@ public class HighContentionTest {
         AtomicInteger consumed = new AtomicInteger(0);
         CountDownLatch producerLatch = new CountDownLatch(producerCount);
         CountDownLatch consumerLatch = new CountDownLatch(consumerCount);
+        LongAdder allocatedBytes = new LongAdder();
+        BatchStats producerStats = new BatchStats("Producer");
+        BatchStats consumerStats = new BatchStats("Consumer");
+        LongAdder consumerCpuNanos = new LongAdder();
+        BooleanSupplier running = () -> consumed.get() < totalItems;
 
         long startTime = System.currentTimeMillis();
 
         // Producers
         for (int i = 0; i < producerCount; i++) {
             new Thread(() -> {
+                long allocatedAtStart = Allocations.currentThreadAllocatedBytes();
+                long batches = 0, calls = 0;  // Thread-local istatistikler
+                Endpoint endpoint = channel.open(batchSize, waitStrategy);
                 try {
                     for (int j = 0; j < itemsPerProducer; j++) {
                         if (businessLogicDelay > 0) {
                             Thread.sleep(businessLogicDelay);
                         }
-                        queue.put(j);
-                        produced.incrementAndGet();
+                        if (batchSize > 1) {
+                            endpoint.add(j);
+                            int pending = endpoint.pending();
+                            if (pending == batchSize || j == itemsPerProducer - 1) {
+                                calls += endpoint.flush();
+                                batches++;
+                                produced.addAndGet(pending);
+                            }
+                        } else {
+                            endpoint.put(j);
+                            calls++;
+                            batches++;
+                            produced.incrementAndGet();
+                        }
                     }
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                 } finally {
+                    allocatedBytes.add(Allocations.currentThreadAllocatedBytes() - allocatedAtStart);
+                    producerStats.add(itemsPerProducer - endpoint.pending(), batches, calls, 0);
                     producerLatch.countDown();
                 }
             }, "Producer-" + i).start();
@@ -102,19 +374,46 @@ public class HighContentionTest {
         // Consumers
         for (int i = 0; i < consumerCount; i++) {
             new Thread(() -> {
+                long allocatedAtStart = Allocations.currentThreadAllocatedBytes();
+                long cpuAtStart = CpuTime.currentThreadCpuNanos();
+                long items = 0, batches = 0, calls = 0, emptyCalls = 0;
+                Endpoint endpoint = channel.open(batchSize, waitStrategy);
                 try {
-                    while (consumed.get() < totalItems) {
-                        Integer item = queue.poll();
-                        if (item != null) {
-                            consumed.incrementAndGet();
-                            if (businessLogicDelay > 0) {
-                                Thread.sleep(businessLogicDelay);
+                    while (running.getAsBoolean()) {
+                        int n = 0;
+                        if (batchSize > 1) {
+                            n = endpoint.drain(batchSize);
+                            calls++;
+                            if (n == 0) {
+                                emptyCalls++;
+                            }
+                        }
+                        if (n == 0) {
+                            // Kuyruk boş → bekleme stratejisine göre bekle
+                            boolean taken = endpoint.take(running);
+                            calls++;
+                            if (!taken) {
+                                break;  // Tüm item'lar tüketildi
                             }
+                            n = 1;
+                            if (batchSize > 1) {
+                                n += endpoint.drain(batchSize - 1);
+                                calls++;
+                            }
+                        }
+                        items += n;
+                        batches++;
+                        consumed.addAndGet(n);
+                        if (businessLogicDelay > 0) {
+                            Thread.sleep((long) businessLogicDelay * n);
                         }
                     }
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                 } finally {
+                    allocatedBytes.add(Allocations.currentThreadAllocatedBytes() - allocatedAtStart);
+                    consumerCpuNanos.add(CpuTime.currentThreadCpuNanos() - cpuAtStart);
+                    consumerStats.add(items, batches, calls, emptyCalls);
                     consumerLatch.countDown();
                 }
             }, "Consumer-" + i).start();
@@ -126,10 +425,22 @@ public class HighContentionTest {
 
         long totalTime = System.currentTimeMillis() - startTime;
 
-        System.out.println("Toplam süre: " + totalTime + "ms");
-        System.out.println("Throughput: " + (totalItems * 1000L / totalTime) + " ops/sec");
-        System.out.println("Üretilen: " + produced.get() + ", Tüketilen: " + consumed.get());
+        printResults(totalTime, totalItems, produced.get(), consumed.get(), allocatedBytes.sum(),
+                consumerCpuNanos.sum(), producerStats, consumerStats);
 
         return totalTime;
     }
+
+    private static void printResults(long totalTime, int totalItems, int produced, int consumed, long allocatedBytes,
+                                     long consumerCpuNanos, BatchStats producerStats, BatchStats consumerStats) {
+        System.out.println("Toplam süre: " + totalTime + "ms");
+        System.out.println("Throughput: " + (totalItems * 1000L / Math.max(1, totalTime)) + " ops/sec");
+        System.out.printf("Item başına süre: %.2f µs (duvar saati), consumer CPU: %s%n",
+                totalTime * 1_000.0 / Math.max(1, totalItems), CpuTime.format(consumerCpuNanos, totalItems));
+        System.out.println("Allocation: " + Allocations.format(allocatedBytes, totalTime)
+                + ", item başına " + (allocatedBytes / Math.max(1, totalItems)) + " byte");
+        System.out.println(producerStats.summary());
+        System.out.println(consumerStats.summary());
+        System.out.println("Üretilen: " + produced + ", Tüketilen: " + consumed);
+    }
 }
@@ -1,7 +1,18 @@
 package org.example.concurrent;
 
-import java.util.concurrent.ArrayBlockingQueue;
+import org.example.concurrent.engine.Admission;
+import org.example.concurrent.engine.AdmissionPolicy;
+import org.example.concurrent.engine.EngineTask;
+import org.example.concurrent.engine.TaskEngine;
+import org.example.concurrent.engine.TaskType;
+import org.example.concurrent.load.OpenLoopLoadGenerator;
+import org.example.concurrent.queue.WaitStrategyType;
+import org.example.concurrent.ratelimit.KeyedRateLimiter;
+
 import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Gerçek Dünya Örneği: Task Processing System
@@ -9,16 +20,58 @@ import java.util.Random;
  * Senaryo: Web sitesinden gelen istekleri işleyen bir sistem
  * - Kuyruk doluysa yeni istekler bekler
  * - Birden fazla worker thread paralel işler
- * - Rate limiting sağlar (kuyruk boyutu ile)
+ * - Kuyruk boyutu geri basınç (backpressure) sağlar: bekleyen iş sınırlı. Bu throughput'u
+ *   sınırlamaz (worker'lar yetişirse kuyruk hiç dolmaz); hız sınırı için 7. argüman
+ *
+ * Worker'lar, kuyruklar ve sayaçlar TaskEngine'de (org.example.concurrent.engine):
+ * - Her task tipinin (EMAIL, SMS, NOTIFICATION, REPORT) kendi kuyruğu ve worker'ları var
+ * - Producer bitince engine.shutdown(): kuyruktakiler işlenir, worker'lar kendiliğinden çıkar
+ *   (isEmpty() + sleep ile yoklama ve System.exit yok)
+ * - Sonda tip başına throughput, kuyruk derinliği, bekleme süresi ve CPU yazılır
+ *
+ * Batch modu: java ... TaskProcessorExample 4
+ * Worker ilk task'i bekler, kuyrukta bekleyen en fazla 3 task'i
+ * drainTo() ile aynı lock alımında alır. Sonda ortalama batch boyutu
+ * ve item başına lock alımı yazılır.
+ *
+ * Bekleme stratejisi: java ... TaskProcessorExample 1 SPIN_PARK
+ * Varsayılan BLOCKING (orijinal take() davranışı). Sonda worker'ların
+ * harcadığı CPU zamanı ve task'lerin kuyrukta bekleme süresi yazılır;
+ * BUSY_SPIN boşta çekirdek yakar, BLOCKING yakmaz ama uyanması daha yavaştır.
+ *
+ * Open-loop modu: java ... TaskProcessorExample 1 BLOCKING 5
+ * Producer "put → sleep(200)" yerine saniyede 5 task'i planlanan zamanlarda
+ * gönderir (OpenLoopLoadGenerator). Kuyruk bekleme süresi put() anından değil
+ * PLANLANAN gönderim anından ölçülür; kuyruk dolup producer bloklandığında
+ * bu süre de gecikmeye dahil olur.
+ *
+ * Kabul kontrolü: java ... TaskProcessorExample 1 BLOCKING 5 DROP_NEWEST 1000
+ * 4. argüman kuyruk dolunca ne olacağı (BLOCK | BLOCK_WITH_TIMEOUT | DROP_NEWEST |
+ * DROP_OLDEST | CALLER_RUNS | REJECT, varsayılan BLOCK = orijinal put()).
+ * 5. argüman kuyruk gecikmesi hedefi (ms): verilirse kabul limiti gecikme hedefi
+ * aşıldıkça daralır ve fazla task'ler atılır. Sonda tip başına kabul/atılan sayıları yazılır.
+ *
+ * Virtual thread modu: java ... TaskProcessorExample 1 BLOCKING 0 BLOCK 0 4
+ * 6. argüman verilirse (> 0) worker havuzu yerine her task kendi virtual thread'inde çalışır,
+ * tip başına en fazla bu kadar task aynı anda (Semaphore ile sınırlı). process() sleep'te
+ * beklerken carrier thread'i bırakır; REPORT=2 worker sınırı kalkar, limit 4 olur.
+ * Task çıktılarında thread adı "TaskProcessor-REPORT-vt-3" gibi görünür.
+ *
+ * Hız sınırı: java ... TaskProcessorExample 1 BLOCKING 0 BLOCK 0 0 0.5
+ * 7. argüman verilirse (> 0) producer her task'ten önce tipin token bucket'ından izin alır
+ * (KeyedRateLimiter, tip başına saniyede bu kadar task, 1'lik patlama). İzin yoksa producer bekler:
+ * kuyruk boş olsa bile hiçbir tip bu hızı aşamaz. Beklenen süre task başına ve sonda toplam yazılır.
  */
 public class TaskProcessorExample {
 
-    static class Task {
+    private static final int QUEUE_CAPACITY = 10;
+
+    static class Task implements EngineTask {
         private final int id;
-        private final String type;
+        private final TaskType type;
         private final int processingTime;
 
-        public Task(int id, String type, int processingTime) {
+        public Task(int id, TaskType type, int processingTime) {
             this.id = id;
             this.type = type;
             this.processingTime = processingTime;
@@ -32,6 +85,15 @@ public class TaskProcessorExample {
                              "Tamamlandı: Task-" + id);
         }
 
+        @Override
+        public void execute() throws InterruptedException {
+            process();
+        }
+
+        TaskType type() {
+            return type;
+        }
+
         @Override
         public String toString() {
             return "Task-" + id + "(" + type + ")";
@@ -39,69 +101,132 @@ public class TaskProcessorExample {
     }
 
     public static void main(String[] args) throws InterruptedException {
-        // Maksimum 10 task bekleyebilir (rate limiting)
-        ArrayBlockingQueue<Task> taskQueue = new ArrayBlockingQueue<>(10);
         Random random = new Random();
-
-        System.out.println("=== Task Processing System Başlatılıyor ===");
-        System.out.println("📦 Kuyruk Kapasitesi: 10 task");
-        System.out.println("👷 Worker Sayısı: 3\n");
-
-        // 3 Worker Thread - Task'leri işleyecek
-        for (int i = 1; i <= 3; i++) {
-            final int workerId = i;
-            new Thread(() -> {
-                System.out.println("👷 Worker-" + workerId + " başladı");
-                try {
-                    while (true) {
-                        Task task = taskQueue.take();  // Kuyruk boşsa bekle
-                        task.process();
-                    }
-                } catch (InterruptedException e) {
-                    System.out.println("👷 Worker-" + workerId + " durduruluyor...");
-                }
-            }, "Worker-" + i).start();
+        int maxBatch = args.length > 0 ? Integer.parseInt(args[0]) : 1;  // 1 = batch yok
+        WaitStrategyType waitType = WaitStrategyType.parse(args.length > 1 ? args[1] : null, WaitStrategyType.BLOCKING);
+        double rate = args.length > 2 ? Double.parseDouble(args[2]) : 0;  // 0 = kapalı döngü (sleep)
+        AdmissionPolicy admission = args.length > 3 ? AdmissionPolicy.valueOf(args[3].toUpperCase()) : AdmissionPolicy.BLOCK;
+        long targetDelayMs = args.length > 4 ? Long.parseLong(args[4]) : 0;  // 0 = adaptif limit yok
+        int virtualConcurrency = args.length > 5 ? Integer.parseInt(args[5]) : 0;  // 0 = platform worker'lar
+        double perTypeRate = args.length > 6 ? Double.parseDouble(args[6]) : 0;  // 0 = hız sınırı yok
+        KeyedRateLimiter<TaskType> rateLimiter = perTypeRate > 0 ? new KeyedRateLimiter<>(perTypeRate, 1) : null;
+        AtomicLong throttledNanos = new AtomicLong();
+
+        // Her tipin kuyruğu en fazla QUEUE_CAPACITY task bekletir (backpressure: hız sınırı değil,
+        // hız sınırı için 7. argüman)
+        // REPORT'lar yavaş olduğu için 2 worker, diğer tipler 1'er worker
+        TaskEngine.Builder builder = TaskEngine.builder()
+                .name("TaskProcessor")
+                .workers(1)
+                .workers(TaskType.REPORT, 2)
+                .queueCapacity(QUEUE_CAPACITY)
+                .maxBatch(maxBatch)
+                .waitStrategy(waitType)
+                .admission(admission)
+                .onFailure((type, error) -> System.out.println("❌ " + type + " task'i başarısız: " + error));
+        if (targetDelayMs > 0) {
+            builder.adaptiveLimit(targetDelayMs, 4 * targetDelayMs, TimeUnit.MILLISECONDS);
+        }
+        if (virtualConcurrency > 0) {
+            builder.virtualThreadPerTask(virtualConcurrency);
         }
+        TaskEngine engine = builder.build();
 
-        Thread.sleep(500);  // Worker'ların başlamasını bekle
+        System.out.println("=== Task Processing System Başlatılıyor ===");
+        System.out.println("📦 Kuyruk Kapasitesi: " + QUEUE_CAPACITY + " task (tip başına)");
+        System.out.println("👷 Worker Sayısı: " + (virtualConcurrency > 0
+                ? "task başına virtual thread, tip başına en fazla " + virtualConcurrency + " eşzamanlı"
+                : "REPORT=2, diğer tipler=1"));
+        System.out.println("📦 Max Batch: " + maxBatch);
+        System.out.println("⏳ Bekleme Stratejisi: " + waitType);
+        System.out.println("📈 Yük Modeli: " + (rate > 0 ? "open-loop, " + rate + " task/sn" : "kapalı döngü (200ms)"));
+        System.out.println("🚦 Kabul Politikası: " + admission +
+                (targetDelayMs > 0 ? " + adaptif limit (hedef " + targetDelayMs + "ms)" : ""));
+        System.out.println("⏱️  Hız Sınırı: " + (rateLimiter != null ? perTypeRate + " task/sn (tip başına)" : "yok") + "\n");
+
+        engine.start();
 
         // Producer Thread - Yeni task'ler oluşturuyor
+        TaskType[] taskTypes = TaskType.values();
         Thread producer = new Thread(() -> {
-            String[] taskTypes = {"EMAIL", "SMS", "NOTIFICATION", "REPORT"};
             try {
+                if (rate > 0) {
+                    // Open-loop: planlanan zamanlarda gönder, kuyruk dolsa da plan kaymaz
+                    OpenLoopLoadGenerator.Result result = new OpenLoopLoadGenerator(rate, 25).run(1, (id, intendedAt) -> {
+                        Task task = new Task(id, taskTypes[random.nextInt(taskTypes.length)], 500 + random.nextInt(1000));
+                        System.out.println("📥 [PRODUCER] Yeni task: " + task +
+                                         " (Kuyruk: " + engine.queueDepth(task.type()) + "/" + QUEUE_CAPACITY + ")");
+                        throttle(rateLimiter, task.type(), throttledNanos);  // Bekleme planlanan zamandan ölçülen gecikmeye dahil
+                        report(task, engine.submit(task.type(), task, intendedAt));
+                    });
+                    System.out.println("\n📥 [PRODUCER] Tüm task'ler gönderildi!");
+                    System.out.println(result.summary());
+                    return;
+                }
                 for (int i = 1; i <= 25; i++) {
-                    String type = taskTypes[random.nextInt(taskTypes.length)];
+                    TaskType type = taskTypes[random.nextInt(taskTypes.length)];
                     int processingTime = 500 + random.nextInt(1000);
                     Task task = new Task(i, type, processingTime);
 
+                    int depth = engine.queueDepth(type);
                     System.out.println("📥 [PRODUCER] Yeni task: " + task +
-                                     " (Kuyruk: " + taskQueue.size() + "/10)");
+                                     " (Kuyruk: " + depth + "/" + QUEUE_CAPACITY + ")");
 
-                    if (taskQueue.size() >= 8) {
-                        System.out.println("⚠️  [PRODUCER] Kuyruk dolmak üzere! Yavaşlıyorum...");
+                    if (depth >= 8 && admission == AdmissionPolicy.BLOCK) {
+                        System.out.println("⚠️  [PRODUCER] " + type + " kuyruğu dolmak üzere! Yavaşlıyorum...");
                     }
 
-                    taskQueue.put(task);  // Kuyruk doluysa bekle
+                    throttle(rateLimiter, type, throttledNanos);
+                    report(task, engine.submit(type, task));  // Kuyruk doluysa kabul politikası karar verir
                     Thread.sleep(200);  // Task'ler arasında kısa bekleme
                 }
                 System.out.println("\n📥 [PRODUCER] Tüm task'ler gönderildi!");
             } catch (InterruptedException e) {
                 System.out.println("📥 [PRODUCER] Durduruluyor...");
+            } catch (RejectedExecutionException e) {
+                System.out.println("🚫 [PRODUCER] " + e.getMessage());  // REJECT politikası
             }
         }, "Producer");
 
         producer.start();
         producer.join();  // Producer bitene kadar bekle
 
-        // Worker'ların kalan task'leri tamamlamasını bekle
+        // Yeni task kabulü kapanır, kuyrukta kalanlar işlenir
         System.out.println("\n⏳ Kuyruktaki kalan task'ler işleniyor...");
-        while (!taskQueue.isEmpty()) {
-            Thread.sleep(500);
-            System.out.println("📊 Kalan task sayısı: " + taskQueue.size());
+        engine.shutdown();
+        if (!engine.awaitTermination(60, TimeUnit.SECONDS)) {
+            System.out.println("⚠️  Süre doldu, kalan task'ler iptal ediliyor: " + engine.shutdownNow().size());
         }
 
-        Thread.sleep(2000);  // Son task'lerin bitmesini bekle
         System.out.println("\n✅ Tüm task'ler tamamlandı!");
-        System.exit(0);
+        System.out.println(engine.summary());
+        if (rateLimiter != null) {
+            System.out.printf("⏱️  Hız sınırı yüzünden producer toplam %dms bekledi%n",
+                    TimeUnit.NANOSECONDS.toMillis(throttledNanos.get()));
+        }
+    }
+
+    /**
+     * Producer tarafı kapı: tipin token bucket'ında izin yoksa dolana kadar bekler
+     */
+    private static void throttle(KeyedRateLimiter<TaskType> limiter, TaskType type, AtomicLong throttledNanos)
+            throws InterruptedException {
+        if (limiter == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        limiter.acquire(type);
+        long waited = System.nanoTime() - start;
+        throttledNanos.addAndGet(waited);
+        if (waited > TimeUnit.MILLISECONDS.toNanos(5)) {
+            System.out.println("⏱️  [PRODUCER] " + type + " hız sınırında: "
+                    + TimeUnit.NANOSECONDS.toMillis(waited) + "ms beklendi");
+        }
+    }
+
+    private static void report(Task task, Admission admission) {
+        if (admission != Admission.ACCEPTED) {
+            System.out.println("🚦 [PRODUCER] " + task + " → " + admission);
+        }
     }
 }
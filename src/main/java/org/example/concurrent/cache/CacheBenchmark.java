@@ -0,0 +1,246 @@
+package org.example.concurrent.cache;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TtlCache vs synchronized LRU vs Çıplak ConcurrentHashMap - get/put Throughput ve Eleman Başına Bellek
+ *
+ * Cache-aside iş yükü: get(key); miss ise put(key, value). Anahtar uzayı kapasitenin 2 katı,
+ * isteklerin %80'i anahtarların %20'sine gider (sıcak küme kapasiteye sığar).
+ * - TTL_CACHE: TtlCache, eleman başına 1..10 sn rastgele TTL, CLOCK ile boyut sınırı
+ * - SYNC_LRU:  Collections.synchronizedMap(LinkedHashMap(accessOrder=true) + removeEldestEntry)
+ *              klasik LRU; her get listeyi değiştirir → tek kilit, TTL yok
+ * - CHM:       ConcurrentHashMap, sınır ve TTL yok (üst sınır: cache mantığının maliyeti sıfır)
+ *
+ * Her yapı önce kapasite kadar doldurulur ve eleman başına heap ölçülür
+ * (anahtar Long'ları önceden yaratılmış, değer tek bir paylaşılan nesne: sadece yapının kendi yükü).
+ * Sonra aynı (ısınmış) cache üzerinde thread sayıları sırayla denenir.
+ *
+ * Çalıştırma:
+ *   java ... CacheBenchmark                          (1M eleman, 1,2,4,8,16,32 thread, 2000ms)
+ *   java ... CacheBenchmark 100000 1,8,64 5000
+ */
+public class CacheBenchmark {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+    private static final Object VALUE = new Object();
+
+    enum Structure {
+        TTL_CACHE, SYNC_LRU, CHM
+    }
+
+    /**
+     * Yapıdan bağımsız get / put
+     */
+    private interface Cache extends AutoCloseable {
+        Object get(Long key);
+
+        void put(Long key, Object value, SplittableRandom random);
+
+        int size();
+
+        default String summary() {
+            return null;
+        }
+
+        @Override
+        default void close() {
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int capacity = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int[] threadCounts = Arrays.stream((args.length > 1 ? args[1] : "1,2,4,8,16,32").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        long durationMs = args.length > 2 ? Long.parseLong(args[2]) : 2000;
+
+        Long[] keys = new Long[capacity * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (long) i;
+        }
+
+        System.out.println("=== TTL Cache: get/put Throughput ve Bellek ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.println("- Kapasite: " + capacity + ", anahtar uzayı: " + keys.length + " (%80 istek → %20 anahtar)");
+        System.out.println("- Thread sayıları: " + Arrays.toString(threadCounts) + ", her biri " + durationMs + "ms");
+        System.out.println("- CPU: " + Runtime.getRuntime().availableProcessors());
+        System.out.println();
+
+        for (Structure structure : Structure.values()) {
+            measure(structure, capacity, keys, threadCounts, durationMs);
+            System.out.println();
+        }
+
+        System.out.println("💡 SYNC_LRU'da her get() de yazmadır (erişim sırası listesi) ve tek kilidi alır: çok çekirdekte");
+        System.out.println("   thread arttıkça sıraya girer (tek CPU'da çekişme olmaz, fark görünmez). TtlCache'te get()");
+        System.out.println("   kilitsiz (sadece 'erişildi' bayrağı), kilit yalnızca put/çıkarmada. TTL'in bedeli: eleman başına");
+        System.out.println("   Entry + timer Handle (byte/eleman), get'te bir dolaylama daha, put'ta yığına ekleme/iptal.");
+    }
+
+    /**
+     * Ayrı metot: önceki yapının referansı main'in yerel değişkeninde kalıp bir sonraki ölçümü şişirmesin
+     */
+    private static void measure(Structure structure, int capacity, Long[] keys, int[] threadCounts, long durationMs)
+            throws InterruptedException {
+        long baselineHeap = settledHeapUsed();
+        try (Cache cache = create(structure, capacity)) {
+            SplittableRandom random = new SplittableRandom(1);
+            for (int i = 0; i < capacity; i++) {
+                cache.put(keys[i], VALUE, random);
+            }
+            long bytesPerEntry = (settledHeapUsed() - baselineHeap) / cache.size();
+            System.out.printf("%s: %d eleman, ~%d byte/eleman (anahtar ve değer hariç)%n",
+                    structure, cache.size(), bytesPerEntry);
+
+            System.out.printf("  %8s %14s %10s %10s%n", "thread", "işlem/sn", "hit", "boyut");
+            for (int threads : threadCounts) {
+                run(cache, keys, threads, durationMs);
+            }
+            if (cache.summary() != null) {
+                System.out.println("  " + cache.summary());
+            }
+        }
+    }
+
+    /**
+     * Kullanılan heap, GC sonrası. Tek bir System.gc() önceki yapıyı her zaman toplamıyor
+     * (bir tur daha yaşayabiliyor): kullanım düşmeyi bırakana kadar tekrarlanır.
+     */
+    private static long settledHeapUsed() throws InterruptedException {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+            long now = MEMORY.getHeapMemoryUsage().getUsed();
+            if (now >= used - used / 100) {
+                return Math.min(now, used);
+            }
+            used = now;
+        }
+        return used;
+    }
+
+    private static void run(Cache cache, Long[] keys, int threads, long durationMs) throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        LongAdder hits = new LongAdder();
+        CountDownLatch startGate = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        int hot = keys.length / 5;
+
+        for (int t = 0; t < threads; t++) {
+            long seed = t + 100;
+            workers[t] = Thread.ofPlatform().name("cache-worker-" + t).start(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                long ops = 0;
+                long hit = 0;
+                try {
+                    startGate.await();
+                    while (true) {
+                        for (int i = 0; i < 256; i++) {
+                            Long key = keys[random.nextInt(10) < 8 ? random.nextInt(hot) : random.nextInt(keys.length)];
+                            if (cache.get(key) != null) {
+                                hit++;
+                            } else {
+                                cache.put(key, VALUE, random);
+                            }
+                        }
+                        ops += 256;
+                        if (System.nanoTime() > deadline) {
+                            break;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    operations.add(ops);
+                    hits.add(hit);
+                }
+            });
+        }
+        long start = System.nanoTime();
+        startGate.countDown();
+        for (Thread worker : workers) {
+            worker.join();  // Latch değil join: biten thread cache'e referans tutmasın (bellek ölçümü)
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("  %8d %14s %9.1f%% %10d%n", threads,
+                String.format("%.2fM", operations.sum() * 1e3 / elapsed), hits.sum() * 100.0 / operations.sum(),
+                cache.size());
+    }
+
+    private static Cache create(Structure structure, int capacity) {
+        return switch (structure) {
+            case TTL_CACHE -> new Cache() {
+                final TtlCache<Long, Object> cache = new TtlCache<>(capacity, 10, TimeUnit.SECONDS);
+
+                public Object get(Long key) {
+                    return cache.get(key);
+                }
+
+                public void put(Long key, Object value, SplittableRandom random) {
+                    cache.put(key, value, random.nextLong(1_000, 10_001), TimeUnit.MILLISECONDS);
+                }
+
+                public int size() {
+                    return cache.size();
+                }
+
+                public String summary() {
+                    return cache.summary();
+                }
+
+                public void close() {
+                    cache.close();
+                }
+            };
+            case SYNC_LRU -> new Cache() {
+                final Map<Long, Object> map = Collections.synchronizedMap(
+                        new LinkedHashMap<>(capacity + capacity / 3 + 1, 0.75f, true) {
+                            @Override
+                            protected boolean removeEldestEntry(Map.Entry<Long, Object> eldest) {
+                                return size() > capacity;
+                            }
+                        });
+
+                public Object get(Long key) {
+                    return map.get(key);
+                }
+
+                public void put(Long key, Object value, SplittableRandom random) {
+                    map.put(key, value);
+                }
+
+                public int size() {
+                    return map.size();
+                }
+            };
+            case CHM -> new Cache() {
+                final ConcurrentHashMap<Long, Object> map = new ConcurrentHashMap<>(capacity + capacity / 3 + 1);
+
+                public Object get(Long key) {
+                    return map.get(key);
+                }
+
+                public void put(Long key, Object value, SplittableRandom random) {
+                    map.put(key, value);
+                }
+
+                public int size() {
+                    return map.size();
+                }
+            };
+        };
+    }
+}
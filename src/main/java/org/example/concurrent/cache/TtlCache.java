@@ -0,0 +1,310 @@
+package org.example.concurrent.cache;
+
+import org.example.concurrent.timer.IndexedDelayQueue;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Eleman başına TTL'li, boyut sınırlı eşzamanlı cache
+ *
+ * DelayQueueExample'ın "Cache expiration" kullanımının çalışan hali:
+ * - Depolama: ConcurrentHashMap<K, Entry>; get() kilitsiz
+ * - TTL: her put'un kendi süresi. Süreler IndexedDelayQueue'da tutulur, TEK bir expiry thread'i
+ *   take() ile bekler ve süresi dolanı map'ten siler. Bir anahtar yeniden yazılır veya
+ *   boyut yüzünden çıkarılırsa eski timer handle ile iptal edilir (DelayQueue.remove O(n) olurdu).
+ *   get() süresi geçmiş elemanı zaten döndürmez (deadline kontrolü); bu yüzden expiry thread'i
+ *   her deadline'da ayrı uyanmaz: uyandığında süresi dolmuş hepsini siler, sonra EXPIRY_RESOLUTION_MS
+ *   uyur (saniyede 100k eleman dolarken 100k context switch yerine ~100 uyanma).
+ * - Boyut sınırı: LRU yaklaşımı CLOCK (second chance). Elemanlar ekleme sırasıyla bir listede;
+ *   get() sadece elemanın "erişildi" bayrağını set eder (kilit yok, liste değişmez).
+ *   Kapasite aşılınca listenin başına bakılır: erişildiyse bayrağı silinip sona alınır
+ *   (ikinci şans), erişilmediyse çıkarılır. Gerçek LRU her get'te listeyi değiştirmek
+ *   için kilit alırdı (synchronized LinkedHashMap(accessOrder) gibi).
+ * - Yazmalar (put / remove / çıkarma) liste için tek bir kilit alır; map işlemi kilit dışında.
+ *
+ * Sayaçlar: hit, miss, eviction (boyut), expiration (TTL) - LongAdder.
+ *
+ * Kullanım:
+ *   try (TtlCache<String, User> cache = new TtlCache<>(100_000, 5, TimeUnit.MINUTES)) {
+ *       User user = cache.get(id);
+ *       if (user == null) {
+ *           user = loadUser(id);
+ *           cache.put(id, user);            // varsayılan TTL
+ *       }
+ *       cache.put(token, session, 30, TimeUnit.SECONDS);
+ *       System.out.println(cache.summary());
+ *   }
+ */
+public final class TtlCache<K, V> implements AutoCloseable {
+
+    static final long EXPIRY_RESOLUTION_MS = 10;
+
+    private final int maximumSize;
+    private final long defaultTtlNanos;
+    private final ConcurrentHashMap<K, Entry<K, V>> map;
+    private final IndexedDelayQueue<Entry<K, V>> expiryQueue = new IndexedDelayQueue<>();
+    private final Thread expiryThread;
+
+    // CLOCK listesi: ekleme sırası, sadece lock altında
+    private final ReentrantLock lock = new ReentrantLock();
+    private Entry<K, V> head;
+    private Entry<K, V> tail;
+    private int linked;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * @param maximumSize en fazla eleman sayısı
+     * @param defaultTtl  put(key, value) için süre
+     */
+    public TtlCache(int maximumSize, long defaultTtl, TimeUnit unit) {
+        if (maximumSize <= 0 || defaultTtl <= 0) {
+            throw new IllegalArgumentException("maximumSize ve defaultTtl pozitif olmalı");
+        }
+        this.maximumSize = maximumSize;
+        this.defaultTtlNanos = unit.toNanos(defaultTtl);
+        this.map = new ConcurrentHashMap<>(maximumSize + maximumSize / 3 + 1);
+        this.expiryThread = Thread.ofPlatform().name("ttl-cache-expiry").daemon().start(this::expireLoop);
+    }
+
+    /**
+     * Süresi dolmamış değeri döner, yoksa null (miss)
+     */
+    public V get(K key) {
+        Entry<K, V> entry = map.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.deadline - System.nanoTime() <= 0) {
+            misses.increment();  // Süresi dolmuş, expiry thread'i henüz silmemiş
+            expire(entry);
+            return null;
+        }
+        if (!entry.accessed) {
+            entry.accessed = true;  // Sadece ilk erişimde yaz: sıcak elemanda cache line paylaşımı olmasın
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtlNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Değeri ttl süresiyle yazar; varsa eskisinin timer'ı iptal edilir
+     */
+    public void put(K key, V value, long ttl, TimeUnit unit) {
+        if (key == null || value == null) {
+            throw new NullPointerException("key / value");
+        }
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("ttl pozitif olmalı: " + ttl);
+        }
+        Entry<K, V> entry = new Entry<>(key, value, System.nanoTime() + unit.toNanos(ttl));
+        Entry<K, V> old = map.put(key, entry);
+        lock.lock();
+        try {
+            if (old != null) {
+                unlink(old);
+            }
+            // Bu arada aynı anahtara başka bir put yazdıysa bu eleman zaten eskidi: listeye girmez
+            if (map.get(key) == entry) {
+                link(entry);
+                entry.expiry = expiryQueue.scheduleAt(entry, entry.deadline);
+                evictIfNeeded();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public V remove(K key) {
+        Entry<K, V> entry = map.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        lock.lock();
+        try {
+            unlink(entry);
+        } finally {
+            lock.unlock();
+        }
+        return entry.value;
+    }
+
+    /**
+     * Kapasite aşıldıkça CLOCK: erişilmiş elemana ikinci şans (sona taşı), erişilmemişi çıkar
+     */
+    private void evictIfNeeded() {
+        while (linked > maximumSize) {
+            Entry<K, V> candidate = head;
+            if (candidate.accessed) {
+                candidate.accessed = false;
+                unlinkNode(candidate);
+                appendNode(candidate);
+                continue;
+            }
+            unlink(candidate);
+            if (map.remove(candidate.key, candidate)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private void expireLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                expire(expiryQueue.take());
+                Entry<K, V> entry;
+                while ((entry = expiryQueue.poll()) != null) {
+                    expire(entry);
+                }
+                Thread.sleep(EXPIRY_RESOLUTION_MS);  // Silme en fazla bu kadar gecikir; get() etkilenmez
+            }
+        } catch (InterruptedException e) {
+            // close()
+        }
+    }
+
+    /**
+     * Sadece map'te hâlâ bu eleman varsa siler (arada yeniden yazılmış olabilir)
+     */
+    private void expire(Entry<K, V> entry) {
+        if (map.remove(entry.key, entry)) {
+            expirations.increment();
+            lock.lock();
+            try {
+                unlink(entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void link(Entry<K, V> entry) {
+        appendNode(entry);
+        entry.linked = true;
+        linked++;
+    }
+
+    /**
+     * Listeden çıkarır ve timer'ını iptal eder; listede değilse bir şey yapmaz
+     */
+    private void unlink(Entry<K, V> entry) {
+        if (!entry.linked) {
+            return;
+        }
+        unlinkNode(entry);
+        entry.linked = false;
+        linked--;
+        if (entry.expiry != null) {
+            entry.expiry.cancel();  // Süresi dolmuşsa (alınmışsa) false döner, sorun değil
+            entry.expiry = null;
+        }
+    }
+
+    private void appendNode(Entry<K, V> entry) {
+        entry.prev = tail;
+        entry.next = null;
+        if (tail == null) {
+            head = entry;
+        } else {
+            tail.next = entry;
+        }
+        tail = entry;
+    }
+
+    private void unlinkNode(Entry<K, V> entry) {
+        if (entry.prev == null) {
+            head = entry.next;
+        } else {
+            entry.prev.next = entry.next;
+        }
+        if (entry.next == null) {
+            tail = entry.prev;
+        } else {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Boyut sınırı yüzünden çıkarılan eleman sayısı
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * TTL'i dolduğu için silinen eleman sayısı
+     */
+    public long expirations() {
+        return expirations.sum();
+    }
+
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : h / (double) total;
+    }
+
+    public String summary() {
+        return String.format("Boyut: %d/%d, hit: %d, miss: %d (hit oranı %%%.1f), eviction: %d, expiration: %d",
+                size(), maximumSize, hits(), misses(), hitRate() * 100, evictions(), expirations());
+    }
+
+    /**
+     * Expiry thread'ini durdurur ve bitmesini bekler; elemanlar map'te kalır
+     */
+    @Override
+    public void close() {
+        expiryThread.interrupt();
+        try {
+            expiryThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Map değeri: CLOCK listesi düğümü + TTL timer handle'ı
+     */
+    private static final class Entry<K, V> {
+        final K key;
+        final V value;
+        final long deadline;
+        volatile boolean accessed;
+        // Sadece lock altında
+        IndexedDelayQueue.Handle<Entry<K, V>> expiry;
+        Entry<K, V> prev;
+        Entry<K, V> next;
+        boolean linked;
+
+        Entry(K key, V value, long deadline) {
+            this.key = key;
+            this.value = value;
+            this.deadline = deadline;
+        }
+    }
+}
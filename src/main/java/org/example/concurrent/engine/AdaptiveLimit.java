@@ -0,0 +1,99 @@
+package org.example.concurrent.engine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kuyruk gecikmesine göre daralan/genişleyen kabul limiti (CoDel + AIMD)
+ *
+ * Sabit kapasiteli kuyruk "kaç task bekleyebilir" sorusunu cevaplar, oysa kullanıcının
+ * gördüğü "ne kadar bekler"dir. 10 SMS'lik kuyruk 50ms, 10 REPORT'luk kuyruk 10s demektir.
+ *
+ * Ölçüm (CoDel fikri): worker task'i kuyruktan aldığında kuyrukta kalma süresi (sojourn)
+ * bildirilir. Her interval'de görülen EN KÜÇÜK sojourn hedefin üstündeyse kuyruk
+ * kalıcı olarak dolu demektir (geçici patlamada en azından bir task hızlı geçer).
+ *
+ * Tepki (AIMD - TCP congestion control gibi):
+ * - Hedef aşıldıysa: limit = limit * decreaseFactor  (çarpımsal azalt, hızlı geri çekil)
+ * - Aşılmadıysa:     limit = limit + 1               (toplamsal artır, yavaşça yokla)
+ * Limit [min, max] arasında kalır, max genelde kuyruğun kapasitesidir.
+ *
+ * TaskEngine kuyruk derinliği limiti geçince yeni task'i kabul etmez (SHED_OVERLOAD).
+ */
+public final class AdaptiveLimit {
+
+    private final long targetNanos;
+    private final long intervalNanos;
+    private final int min;
+    private final int max;
+    private final double decreaseFactor;
+
+    private volatile int limit;
+
+    // onDequeue() altında (synchronized) güncellenir
+    private long intervalStart;
+    private long minSojournNanos = Long.MAX_VALUE;
+    private long decreases;
+    private long increases;
+
+    /**
+     * @param targetDelay kabul edilebilir kuyruk bekleme süresi (CoDel target)
+     * @param interval    bu sürede en az bir task hedefin altında geçmeli (CoDel interval)
+     */
+    public AdaptiveLimit(long targetDelay, long interval, TimeUnit unit, int min, int max) {
+        this(unit.toNanos(targetDelay), unit.toNanos(interval), min, max, 0.75);
+    }
+
+    public AdaptiveLimit(long targetNanos, long intervalNanos, int min, int max, double decreaseFactor) {
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("1 <= min <= max olmalı: min=" + min + ", max=" + max);
+        }
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("decreaseFactor (0, 1) aralığında olmalı: " + decreaseFactor);
+        }
+        this.targetNanos = targetNanos;
+        this.intervalNanos = intervalNanos;
+        this.min = min;
+        this.max = max;
+        this.decreaseFactor = decreaseFactor;
+        this.limit = max;
+    }
+
+    /**
+     * Şu anki kabul limiti (kuyrukta bekleyebilecek en fazla task)
+     */
+    public int current() {
+        return limit;
+    }
+
+    /**
+     * Worker bir task'i kuyruktan aldığında çağırır.
+     *
+     * @param sojournNanos task'in kuyrukta beklediği süre
+     * @param now          System.nanoTime()
+     */
+    public synchronized void onDequeue(long sojournNanos, long now) {
+        if (intervalStart == 0) {
+            intervalStart = now;
+        }
+        if (sojournNanos < minSojournNanos) {
+            minSojournNanos = sojournNanos;
+        }
+        if (now - intervalStart < intervalNanos) {
+            return;
+        }
+        if (minSojournNanos > targetNanos) {
+            limit = Math.max(min, (int) (limit * decreaseFactor));
+            decreases++;
+        } else if (limit < max) {
+            limit++;
+            increases++;
+        }
+        intervalStart = now;
+        minSojournNanos = Long.MAX_VALUE;
+    }
+
+    public synchronized String summary() {
+        return String.format("limit=%d [%d-%d], hedef=%.1fms, azaltma=%d, artırma=%d",
+                limit, min, max, targetNanos / 1e6, decreases, increases);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.concurrent.engine;
+
+/**
+ * TaskEngine.submit() sonucu
+ */
+public enum Admission {
+    /**
+     * Kuyruğa eklendi
+     */
+    ACCEPTED,
+    /**
+     * Kuyruğa eklendi, yer açmak için aynı tipin en eski task'i atıldı
+     */
+    DROPPED_OLDEST,
+    /**
+     * Kuyruk doluydu, producer thread'inde çalıştırıldı
+     */
+    RAN_IN_CALLER,
+    /**
+     * Kuyruk doluydu, task atıldı
+     */
+    DROPPED_NEWEST,
+    /**
+     * blockTimeout içinde yer açılmadı
+     */
+    TIMED_OUT,
+    /**
+     * Adaptif limit aşıldı (kuyruk gecikmesi hedefin üstünde), task atıldı
+     */
+    SHED_OVERLOAD,
+    /**
+     * REJECT politikasıyla reddedildi (submit exception fırlattı, sadece sayaçlarda görünür)
+     */
+    REJECTED;
+
+    /**
+     * Task çalıştı veya çalışacak mı
+     */
+    public boolean isAccepted() {
+        return this == ACCEPTED || this == DROPPED_OLDEST || this == RAN_IN_CALLER;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.concurrent.engine;
+
+/**
+ * Tipin kuyruğu dolu olduğunda (veya adaptif limit aşıldığında) yeni task'e ne olacağı
+ */
+public enum AdmissionPolicy {
+    /**
+     * Yer açılana kadar producer'ı beklet (ArrayBlockingQueue.put, varsayılan)
+     */
+    BLOCK,
+    /**
+     * En fazla blockTimeout kadar beklet, sonra vazgeç (TIMED_OUT)
+     */
+    BLOCK_WITH_TIMEOUT,
+    /**
+     * Yeni task'i at (DROPPED_NEWEST)
+     */
+    DROP_NEWEST,
+    /**
+     * Kuyruktaki en eski task'i at, yenisini ekle - en taze veri önemliyse (ör. konum bildirimi)
+     */
+    DROP_OLDEST,
+    /**
+     * Task'i producer'ın kendi thread'inde çalıştır - producer doğal olarak yavaşlar
+     */
+    CALLER_RUNS,
+    /**
+     * RejectedExecutionException fırlat (mesajda sebep: kuyruk dolu / aşırı yük)
+     */
+    REJECT
+}
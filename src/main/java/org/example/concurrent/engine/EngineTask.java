@@ -0,0 +1,12 @@
+package org.example.concurrent.engine;
+
+/**
+ * TaskEngine'e gönderilen iş birimi
+ *
+ * Runnable'dan farkı: checked exception (ör. InterruptedException) fırlatabilir.
+ * Fırlatılan exception task'i başarısız sayar, worker'ı durdurmaz.
+ */
+@FunctionalInterface
+public interface EngineTask {
+    void execute() throws Exception;
+}
@@ -0,0 +1,19 @@
+package org.example.concurrent.engine;
+
+/**
+ * Paylaşılan worker havuzunda sıradaki task'in hangi tipten seçileceği (bkz. TaskScheduler)
+ */
+public enum SchedulingPolicy {
+    /**
+     * Geliş sırası - tek ArrayBlockingQueue ile aynı davranış (tipler arasında ayrım yok)
+     */
+    FIFO,
+    /**
+     * Deficit round robin: her turda her tip ağırlığı kadar task hakkı kazanır
+     */
+    WEIGHTED_FAIR,
+    /**
+     * Her zaman en yüksek öncelikli dolu kuyruk (düşük öncelikliler aç kalabilir)
+     */
+    STRICT_PRIORITY
+}
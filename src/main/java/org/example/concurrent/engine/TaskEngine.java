@@ -0,0 +1,922 @@
+package org.example.concurrent.engine;
+
+import org.example.concurrent.metrics.BatchStats;
+import org.example.concurrent.metrics.ConcurrentLatencyHistogram;
+import org.example.concurrent.metrics.CpuTime;
+import org.example.concurrent.metrics.LatencyHistogram;
+import org.example.concurrent.queue.WaitStrategy;
+import org.example.concurrent.queue.WaitStrategyType;
+import org.example.executors.BoundedVirtualThreadExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Task Processing Engine - TaskProcessorExample'ın tekrar kullanılabilir hali
+ *
+ * TaskProcessorExample'daki sorunlar ve buradaki karşılıkları:
+ * - Tek kuyruk + 3 sabit worker      → Her TaskType için ayrı kuyruk ve ayarlanabilir worker havuzu
+ *                                       (yavaş REPORT'lar SMS worker'larını meşgul edemez)
+ * - isEmpty() + sleep ile bitiş tespiti → awaitIdle(): son task bitince Condition ile uyanır
+ * - System.exit ile kapanış           → shutdown(): yeni task kabul edilmez, kuyruktakiler
+ *                                       işlenir, worker'lar kendiliğinden çıkar
+ * - Sayaç yok                         → Tip başına gönderilen/tamamlanan/hatalı, kuyruk derinliği,
+ *                                       bekleme ve işleme süresi (stats())
+ *
+ * Worker düzeni iki türlü seçilebilir:
+ * - Tipe özel havuzlar (varsayılan): her tipin kendi kuyruğu ve worker'ları, tam izolasyon
+ *   ama bir tipin boştaki worker'ı diğer tipe yardım edemez
+ * - Paylaşılan havuz (shared(n, policy)): n worker tek TaskScheduler'dan çeker;
+ *   FIFO tek kuyrukla aynıdır, WEIGHTED_FAIR / STRICT_PRIORITY tipler arası sırayı belirler
+ *
+ * Kabul kontrolü (admission): kuyruk doluysa ne olacağı AdmissionPolicy ile seçilir
+ * (BLOCK, BLOCK_WITH_TIMEOUT, DROP_NEWEST, DROP_OLDEST, CALLER_RUNS, REJECT).
+ * adaptiveLimit(...) verilirse her tipin kabul limiti kuyruk gecikmesine göre daralır
+ * (AdaptiveLimit, CoDel + AIMD) ve limit üstündeki task'ler atılır. Her sonuç
+ * (kabul / atılan / reddedilen) tip başına sayılır.
+ *
+ * Virtual thread-per-task (virtualThreadPerTask(n)): worker'lar task'i kendisi çalıştırmaz,
+ * her task için yeni bir virtual thread açan dispatcher olur (tip başına veya paylaşılan havuzda
+ * bir tane). Aynı anda en fazla n task çalışır (BoundedVirtualThreadExecutor, Semaphore);
+ * limit doluyken dispatcher bekler, task'ler kuyrukta kalır ve kabul politikası çalışmaya devam eder.
+ * Sleep / I/O ağırlıklı task'lerde worker sayısını n'e çıkarmanın platform thread maliyeti olmaz.
+ * Virtual thread'lerin CPU zamanı ölçülmez (sadece dispatcher'ınki).
+ *
+ * Yaşam döngüsü: NEW → start() → RUNNING → shutdown() → SHUTTING_DOWN → (kuyruklar boşalınca) TERMINATED
+ *
+ * Kullanım:
+ *   TaskEngine engine = TaskEngine.builder()
+ *           .workers(TaskType.REPORT, 2)
+ *           .queueCapacity(10)
+ *           .build();
+ *   engine.start();
+ *   engine.submit(TaskType.SMS, () -> sendSms(...));
+ *   ...
+ *   engine.shutdown();
+ *   engine.awaitTermination(30, TimeUnit.SECONDS);
+ *   System.out.println(engine.summary());
+ */
+public final class TaskEngine {
+
+    private enum State { NEW, RUNNING, SHUTTING_DOWN, TERMINATED }
+
+    /**
+     * Kuyruktaki task + kuyruğa girdiği an (bekleme süresi ölçümü için)
+     */
+    private static final class Submission {
+        final Lane lane;
+        final EngineTask task;
+        final long enqueuedAt;
+
+        Submission(Lane lane, EngineTask task, long enqueuedAt) {
+            this.lane = lane;
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    /**
+     * Worker'ın task çektiği yer: tipe özel kuyruk veya paylaşılan scheduler
+     */
+    private interface Source {
+        Submission take(BooleanSupplier running) throws InterruptedException;
+
+        void drainTo(List<Submission> batch, int maxElements);
+    }
+
+    /**
+     * Bir task tipinin kuyruğu, worker sayısı ve sayaçları
+     * (paylaşılan havuzda queue null, task'ler scheduler'da bekler)
+     */
+    private static final class Lane {
+        final TaskType type;
+        final int workers;
+        final BlockingQueue<Submission> queue;
+        // Kabul edilmiş ama henüz bitmemiş task sayısı (kuyrukta + işlenmekte + put() içinde)
+        final AtomicLong pending = new AtomicLong();
+        final LongAdder submitted = new LongAdder();
+        final LongAdder completed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+        final LongAdder queueWaitNanos = new LongAdder();
+        final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder runNanos = new LongAdder();
+        final LongAdder cpuNanos = new LongAdder();
+        final LongAdder[] admissions = new LongAdder[Admission.values().length];
+        final LongAdder evicted = new LongAdder();  // DROP_OLDEST ile atılan eski task'ler
+        final AdaptiveLimit limit;  // null = sadece sabit kapasite
+        final BoundedVirtualThreadExecutor virtualExecutor;  // null = task'leri worker'lar çalıştırır
+        // Virtual thread'lerin ortak gecikme histogramı (tek yazarlı worker histogramları yerine)
+        final ConcurrentLatencyHistogram virtualLatency;
+
+        Lane(TaskType type, int workers, int queueCapacity, AdaptiveLimit limit,
+             BoundedVirtualThreadExecutor virtualExecutor) {
+            this.type = type;
+            this.workers = workers;
+            this.queue = workers > 0 ? new ArrayBlockingQueue<>(queueCapacity) : null;
+            this.limit = limit;
+            this.virtualExecutor = virtualExecutor;
+            this.virtualLatency = virtualExecutor != null ? new ConcurrentLatencyHistogram() : null;
+            for (int i = 0; i < admissions.length; i++) {
+                admissions[i] = new LongAdder();
+            }
+        }
+    }
+
+    private final String name;
+    private final Map<TaskType, Lane> lanes = new EnumMap<>(TaskType.class);
+    private final int maxBatch;
+    private final WaitStrategyType waitStrategyType;
+    private final WaitStrategy waitStrategy;
+    private final BiConsumer<TaskType, Throwable> failureHandler;
+    private final AdmissionPolicy admissionPolicy;
+    private final long blockTimeoutNanos;
+    private final TaskScheduler<Submission> scheduler;  // Sadece paylaşılan havuzda
+    private final int sharedWorkers;
+    private final int virtualConcurrency;  // 0 = task'ler platform worker'larda çalışır
+    private final LongAdder sharedCpuNanos = new LongAdder();
+    // Her worker'ın kendi (tek yazarlı) uçtan uca gecikme histogramları; sonlanınca birleştirilir
+    private final List<Map<TaskType, LatencyHistogram>> workerLatencies = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.NEW);
+    private final List<Thread> workers = new ArrayList<>();
+    private final CountDownLatch terminated;
+    private final AtomicInteger liveWorkers;
+    private final BatchStats batchStats = new BatchStats("Worker'lar");
+
+    // Tüm tiplerde bitmemiş task sayısı; 0'a düşünce awaitIdle() bekleyenleri uyandırılır
+    private final AtomicLong outstanding = new AtomicLong();
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition idle = idleLock.newCondition();
+
+    private volatile long startedAt;
+    // Sadece shutdownNow(): worker'lar kesildi. Normal shutdown()'da kimse kesmez,
+    // task'in kendi InterruptedException'ı sıradan bir hata sayılır.
+    private volatile boolean stopping;
+
+    private TaskEngine(Builder builder) {
+        this.name = builder.name;
+        this.maxBatch = builder.maxBatch;
+        this.waitStrategyType = builder.waitStrategy;
+        this.waitStrategy = builder.waitStrategy.create();
+        this.failureHandler = builder.failureHandler;
+        this.admissionPolicy = builder.admissionPolicy;
+        this.blockTimeoutNanos = builder.blockTimeoutNanos;
+        this.virtualConcurrency = builder.virtualConcurrency;
+        boolean virtual = virtualConcurrency > 0;
+        // Virtual modda tek dispatcher yeter: task'leri bekletmez, virtual thread'e devreder
+        this.sharedWorkers = virtual && builder.sharedWorkers > 0 ? 1 : builder.sharedWorkers;
+        this.scheduler = builder.policy == null ? null : new TaskScheduler<>(builder.policy,
+                builder.defaultQueueCapacity, builder.queueCapacities, builder.weights);
+        // Paylaşılan havuzda tüm tipler tek limiti paylaşır, tipe özel havuzlarda her tipin kendi limiti var
+        BoundedVirtualThreadExecutor sharedVirtual = virtual && scheduler != null
+                ? new BoundedVirtualThreadExecutor(virtualConcurrency, name + "-vt-") : null;
+        int totalWorkers = sharedWorkers;
+        for (TaskType type : TaskType.values()) {
+            int count = scheduler != null ? 0 : virtual ? 1 : builder.workers.getOrDefault(type, builder.defaultWorkers);
+            int capacity = builder.queueCapacities.getOrDefault(type, builder.defaultQueueCapacity);
+            AdaptiveLimit limit = builder.targetDelayNanos == 0 ? null : new AdaptiveLimit(
+                    builder.targetDelayNanos, builder.limitIntervalNanos, 1, capacity, 0.75);
+            BoundedVirtualThreadExecutor virtualExecutor = !virtual ? null : sharedVirtual != null
+                    ? sharedVirtual : new BoundedVirtualThreadExecutor(virtualConcurrency, name + "-" + type + "-vt-");
+            lanes.put(type, new Lane(type, count, capacity, limit, virtualExecutor));
+            totalWorkers += count;
+        }
+        this.terminated = new CountDownLatch(totalWorkers);
+        this.liveWorkers = new AtomicInteger(totalWorkers);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Worker thread'lerini başlatır. Sadece bir kez çağrılabilir.
+     */
+    public void start() {
+        if (!state.compareAndSet(State.NEW, State.RUNNING)) {
+            throw new IllegalStateException(name + " zaten başlatılmış: " + state.get());
+        }
+        startedAt = System.nanoTime();
+        if (scheduler != null) {
+            Source source = sharedSource();
+            BooleanSupplier running = () -> state.get() == State.RUNNING || outstanding.get() > 0;
+            for (int i = 1; i <= sharedWorkers; i++) {
+                startWorker(name + "-" + scheduler.policy() + "-" + i, source, running, sharedCpuNanos);
+            }
+            return;
+        }
+        for (Lane lane : lanes.values()) {
+            Source source = laneSource(lane);
+            BooleanSupplier running = () -> state.get() == State.RUNNING || lane.pending.get() > 0;
+            for (int i = 1; i <= lane.workers; i++) {
+                startWorker(name + "-" + lane.type + "-" + i, source, running, lane.cpuNanos);
+            }
+        }
+    }
+
+    private void startWorker(String threadName, Source source, BooleanSupplier running, LongAdder cpuNanos) {
+        Thread worker = new Thread(() -> runWorker(source, running, cpuNanos), threadName);
+        workers.add(worker);
+        worker.start();
+    }
+
+    private Source laneSource(Lane lane) {
+        return new Source() {
+            @Override
+            public Submission take(BooleanSupplier running) throws InterruptedException {
+                return waitStrategy.take(lane.queue, running);  // Boşsa stratejiye göre bekle
+            }
+
+            @Override
+            public void drainTo(List<Submission> batch, int maxElements) {
+                lane.queue.drainTo(batch, maxElements);
+            }
+        };
+    }
+
+    // Scheduler kendi lock/Condition'ı ile bekler; kısa timeout running koşulunu kontrol etmek için
+    private Source sharedSource() {
+        return new Source() {
+            @Override
+            public Submission take(BooleanSupplier running) throws InterruptedException {
+                while (running.getAsBoolean()) {
+                    Submission submission = scheduler.poll(10, TimeUnit.MILLISECONDS);
+                    if (submission != null) {
+                        return submission;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public void drainTo(List<Submission> batch, int maxElements) {
+                scheduler.drainTo(batch, maxElements);
+            }
+        };
+    }
+
+    /**
+     * Task'i tipinin kuyruğuna ekler; kuyruk doluysa (veya adaptif limit aşıldıysa)
+     * kabul politikası uygulanır. Varsayılan BLOCK: yer açılana kadar bekler.
+     *
+     * @return task'e ne olduğu (Admission.isAccepted() → çalıştı veya çalışacak)
+     * @throws RejectedExecutionException engine çalışmıyorsa veya REJECT politikası reddettiyse
+     */
+    public Admission submit(TaskType type, EngineTask task) throws InterruptedException {
+        return submit(type, task, System.nanoTime());
+    }
+
+    /**
+     * Kuyruk bekleme süresinin başlangıcı verilerek gönderim
+     * (open-loop yükte planlanan gönderim anı; bkz. OpenLoopLoadGenerator)
+     */
+    public Admission submit(TaskType type, EngineTask task, long enqueuedAtNanos) throws InterruptedException {
+        Lane lane = acquire(type);
+        Submission submission = new Submission(lane, task, enqueuedAtNanos);
+        Admission result;
+        try {
+            result = admit(lane, submission);
+        } catch (InterruptedException e) {
+            release(lane);
+            throw e;
+        }
+        lane.admissions[result.ordinal()].increment();
+        switch (result) {
+            case ACCEPTED:
+            case DROPPED_OLDEST:
+                accepted(lane);
+                break;
+            case RAN_IN_CALLER:
+                lane.submitted.increment();  // completed/failed'a sayılıyor: submitted'ı geçmesin
+                runInCaller(lane, submission);
+                break;
+            case REJECTED:
+                release(lane);
+                throw new RejectedExecutionException(name + ": " + type + " reddedildi, " + rejectReason(lane));
+            default:
+                release(lane);  // Atıldı
+                break;
+        }
+        return result;
+    }
+
+    private Admission admit(Lane lane, Submission submission) throws InterruptedException {
+        // Limit kapasiteye eşitken (gecikme hedefin altında) dolu kuyruk normal "dolu" sayılır
+        boolean overloaded = lane.limit != null && lane.limit.current() < queueCapacity(lane.type)
+                && queueDepth(lane.type) >= lane.limit.current();
+        if (overloaded) {
+            // Gecikme hedefi aşılmışken beklemek gecikmeyi daha da büyütür: bloklayan politikalar da atar
+            if (admissionPolicy == AdmissionPolicy.BLOCK || admissionPolicy == AdmissionPolicy.BLOCK_WITH_TIMEOUT) {
+                return Admission.SHED_OVERLOAD;
+            }
+            return whenFull(lane, submission, true);
+        }
+        switch (admissionPolicy) {
+            case BLOCK:
+                enqueue(lane, submission, -1);
+                return Admission.ACCEPTED;
+            case BLOCK_WITH_TIMEOUT:
+                return enqueue(lane, submission, blockTimeoutNanos) ? Admission.ACCEPTED : Admission.TIMED_OUT;
+            default:
+                return enqueue(lane, submission, 0) ? Admission.ACCEPTED : whenFull(lane, submission, false);
+        }
+    }
+
+    // Bloklamayan politikalar: kuyruk dolu veya limit aşıldı
+    private Admission whenFull(Lane lane, Submission submission, boolean overloaded) throws InterruptedException {
+        switch (admissionPolicy) {
+            case DROP_OLDEST:
+                // En eskiyi at, yeniyi ekle (başka producer araya girerse tekrar dene)
+                do {
+                    Submission oldest = scheduler != null ? scheduler.pollOldest(lane.type) : lane.queue.poll();
+                    if (oldest != null) {
+                        lane.evicted.increment();
+                        release(lane);
+                    }
+                } while (!enqueue(lane, submission, 0));
+                return Admission.DROPPED_OLDEST;
+            case CALLER_RUNS:
+                return Admission.RAN_IN_CALLER;
+            case REJECT:
+                return Admission.REJECTED;
+            default:
+                return overloaded ? Admission.SHED_OVERLOAD : Admission.DROPPED_NEWEST;
+        }
+    }
+
+    /**
+     * @param timeoutNanos -1 = yer açılana kadar bekle, 0 = beklemeden dene
+     */
+    private boolean enqueue(Lane lane, Submission submission, long timeoutNanos) throws InterruptedException {
+        if (timeoutNanos < 0) {
+            if (scheduler != null) {
+                scheduler.put(lane.type, submission);
+            } else {
+                lane.queue.put(submission);
+            }
+            return true;
+        }
+        return scheduler != null
+                ? scheduler.offer(lane.type, submission, timeoutNanos, TimeUnit.NANOSECONDS)
+                : lane.queue.offer(submission, timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private String rejectReason(Lane lane) {
+        int depth = queueDepth(lane.type);
+        if (lane.limit != null && depth >= lane.limit.current()) {
+            return "aşırı yük: kuyruk gecikmesi hedefin üstünde (" + depth + "/" + lane.limit.current() + " limit)";
+        }
+        return "kuyruk dolu (" + depth + "/" + queueCapacity(lane.type) + ")";
+    }
+
+    // CALLER_RUNS: producer thread'inde çalışır, gecikme histogramına yazılmaz (worker'a ait değil)
+    private void runInCaller(Lane lane, Submission submission) {
+        long start = System.nanoTime();
+        try {
+            submission.task.execute();
+            lane.completed.increment();
+        } catch (Exception e) {
+            lane.failed.increment();
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            failureHandler.accept(lane.type, e);
+        } finally {
+            lane.runNanos.add(System.nanoTime() - start);
+            release(lane);
+        }
+    }
+
+    /**
+     * Kuyruk doluysa en fazla timeout kadar bekler. Kabul politikası ve adaptif limit uygulanmaz.
+     *
+     * @return task kabul edildiyse true, süre dolduysa false
+     */
+    public boolean offer(TaskType type, EngineTask task, long timeout, TimeUnit unit) throws InterruptedException {
+        Lane lane = acquire(type);
+        boolean added;
+        try {
+            Submission submission = new Submission(lane, task, System.nanoTime());
+            added = scheduler != null
+                    ? scheduler.offer(type, submission, timeout, unit)
+                    : lane.queue.offer(submission, timeout, unit);
+        } catch (InterruptedException e) {
+            release(lane);
+            throw e;
+        }
+        if (!added) {
+            release(lane);
+            return false;
+        }
+        accepted(lane);
+        return true;
+    }
+
+    // pending, durum kontrolünden ÖNCE artırılır: shutdown() ile yarışta worker'lar
+    // pending > 0 gördükçe çıkmaz, bu task kuyrukta sahipsiz kalmaz
+    private Lane acquire(TaskType type) {
+        Lane lane = lanes.get(type);
+        lane.pending.incrementAndGet();
+        outstanding.incrementAndGet();
+        if (state.get() != State.RUNNING) {
+            release(lane);
+            throw new RejectedExecutionException(name + " task kabul etmiyor: " + state.get());
+        }
+        return lane;
+    }
+
+    private void accepted(Lane lane) {
+        lane.submitted.increment();
+        lane.maxQueueDepth.accumulate(queueDepth(lane.type));
+    }
+
+    private void release(Lane lane) {
+        lane.pending.decrementAndGet();
+        if (outstanding.decrementAndGet() == 0) {
+            idleLock.lock();
+            try {
+                idle.signalAll();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    private void runWorker(Source source, BooleanSupplier running, LongAdder cpuNanos) {
+        List<Submission> batch = new ArrayList<>(maxBatch);  // Tekrar kullanılan buffer
+        Map<TaskType, LatencyHistogram> latencies = new EnumMap<>(TaskType.class);
+        for (TaskType type : TaskType.values()) {
+            latencies.put(type, new LatencyHistogram());
+        }
+        workerLatencies.add(latencies);
+        long cpuAtStart = CpuTime.currentThreadCpuNanos();
+        long items = 0, batches = 0, calls = 0;
+        try {
+            while (true) {
+                Submission first = source.take(running);
+                calls++;
+                if (first == null) {
+                    break;  // Kapanıyor ve bekleyen task kalmadı
+                }
+                batch.add(first);
+                if (maxBatch > 1) {
+                    source.drainTo(batch, maxBatch - 1);  // Bekleyenleri tek lock alımıyla al
+                    calls++;
+                }
+                items += batch.size();
+                batches++;
+
+                long dequeuedAt = System.nanoTime();
+                int done = 0;
+                try {
+                    for (Submission submission : batch) {
+                        Lane lane = submission.lane;
+                        long wait = dequeuedAt - submission.enqueuedAt;
+                        lane.queueWaitNanos.add(wait);
+                        lane.maxQueueWaitNanos.accumulate(wait);
+                        if (lane.limit != null) {
+                            lane.limit.onDequeue(wait, dequeuedAt);
+                        }
+                        done++;
+                        if (lane.virtualExecutor != null) {
+                            dispatch(lane, submission);
+                        } else {
+                            execute(lane, submission, latencies.get(lane.type));
+                        }
+                    }
+                } finally {
+                    // shutdownNow() kesintisinde batch'te kalanlar başarısız sayılır
+                    for (int i = done; i < batch.size(); i++) {
+                        Lane lane = batch.get(i).lane;
+                        lane.failed.increment();
+                        release(lane);
+                    }
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            // shutdownNow() → çık
+        } finally {
+            cpuNanos.add(CpuTime.currentThreadCpuNanos() - cpuAtStart);
+            batchStats.add(items, batches, calls, 0);
+            workerExited();
+        }
+    }
+
+    /**
+     * Task'i yeni bir virtual thread'de başlatır; eşzamanlılık limiti doluysa permit bekler.
+     */
+    private void dispatch(Lane lane, Submission submission) throws InterruptedException {
+        try {
+            lane.virtualExecutor.executeInterruptibly(() -> {
+                try {
+                    execute(lane, submission, null);
+                } catch (InterruptedException e) {
+                    // shutdownNow() kesintisi: task başarısız sayıldı, virtual thread biter
+                }
+            });
+        } catch (InterruptedException | RejectedExecutionException e) {
+            // Başlatılamadı (shutdownNow() sırasında): başarısız say
+            lane.failed.increment();
+            release(lane);
+            if (e instanceof InterruptedException) {
+                throw (InterruptedException) e;
+            }
+        }
+    }
+
+    /**
+     * @param latency worker'ın kendi histogramı, virtual thread'de null (lane.virtualLatency'e yazılır)
+     */
+    private void execute(Lane lane, Submission submission, LatencyHistogram latency) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            submission.task.execute();
+            lane.completed.increment();
+        } catch (InterruptedException e) {
+            lane.failed.increment();
+            if (stopping) {
+                throw e;  // shutdownNow() kesintisi
+            }
+            failureHandler.accept(lane.type, e);
+        } catch (Throwable e) {
+            // Error (AssertionError, StackOverflowError...) da yakalanır: worker ölürse yerine yenisi
+            // gelmez, tek worker'lı tipin kuyruğu sahipsiz kalır ve awaitIdle() sonsuza kadar bekler
+            lane.failed.increment();
+            failureHandler.accept(lane.type, e);
+        } finally {
+            if (!stopping) {
+                // Task'in bıraktığı interrupt bayrağı temizlenir (ThreadPoolExecutor gibi):
+                // kalırsa worker'ın bir sonraki take()'i atar ve worker çıkar
+                Thread.interrupted();
+                if (stopping) {
+                    Thread.currentThread().interrupt();  // Arada shutdownNow() geldiyse kesinti kaybolmasın
+                }
+            }
+            long end = System.nanoTime();
+            lane.runNanos.add(end - start);
+            if (latency != null) {
+                latency.record(end - submission.enqueuedAt);
+            } else {
+                lane.virtualLatency.record(end - submission.enqueuedAt);
+            }
+            release(lane);
+        }
+    }
+
+    private void workerExited() {
+        // Son çıkan worker durumu latch'i açmadan önce günceller:
+        // awaitTermination() dönünce isTerminated() true olur
+        if (liveWorkers.decrementAndGet() == 0) {
+            awaitVirtualThreads();
+            state.set(State.TERMINATED);
+        }
+        terminated.countDown();
+    }
+
+    // Normal kapanışta dispatcher'lar pending = 0 olunca çıkar, beklenecek virtual thread kalmaz.
+    // shutdownNow() ile kesilen dispatcher ise çalışan virtual thread'leri beklemeden çıkar.
+    private void awaitVirtualThreads() {
+        boolean interrupted = Thread.interrupted();
+        for (Lane lane : lanes.values()) {
+            if (lane.virtualExecutor == null) {
+                continue;
+            }
+            lane.virtualExecutor.shutdown();
+            while (!lane.virtualExecutor.isTerminated()) {
+                try {
+                    lane.virtualExecutor.awaitTermination(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Yeni task kabulünü durdurur. Kuyruktaki task'ler işlenmeye devam eder,
+     * her tipin worker'ları kendi kuyrukları boşalınca çıkar. Beklemez.
+     */
+    public void shutdown() {
+        if (state.compareAndSet(State.NEW, State.TERMINATED)) {
+            // Hiç başlatılmadı: çıkacak worker yok, awaitTermination() beklemesin
+            while (terminated.getCount() > 0) {
+                terminated.countDown();
+            }
+            return;
+        }
+        state.compareAndSet(State.RUNNING, State.SHUTTING_DOWN);
+    }
+
+    /**
+     * shutdown() + çalışan task'leri keser ve kuyrukta bekleyen task'leri döner.
+     */
+    public List<EngineTask> shutdownNow() {
+        stopping = true;
+        shutdown();
+        List<EngineTask> remaining = new ArrayList<>();
+        List<Submission> drained = new ArrayList<>();
+        if (scheduler != null) {
+            scheduler.drainTo(drained, Integer.MAX_VALUE);
+        } else {
+            for (Lane lane : lanes.values()) {
+                lane.queue.drainTo(drained);
+            }
+        }
+        for (Submission submission : drained) {
+            remaining.add(submission.task);
+            release(submission.lane);
+        }
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Lane lane : lanes.values()) {
+            if (lane.virtualExecutor != null) {
+                lane.virtualExecutor.shutdownNow();  // Çalışan virtual thread'leri de kes
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Tüm worker'lar çıkana kadar bekler.
+     *
+     * @return süre dolmadan sonlandıysa true
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        if (state.get() == State.NEW) {
+            return false;
+        }
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * O ana kadar kabul edilen tüm task'ler bitene kadar bekler (engine çalışmaya devam eder).
+     * Sleep ile yoklama yok: son task biten worker Condition'ı sinyaller.
+     *
+     * @return süre dolmadan boşaldıysa true
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        idleLock.lock();
+        try {
+            while (outstanding.get() > 0) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = idle.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    public boolean isTerminated() {
+        return state.get() == State.TERMINATED;
+    }
+
+    public int queueDepth(TaskType type) {
+        return scheduler != null ? scheduler.size(type) : lanes.get(type).queue.size();
+    }
+
+    public int queueCapacity(TaskType type) {
+        if (scheduler != null) {
+            return scheduler.capacity(type);
+        }
+        Lane lane = lanes.get(type);
+        return lane.queue.size() + lane.queue.remainingCapacity();
+    }
+
+    public TypeStats stats(TaskType type) {
+        Lane lane = lanes.get(type);
+        long elapsed = startedAt == 0 ? 0 : System.nanoTime() - startedAt;
+        return new TypeStats(type, lane.workers, lane.submitted.sum(), lane.completed.sum(), lane.failed.sum(),
+                queueDepth(type), lane.maxQueueDepth.get(), lane.queueWaitNanos.sum(), lane.maxQueueWaitNanos.get(),
+                lane.runNanos.sum(), lane.cpuNanos.sum(), elapsed, admissionCounts(lane), lane.evicted.sum(),
+                lane.limit == null ? -1 : lane.limit.current());
+    }
+
+    private static long[] admissionCounts(Lane lane) {
+        long[] counts = new long[lane.admissions.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = lane.admissions[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Tipin kuyruğa giriş → işlem bitişi gecikmeleri (tüm worker'lar birleşik).
+     * Histogramlar worker'lara ait olduğu için sadece awaitTermination() sonrası güvenilirdir.
+     */
+    public LatencyHistogram latency(TaskType type) {
+        LatencyHistogram merged = new LatencyHistogram();
+        synchronized (workerLatencies) {
+            for (Map<TaskType, LatencyHistogram> latencies : workerLatencies) {
+                merged.add(latencies.get(type));
+            }
+        }
+        Lane lane = lanes.get(type);
+        if (lane.virtualLatency != null) {
+            merged.add(lane.virtualLatency.snapshot());
+        }
+        return merged;
+    }
+
+    /**
+     * Tip başına istatistikler + batch özeti (her satır bir tip),
+     * sonlandıysa tip başına gecikme yüzdelikleri
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(name).append(" [").append(state.get()).append(", bekleme stratejisi: ")
+                .append(waitStrategyType).append(", max batch: ").append(maxBatch)
+                .append(", kabul politikası: ").append(admissionPolicy);
+        if (scheduler != null) {
+            sb.append(", paylaşılan havuz: ").append(sharedWorkers).append(" worker, ").append(scheduler.policy());
+        }
+        if (virtualConcurrency > 0) {
+            sb.append(", virtual thread-per-task: ").append(scheduler != null ? "toplam" : "tip başına")
+                    .append(" en fazla ").append(virtualConcurrency).append(" eşzamanlı");
+        }
+        sb.append("]\n");
+        for (TaskType type : TaskType.values()) {
+            sb.append("  ").append(stats(type).summary()).append('\n');
+            AdaptiveLimit limit = lanes.get(type).limit;
+            if (limit != null) {
+                sb.append("  ").append(String.format("%-12s ", type)).append(limit.summary()).append('\n');
+            }
+        }
+        if (scheduler != null) {
+            sb.append("  Paylaşılan worker CPU: ").append(CpuTime.format(sharedCpuNanos.sum(), batchStats.items())).append('\n');
+        }
+        if (isTerminated()) {
+            for (TaskType type : TaskType.values()) {
+                sb.append(latency(type).summary(String.format("  %-12s uçtan uca", type))).append('\n');
+            }
+        }
+        sb.append("  ").append(batchStats.summary());
+        return sb.toString();
+    }
+
+    /**
+     * TaskEngine ayarları. Belirtilmeyen tipler varsayılan worker sayısı / kuyruk kapasitesini alır.
+     */
+    public static final class Builder {
+        private String name = "TaskEngine";
+        private int defaultWorkers = 1;
+        private int defaultQueueCapacity = 10;
+        private final Map<TaskType, Integer> workers = new EnumMap<>(TaskType.class);
+        private final Map<TaskType, Integer> queueCapacities = new EnumMap<>(TaskType.class);
+        private int maxBatch = 1;
+        private WaitStrategyType waitStrategy = WaitStrategyType.BLOCKING;
+        private BiConsumer<TaskType, Throwable> failureHandler = (type, error) -> { };
+        private SchedulingPolicy policy;  // null = tipe özel havuzlar
+        private int sharedWorkers;
+        private final Map<TaskType, Integer> weights = new EnumMap<>(TaskType.class);
+        private AdmissionPolicy admissionPolicy = AdmissionPolicy.BLOCK;
+        private long blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(100);
+        private long targetDelayNanos;  // 0 = adaptif limit yok
+        private long limitIntervalNanos;
+        private int virtualConcurrency;  // 0 = platform worker'lar
+
+        private Builder() {
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder workers(int count) {
+            this.defaultWorkers = requirePositive(count, "workers");
+            return this;
+        }
+
+        public Builder workers(TaskType type, int count) {
+            workers.put(type, requirePositive(count, "workers"));
+            return this;
+        }
+
+        public Builder queueCapacity(int capacity) {
+            this.defaultQueueCapacity = requirePositive(capacity, "queueCapacity");
+            return this;
+        }
+
+        public Builder queueCapacity(TaskType type, int capacity) {
+            queueCapacities.put(type, requirePositive(capacity, "queueCapacity"));
+            return this;
+        }
+
+        /**
+         * Worker'ın bir seferde kuyruktan aldığı en fazla task (1 = batch yok)
+         */
+        public Builder maxBatch(int maxBatch) {
+            this.maxBatch = requirePositive(maxBatch, "maxBatch");
+            return this;
+        }
+
+        public Builder waitStrategy(WaitStrategyType waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        /**
+         * Tipe özel havuzlar yerine tüm tiplere hizmet eden count worker'lık tek havuz.
+         * Sıradaki task policy'ye göre seçilir (bkz. TaskScheduler); workers(...) ayarları yok sayılır.
+         */
+        public Builder shared(int count, SchedulingPolicy policy) {
+            this.sharedWorkers = requirePositive(count, "workers");
+            this.policy = policy;
+            return this;
+        }
+
+        /**
+         * WEIGHTED_FAIR'da tipin tur başına task hakkı, STRICT_PRIORITY'de önceliği (büyük önce).
+         * Belirtilmeyen tipler 1.
+         */
+        public Builder weight(TaskType type, int weight) {
+            weights.put(type, requirePositive(weight, "weight"));
+            return this;
+        }
+
+        /**
+         * Kuyruk dolu olduğunda (veya adaptif limit aşıldığında) uygulanacak politika
+         */
+        public Builder admission(AdmissionPolicy admissionPolicy) {
+            this.admissionPolicy = admissionPolicy;
+            return this;
+        }
+
+        /**
+         * BLOCK_WITH_TIMEOUT politikasında en fazla bekleme (varsayılan 100ms)
+         */
+        public Builder blockTimeout(long timeout, TimeUnit unit) {
+            this.blockTimeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        /**
+         * Her tipe, kuyruk gecikmesi targetDelay'i interval boyunca aşınca daralan
+         * bir kabul limiti ekler (bkz. AdaptiveLimit). Limit en fazla kuyruk kapasitesidir.
+         */
+        public Builder adaptiveLimit(long targetDelay, long interval, TimeUnit unit) {
+            if (targetDelay <= 0 || interval <= 0) {
+                throw new IllegalArgumentException("targetDelay ve interval pozitif olmalı");
+            }
+            this.targetDelayNanos = unit.toNanos(targetDelay);
+            this.limitIntervalNanos = unit.toNanos(interval);
+            return this;
+        }
+
+        /**
+         * Her task kendi virtual thread'inde çalışır; tipe özel havuzlarda tip başına,
+         * paylaşılan havuzda toplam en fazla maxConcurrency task aynı anda çalışır.
+         * Worker sayısı ayarları yok sayılır: her kuyruğu tek dispatcher boşaltır.
+         */
+        public Builder virtualThreadPerTask(int maxConcurrency) {
+            this.virtualConcurrency = requirePositive(maxConcurrency, "maxConcurrency");
+            return this;
+        }
+
+        /**
+         * Exception ya da Error fırlatan task'ler için çağrılır (worker thread'inde; worker çalışmaya devam eder)
+         */
+        public Builder onFailure(BiConsumer<TaskType, Throwable> failureHandler) {
+            this.failureHandler = failureHandler;
+            return this;
+        }
+
+        public TaskEngine build() {
+            return new TaskEngine(this);
+        }
+
+        private static int requirePositive(int value, String field) {
+            if (value < 1) {
+                throw new IllegalArgumentException(field + " en az 1 olmalı: " + value);
+            }
+            return value;
+        }
+    }
+}
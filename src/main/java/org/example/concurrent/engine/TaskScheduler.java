@@ -0,0 +1,284 @@
+package org.example.concurrent.engine;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tip başına alt kuyruklu, politikalı bloklayan kuyruk
+ *
+ * Problem: Tüm tipler tek FIFO kuyruğu paylaşırsa 20 yavaş REPORT'tan oluşan
+ * bir patlama, arkasındaki SMS'leri REPORT'lar bitene kadar bekletir
+ * (head-of-line blocking). Worker sayısını artırmak bunu sadece seyreltir.
+ *
+ * Çözüm: Her tipin kendi alt kuyruğu var, worker sıradaki task'i politikaya göre seçer:
+ * - FIFO:            geliş sırası (karşılaştırma için, tek kuyruk ile aynı)
+ * - WEIGHTED_FAIR:   deficit round robin - her tur bir tipe geçildiğinde tipin
+ *                    deficit'ine ağırlığı eklenir, deficit yettiği kadar task alınır.
+ *                    SMS=8, REPORT=1 → dolu kuyruklarda her 8 SMS'e 1 REPORT.
+ *                    Boş tipin hakkı birikmez (deficit sıfırlanır).
+ * - STRICT_PRIORITY: en yüksek öncelikli (ağırlığı en büyük) dolu alt kuyruk.
+ *                    Yüksek öncelikli trafik hiç bitmezse düşükler aç kalır.
+ *
+ * Ağırlık task SAYISI başınadır; tipler arasında işleme süresi çok farklıysa
+ * (REPORT ~1s, SMS ~10ms) ağırlık seçerken bu fark hesaba katılmalı.
+ *
+ * Tek ReentrantLock: alt kuyruklar kısa tutulan aynı lock altında,
+ * tipler arası seçim tutarlı olsun diye. Her tipin kendi notFull Condition'ı var:
+ * dolu REPORT kuyruğu SMS producer'larını bloklamaz.
+ */
+public final class TaskScheduler<E> {
+
+    private static final class SubQueue<E> {
+        final TaskType type;
+        final ArrayDeque<E> items;
+        final int capacity;
+        final int weight;
+        final Condition notFull;
+        int deficit;
+
+        SubQueue(TaskType type, int capacity, int weight, Condition notFull) {
+            this.type = type;
+            this.items = new ArrayDeque<>(Math.min(capacity, 1024));
+            this.capacity = capacity;
+            this.weight = weight;
+            this.notFull = notFull;
+        }
+    }
+
+    private final SchedulingPolicy policy;
+    private final SubQueue<E>[] queues;            // TaskType.ordinal() ile indeksli
+    private final SubQueue<E>[] byPriority;        // STRICT_PRIORITY: ağırlığa göre azalan
+    private final ArrayDeque<TaskType> arrivalOrder;  // FIFO: put sırasıyla tipler
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private int count;
+    private int cursor;  // WEIGHTED_FAIR: sırası gelen alt kuyruk
+
+    /**
+     * @param capacities tip başına kapasite (olmayan tip → defaultCapacity)
+     * @param weights    tip başına ağırlık / öncelik (olmayan tip → 1)
+     */
+    public TaskScheduler(SchedulingPolicy policy, int defaultCapacity,
+                         Map<TaskType, Integer> capacities, Map<TaskType, Integer> weights) {
+        this.policy = policy;
+        TaskType[] types = TaskType.values();
+        this.queues = newQueues(types.length);
+        for (TaskType type : types) {
+            int weight = weights.getOrDefault(type, 1);
+            if (weight < 1) {
+                throw new IllegalArgumentException(type + " ağırlığı en az 1 olmalı: " + weight);
+            }
+            queues[type.ordinal()] = new SubQueue<>(type, capacities.getOrDefault(type, defaultCapacity),
+                    weight, lock.newCondition());
+        }
+        this.byPriority = queues.clone();
+        Arrays.sort(byPriority, Comparator.comparingInt((SubQueue<E> q) -> q.weight).reversed());
+        this.arrivalOrder = policy == SchedulingPolicy.FIFO ? new ArrayDeque<>() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> SubQueue<E>[] newQueues(int length) {
+        return (SubQueue<E>[]) new SubQueue<?>[length];
+    }
+
+    public SchedulingPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Tipin alt kuyruğu doluysa yer açılana kadar bekler.
+     */
+    public void put(TaskType type, E item) throws InterruptedException {
+        SubQueue<E> q = queues[type.ordinal()];
+        lock.lockInterruptibly();
+        try {
+            while (q.items.size() >= q.capacity) {
+                q.notFull.await();
+            }
+            enqueue(q, item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tipin alt kuyruğu doluysa en fazla timeout kadar bekler.
+     *
+     * @return eklendiyse true
+     */
+    public boolean offer(TaskType type, E item, long timeout, TimeUnit unit) throws InterruptedException {
+        SubQueue<E> q = queues[type.ordinal()];
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (q.items.size() >= q.capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = q.notFull.awaitNanos(nanos);
+            }
+            enqueue(q, item);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(SubQueue<E> q, E item) {
+        q.items.addLast(item);
+        if (arrivalOrder != null) {
+            arrivalOrder.addLast(q.type);
+        }
+        count++;
+        notEmpty.signal();
+    }
+
+    /**
+     * Tipin en eski task'ini politikadan bağımsız çıkarır (DROP_OLDEST için), boşsa null.
+     * FIFO'da geliş sırası listesinden de silinir (O(n), sadece yük atarken).
+     */
+    public E pollOldest(TaskType type) {
+        SubQueue<E> q = queues[type.ordinal()];
+        lock.lock();
+        try {
+            E item = q.items.pollFirst();
+            if (item != null) {
+                if (arrivalOrder != null) {
+                    arrivalOrder.removeFirstOccurrence(type);
+                }
+                count--;
+                q.notFull.signal();
+            }
+            return item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Politikaya göre sıradaki task, tüm alt kuyruklar boşsa null
+     */
+    public E poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Politikaya göre sıradaki task, timeout içinde gelmezse null
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * En fazla maxElements task'i politika sırasıyla tek lock alımında alır.
+     */
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        lock.lock();
+        try {
+            int n = 0;
+            while (n < maxElements && count > 0) {
+                target.add(dequeue());
+                n++;
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock tutuluyor ve count > 0
+    private E dequeue() {
+        SubQueue<E> q;
+        switch (policy) {
+            case FIFO:
+                q = queues[arrivalOrder.pollFirst().ordinal()];
+                break;
+            case STRICT_PRIORITY:
+                q = highestPriorityNonEmpty();
+                break;
+            default:
+                q = nextDeficitRoundRobin();
+                break;
+        }
+        E item = q.items.pollFirst();
+        count--;
+        q.notFull.signal();
+        return item;
+    }
+
+    private SubQueue<E> highestPriorityNonEmpty() {
+        for (SubQueue<E> q : byPriority) {
+            if (!q.items.isEmpty()) {
+                return q;
+            }
+        }
+        throw new IllegalStateException("count > 0 ama tüm alt kuyruklar boş");
+    }
+
+    /**
+     * Sıradaki alt kuyruğun deficit'i yetiyorsa ondan al, yoksa sıradakine geç ve
+     * ona ağırlığı kadar hak ver. count > 0 olduğu için en fazla bir tur döner.
+     */
+    private SubQueue<E> nextDeficitRoundRobin() {
+        while (true) {
+            SubQueue<E> q = queues[cursor];
+            if (!q.items.isEmpty() && q.deficit > 0) {
+                q.deficit--;
+                return q;
+            }
+            if (q.items.isEmpty()) {
+                q.deficit = 0;  // Boş tipin hakkı birikmez
+            }
+            cursor = (cursor + 1) % queues.length;
+            SubQueue<E> next = queues[cursor];
+            if (!next.items.isEmpty()) {
+                next.deficit += next.weight;
+            }
+        }
+    }
+
+    public int size(TaskType type) {
+        lock.lock();
+        try {
+            return queues[type.ordinal()].items.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int capacity(TaskType type) {
+        return queues[type.ordinal()].capacity;
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.concurrent.engine;
+
+/**
+ * TaskEngine'in tanıdığı task tipleri - her tipin kendi kuyruğu ve worker havuzu var
+ */
+public enum TaskType {
+    EMAIL,
+    SMS,
+    NOTIFICATION,
+    REPORT
+}
@@ -0,0 +1,167 @@
+package org.example.concurrent.engine;
+
+import org.example.concurrent.metrics.CpuTime;
+import org.example.concurrent.metrics.LatencyHistogram;
+
+/**
+ * Bir task tipinin anlık istatistikleri (TaskEngine.stats() ile alınır)
+ *
+ * Sayaçlar ayrı ayrı okunduğu için birbirleriyle tam tutarlı olmayabilir
+ * (ör. submitted okunduktan sonra bir task tamamlanmış olabilir).
+ */
+public final class TypeStats {
+
+    private final TaskType type;
+    private final int workers;
+    private final long submitted;
+    private final long completed;
+    private final long failed;
+    private final int queueDepth;
+    private final long maxQueueDepth;
+    private final long totalQueueWaitNanos;
+    private final long maxQueueWaitNanos;
+    private final long totalRunNanos;
+    private final long cpuNanos;
+    private final long elapsedNanos;
+    private final long[] admissions;
+    private final long evicted;
+    private final int limit;
+
+    TypeStats(TaskType type, int workers, long submitted, long completed, long failed,
+              int queueDepth, long maxQueueDepth, long totalQueueWaitNanos, long maxQueueWaitNanos,
+              long totalRunNanos, long cpuNanos, long elapsedNanos, long[] admissions, long evicted, int limit) {
+        this.type = type;
+        this.workers = workers;
+        this.submitted = submitted;
+        this.completed = completed;
+        this.failed = failed;
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.totalQueueWaitNanos = totalQueueWaitNanos;
+        this.maxQueueWaitNanos = maxQueueWaitNanos;
+        this.totalRunNanos = totalRunNanos;
+        this.cpuNanos = cpuNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.admissions = admissions;
+        this.evicted = evicted;
+        this.limit = limit;
+    }
+
+    public TaskType type() {
+        return type;
+    }
+
+    public int workers() {
+        return workers;
+    }
+
+    /**
+     * Kabul edilen task'ler (CALLER_RUNS ile producer'da çalışanlar dahil)
+     */
+    public long submitted() {
+        return submitted;
+    }
+
+    public long completed() {
+        return completed;
+    }
+
+    public long failed() {
+        return failed;
+    }
+
+    /**
+     * submit() sonucu bu olan task sayısı
+     */
+    public long admissions(Admission admission) {
+        return admissions[admission.ordinal()];
+    }
+
+    /**
+     * Çalıştırılan veya kuyruğa alınan (kabul edilen) task sayısı
+     */
+    public long accepted() {
+        long total = 0;
+        for (Admission admission : Admission.values()) {
+            if (admission.isAccepted()) {
+                total += admissions[admission.ordinal()];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Hiç çalışmayan task sayısı: atılan, zaman aşımına uğrayan, reddedilen
+     * ve DROP_OLDEST ile kuyruktan çıkarılan eski task'ler
+     */
+    public long shed() {
+        long total = evicted;
+        for (Admission admission : Admission.values()) {
+            if (!admission.isAccepted()) {
+                total += admissions[admission.ordinal()];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Adaptif kabul limiti, yoksa -1
+     */
+    public int limit() {
+        return limit;
+    }
+
+    public int queueDepth() {
+        return queueDepth;
+    }
+
+    public long maxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * Tamamlanan (başarılı + başarısız) task başına ortalama kuyruk bekleme süresi (ns)
+     */
+    public long averageQueueWaitNanos() {
+        long done = completed + failed;
+        return done == 0 ? 0 : totalQueueWaitNanos / done;
+    }
+
+    public long maxQueueWaitNanos() {
+        return maxQueueWaitNanos;
+    }
+
+    public long averageRunNanos() {
+        long done = completed + failed;
+        return done == 0 ? 0 : totalRunNanos / done;
+    }
+
+    /**
+     * Worker'ların harcadığı CPU zamanı (sadece sonlanmış worker'lar için dolu)
+     */
+    public long cpuNanos() {
+        return cpuNanos;
+    }
+
+    /**
+     * Engine başladığından beri saniyede tamamlanan task
+     */
+    public double throughput() {
+        return elapsedNanos == 0 ? 0 : completed * 1e9 / elapsedNanos;
+    }
+
+    public String summary() {
+        String line = String.format("%-12s workers=%d gönderilen=%d tamamlanan=%d hata=%d kuyruk=%d (max %d) " +
+                        "%.2f task/sn, kuyruk bekleme ort=%s max=%s, işleme ort=%s",
+                type, workers, submitted, completed, failed, queueDepth, maxQueueDepth, throughput(),
+                LatencyHistogram.formatNanos(averageQueueWaitNanos()),
+                LatencyHistogram.formatNanos(maxQueueWaitNanos),
+                LatencyHistogram.formatNanos(averageRunNanos()));
+        long shed = shed();
+        long ranInCaller = admissions(Admission.RAN_IN_CALLER);
+        if (shed > 0 || ranInCaller > 0 || limit >= 0) {
+            line += String.format(", kabul=%d (caller-runs %d), atılan=%d", accepted(), ranInCaller, shed);
+        }
+        return cpuNanos > 0 ? line + ", " + CpuTime.format(cpuNanos, completed + failed) : line;
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.concurrent.load;
+
+import org.example.concurrent.metrics.LatencyHistogram;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sabit hızlı, açık döngülü (open-loop) yük üreteci
+ *
+ * Kapalı döngü (closed-loop) producer: put() → sleep(200) → put() → ...
+ * Kuyruk dolunca put() bloklanır ve producer YAVAŞLAR. Gerçek kullanıcılar
+ * ise yavaşlamaz: istek saniyede 100 gelirse, sistem takılsa da 100 gelir.
+ * Kapalı döngüde "gönderilmesi gereken ama gönderilemeyen" istekler hiç
+ * ölçülmez → gecikme sessizce olduğundan iyi görünür (coordinated omission).
+ *
+ * Bu üretici:
+ * - i. item'ın planlanan gönderim zamanı = start + i * (1s / hedef hız)
+ * - Planın gerisinde kalırsa beklemez, hemen gönderir (plan kaymaz)
+ * - Item'a planlanan zaman verilir → gecikme GERÇEK gönderim anından değil,
+ *   gönderilmesi GEREKEN andan ölçülür
+ * - Gönderim gecikmesi (gerçek - planlanan) ayrıca histograma yazılır
+ *
+ * Kullanım:
+ *   OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(150, 1000);
+ *   OpenLoopLoadGenerator.Result result = generator.run(queue, 1, (seq, intendedNanos) -> new Task(seq, intendedNanos));
+ *   System.out.println(result.summary());
+ *
+ * run() çağıran thread'de çalışır (producer thread'i).
+ */
+public final class OpenLoopLoadGenerator {
+
+    /**
+     * Planlanan gönderim zamanını (System.nanoTime) alan item fabrikası
+     */
+    @FunctionalInterface
+    public interface TaskFactory<T> {
+        T create(int sequence, long intendedStartNanos);
+    }
+
+    /**
+     * Kuyruk dışı hedefler için gönderim (ör. TaskEngine.submit)
+     */
+    @FunctionalInterface
+    public interface Sender {
+        void send(int sequence, long intendedStartNanos) throws InterruptedException;
+    }
+
+    // Bu kadar erken uyanırsa park yerine spin (parkNanos hassasiyeti ~50-100µs)
+    private static final long SPIN_THRESHOLD_NANOS = 50_000;
+
+    private final double opsPerSecond;
+    private final int count;
+    private final long periodNanos;
+
+    /**
+     * @param opsPerSecond hedef gönderim hızı (item/sn)
+     * @param count        gönderilecek toplam item
+     */
+    public OpenLoopLoadGenerator(double opsPerSecond, int count) {
+        if (opsPerSecond <= 0) {
+            throw new IllegalArgumentException("opsPerSecond pozitif olmalı: " + opsPerSecond);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("count negatif olamaz: " + count);
+        }
+        this.opsPerSecond = opsPerSecond;
+        this.count = count;
+        this.periodNanos = Math.max(1, Math.round(1_000_000_000 / opsPerSecond));
+    }
+
+    /**
+     * Planlanan zamanlarda item üretip kuyruğa put() eder.
+     * Kuyruk doluysa put() bloklanır, ama sonraki item'ların planı kaymaz:
+     * put() açıldığında geride kalan item'lar beklemeden art arda gönderilir.
+     *
+     * @param sequenceStart ilk item'ın sıra numarası (örn. 1)
+     */
+    public <T> Result run(BlockingQueue<? super T> queue, int sequenceStart, TaskFactory<? extends T> factory)
+            throws InterruptedException {
+        return run(sequenceStart, (sequence, intended) -> queue.put(factory.create(sequence, intended)));
+    }
+
+    /**
+     * Planlanan zamanlarda sender'ı çağırır; sender bloklanırsa plan yine kaymaz.
+     */
+    public Result run(int sequenceStart, Sender sender) throws InterruptedException {
+        LatencyHistogram sendLag = new LatencyHistogram();
+        long behind = 0;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < count; i++) {
+            long intended = start + i * periodNanos;
+            waitUntil(intended);
+
+            sender.send(sequenceStart + i, intended);
+
+            long lag = System.nanoTime() - intended;
+            sendLag.record(lag);
+            if (lag > periodNanos) {
+                behind++;  // Bir periyottan fazla geç gönderildi
+            }
+        }
+
+        return new Result(opsPerSecond, count, System.nanoTime() - start, behind, sendLag);
+    }
+
+    private static void waitUntil(long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Bir çalıştırmanın sonucu
+     */
+    public static final class Result {
+        private final double targetOpsPerSecond;
+        private final int sent;
+        private final long elapsedNanos;
+        private final long behindSchedule;
+        private final LatencyHistogram sendLag;
+
+        Result(double targetOpsPerSecond, int sent, long elapsedNanos, long behindSchedule, LatencyHistogram sendLag) {
+            this.targetOpsPerSecond = targetOpsPerSecond;
+            this.sent = sent;
+            this.elapsedNanos = elapsedNanos;
+            this.behindSchedule = behindSchedule;
+            this.sendLag = sendLag;
+        }
+
+        public int sent() {
+            return sent;
+        }
+
+        public double achievedOpsPerSecond() {
+            return elapsedNanos == 0 ? 0 : sent * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Planlanandan bir periyottan fazla geç gönderilen item sayısı.
+         * 0'dan büyükse sistem hedef hızı kaldıramıyor (kuyruk dolu, put bloklandı).
+         */
+        public long behindSchedule() {
+            return behindSchedule;
+        }
+
+        /**
+         * Gönderim gecikmesi (gerçek put bitişi - planlanan zaman)
+         */
+        public LatencyHistogram sendLag() {
+            return sendLag;
+        }
+
+        public String summary() {
+            return String.format("  Open-loop: hedef %.1f/s, gerçekleşen %.1f/s, plan gerisinde %d/%d item%n%s",
+                    targetOpsPerSecond, achievedOpsPerSecond(), behindSchedule, sent,
+                    sendLag.summary("  Gönderim gecikmesi"));
+        }
+    }
+}
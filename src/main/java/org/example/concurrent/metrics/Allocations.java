@@ -0,0 +1,49 @@
+package org.example.concurrent.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Thread başına heap allocation ölçümü
+ *
+ * HotSpot'un com.sun.management.ThreadMXBean uzantısını kullanır.
+ * Her worker thread başında ve sonunda currentThreadAllocatedBytes() okuyup
+ * farkı paylaşılan bir sayaca ekler → testin toplam allocation'ı.
+ *
+ * JVM desteklemiyorsa 0 döner (sonuçlarda "allocation: 0" görülür).
+ */
+public final class Allocations {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = lookup();
+
+    private Allocations() {
+    }
+
+    private static com.sun.management.ThreadMXBean lookup() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+
+    /**
+     * Çağıran thread'in başlangıcından beri ayırdığı toplam byte
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * "12.3 MB (45.6 MB/sec)" formatında allocation özeti
+     */
+    public static String format(long bytes, long elapsedMillis) {
+        double mb = bytes / (1024.0 * 1024.0);
+        double mbPerSec = elapsedMillis > 0 ? mb * 1000.0 / elapsedMillis : 0;
+        return String.format("%.1f MB (%.1f MB/sec)", mb, mbPerSec);
+    }
+}
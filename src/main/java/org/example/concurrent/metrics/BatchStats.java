@@ -0,0 +1,70 @@
+package org.example.concurrent.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Batch'li producer/consumer istatistikleri
+ *
+ * - Ortalama batch boyutu: items / batches (boş dönen drainTo'lar hariç)
+ * - Item başına lock alımı: queueCalls / items
+ *     Tekil take()/put(): ~1.0
+ *     drainTo(maxBatch) dolu kuyrukta: ~1/maxBatch
+ *   (Boş kuyrukta dönen poll/drainTo çağrıları da lock aldığı için sayılır)
+ *
+ * Her thread kendi yerel sayaçlarını tutar ve bitince add() ile ekler.
+ */
+public class BatchStats {
+
+    private final String name;
+    private final LongAdder items = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder queueCalls = new LongAdder();
+    private final LongAdder emptyCalls = new LongAdder();
+
+    public BatchStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Bir thread'in kendi yerel sayaçlarında topladığı sonuçları ekler.
+     * Hot path'te paylaşılan sayaca dokunmamak için thread bitince bir kez çağrılır.
+     *
+     * @param itemCount   taşınan toplam eleman
+     * @param batchCount  eleman taşıyan (boş olmayan) toplu işlem sayısı
+     * @param callCount   kuyruk üzerinde yapılan toplam çağrı (lock alımı) sayısı
+     * @param emptyCallCount  bunlardan eleman taşımadan dönenler (boş kuyrukta poll/drainTo)
+     */
+    public void add(long itemCount, long batchCount, long callCount, long emptyCallCount) {
+        items.add(itemCount);
+        batches.add(batchCount);
+        queueCalls.add(callCount);
+        emptyCalls.add(emptyCallCount);
+    }
+
+    public long items() {
+        return items.sum();
+    }
+
+    public double averageBatchSize() {
+        long b = batches.sum();
+        return b == 0 ? 0 : (double) items.sum() / b;
+    }
+
+    public double callsPerItem() {
+        long i = items.sum();
+        return i == 0 ? 0 : (double) queueCalls.sum() / i;
+    }
+
+    /**
+     * Sadece eleman taşıyan çağrılar (boş dönen poll/drainTo'lar hariç)
+     */
+    public double nonEmptyCallsPerItem() {
+        long i = items.sum();
+        return i == 0 ? 0 : (double) (queueCalls.sum() - emptyCalls.sum()) / i;
+    }
+
+    public String summary() {
+        return String.format("%s: ort. batch = %.1f, item başına lock alımı = %.3f (boş çağrılar hariç %.3f) (%d item, %d çağrı)",
+                name, averageBatchSize(), callsPerItem(), nonEmptyCallsPerItem(), items.sum(), queueCalls.sum());
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.concurrent.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Çok yazarlı gecikme histogramı
+ *
+ * LatencyHistogram tek yazarlıdır: her thread kendi histogramına yazar, join sonrası birleştirilir.
+ * Virtual thread-per-task düzeninde bu işe yaramaz: 1M task = 1M kısa ömürlü thread,
+ * thread başına ~58KB'lık histogram açmak mümkün değil.
+ *
+ * Bu sınıf aynı bucket düzenini kullanır ama sayaçlar atomik:
+ * - bucket'lar AtomicLongArray (getAndIncrement, kilit yok)
+ * - count/sum LongAdder, min/max LongAccumulator (sıcak sayaçta CAS çekişmesi yok)
+ * Okumak için snapshot() ile sıradan bir LatencyHistogram alınır. Yazarlar devam ederken
+ * alınan snapshot'ta count ile bucket toplamı birkaç kayıt kadar farklı olabilir.
+ */
+public final class ConcurrentLatencyHistogram {
+
+    private final LatencyHistogram layout;  // Sadece bucket indeks hesabı için
+    private final int precisionBits;
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalSum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public ConcurrentLatencyHistogram() {
+        this(7);
+    }
+
+    public ConcurrentLatencyHistogram(int precisionBits) {
+        this.layout = new LatencyHistogram(precisionBits);
+        this.precisionBits = precisionBits;
+        this.counts = new AtomicLongArray(layout.bucketCount());
+    }
+
+    /**
+     * Bir ölçümü (ns) kaydeder, herhangi bir thread'den çağrılabilir. Negatif değerler 0 sayılır.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.getAndIncrement(layout.indexOf(value));
+        totalCount.increment();
+        totalSum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    public long count() {
+        return totalCount.sum();
+    }
+
+    /**
+     * O ana kadarki kayıtların kopyası (yüzdelikler, summary() vb. bunun üzerinden)
+     */
+    public LatencyHistogram snapshot() {
+        long[] copy = new long[counts.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = counts.get(i);
+        }
+        LatencyHistogram snapshot = new LatencyHistogram(precisionBits);
+        snapshot.addCounts(copy, totalCount.sum(), totalSum.sum(), min.get(), max.get());
+        return snapshot;
+    }
+
+    public String summary(String name) {
+        return snapshot().summary(name);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.concurrent.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Thread başına CPU zamanı ölçümü
+ *
+ * Duvar saati (wall clock) bir thread'in ne kadar sürede bittiğini söyler,
+ * CPU zamanı ise o sürenin ne kadarında bir çekirdeği gerçekten meşgul ettiğini.
+ * Busy-spin consumer 1 saniye boş beklerse ~1 saniye CPU yakar,
+ * bloklayan consumer ~0.
+ *
+ * JVM desteklemiyorsa 0 döner.
+ */
+public final class CpuTime {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = lookup();
+
+    private CpuTime() {
+    }
+
+    private static ThreadMXBean lookup() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadCpuTimeSupported()) {
+            return null;
+        }
+        if (!bean.isThreadCpuTimeEnabled()) {
+            bean.setThreadCpuTimeEnabled(true);
+        }
+        return bean;
+    }
+
+    /**
+     * Çağıran thread'in şimdiye kadar harcadığı CPU zamanı (ns)
+     */
+    public static long currentThreadCpuNanos() {
+        return THREAD_MX_BEAN == null ? 0 : THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
+
+    /**
+     * Çağıran thread'in BLOCKED (monitor bekleme) ve WAITING/TIMED_WAITING (sleep, wait, park)
+     * durumlarında geçirdiği toplam süre (ms). İlk çağrıda thread contention monitoring açılır,
+     * süreler o andan itibaren birikir. Socket okuması gibi native I/O RUNNABLE görünür, buraya girmez.
+     * Desteklenmiyorsa -1.
+     */
+    public static long currentThreadWaitMillis() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadContentionMonitoringSupported()) {
+            return -1;
+        }
+        if (!bean.isThreadContentionMonitoringEnabled()) {
+            bean.setThreadContentionMonitoringEnabled(true);
+        }
+        ThreadInfo info = bean.getThreadInfo(Thread.currentThread().threadId());
+        return info == null ? -1 : info.getBlockedTime() + info.getWaitedTime();
+    }
+
+    /**
+     * Başka bir (hâlâ yaşayan) thread'in CPU zamanı (ns), thread bittiyse 0
+     */
+    public static long threadCpuNanos(Thread thread) {
+        if (THREAD_MX_BEAN == null) {
+            return 0;
+        }
+        return Math.max(0, THREAD_MX_BEAN.getThreadCpuTime(thread.threadId()));
+    }
+
+    /**
+     * "1.23 s CPU, item başına 4.5 µs" formatında özet
+     */
+    public static String format(long cpuNanos, long items) {
+        double perItemMicros = items > 0 ? cpuNanos / 1_000.0 / items : 0;
+        return String.format("%.2f s CPU, item başına %.2f µs", cpuNanos / 1e9, perItemMicros);
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.concurrent.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Gecikme histogramı (HDR tarzı log-lineer bucket'lar)
+ *
+ * Ortalama kuyruk gecikmesini gizler: 1000 task'in 990'ı 10ms, 10'u 2s sürerse
+ * ortalama ~30ms görünür, ama p99 2s'dir. Bu sınıf her ölçümü kaydeder ve
+ * p50/p90/p99/p99.9/max yüzdeliklerini verir.
+ *
+ * Bucket düzeni:
+ * - 0 .. 2^(p+1)-1 arası değerler birebir (lineer) tutulur
+ * - Daha büyük değerlerde her 2'nin kuvveti aralığı 2^p eşit parçaya bölünür
+ *   → göreli hata en fazla 1/2^p (varsayılan p=7 → %0.8)
+ * - Tüm long aralığı sabit boyutlu tek bir long[] ile kapsanır (~58KB)
+ *
+ * record() bir indeks hesabı ve bir dizi artırımıdır: kilit yok, allocation yok.
+ * Karşılığında histogram TEK YAZARLIDIR: her thread kendi histogramına yazar,
+ * thread bittikten (join) sonra histogramlar add() ile birleştirilir.
+ *
+ * Kullanım:
+ *   LatencyHistogram h = new LatencyHistogram();   // thread'e özel
+ *   h.record(System.nanoTime() - start);
+ *   ...
+ *   thread.join();
+ *   total.add(h);
+ *   System.out.println(total.summary("Consumer"));
+ */
+public final class LatencyHistogram {
+
+    private static final int DEFAULT_PRECISION_BITS = 7;
+
+    private final int precisionBits;
+    private final int subBucketCount;
+    private final long[] counts;
+
+    private long totalCount;
+    private long totalSum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public LatencyHistogram() {
+        this(DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * @param precisionBits her 2'nin kuvveti aralığındaki bucket sayısının log2'si (1-16)
+     */
+    public LatencyHistogram(int precisionBits) {
+        if (precisionBits < 1 || precisionBits > 16) {
+            throw new IllegalArgumentException("precisionBits 1-16 arası olmalı: " + precisionBits);
+        }
+        this.precisionBits = precisionBits;
+        this.subBucketCount = 1 << precisionBits;
+        // En büyük değer (msb = 62) için indeks: (62 - p) * 2^p + 2^(p+1) - 1
+        this.counts = new long[(64 - precisionBits) * subBucketCount];
+    }
+
+    /**
+     * Bir ölçümü (ns) kaydeder. Negatif değerler 0 sayılır.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts[indexOf(value)]++;
+        totalCount++;
+        totalSum += value;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Başka bir histogramın kayıtlarını bu histograma ekler.
+     * Diğer histogramın yazarı bitmiş (join edilmiş) olmalı.
+     */
+    public void add(LatencyHistogram other) {
+        if (other.precisionBits != precisionBits) {
+            throw new IllegalArgumentException("Farklı hassasiyetteki histogramlar birleştirilemez");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        totalSum += other.totalSum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * ConcurrentLatencyHistogram.snapshot() için: bucket sayaçlarını ve toplamları ekler
+     */
+    void addCounts(long[] bucketCounts, long count, long sum, long minValue, long maxValue) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += bucketCounts[i];
+        }
+        totalCount += count;
+        totalSum += sum;
+        min = Math.min(min, minValue);
+        max = Math.max(max, maxValue);
+    }
+
+    int bucketCount() {
+        return counts.length;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalSum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    public long count() {
+        return totalCount;
+    }
+
+    public long min() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long max() {
+        return max;
+    }
+
+    public double mean() {
+        return totalCount == 0 ? 0 : (double) totalSum / totalCount;
+    }
+
+    /**
+     * Kayıtların percentile%'inin altında kaldığı değer (bucket'ın üst sınırı, max ile sınırlı)
+     *
+     * @param percentile 0-100 arası, örn. 99.9
+     */
+    public long valueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double clamped = Math.min(100.0, Math.max(0.0, percentile));
+        long target = Math.max(1, (long) Math.ceil(clamped / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(max, highestValueAt(i));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * "p50=1.2ms p90=3.4ms p99=12.0ms p99.9=40.1ms max=52.3ms (n=1000, ort=2.1ms)"
+     */
+    public String summary(String name) {
+        return String.format("%s: p50=%s p90=%s p99=%s p99.9=%s max=%s (n=%d, ort=%s)",
+                name,
+                formatNanos(valueAtPercentile(50)),
+                formatNanos(valueAtPercentile(90)),
+                formatNanos(valueAtPercentile(99)),
+                formatNanos(valueAtPercentile(99.9)),
+                formatNanos(max()),
+                totalCount,
+                formatNanos((long) mean()));
+    }
+
+    /**
+     * Nanosaniyeyi okunabilir birime çevirir (ns / µs / ms / s)
+     */
+    public static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format("%.1fµs", nanos / 1e3);
+        }
+        if (nanos < 1_000_000_000) {
+            return String.format("%.1fms", nanos / 1e6);
+        }
+        return String.format("%.2fs", nanos / 1e9);
+    }
+
+    // ===== Bucket indeks hesabı =====
+
+    int indexOf(long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - precisionBits;
+        long sub = value >>> shift;  // [2^p, 2^(p+1)) aralığında
+        return (shift << precisionBits) + (int) sub;
+    }
+
+    private long lowestValueAt(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = (index >>> precisionBits) - 1;
+        long sub = (index & (subBucketCount - 1)) + subBucketCount;
+        return sub << shift;
+    }
+
+    private long highestValueAt(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        int shift = (index >>> precisionBits) - 1;
+        return lowestValueAt(index) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,230 @@
+package org.example.concurrent.queue;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free ring buffer kuyrukları için ortak taban
+ *
+ * Alt sınıflar sadece non-blocking çekirdeği yazar:
+ * offer(E), poll(), peek(), size(), iterator()
+ *
+ * Blocking metodlar (put/take ve timeout'lu versiyonları) lock olmadığı için
+ * Condition kullanamaz; spin → yield → artan süreli park ile bekler.
+ *
+ * Kapasite her zaman 2'nin kuvvetidir → index = pos & mask.
+ */
+public abstract class AbstractRingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MAX_PARK_NANOS = 1_000_000;  // 1ms
+
+    protected final int capacity;
+    protected final int mask;
+
+    /**
+     * @param requestedCapacity istenen kapasite, 2'nin kuvvetine YUKARI yuvarlanır
+     *                          (1000 → 1024)
+     */
+    protected AbstractRingQueue(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Kapasite en az 2 olmalı: " + requestedCapacity);
+        }
+        if (requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Kapasite çok büyük: " + requestedCapacity);
+        }
+        this.capacity = 1 << (32 - Integer.numberOfLeadingZeros(requestedCapacity - 1));
+        this.mask = capacity - 1;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * head/tail cursor'larından tutarlı bir boyut okur
+     */
+    protected int size(PaddedSequence head, PaddedSequence tail) {
+        while (true) {
+            long before = head.get();
+            long currentTail = tail.get();
+            long after = head.get();
+            if (before == after) {
+                long size = currentTail - after;
+                return (int) Math.max(0, Math.min(size, capacity));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    // ===== Blocking metodlar =====
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        int attempt = 0;
+        while (!offer(e)) {
+            attempt = backoff(attempt);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int attempt = 0;
+        while (!offer(e)) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            attempt = backoff(attempt);
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        int attempt = 0;
+        E e;
+        while ((e = poll()) == null) {
+            attempt = backoff(attempt);
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int attempt = 0;
+        E e;
+        while ((e = poll()) == null) {
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            attempt = backoff(attempt);
+        }
+        return e;
+    }
+
+    /**
+     * Spin → yield → artan süreli park
+     */
+    private static int backoff(int attempt) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (attempt < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (attempt < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            int shift = Math.min(attempt - SPIN_TRIES - YIELD_TRIES, 10);
+            LockSupport.parkNanos(Math.min(1_000L << shift, MAX_PARK_NANOS));
+        }
+        return attempt + 1;
+    }
+
+    // ===== Toplu işlemler =====
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int n = 0;
+        E e;
+        while (n < maxElements && (e = poll()) != null) {
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    // ===== Gezinme =====
+
+    /**
+     * Salt okunur, weakly consistent iterator (ConcurrentLinkedQueue gibi):
+     * - Oluşturulduğu andaki head..tail aralığını gezer, ConcurrentModificationException atmaz
+     * - Bu arada tüketilen elemanları atlar, sonradan eklenenleri göstermeyebilir
+     * - Sahiplenilmiş ama henüz yazılmamış slot'lar (çok producer'lı kuyruklar) atlanır
+     * contains(), containsAll(), toArray() bunun üzerinden çalışır. Iterator.remove() desteklenmez
+     * (ortadan çıkarmak kilitsiz slot sırasını bozar): remove(Object), removeAll(), retainAll()
+     * eşleşen eleman bulursa UnsupportedOperationException atar, bulamazsa false döner.
+     */
+    protected Iterator<E> iterator(PaddedSequence head, PaddedSequence tail, AtomicReferenceArray<E> buffer) {
+        long end = tail.get();
+        long start = head.get();
+        return new Iterator<>() {
+            private long pos = start;
+            private E next = advance();
+
+            // pos'tan itibaren hâlâ kuyrukta olan ilk elemanı bulur
+            private E advance() {
+                while (pos < end) {
+                    long current = pos++;
+                    if (!isPublished(current)) {
+                        continue;
+                    }
+                    E e = buffer.get((int) (current & mask));
+                    // Okuduktan sonra head geçmediyse eleman bu pozisyonun elemanıdır:
+                    // slot'a bir sonraki turun elemanı ancak head bu pozisyonu geçince yazılabilir
+                    if (e != null && head.get() <= current) {
+                        return e;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                E e = next;
+                if (e == null) {
+                    throw new NoSuchElementException();
+                }
+                next = advance();
+                return e;
+            }
+        };
+    }
+
+    /**
+     * pos'un elemanı slot'ta okunabilir mi. Eleman release ile yayınlanan kuyruklarda
+     * (tail veya slot'un kendisi) her zaman true; sequence ile yayınlayan MPMC override eder.
+     */
+    protected boolean isPublished(long pos) {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[capacity=" + capacity + ", size=" + size() + "]";
+    }
+}
@@ -0,0 +1,278 @@
+package org.example.concurrent.queue;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Toplu ekleme destekli Array Blocking Queue
+ *
+ * ArrayBlockingQueue ile aynı tasarım (tek ReentrantLock, notEmpty/notFull,
+ * dairesel dizi) + putAll(): bir listeyi TEK lock alımıyla ekler.
+ *
+ * Producer N eleman biriktirip putAll() ile yayınlar,
+ * consumer drainTo() ile N eleman alır → item başına lock alımı ~ 1/N.
+ *
+ * iterator() lock altında alınmış bir kopya (snapshot) üzerinde gezer.
+ */
+public class ArrayBatchBlockingQueue<E> extends AbstractQueue<E> implements BatchBlockingQueue<E> {
+
+    private final Object[] items;
+    private int takeIndex;
+    private int putIndex;
+    private int count;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    public ArrayBatchBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Kapasite > 0 olmalı: " + capacity);
+        }
+        this.items = new Object[capacity];
+    }
+
+    // ===== Lock tutulurken çağrılan yardımcılar =====
+
+    private void enqueue(E e) {
+        items[putIndex] = e;
+        if (++putIndex == items.length) {
+            putIndex = 0;
+        }
+        count++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E dequeue() {
+        E e = (E) items[takeIndex];
+        items[takeIndex] = null;
+        if (++takeIndex == items.length) {
+            takeIndex = 0;
+        }
+        count--;
+        return e;
+    }
+
+    // ===== Toplu ekleme =====
+
+    @Override
+    public int putAll(List<? extends E> batch) throws InterruptedException {
+        int size = batch.size();
+        for (int i = 0; i < size; i++) {
+            Objects.requireNonNull(batch.get(i));
+        }
+
+        int index = 0;
+        int lockAcquisitions = 0;
+        while (index < size) {
+            lock.lockInterruptibly();
+            lockAcquisitions++;
+            try {
+                while (count == items.length) {
+                    notFull.await();
+                }
+                int n = Math.min(size - index, items.length - count);
+                for (int i = 0; i < n; i++) {
+                    enqueue(batch.get(index++));
+                }
+                // Birden fazla consumer bekliyor olabilir
+                if (n == 1) {
+                    notEmpty.signal();
+                } else {
+                    notEmpty.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return lockAcquisitions;
+    }
+
+    // ===== Tekil ekleme =====
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        lock.lock();
+        try {
+            if (count == items.length) {
+                return false;
+            }
+            enqueue(e);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == items.length) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(e);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        lock.lockInterruptibly();
+        try {
+            while (count == items.length) {
+                notFull.await();
+            }
+            enqueue(e);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ===== Alma =====
+
+    @Override
+    public E poll() {
+        lock.lock();
+        try {
+            if (count == 0) {
+                return null;
+            }
+            E e = dequeue();
+            notFull.signal();
+            return e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            E e = dequeue();
+            notFull.signal();
+            return e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            E e = dequeue();
+            notFull.signal();
+            return e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        lock.lock();
+        try {
+            return (E) items[takeIndex];  // Boşsa slot zaten null
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int n = Math.min(count, maxElements);
+            for (int i = 0; i < n; i++) {
+                c.add(dequeue());
+            }
+            if (n > 0) {
+                notFull.signalAll();
+            }
+            return Math.max(n, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ===== Durum =====
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return items.length - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        List<E> snapshot = new ArrayList<>();
+        lock.lock();
+        try {
+            for (int i = 0, index = takeIndex; i < count; i++) {
+                snapshot.add((E) items[index]);
+                if (++index == items.length) {
+                    index = 0;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return snapshot.iterator();
+    }
+}
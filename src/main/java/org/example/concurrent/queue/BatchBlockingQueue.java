@@ -0,0 +1,39 @@
+package org.example.concurrent.queue;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Toplu (batch) yayınlama destekleyen BlockingQueue
+ *
+ * BlockingQueue'da toplu ALMA var (drainTo → tek lock alımı),
+ * ama toplu EKLEME yok: addAll() her eleman için ayrı add() çağırır
+ * ve kuyruk doluysa exception fırlatır.
+ *
+ * putAll() tüm listeyi mümkün olan en az lock alımıyla ekler,
+ * yer yoksa bekler.
+ */
+public interface BatchBlockingQueue<E> extends BlockingQueue<E> {
+
+    /**
+     * Tüm elemanları ekler; kuyrukta yer açıldıkça parça parça yazar.
+     *
+     * @return kaç kez lock alındığı (yer varsa 1)
+     */
+    int putAll(List<? extends E> items) throws InterruptedException;
+
+    /**
+     * Kuyruk BatchBlockingQueue ise tek seferde, değilse eleman eleman ekler.
+     *
+     * @return kuyruk üzerinde yapılan çağrı (lock alımı) sayısı
+     */
+    static <E> int putAll(BlockingQueue<E> queue, List<? extends E> items) throws InterruptedException {
+        if (queue instanceof BatchBlockingQueue<E> batchQueue) {
+            return batchQueue.putAll(items);
+        }
+        for (E item : items) {
+            queue.put(item);
+        }
+        return items.size();
+    }
+}
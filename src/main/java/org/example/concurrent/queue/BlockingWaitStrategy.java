@@ -0,0 +1,59 @@
+package org.example.concurrent.queue;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Kuyruğun kendi bloklayan poll(timeout) metodu (TaskProcessorExample'daki take() gibi)
+ *
+ * Thread Condition üzerinde park edilir, producer signal() ile uyandırır.
+ * Boşta CPU ~0, ama her uyanma lock + unpark maliyeti öder.
+ *
+ * Sonsuz take() yerine kısa timeout'lu poll kullanılır ki running koşulu
+ * (ör. "tüm item'lar tüketildi") periyodik olarak kontrol edilebilsin.
+ */
+public class BlockingWaitStrategy implements WaitStrategy {
+
+    private final long pollTimeoutNanos;
+
+    public BlockingWaitStrategy() {
+        this(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    public BlockingWaitStrategy(long pollTimeoutNanos) {
+        this.pollTimeoutNanos = pollTimeoutNanos;
+    }
+
+    @Override
+    public int idle(int attempt) throws InterruptedException {
+        // Kuyruğa bağlı olmayan bekleme (ör. drainTo boş döndü): timeout kadar park
+        WaitStrategy.checkInterrupt();
+        LockSupport.parkNanos(pollTimeoutNanos);
+        return attempt + 1;
+    }
+
+    @Override
+    public <E> E take(BlockingQueue<E> queue, BooleanSupplier running) throws InterruptedException {
+        while (running.getAsBoolean()) {
+            E e = queue.poll(pollTimeoutNanos, TimeUnit.NANOSECONDS);
+            if (e != null) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int take(IntBlockingQueue queue, BooleanSupplier running, int valueIfStopped)
+            throws InterruptedException {
+        while (running.getAsBoolean()) {
+            int e = queue.poll(pollTimeoutNanos, TimeUnit.NANOSECONDS, valueIfStopped);
+            if (e != valueIfStopped) {
+                return e;
+            }
+        }
+        return valueIfStopped;
+    }
+}
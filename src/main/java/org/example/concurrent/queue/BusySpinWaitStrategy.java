@@ -0,0 +1,17 @@
+package org.example.concurrent.queue;
+
+/**
+ * Sürekli poll() - en düşük gecikme, boşta bile bir çekirdeği %100 yakar
+ *
+ * Sadece consumer sayısı boş çekirdek sayısından az ise mantıklı.
+ * HighContentionTest'in orijinal consumer davranışı budur.
+ */
+public class BusySpinWaitStrategy implements WaitStrategy {
+
+    @Override
+    public int idle(int attempt) throws InterruptedException {
+        WaitStrategy.checkInterrupt();
+        Thread.onSpinWait();  // CPU'ya spin-loop ipucu (x86: PAUSE)
+        return attempt + 1;
+    }
+}
@@ -0,0 +1,231 @@
+package org.example.concurrent.queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Boxing'siz long Blocking Queue
+ *
+ * BlockingQueue<Long> her put()'ta bir Long objesi oluşturur
+ * (-128..127 cache'i dışında). Yoğun testlerde ölçülen şeyin büyük kısmı
+ * kuyruk çekişmesi değil autoboxing ve GC olur.
+ *
+ * Bu kuyruk ArrayBlockingQueue ile aynı tasarımdadır (tek ReentrantLock,
+ * notEmpty/notFull Condition'ları, dairesel dizi) ama elemanlar long[] içinde
+ * saklanır → eleman başına allocation yok (sadece kuyruk dolu/boşken
+ * bekleyen thread'ler için ReentrantLock'un kendi bekleme node'ları).
+ *
+ * null olmadığı için boş kuyruk durumu poll(valueIfEmpty) ile belirtilir:
+ *   long x = queue.poll(-1);   // boşsa -1
+ */
+public class LongBlockingQueue {
+
+    private final long[] items;
+    private int takeIndex;
+    private int putIndex;
+    private int count;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    public LongBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Kapasite > 0 olmalı: " + capacity);
+        }
+        this.items = new long[capacity];
+    }
+
+    // ===== Lock tutulurken çağrılan yardımcılar =====
+
+    private void enqueue(long value) {
+        items[putIndex] = value;
+        if (++putIndex == items.length) {
+            putIndex = 0;
+        }
+        count++;
+        notEmpty.signal();
+    }
+
+    private long dequeue() {
+        long value = items[takeIndex];
+        if (++takeIndex == items.length) {
+            takeIndex = 0;
+        }
+        count--;
+        notFull.signal();
+        return value;
+    }
+
+    // ===== Ekleme =====
+
+    public boolean offer(long value) {
+        lock.lock();
+        try {
+            if (count == items.length) {
+                return false;
+            }
+            enqueue(value);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean offer(long value, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == items.length) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(value);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(long value) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == items.length) {
+                notFull.await();
+            }
+            enqueue(value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * src[offset .. offset+length) aralığını mümkün olan en az lock alımıyla ekler,
+     * yer yoksa bekler.
+     *
+     * @return kaç kez lock alındığı (yer varsa 1)
+     */
+    public int putAll(long[] src, int offset, int length) throws InterruptedException {
+        int index = offset;
+        int end = offset + length;
+        int lockAcquisitions = 0;
+        while (index < end) {
+            lock.lockInterruptibly();
+            lockAcquisitions++;
+            try {
+                while (count == items.length) {
+                    notFull.await();
+                }
+                int n = Math.min(end - index, items.length - count);
+                for (int i = 0; i < n; i++) {
+                    items[putIndex] = src[index++];
+                    if (++putIndex == items.length) {
+                        putIndex = 0;
+                    }
+                }
+                count += n;
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return lockAcquisitions;
+    }
+
+    // ===== Alma =====
+
+    /**
+     * @return kuyruğun başındaki eleman, kuyruk boşsa valueIfEmpty
+     */
+    public long poll(long valueIfEmpty) {
+        lock.lock();
+        try {
+            return count == 0 ? valueIfEmpty : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long poll(long timeout, TimeUnit unit, long valueIfEmpty) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return valueIfEmpty;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tek lock alımıyla en fazla maxElements elemanı dst dizisine kopyalar
+     *
+     * @return kopyalanan eleman sayısı
+     */
+    public int drainTo(long[] dst, int offset, int maxElements) {
+        lock.lock();
+        try {
+            int n = Math.min(Math.min(count, maxElements), dst.length - offset);
+            if (n <= 0) {
+                return 0;
+            }
+            int first = Math.min(n, items.length - takeIndex);
+            System.arraycopy(items, takeIndex, dst, offset, first);
+            System.arraycopy(items, 0, dst, offset + first, n - first);
+            takeIndex = (takeIndex + n) % items.length;
+            count -= n;
+            notFull.signalAll();
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ===== Durum =====
+
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return items.length - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int capacity() {
+        return items.length;
+    }
+}
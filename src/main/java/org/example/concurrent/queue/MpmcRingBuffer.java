@@ -0,0 +1,134 @@
+package org.example.concurrent.queue;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-Free Bounded MPMC (Multi-Producer Multi-Consumer) Ring Buffer
+ *
+ * ArrayBlockingQueue tek ReentrantLock, LinkedBlockingQueue iki ReentrantLock kullanır.
+ * Çok producer/consumer olduğunda thread'ler lock üzerinde sıraya girip park ediliyor.
+ * Bu kuyruk HİÇ lock kullanmaz (Dmitry Vyukov'un bounded MPMC algoritması):
+ *
+ * - Her slot'un bir sıra numarası (sequence) var
+ *     sequence == pos       → slot boş, pos numaralı producer yazabilir
+ *     sequence == pos + 1   → slot dolu, pos numaralı consumer okuyabilir
+ * - Producer tail'i CAS ile 1 artırarak slot'u sahiplenir, elemanı yazar,
+ *   sonra sequence'ı pos + 1 yapar (release → eleman görünür olur)
+ * - Consumer head'i CAS ile sahiplenir, elemanı okur,
+ *   sequence'ı pos + capacity yapar (slot bir sonraki tura hazır)
+ * - Kapasite 2'nin kuvvetine yuvarlanır → index = pos & mask (modulo yok)
+ * - head ve tail ayrı cache line'larda (PaddedSequence) → producer'lar ve
+ *   consumer'lar birbirinin cursor'ını geçersiz kılmaz
+ *
+ * Kısıtlar:
+ * - iterator() weakly consistent ve salt okunur (bkz. AbstractRingQueue)
+ * - size() eşzamanlı değişiklikler sırasında yaklaşık bir değerdir
+ */
+public class MpmcRingBuffer<E> extends AbstractRingQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+
+    private final PaddedSequence tail = new PaddedSequence();  // Bir sonraki yazılacak pozisyon
+    private final PaddedSequence head = new PaddedSequence();  // Bir sonraki okunacak pozisyon
+
+    public MpmcRingBuffer(int requestedCapacity) {
+        super(requestedCapacity);
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long seq = sequences.get(index);
+            long diff = seq - pos;
+
+            if (diff == 0) {
+                // Slot boş ve sırası bizde → tail'i sahiplen
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer.setPlain(index, e);
+                    sequences.lazySet(index, pos + 1);  // Yayınla (release)
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // Slot hâlâ bir önceki turun elemanını tutuyor → kuyruk dolu
+                return false;
+            } else {
+                // Başka producer bizden önce aldı, güncel tail ile tekrar dene
+                pos = tail.get();
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        long pos = head.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long seq = sequences.get(index);
+            long diff = seq - (pos + 1);
+
+            if (diff == 0) {
+                // Slot dolu ve sırası bizde → head'i sahiplen
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E e = buffer.getPlain(index);
+                    buffer.setPlain(index, null);  // GC için referansı bırak
+                    sequences.lazySet(index, pos + capacity);  // Slot'u bir sonraki tura aç
+                    return e;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                // Slot henüz yazılmamış → kuyruk boş
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        while (true) {
+            long pos = head.get();
+            int index = (int) (pos & mask);
+            long seq = sequences.get(index);
+            if (seq - (pos + 1) < 0) {
+                return null;  // Boş
+            }
+            E e = buffer.get(index);
+            // Okurken eleman tüketilmediyse (head değişmediyse) geçerli
+            if (e != null && head.get() == pos) {
+                return e;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(head, tail);
+    }
+
+    /**
+     * Producer elemanı plain yazar, sequence'ı release ile yayınlar: önce sequence okunmalı
+     */
+    @Override
+    protected boolean isPublished(long pos) {
+        return sequences.get((int) (pos & mask)) == pos + 1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return iterator(head, tail, buffer);
+    }
+}
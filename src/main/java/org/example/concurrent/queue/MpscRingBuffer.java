@@ -0,0 +1,102 @@
+package org.example.concurrent.queue;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-Free Bounded MPSC (Multi-Producer Single-Consumer) Ring Buffer
+ *
+ * Çok producer, SADECE 1 consumer thread için güvenlidir!
+ *
+ * - Producer'lar tail'i CAS ile sahiplenir, elemanı lazySet ile slot'a yazar
+ *   (slot'taki null → eleman geçişi yayınlama sinyalidir)
+ * - Consumer tek olduğu için head'i CAS'sız, lazySet ile ilerletir
+ * - Consumer tail'i sahiplenilmiş ama henüz yazılmamış bir slot görürse
+ *   (tail ilerlemiş, slot hâlâ null) elemanın görünmesini kısa bir spin ile bekler
+ * - producerLimit: producer'ların head'in cache line'ına her offer'da gitmemesi için
+ *   "şu pozisyona kadar yer var" bilgisinin cache'i
+ *
+ * MPMC'ye göre slot başına sequence dizisi ve consumer tarafında CAS yok.
+ */
+public class MpscRingBuffer<E> extends AbstractRingQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+
+    private final PaddedSequence tail = new PaddedSequence();
+    private final PaddedSequence head = new PaddedSequence();
+    private final PaddedSequence producerLimit;
+
+    public MpscRingBuffer(int requestedCapacity) {
+        super(requestedCapacity);
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.producerLimit = new PaddedSequence(capacity);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long limit = producerLimit.get();
+        long currentTail;
+        do {
+            currentTail = tail.get();
+            if (currentTail >= limit) {
+                // Cache'lenmiş limit doldu → gerçek head'e bak
+                limit = head.get() + capacity;
+                if (currentTail >= limit) {
+                    return false;  // Dolu
+                }
+                producerLimit.set(limit);
+            }
+        } while (!tail.compareAndSet(currentTail, currentTail + 1));
+
+        buffer.lazySet((int) (currentTail & mask), e);  // Yayınla (release)
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long currentHead = head.getPlain();  // Sadece consumer yazıyor
+        int index = (int) (currentHead & mask);
+
+        E e = buffer.get(index);
+        if (e == null) {
+            if (currentHead == tail.get()) {
+                return null;  // Gerçekten boş
+            }
+            // Slot sahiplenilmiş ama producer henüz yazmadı → görünene kadar bekle
+            do {
+                Thread.onSpinWait();
+                e = buffer.get(index);
+            } while (e == null);
+        }
+
+        buffer.lazySet(index, null);
+        head.setRelease(currentHead + 1);
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        long currentHead = head.get();
+        int index = (int) (currentHead & mask);
+        E e = buffer.get(index);
+        if (e == null && currentHead != tail.get()) {
+            do {
+                Thread.onSpinWait();
+                e = buffer.get(index);
+            } while (e == null);
+        }
+        return e;
+    }
+
+    @Override
+    public int size() {
+        return size(head, tail);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return iterator(head, tail, buffer);
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.concurrent.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+class SequenceLhsPadding {
+    protected long p01, p02, p03, p04, p05, p06, p07, p08, p09, p10, p11, p12, p13, p14, p15;
+}
+
+class SequenceValue extends SequenceLhsPadding {
+    protected volatile long value;
+}
+
+class SequenceRhsPadding extends SequenceValue {
+    protected long p16, p17, p18, p19, p20, p21, p22, p23, p24, p25, p26, p27, p28, p29, p30;
+}
+
+/**
+ * Cache line padding'li long sayaç (kuyruk head/tail cursor'ları için)
+ *
+ * JVM üst sınıf alanlarını alt sınıf alanlarından ÖNCE yerleştirir.
+ * Bu yüzden padding alanlarını sınıf hiyerarşisi ile value'nun iki yanına koyuyoruz:
+ *
+ *   [SequenceLhsPadding: 15 long][value][SequenceRhsPadding: 15 long]
+ *
+ * Böylece head ve tail cursor'ları (ya da başka sık yazılan alanlar)
+ * asla aynı cache line'a düşmez. (Disruptor'daki Sequence ile aynı teknik)
+ */
+public final class PaddedSequence extends SequenceRhsPadding {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public PaddedSequence() {
+        this(0);
+    }
+
+    public PaddedSequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    /**
+     * Volatile okuma
+     */
+    public long get() {
+        return value;
+    }
+
+    /**
+     * Plain okuma - sadece bu cursor'ın TEK sahibi (yazanı) için
+     */
+    public long getPlain() {
+        return (long) VALUE.get(this);
+    }
+
+    /**
+     * Plain yazma - sadece bu alanın TEK sahibi için, başka thread'e yayınlamaz
+     */
+    public void setPlain(long newValue) {
+        VALUE.set(this, newValue);
+    }
+
+    /**
+     * Volatile yazma
+     */
+    public void set(long newValue) {
+        value = newValue;
+    }
+
+    /**
+     * Release (lazySet) yazma: önceki yazmalar bu yazmadan önce görünür olur,
+     * ama StoreLoad bariyeri yok → volatile yazmadan ucuz
+     */
+    public void setRelease(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    public boolean compareAndSet(long expected, long newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(get());
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.concurrent.queue;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.function.IntFunction;
+
+/**
+ * Producer/consumer topolojisi ve o topoloji için en ucuz güvenli kuyruk
+ *
+ * | Topoloji | Producer | Consumer | Kuyruk          | Producer tarafı | Consumer tarafı |
+ * |----------|----------|----------|-----------------|-----------------|-----------------|
+ * | SPSC     | 1        | 1        | SpscRingBuffer  | lazySet         | lazySet         |
+ * | MPSC     | N        | 1        | MpscRingBuffer  | CAS             | lazySet         |
+ * | SPMC     | 1        | N        | SpmcRingBuffer  | lazySet         | CAS             |
+ * | MPMC     | N        | N        | MpmcRingBuffer  | CAS + sequence  | CAS + sequence  |
+ *
+ * Tek thread'in yazdığı cursor için CAS gerekmez → o taraf daha ucuz.
+ * Yanlış topolojide kullanım (ör. SPSC'ye 2 producer) veri kaybına yol açar,
+ * bu yüzden validate() ile kontrol edilir.
+ */
+public enum QueueTopology {
+    SPSC(1, 1, SpscRingBuffer::new),
+    MPSC(Integer.MAX_VALUE, 1, MpscRingBuffer::new),
+    SPMC(1, Integer.MAX_VALUE, SpmcRingBuffer::new),
+    MPMC(Integer.MAX_VALUE, Integer.MAX_VALUE, MpmcRingBuffer::new);
+
+    private final int maxProducers;
+    private final int maxConsumers;
+    private final IntFunction<BlockingQueue<?>> factory;
+
+    QueueTopology(int maxProducers, int maxConsumers, IntFunction<BlockingQueue<?>> factory) {
+        this.maxProducers = maxProducers;
+        this.maxConsumers = maxConsumers;
+        this.factory = factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> BlockingQueue<E> create(int capacity) {
+        return (BlockingQueue<E>) factory.apply(capacity);
+    }
+
+    public boolean supports(int producers, int consumers) {
+        return producers <= maxProducers && consumers <= maxConsumers;
+    }
+
+    /**
+     * Verilen producer/consumer sayısı için güvenli olan EN UCUZ topoloji
+     */
+    public static QueueTopology cheapestFor(int producers, int consumers) {
+        if (producers < 1 || consumers < 1) {
+            throw new IllegalArgumentException("producers ve consumers en az 1 olmalı");
+        }
+        for (QueueTopology topology : values()) {  // Ucuzdan pahalıya sıralı
+            if (topology.supports(producers, consumers)) {
+                return topology;
+            }
+        }
+        return MPMC;
+    }
+
+    /**
+     * Program argümanından topoloji seçer.
+     * "AUTO" veya argüman yoksa en ucuz güvenli topoloji,
+     * açık bir topoloji verildiyse güvenli olup olmadığı kontrol edilir.
+     */
+    public static QueueTopology select(String arg, int producers, int consumers) {
+        if (arg == null || arg.equalsIgnoreCase("AUTO")) {
+            return cheapestFor(producers, consumers);
+        }
+        QueueTopology topology = valueOf(arg.toUpperCase());
+        topology.validate(producers, consumers);
+        return topology;
+    }
+
+    public void validate(int producers, int consumers) {
+        if (!supports(producers, consumers)) {
+            throw new IllegalArgumentException(this + " kuyruğu " + producers + " producer / "
+                    + consumers + " consumer için güvenli değil, en az "
+                    + cheapestFor(producers, consumers) + " gerekli");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.concurrent.queue;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spin → yield → üstel artan park (exponential backoff)
+ *
+ * Kuyruk kısa süre boş kalırsa spin/yield ile hızlı yakalar,
+ * uzun süre boş kalırsa park süresi minPark'tan maxPark'a kadar ikiye katlanır
+ * → boşta CPU neredeyse sıfır, en kötü uyanma gecikmesi ~maxPark.
+ */
+public class SpinThenParkWaitStrategy implements WaitStrategy {
+
+    private final int spinTries;
+    private final int yieldTries;
+    private final long minParkNanos;
+    private final long maxParkNanos;
+
+    public SpinThenParkWaitStrategy() {
+        this(100, 100, 1_000, 1_000_000);  // 1µs → 1ms
+    }
+
+    public SpinThenParkWaitStrategy(int spinTries, int yieldTries, long minParkNanos, long maxParkNanos) {
+        if (minParkNanos <= 0 || maxParkNanos < minParkNanos) {
+            throw new IllegalArgumentException("0 < minParkNanos <= maxParkNanos olmalı");
+        }
+        this.spinTries = spinTries;
+        this.yieldTries = yieldTries;
+        this.minParkNanos = minParkNanos;
+        this.maxParkNanos = maxParkNanos;
+    }
+
+    @Override
+    public int idle(int attempt) throws InterruptedException {
+        WaitStrategy.checkInterrupt();
+        if (attempt < spinTries) {
+            Thread.onSpinWait();
+        } else if (attempt < spinTries + yieldTries) {
+            Thread.yield();
+        } else {
+            int shift = Math.min(attempt - spinTries - yieldTries, 30);
+            long park = minParkNanos << shift;
+            LockSupport.parkNanos(park <= 0 || park > maxParkNanos ? maxParkNanos : park);
+        }
+        return attempt + 1;
+    }
+}
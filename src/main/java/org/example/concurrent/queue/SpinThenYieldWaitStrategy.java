@@ -0,0 +1,32 @@
+package org.example.concurrent.queue;
+
+/**
+ * Önce kısa spin, sonra Thread.yield()
+ *
+ * yield() çekirdeği aynı önceliğe sahip diğer runnable thread'lere bırakır;
+ * başka iş yoksa thread hemen geri döner → CPU hâlâ yüksek ama
+ * çekirdek paylaşımı daha adil.
+ */
+public class SpinThenYieldWaitStrategy implements WaitStrategy {
+
+    private final int spinTries;
+
+    public SpinThenYieldWaitStrategy() {
+        this(100);
+    }
+
+    public SpinThenYieldWaitStrategy(int spinTries) {
+        this.spinTries = spinTries;
+    }
+
+    @Override
+    public int idle(int attempt) throws InterruptedException {
+        WaitStrategy.checkInterrupt();
+        if (attempt < spinTries) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+        return attempt + 1;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.concurrent.queue;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-Free Bounded SPMC (Single-Producer Multi-Consumer) Ring Buffer
+ *
+ * SADECE 1 producer, çok consumer thread için güvenlidir!
+ *
+ * - Producer tek olduğu için tail'i CAS'sız ilerletir:
+ *   elemanı yazar, tail'i lazySet (release) ile artırır
+ * - Producer bir slot'a ancak slot null ise yazar (consumer onu okuyup temizlemiştir)
+ *   → slot null değilse kuyruk dolu sayılır
+ * - Consumer'lar head'i CAS ile sahiplenir; sahiplendikleri pozisyon tail'in
+ *   gerisinde olduğu için eleman kesinlikle yayınlanmıştır
+ *
+ * MPMC'ye göre slot başına sequence dizisi ve producer tarafında CAS yok.
+ */
+public class SpmcRingBuffer<E> extends AbstractRingQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+
+    private final PaddedSequence tail = new PaddedSequence();
+    private final PaddedSequence head = new PaddedSequence();
+
+    public SpmcRingBuffer(int requestedCapacity) {
+        super(requestedCapacity);
+        this.buffer = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long currentTail = tail.getPlain();  // Sadece producer yazıyor
+        int index = (int) (currentTail & mask);
+
+        if (buffer.get(index) != null) {
+            return false;  // Bir önceki turun elemanı henüz tüketilmedi → dolu
+        }
+
+        buffer.setPlain(index, e);
+        tail.setRelease(currentTail + 1);  // lazySet: elemanı yayınla
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        while (true) {
+            long currentHead = head.get();
+            if (currentHead >= tail.get()) {
+                return null;  // Boş
+            }
+            if (head.compareAndSet(currentHead, currentHead + 1)) {
+                int index = (int) (currentHead & mask);
+                E e = buffer.get(index);
+                buffer.lazySet(index, null);  // Slot'u producer'a geri ver
+                return e;
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        while (true) {
+            long currentHead = head.get();
+            if (currentHead >= tail.get()) {
+                return null;
+            }
+            E e = buffer.get((int) (currentHead & mask));
+            if (e != null && head.get() == currentHead) {
+                return e;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(head, tail);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return iterator(head, tail, buffer);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.concurrent.queue;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-Free Bounded SPSC (Single-Producer Single-Consumer) Ring Buffer
+ *
+ * SADECE 1 producer ve 1 consumer thread için güvenlidir!
+ *
+ * Tek yazan olduğu için CAS gerekmez:
+ * - tail'i sadece producer yazar, head'i sadece consumer yazar
+ * - Yayınlama lazySet (release store) ile yapılır: eleman yazılır,
+ *   SONRA tail release ile artırılır → consumer tail'i gördüğünde elemanı da görür
+ * - Her taraf karşı cursor'ın son bilinen değerini cache'ler (headCache / tailCache),
+ *   karşı cursor'ın cache line'ına sadece kuyruk dolu/boş göründüğünde gidilir
+ *
+ * ArrayVsLinkedPerformance gibi 1 producer / 1 consumer senaryoları için en ucuz kuyruk.
+ */
+public class SpscRingBuffer<E> extends AbstractRingQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+
+    private final PaddedSequence tail = new PaddedSequence();
+    private final PaddedSequence head = new PaddedSequence();
+
+    // Producer'a ait: head'in son okunan değeri (sadece producer okur/yazar)
+    private final PaddedSequence headCache = new PaddedSequence();
+    // Consumer'a ait: tail'in son okunan değeri (sadece consumer okur/yazar)
+    private final PaddedSequence tailCache = new PaddedSequence();
+
+    public SpscRingBuffer(int requestedCapacity) {
+        super(requestedCapacity);
+        this.buffer = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long currentTail = tail.getPlain();  // Sadece producer yazıyor
+        long wrapPoint = currentTail - capacity;
+
+        if (wrapPoint >= headCache.getPlain()) {
+            long currentHead = head.get();
+            headCache.setPlain(currentHead);
+            if (wrapPoint >= currentHead) {
+                return false;  // Dolu
+            }
+        }
+
+        buffer.setPlain((int) (currentTail & mask), e);
+        tail.setRelease(currentTail + 1);  // lazySet: elemanı yayınla
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long currentHead = head.getPlain();  // Sadece consumer yazıyor
+
+        if (currentHead >= tailCache.getPlain()) {
+            long currentTail = tail.get();
+            tailCache.setPlain(currentTail);
+            if (currentHead >= currentTail) {
+                return null;  // Boş
+            }
+        }
+
+        int index = (int) (currentHead & mask);
+        E e = buffer.getPlain(index);
+        buffer.setPlain(index, null);
+        head.setRelease(currentHead + 1);  // lazySet: slot'u producer'a geri ver
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        long currentHead = head.get();
+        if (currentHead >= tail.get()) {
+            return null;
+        }
+        return buffer.get((int) (currentHead & mask));
+    }
+
+    @Override
+    public int size() {
+        return size(head, tail);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return iterator(head, tail, buffer);
+    }
+}
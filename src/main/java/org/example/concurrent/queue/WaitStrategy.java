@@ -0,0 +1,74 @@
+package org.example.concurrent.queue;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Consumer'ın boş kuyrukta nasıl bekleyeceği
+ *
+ * Aynı kuyruk, farklı bekleme stratejileriyle çok farklı CPU / gecikme
+ * dengesi verir:
+ *
+ * | Strateji          | Boşta CPU       | Uyanma gecikmesi |
+ * |-------------------|-----------------|------------------|
+ * | BusySpin          | %100 çekirdek   | ~ns              |
+ * | SpinThenYield     | Yüksek          | ~µs              |
+ * | SpinThenPark      | Düşük           | µs - ms (backoff)|
+ * | Blocking          | ~0              | Lock + unpark    |
+ *
+ * Spin'li stratejiler sadece idle() metodunu yazar; take() boş poll'larda
+ * idle()'ı artan attempt değeriyle çağırır. Blocking stratejisi take()'i
+ * kuyruğun kendi bloklayan poll(timeout) metoduyla yeniden tanımlar.
+ */
+public interface WaitStrategy {
+
+    /**
+     * Boş bir denemeden sonra bekler.
+     *
+     * @param attempt art arda kaçıncı boş deneme (0'dan başlar)
+     * @return bir sonraki attempt değeri
+     */
+    int idle(int attempt) throws InterruptedException;
+
+    /**
+     * Kuyruktan bir eleman gelene kadar bekler.
+     *
+     * @param running false olduğunda beklemeyi bırakır (ör. tüm item'lar tüketildi)
+     * @return eleman, running false olduysa null
+     */
+    default <E> E take(BlockingQueue<E> queue, BooleanSupplier running) throws InterruptedException {
+        int attempt = 0;
+        while (running.getAsBoolean()) {
+            E e = queue.poll();
+            if (e != null) {
+                return e;
+            }
+            attempt = idle(attempt);
+        }
+        return null;
+    }
+
+    /**
+     * IntBlockingQueue için aynı bekleme (boxing yok)
+     *
+     * @return eleman, running false olduysa valueIfStopped
+     */
+    default int take(IntBlockingQueue queue, BooleanSupplier running, int valueIfStopped)
+            throws InterruptedException {
+        int attempt = 0;
+        while (running.getAsBoolean()) {
+            int e = queue.poll(valueIfStopped);
+            if (e != valueIfStopped) {
+                return e;
+            }
+            attempt = idle(attempt);
+        }
+        return valueIfStopped;
+    }
+
+    static void checkInterrupt() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+}
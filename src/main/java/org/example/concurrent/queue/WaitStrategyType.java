@@ -0,0 +1,27 @@
+package org.example.concurrent.queue;
+
+import java.util.function.Supplier;
+
+/**
+ * Bekleme stratejileri - harness'lerde isimle seçmek için
+ */
+public enum WaitStrategyType {
+    BUSY_SPIN(BusySpinWaitStrategy::new),
+    SPIN_YIELD(SpinThenYieldWaitStrategy::new),
+    SPIN_PARK(SpinThenParkWaitStrategy::new),
+    BLOCKING(BlockingWaitStrategy::new);
+
+    private final Supplier<WaitStrategy> factory;
+
+    WaitStrategyType(Supplier<WaitStrategy> factory) {
+        this.factory = factory;
+    }
+
+    public WaitStrategy create() {
+        return factory.get();
+    }
+
+    public static WaitStrategyType parse(String arg, WaitStrategyType defaultType) {
+        return arg == null ? defaultType : valueOf(arg.toUpperCase());
+    }
+}
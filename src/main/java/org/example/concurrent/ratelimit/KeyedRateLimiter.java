@@ -0,0 +1,91 @@
+package org.example.concurrent.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Anahtar başına token bucket (kullanıcı, IP, task tipi...)
+ *
+ * Tek bir global kova tüm thread'leri aynı AtomicLong'a yarıştırır. Burada her anahtarın
+ * kendi kovası var ve kovalar ConcurrentHashMap'te: farklı anahtarlar farklı cache line'lara
+ * dokunur (map'in kendisi de bin'lere bölünmüş), çekişme sadece aynı anahtarda olur.
+ *
+ * - Kova ilk istekte yaratılır: önce get() (kilitsiz), yoksa computeIfAbsent
+ * - removeIdle(): tam dolmuş (bir süredir kullanılmayan) kovaları atar. Tam dolu kova yeni
+ *   yaratılanla aynı davranır, bu yüzden silmek limiti değiştirmez; anahtar sayısı sınırsız
+ *   büyümesin diye periyodik çağrılmalı (ör. ScheduledExecutorService ile dakikada bir).
+ *   Silinirken aynı anda o kovayı kullanan bir tryAcquire/acquire çağrısı en fazla bir izinlik
+ *   sapma yaratır (kovalar dışarı verilmez, her çağrı map'ten yeniden bulur).
+ *
+ * Kullanım:
+ *   KeyedRateLimiter<String> perUser = new KeyedRateLimiter<>(10, 5);  // kullanıcı başına 10/sn
+ *   if (!perUser.tryAcquire(userId)) { return tooManyRequests(); }
+ */
+public final class KeyedRateLimiter<K> {
+
+    private final double permitsPerSecond;
+    private final int capacity;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<K, TokenBucketRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * @param permitsPerSecond anahtar başına hız
+     * @param capacity         anahtar başına kova kapasitesi
+     */
+    public KeyedRateLimiter(double permitsPerSecond, int capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    public KeyedRateLimiter(double permitsPerSecond, int capacity, LongSupplier clock) {
+        if (!(permitsPerSecond > 0) || permitsPerSecond > 1e9 || capacity < 1) {
+            throw new IllegalArgumentException("0 < permitsPerSecond <= 1e9 ve capacity >= 1 olmalı");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = capacity;
+        this.clock = clock;
+    }
+
+    public boolean tryAcquire(K key) {
+        return limiter(key).tryAcquire();
+    }
+
+    public void acquire(K key) throws InterruptedException {
+        limiter(key).acquire();
+    }
+
+    /**
+     * Anahtarın kovası. Dışarı verilmez: removeIdle() kovayı map'ten çıkarınca elinde tutan
+     * yetim kovadan izin almaya devam eder, yeni gelenler taze (dolu) kova alır → limit ikiye katlanır.
+     * Her çağrı kovayı map üzerinden yeniden bulur.
+     */
+    private TokenBucketRateLimiter limiter(K key) {
+        TokenBucketRateLimiter limiter = limiters.get(key);
+        if (limiter == null) {
+            limiter = limiters.computeIfAbsent(key,
+                    k -> new TokenBucketRateLimiter(permitsPerSecond, capacity, clock));
+        }
+        return limiter;
+    }
+
+    /**
+     * Tam dolu kovaları atar
+     *
+     * @return atılan kova sayısı
+     */
+    public int removeIdle() {
+        int before = limiters.size();
+        limiters.values().removeIf(TokenBucketRateLimiter::isIdle);
+        return Math.max(0, before - limiters.size());
+    }
+
+    /**
+     * Şu an tutulan kova (anahtar) sayısı
+     */
+    public int size() {
+        return limiters.size();
+    }
+
+    public double permitsPerSecond() {
+        return permitsPerSecond;
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.concurrent.ratelimit;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hız sınırlayıcı: zaman içinde verilen izin sayısını sınırlar
+ *
+ * Kuyruk kapasitesi (TaskProcessorExample'daki gibi) sadece BEKLEYEN iş miktarını sınırlar:
+ * worker'lar hızlıysa kuyruk hiç dolmaz ve producer istediği hızda üretir. Throughput'u
+ * sınırlamak için her işten önce bir izin alınır:
+ *
+ * | Gerçekleme                 | Durum                     | Patlama (burst)          |
+ * |----------------------------|---------------------------|--------------------------|
+ * | TokenBucketRateLimiter     | tek AtomicLong, tek CAS   | kova kapasitesi kadar    |
+ * | SlidingWindowRateLimiter   | pencere başına sayaç, CAS | pencere sınırında yok    |
+ * | KeyedRateLimiter           | anahtar başına kova (CHM) | anahtar başına kapasite  |
+ *
+ * Hepsi kilitsiz: tryAcquire() bir saat okuması ve bir (çekişmede birkaç) CAS'tır.
+ */
+public interface RateLimiter {
+
+    /**
+     * İzin varsa alır ve true döner; yoksa beklemeden false (çağıran atar / sonra dener)
+     */
+    boolean tryAcquire();
+
+    /**
+     * İzin alınana kadar bekler (producer'ı yavaşlatır)
+     */
+    void acquire() throws InterruptedException;
+
+    /**
+     * Uzun vadeli ortalama hız (izin / sn)
+     */
+    double permitsPerSecond();
+
+    /**
+     * deadline (System.nanoTime) gelene kadar park eder; interrupt'ta InterruptedException
+     */
+    static void parkUntil(long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package org.example.concurrent.ratelimit;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate Limiter Benchmark - tryAcquire() Maliyeti ve Doğruluğu
+ *
+ * 1. tryAcquire(): thread'ler durmadan izin ister (limitin çok üstünde talep).
+ *    - çağrı/sn, ns/çağrı: limiter'ın kendi maliyeti (çoğu çağrı reddedilir, o da ucuz olmalı)
+ *    - verilen/sn ve sapma: beklenen = hız × süre + kapasite (başlangıçta dolu kova)
+ * 2. acquire(): thread'ler izin gelene kadar bekler (producer kapısı); gerçekleşen hız hedefe ne kadar yakın
+ *
+ * Limiter'lar:
+ * - TOKEN_BUCKET:   TokenBucketRateLimiter, tek AtomicLong CAS
+ * - SLIDING_WINDOW: SlidingWindowRateLimiter, 100ms pencere
+ * - KEYED:          KeyedRateLimiter; 1'de 1024 anahtar (her çağrı rastgele anahtar), anahtar başına hız/1024,
+ *                   2'de her thread kendi anahtarı (tip başına producer kapısı gibi), anahtar başına hız/thread
+ * - SYNCHRONIZED:   klasik token bucket (token + son dolum zamanı, synchronized): kilitli karşılaştırma
+ *
+ * Çalıştırma:
+ *   java ... RateLimiterBenchmark                        (1M izin/sn, 1,2,8,32 thread, 1000ms)
+ *   java ... RateLimiterBenchmark 5000000 1,64 2000
+ */
+public class RateLimiterBenchmark {
+
+    private static final int KEYS = 1_024;
+    private static final double ACQUIRE_RATE = 20_000;
+
+    enum Type {
+        TOKEN_BUCKET, SLIDING_WINDOW, KEYED, SYNCHRONIZED
+    }
+
+    /**
+     * Kilitli karşılaştırma: iki alan birlikte güncellendiği için synchronized
+     */
+    static final class SynchronizedTokenBucket implements RateLimiter {
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        SynchronizedTokenBucket(double permitsPerSecond, int capacity) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = capacity;
+            this.tokens = capacity;
+        }
+
+        @Override
+        public synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void acquire() throws InterruptedException {
+            while (!tryAcquire()) {
+                RateLimiter.parkUntil(System.nanoTime() + (long) (1 / permitsPerNano));
+            }
+        }
+
+        @Override
+        public double permitsPerSecond() {
+            return permitsPerNano * TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+
+    /**
+     * Her thread'in çağırdığı işlem: key sadece anahtarlı limiter'da kullanılır
+     */
+    private interface Gate {
+        boolean tryAcquire(int key);
+
+        void acquire(int key) throws InterruptedException;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        double rate = args.length > 0 ? Double.parseDouble(args[0]) : 1_000_000;
+        int[] threadCounts = Arrays.stream((args.length > 1 ? args[1] : "1,2,8,32").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        long durationMs = args.length > 2 ? Long.parseLong(args[2]) : 1000;
+        int capacity = (int) Math.max(1, rate / 100);  // 10ms'lik patlama
+
+        System.out.println("=== Rate Limiter: tryAcquire() Maliyeti ve Doğruluğu ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.printf("- Limit: %.0f izin/sn, kova kapasitesi %d (10ms)%n", rate, capacity);
+        System.out.println("- Thread sayıları: " + Arrays.toString(threadCounts) + ", her biri " + durationMs + "ms");
+        System.out.println("- CPU: " + Runtime.getRuntime().availableProcessors());
+        System.out.println();
+
+        System.out.println("1) tryAcquire(), talep limitin çok üstünde:");
+        System.out.printf("%-15s %7s %12s %10s %12s %10s%n",
+                "Limiter", "thread", "çağrı/sn", "ns/çağrı", "verilen/sn", "sapma");
+        for (Type type : Type.values()) {
+            for (int threads : threadCounts) {
+                runTryAcquire(type, rate, capacity, threads, durationMs);
+            }
+            System.out.println();
+        }
+
+        System.out.printf("2) acquire(), hedef %.0f izin/sn (kapasite 1, patlama yok):%n", ACQUIRE_RATE);
+        System.out.printf("%-15s %7s %14s %10s%n", "Limiter", "thread", "gerçekleşen/sn", "sapma");
+        for (Type type : Type.values()) {
+            runAcquire(type, threadCounts[threadCounts.length - 1], durationMs);
+        }
+
+        System.out.println("\n💡 Reddetme bir saat okuması + bir atomik okumadır (CAS yok): talep limitin 100 katı olsa da ucuz.");
+        System.out.println("   SYNCHRONIZED her çağrıda kilidi alır; çok çekirdekte thread arttıkça sıraya girer.");
+        System.out.println("   KEYED çekişmeyi anahtarlara dağıtır; sapma anahtar başına kapasite × anahtar sayısıdır.");
+        System.out.println("   acquire(): token bucket rezervasyon yapar (her bekleyen kendi token anına kadar uyur);");
+        System.out.println("   SYNCHRONIZED'ın 'dene, uyu, tekrar dene' döngüsü uyanma gecikmeleri yüzünden hedefin altında kalır.");
+    }
+
+    private static void runTryAcquire(Type type, double rate, int capacity, int threads, long durationMs)
+            throws InterruptedException {
+        Gate gate = create(type, rate, capacity, KEYS);
+        LongAdder calls = new LongAdder();
+        LongAdder granted = new LongAdder();
+        CountDownLatch startGate = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        long[] deadline = new long[1];
+
+        for (int t = 0; t < threads; t++) {
+            long seed = t + 1;
+            workers[t] = Thread.ofPlatform().name("limiter-" + t).start(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                long localCalls = 0;
+                long localGranted = 0;
+                try {
+                    startGate.await();
+                    while (System.nanoTime() < deadline[0]) {
+                        for (int i = 0; i < 128; i++) {
+                            if (gate.tryAcquire(random.nextInt(KEYS))) {
+                                localGranted++;
+                            }
+                        }
+                        localCalls += 128;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    calls.add(localCalls);
+                    granted.add(localGranted);
+                }
+            });
+        }
+        // Limiter zamanı yaratıldığı andan itibaren sayar (kova dolu başlar): süre de oradan ölçülür
+        long start = System.nanoTime();
+        deadline[0] = start + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        startGate.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double seconds = elapsed / 1e9;
+        double expected = rate * seconds + burst(type, capacity);
+        System.out.printf("%-15s %7d %12s %10.1f %12s %+9.2f%%%n", type, threads,
+                format(calls.sum() / seconds), elapsed / (double) calls.sum(),
+                format(granted.sum() / seconds), (granted.sum() - expected) * 100 / expected);
+    }
+
+    private static void runAcquire(Type type, int threads, long durationMs) throws InterruptedException {
+        Gate gate = create(type, ACQUIRE_RATE, 1, threads);
+        LongAdder granted = new LongAdder();
+        Thread[] workers = new Thread[threads];
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        for (int t = 0; t < threads; t++) {
+            int key = t;
+            workers[t] = Thread.ofPlatform().name("acquire-" + t).start(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        gate.acquire(key);
+                        granted.increment();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double expected = ACQUIRE_RATE * seconds;
+        System.out.printf("%-15s %7d %14s %+9.2f%%%n", type, threads, format(granted.sum() / seconds),
+                (granted.sum() - expected) * 100 / expected);
+    }
+
+    /**
+     * Başlangıçta birikmiş izinler (kova dolu başlar)
+     */
+    private static double burst(Type type, int capacity) {
+        return switch (type) {
+            case TOKEN_BUCKET, SYNCHRONIZED -> capacity;
+            case KEYED -> KEYS * (double) Math.max(1, capacity / KEYS);
+            case SLIDING_WINDOW -> 0;
+        };
+    }
+
+    /**
+     * @param keys KEYED için anahtar sayısı: toplam hız anahtarlara eşit bölünür
+     */
+    private static Gate create(Type type, double rate, int capacity, int keys) {
+        if (type == Type.KEYED) {
+            KeyedRateLimiter<Integer> keyed = new KeyedRateLimiter<>(rate / keys, Math.max(1, capacity / keys));
+            return new Gate() {
+                public boolean tryAcquire(int key) {
+                    return keyed.tryAcquire(key);
+                }
+
+                public void acquire(int key) throws InterruptedException {
+                    keyed.acquire(key);
+                }
+            };
+        }
+        RateLimiter limiter = switch (type) {
+            case TOKEN_BUCKET -> new TokenBucketRateLimiter(rate, capacity);
+            case SLIDING_WINDOW -> new SlidingWindowRateLimiter(Math.max(1, Math.round(rate / 10)), 100,
+                    TimeUnit.MILLISECONDS);
+            default -> new SynchronizedTokenBucket(rate, capacity);
+        };
+        return new Gate() {
+            public boolean tryAcquire(int key) {
+                return limiter.tryAcquire();
+            }
+
+            public void acquire(int key) throws InterruptedException {
+                limiter.acquire();
+            }
+        };
+    }
+
+    private static String format(double perSecond) {
+        if (perSecond >= 1e6) {
+            return String.format("%.2fM", perSecond / 1e6);
+        }
+        return String.format("%.1fK", perSecond / 1e3);
+    }
+}
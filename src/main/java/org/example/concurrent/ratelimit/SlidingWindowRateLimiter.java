@@ -0,0 +1,116 @@
+package org.example.concurrent.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Kilitsiz kayan pencere sayacı (sliding window counter)
+ *
+ * Sabit pencere (her saniye sayacı sıfırla) pencere sınırında 2 katı patlamaya izin verir:
+ * 0.99. sn'de limit kadar, 1.01. sn'de yine limit kadar. Kayan pencere sayacı son tam pencereyi
+ * şu anki pencereye girdiği oranda azaltarak sayar:
+ *   tahmin = önceki × (1 - geçen / pencere) + şimdiki
+ * tahmin + 1 > limit ise izin yok. Her zaman damgasını saklayan kayan log'dan (O(limit) bellek)
+ * farkı: pencere başına tek sayaç; öncekinin istekleri pencereye eşit dağılmış varsayılır.
+ *
+ * Eşzamanlılık: şimdiki pencere bir AtomicReference; süresi dolunca ilk gelen thread yeni
+ * pencereyi CAS ile koyar (öncekinin sayacını referansla taşır, geç gelen sayımlar da görünür).
+ * Sayaç artırma CAS döngüsüyle: limit kontrolü ve artırma atomik, eşzamanlı çağrılar aşamaz.
+ *
+ * Kullanım:
+ *   RateLimiter limiter = new SlidingWindowRateLimiter(1000, 1, TimeUnit.SECONDS);
+ */
+public final class SlidingWindowRateLimiter implements RateLimiter {
+
+    private final long limit;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final AtomicReference<Window> current;
+
+    public SlidingWindowRateLimiter(long limit, long window, TimeUnit unit) {
+        this(limit, window, unit, System::nanoTime);
+    }
+
+    /**
+     * @param clock nanosaniye zaman kaynağı (test için)
+     */
+    public SlidingWindowRateLimiter(long limit, long window, TimeUnit unit, LongSupplier clock) {
+        if (limit < 1 || window <= 0) {
+            throw new IllegalArgumentException("limit >= 1 ve window > 0 olmalı");
+        }
+        this.limit = limit;
+        this.windowNanos = unit.toNanos(window);
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+        this.current = new AtomicReference<>(new Window(0, null));
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        long elapsed = clock.getAsLong() - startNanos;
+        Window window = window(elapsed / windowNanos);
+        long intoWindow = Math.min(windowNanos, Math.max(0, elapsed - window.index * windowNanos));
+        long previous = window.previous == null ? 0 : window.previous.get();
+        double allowed = limit - previous * (1 - intoWindow / (double) windowNanos);
+        while (true) {
+            long count = window.count.get();
+            if (count + 1 > allowed) {
+                return false;
+            }
+            if (window.count.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ortalama izin aralığı kadar uyuyup tekrar dener
+     */
+    @Override
+    public void acquire() throws InterruptedException {
+        long pause = Math.max(1_000, windowNanos / limit);
+        while (!tryAcquire()) {
+            RateLimiter.parkUntil(System.nanoTime() + pause);
+        }
+    }
+
+    private Window window(long index) {
+        Window window = current.get();
+        while (window.index < index) {
+            // Bir önceki pencere bitişikse sayacı taşınır; arada boş pencere varsa önceki sayılmaz
+            Window next = new Window(index, window.index == index - 1 ? window.count : null);
+            if (current.compareAndSet(window, next)) {
+                return next;
+            }
+            window = current.get();
+        }
+        return window;
+    }
+
+    @Override
+    public double permitsPerSecond() {
+        return limit * (double) TimeUnit.SECONDS.toNanos(1) / windowNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SlidingWindow(%d / %dms)", limit, TimeUnit.NANOSECONDS.toMillis(windowNanos));
+    }
+
+    /**
+     * Sadece önceki pencerenin SAYACINI tutar (pencereyi değil): zincir birikmez
+     */
+    private static final class Window {
+        final long index;
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong previous;
+
+        Window(long index, AtomicLong previous) {
+            this.index = index;
+            this.previous = previous;
+        }
+    }
+}
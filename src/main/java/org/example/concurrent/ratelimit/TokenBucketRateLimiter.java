@@ -0,0 +1,111 @@
+package org.example.concurrent.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Kilitsiz token bucket: dolum ve alım tek bir CAS
+ *
+ * Klasik gerçekleme (token sayısı + son dolum zamanı, synchronized içinde güncellenir) iki alanı
+ * birlikte değiştirdiği için kilit ister. Burada kovanın durumu TEK bir long'dur:
+ * "kova ne zaman tekrar tam dolu olacak" (fullAt, nanoTime). GCRA / virtual scheduling ile aynı hesap:
+ * - Token başına dolum süresi: interval = 1 sn / permitsPerSecond
+ * - Şu an kovadaki token: (now - (fullAt - capacity × interval)) / interval, en fazla capacity
+ * - tryAcquire: start = max(fullAt, now); start + interval - now > capacity × interval ise token yok,
+ *   değilse CAS(fullAt, start + interval). Dolum ayrı bir adım değil, zamandan hesaplanır.
+ * Çekişmede kaybeden thread yeni değeri okuyup tekrar dener (kilit yok, kimse beklemez).
+ *
+ * acquire() rezervasyon yapar: token henüz yoksa da fullAt'i ilerletir ve kendi token'ının
+ * dolacağı ana kadar uyur → bekleyenler sırayla, tam interval aralıklarla geçer.
+ * Uyurken interrupt gelirse rezervasyon geri verilmez.
+ *
+ * interval tam sayı nanosaniyeye yuvarlanır: 1M/sn'nin üstündeki hızlarda en fazla ~%0.1 sapma.
+ *
+ * Kullanım:
+ *   RateLimiter limiter = new TokenBucketRateLimiter(100, 20);  // 100/sn, 20'lik patlama
+ *   if (limiter.tryAcquire()) { handle(request); } else { reject(request); }
+ */
+public final class TokenBucketRateLimiter implements RateLimiter {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final LongSupplier clock;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param permitsPerSecond uzun vadeli hız
+     * @param capacity         kova kapasitesi: boşta biriken ve art arda harcanabilecek en fazla izin
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    /**
+     * @param clock nanosaniye zaman kaynağı (test için; acquire() yine gerçek zamanlı uyur)
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int capacity, LongSupplier clock) {
+        if (!(permitsPerSecond > 0) || permitsPerSecond > 1e9 || capacity < 1) {
+            throw new IllegalArgumentException("0 < permitsPerSecond <= 1e9 ve capacity >= 1 olmalı");
+        }
+        this.intervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.capacityNanos = intervalNanos * capacity;
+        this.clock = clock;
+        this.fullAt = new AtomicLong(clock.getAsLong());  // Başlangıçta kova dolu
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        long now = clock.getAsLong();
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            if (next - now > capacityNanos) {
+                return false;  // Kova boş: bir sonraki token (next - capacity) anında dolar
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void acquire() throws InterruptedException {
+        long now = clock.getAsLong();
+        long next;
+        long current;
+        do {
+            current = fullAt.get();
+            next = Math.max(current, now) + intervalNanos;
+        } while (!fullAt.compareAndSet(current, next));
+        long wait = next - capacityNanos - now;  // > 0: bu token henüz dolmadı
+        if (wait > 0) {
+            RateLimiter.parkUntil(System.nanoTime() + wait);
+        }
+    }
+
+    /**
+     * Kova tam dolu mu (uzun süredir kullanılmıyor): yeni bir kovadan farkı yok, atılabilir
+     */
+    boolean isIdle() {
+        return fullAt.get() - clock.getAsLong() <= 0;
+    }
+
+    /**
+     * Şu an kovadaki token sayısı (anlık, yaklaşık)
+     */
+    public long availablePermits() {
+        long used = Math.max(0, fullAt.get() - clock.getAsLong());
+        return Math.max(0, (capacityNanos - used) / intervalNanos);
+    }
+
+    @Override
+    public double permitsPerSecond() {
+        return TimeUnit.SECONDS.toNanos(1) / (double) intervalNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TokenBucket(%.0f/sn, kapasite %d)", permitsPerSecond(), capacityNanos / intervalNanos);
+    }
+}
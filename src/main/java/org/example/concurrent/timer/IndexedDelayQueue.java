@@ -0,0 +1,302 @@
+package org.example.concurrent.timer;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * İptal edilebilir handle'lı, indeksli yığın (indexed heap) tabanlı gecikme kuyruğu
+ *
+ * DelayQueue'nun iki maliyeti:
+ * - remove(Object): yığın dizisini baştan sona tarar (equals ile) → O(n).
+ *   Milyonlarca istek timeout'unun çoğu dolmadan iptal ediliyorsa asıl darboğaz budur.
+ * - Eleman Delayed implement etmeli: DelayQueueExample.DelayedTask gibi her görev için
+ *   ayrı bir nesne (+ String isim), getDelay() her karşılaştırmada saat okur.
+ *
+ * Burada (ScheduledThreadPoolExecutor.DelayedWorkQueue'daki heapIndex fikri):
+ * - schedule() bir Handle döner; Handle yığındaki kendi konumunu (index) tutar.
+ *   Yığın her eleman taşıdığında index'i günceller.
+ * - cancel(): index bilindiği için arama yok; son eleman o konuma konup yukarı/aşağı kaydırılır → O(log n)
+ * - Deadline ilkel long (System.nanoTime tabanlı): karşılaştırma saat okumadan, iki long ile
+ * - Görev başına tek nesne: Handle (deadline + index + eleman referansı, ~32 byte)
+ *
+ * take() DelayQueue ile aynı leader-follower beklemesini kullanır: sadece bir thread (leader)
+ * baştaki elemanın deadline'ına kadar uyur, diğerleri süresiz bekler.
+ * Aynı deadline'lı elemanlar arasında sıra garantisi yoktur (DelayQueue'da da yoktur).
+ *
+ * Kullanım:
+ *   IndexedDelayQueue<Request> timeouts = new IndexedDelayQueue<>();
+ *   IndexedDelayQueue.Handle<Request> handle = timeouts.schedule(request, 30, TimeUnit.SECONDS);
+ *   ...
+ *   handle.cancel();                    // istek zamanında bitti, O(log n)
+ *   Request expired = timeouts.take();  // timeout thread'i
+ */
+public final class IndexedDelayQueue<T> {
+
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE >> 1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int FIRED = -1;
+    private static final int CANCELLED = -2;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final LongSupplier clock;
+
+    private Handle<T>[] heap;
+    private int size;
+    private Thread leader;
+    private long cancelledCount;
+
+    public IndexedDelayQueue() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * @param clock nanosaniye zaman kaynağı (elle sürmek için; take() yine gerçek zamanlı bekler)
+     */
+    @SuppressWarnings("unchecked")
+    public IndexedDelayQueue(LongSupplier clock) {
+        this.clock = clock;
+        this.heap = (Handle<T>[]) new Handle<?>[INITIAL_CAPACITY];
+    }
+
+    /**
+     * item'ı delay sonra alınabilir yapar. O(log n).
+     * Çok uzun süreler (Long.MAX_VALUE = "hiç") ~146 yıla kırpılır (ScheduledThreadPoolExecutor.triggerTime gibi):
+     * toplam taşıp deadline negatife dönmesin, deadline farkları karşılaştırmada taşmasın.
+     */
+    public Handle<T> schedule(T item, long delay, TimeUnit unit) {
+        long delayNanos = Math.min(Math.max(0, unit.toNanos(delay)), MAX_DELAY_NANOS);
+        return scheduleAt(item, clock.getAsLong() + delayNanos);
+    }
+
+    /**
+     * @param deadlineNanos mutlak deadline (clock ile aynı zaman tabanında, örn. System.nanoTime)
+     */
+    public Handle<T> scheduleAt(T item, long deadlineNanos) {
+        if (item == null) {
+            throw new NullPointerException("item");
+        }
+        Handle<T> handle = new Handle<>(this, item, deadlineNanos);
+        lock.lock();
+        try {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length + (heap.length >> 1));
+            }
+            siftUp(size++, handle);
+            if (heap[0] == handle) {
+                leader = null;  // Yeni baş eleman: bekleyen leader daha erken uyanmalı
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return handle;
+    }
+
+    /**
+     * Süresi dolmuş baş elemanı çıkarır, yoksa hemen null döner
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            if (size == 0 || heap[0].deadline - clock.getAsLong() > 0) {
+                return null;
+            }
+            return removeFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Baştaki elemanın süresi dolana kadar bekler
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                if (size == 0) {
+                    available.await();
+                    continue;
+                }
+                long delay = heap[0].deadline - clock.getAsLong();
+                if (delay <= 0) {
+                    return removeFirst();
+                }
+                if (leader != null) {
+                    available.await();  // Başka bir thread baştaki elemanı bekliyor
+                } else {
+                    Thread thisThread = Thread.currentThread();
+                    leader = thisThread;
+                    try {
+                        available.awaitNanos(delay);
+                    } finally {
+                        if (leader == thisThread) {
+                            leader = null;
+                        }
+                    }
+                }
+            }
+        } finally {
+            if (leader == null && size > 0) {
+                available.signal();  // Sıradaki bekleyen leader olsun
+            }
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Baştaki elemanın deadline'ı, kuyruk boşsa Long.MAX_VALUE
+     */
+    public long peekDeadline() {
+        lock.lock();
+        try {
+            return size == 0 ? Long.MAX_VALUE : heap[0].deadline;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Şimdiye kadar iptal edilen handle sayısı
+     */
+    public long cancelled() {
+        lock.lock();
+        try {
+            return cancelledCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean cancel(Handle<T> handle) {
+        lock.lock();
+        try {
+            int index = handle.index;
+            if (index < 0) {
+                return false;  // Zaten alındı veya iptal edildi
+            }
+            removeAt(index);
+            handle.index = CANCELLED;
+            handle.item = null;  // Eleman GC'ye bırakılır, handle çağıranda kalsa bile
+            cancelledCount++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private T removeFirst() {
+        Handle<T> first = heap[0];
+        removeAt(0);
+        first.index = FIRED;
+        T item = first.item;
+        first.item = null;
+        return item;
+    }
+
+    /**
+     * Son eleman boşalan konuma taşınır; aşağı, olmazsa yukarı kaydırılır
+     */
+    private void removeAt(int index) {
+        int last = --size;
+        Handle<T> moved = heap[last];
+        heap[last] = null;
+        if (index != last) {
+            siftDown(index, moved);
+            if (heap[index] == moved) {
+                siftUp(index, moved);
+            }
+        }
+    }
+
+    private void siftUp(int index, Handle<T> handle) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            Handle<T> p = heap[parent];
+            if (handle.deadline - p.deadline >= 0) {
+                break;
+            }
+            heap[index] = p;
+            p.index = index;
+            index = parent;
+        }
+        heap[index] = handle;
+        handle.index = index;
+    }
+
+    private void siftDown(int index, Handle<T> handle) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            Handle<T> c = heap[child];
+            int right = child + 1;
+            if (right < size && c.deadline - heap[right].deadline > 0) {
+                c = heap[child = right];
+            }
+            if (handle.deadline - c.deadline <= 0) {
+                break;
+            }
+            heap[index] = c;
+            c.index = index;
+            index = child;
+        }
+        heap[index] = handle;
+        handle.index = index;
+    }
+
+    /**
+     * schedule()'ın döndüğü iptal anahtarı. Yığındaki konumunu bilir: cancel() arama yapmaz.
+     */
+    public static final class Handle<T> {
+        private final IndexedDelayQueue<T> queue;
+        private final long deadline;
+        private T item;
+        private int index;  // >= 0: kuyrukta; FIRED / CANCELLED. Sadece kuyruk kilidi altında değişir
+
+        Handle(IndexedDelayQueue<T> queue, T item, long deadline) {
+            this.queue = queue;
+            this.item = item;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true: kuyruktan çıkarıldı; false: süresi dolup alınmış veya zaten iptal edilmiş
+         */
+        public boolean cancel() {
+            return queue.cancel(this);
+        }
+
+        public boolean isCancelled() {
+            queue.lock.lock();
+            try {
+                return index == CANCELLED;
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+
+        public long deadlineNanos() {
+            return deadline;
+        }
+
+        /**
+         * Kalan süre (negatif = süresi dolmuş)
+         */
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - queue.clock.getAsLong(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
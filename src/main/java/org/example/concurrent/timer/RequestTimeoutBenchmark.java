@@ -0,0 +1,322 @@
+package org.example.concurrent.timer;
+
+import org.example.concurrent.metrics.Allocations;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * İstek Timeout'ları: Çoğu Dolmadan İptal Edilen Timer'lar
+ *
+ * Her istek için bir timeout kurulur; istek zamanında biterse (çoğunlukla) timeout iptal edilir,
+ * bitmezse timeout dolar. Kararlı durumda her an ~N timeout bekler. Her "istek" adımında:
+ * 1. Saat 1ms ilerler, yeni isteğin timeout'u kurulur (deadline: 2N ms sonra)
+ * 2. N adım önce başlayan istek biter: cancelRatio olasılıkla timeout'u iptal edilir
+ * 3. Süresi dolan timeout'lar çıkarılır (iptal edilmeyenler 2N adım sonra dolar)
+ *
+ * Yapılar (aynı sahte saatle, tek thread):
+ * - DELAY_QUEUE:   DelayQueueExample.DelayedTask gibi eleman (String isim + deadline) ve remove(Object) → O(n)
+ * - INDEXED_HEAP:  IndexedDelayQueue, Handle.cancel() → O(log n), görev başına tek Handle
+ * - TIMER_WHEEL:   TimerWheel, cancel() → O(1), kovadan çıkarma bir sonraki advance()'te
+ *
+ * Başlangıçta kuyruk doğrudan kararlı duruma doldurulur (N bekleyen), sonra her yapı
+ * en fazla ~2 sn (veya maxOps istek) ölçülür. DelayQueue'da büyük N'de bu birkaç bin istek eder.
+ * Allocation: ölçülen thread'in istek başına ayırdığı byte (Allocations).
+ *
+ * Başta IndexedDelayQueue için rastgele bir doğruluk kontrolü çalışır.
+ *
+ * Çalıştırma:
+ *   java ... RequestTimeoutBenchmark                       (N: 10k, 100k, 1M; %95 iptal)
+ *   java ... RequestTimeoutBenchmark 100000 0.99 5000000   (N, iptal oranı, en fazla istek)
+ */
+public class RequestTimeoutBenchmark {
+
+    private static final long STEP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long TIME_BUDGET_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    enum Structure {
+        DELAY_QUEUE, INDEXED_HEAP, TIMER_WHEEL
+    }
+
+    /**
+     * Elle ilerletilen saat (ns)
+     */
+    static final class FakeClock {
+        long now;
+
+        long nanoTime() {
+            return now;
+        }
+    }
+
+    /**
+     * DelayQueueExample.DelayedTask'ın karşılığı: isim + deadline, saat sahte
+     */
+    static final class NamedTask implements Delayed {
+        final String name;
+        final long deadline;
+        final FakeClock clock;
+
+        NamedTask(String name, long deadline, FakeClock clock) {
+            this.name = name;
+            this.deadline = deadline;
+            this.clock = clock;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - clock.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(deadline, ((NamedTask) o).deadline);
+        }
+    }
+
+    /**
+     * Yapıdan bağımsız işlemler: Object handle'ı DelayQueue'da NamedTask, diğerlerinde kendi handle'ı
+     */
+    private interface Timeouts {
+        Object schedule(long seq, long deadline);
+
+        void cancel(Object handle);
+
+        /** Süresi dolanları çıkarır, sayısını döner */
+        int expire();
+
+        int pending();
+    }
+
+    public static void main(String[] args) {
+        int[] windows = Arrays.stream((args.length > 0 ? args[0] : "10000,100000,1000000").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        double cancelRatio = args.length > 1 ? Double.parseDouble(args[1]) : 0.95;
+        long maxOps = args.length > 2 ? Long.parseLong(args[2]) : 2_000_000;
+
+        System.out.println("=== İstek Timeout'ları: DelayQueue vs IndexedDelayQueue vs TimerWheel ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.println("- Bekleyen timeout (N): " + Arrays.toString(windows));
+        System.out.printf("- İptal oranı: %%%.0f (istek N adımda biter, timeout 2N adım)%n", cancelRatio * 100);
+        System.out.println("- Ölçüm: yapı başına en fazla " + maxOps + " istek veya ~2 sn");
+        System.out.println("- Allocation ölçümü: " + (Allocations.isSupported() ? "var" : "yok (0 görünür)"));
+        System.out.println();
+
+        verify();
+
+        System.out.printf("%-13s %9s %10s %12s %10s %10s %10s%n",
+                "Yapı", "N", "istek", "istek/sn", "ns/istek", "byte/ist", "doldu");
+        for (int window : windows) {
+            for (Structure structure : Structure.values()) {
+                run(structure, window, cancelRatio, maxOps);
+                System.gc();
+            }
+            System.out.println();
+        }
+
+        System.out.println("💡 DelayQueue'da her iptal tüm yığını tarar: N büyüdükçe istek başına maliyet N ile artar.");
+        System.out.println("   IndexedDelayQueue handle'ın yığın konumunu bildiği için O(log n) çıkarır ve isim/Delayed");
+        System.out.println("   nesnesi gerektirmez. TimerWheel iptali O(1) ama çözünürlüğü tick kadar ve kendi thread'i ister.");
+    }
+
+    private static void run(Structure structure, int window, double cancelRatio, long maxOps) {
+        FakeClock clock = new FakeClock();
+        Timeouts timeouts = create(structure, clock);
+        SplittableRandom random = new SplittableRandom(42);
+        Object[] inFlight = new Object[window];  // N adım önce başlayan isteklerin iptal edilecek handle'ı
+        long timeoutNanos = 2L * window * STEP_NANOS;
+
+        // Kararlı durum: -2N..-1 adımlarında başlamış istekler. -N'den önce başlayıp iptal edilenler
+        // zaten gitti; iptal edilmeyenler hâlâ bekliyor (en erken 0. adımda dolar)
+        long scheduled = 0;
+        for (long seq = -2L * window; seq < 0; seq++) {
+            boolean cancels = random.nextDouble() < cancelRatio;
+            if (cancels && seq < -window) {
+                continue;
+            }
+            Object handle = timeouts.schedule(seq, (seq + 1) * STEP_NANOS + timeoutNanos);
+            scheduled++;
+            if (seq >= -window) {
+                inFlight[(int) (seq + window)] = cancels ? handle : null;
+            }
+        }
+
+        long cancelled = 0;
+        long expired = 0;
+        long ops = 0;
+        long allocatedBefore = Allocations.currentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        long elapsed = 0;
+        while (ops < maxOps) {
+            clock.now = (ops + 1) * STEP_NANOS;
+            int slot = (int) (ops % window);
+            Object finished = inFlight[slot];
+            if (finished != null) {
+                timeouts.cancel(finished);
+                cancelled++;
+            }
+            Object handle = timeouts.schedule(ops, clock.now + timeoutNanos);
+            scheduled++;
+            inFlight[slot] = random.nextDouble() < cancelRatio ? handle : null;
+            expired += timeouts.expire();
+            ops++;
+            if ((ops & 255) == 0 && (elapsed = System.nanoTime() - start) > TIME_BUDGET_NANOS) {
+                break;
+            }
+        }
+        elapsed = System.nanoTime() - start;
+        long allocated = Allocations.currentThreadAllocatedBytes() - allocatedBefore;
+
+        long pending = timeouts.pending();
+        if (scheduled - cancelled - expired != pending) {
+            throw new IllegalStateException(structure + ": kurulan " + scheduled + " - iptal " + cancelled
+                    + " - dolan " + expired + " != bekleyen " + pending);
+        }
+        System.out.printf("%-13s %9d %10d %12s %10.0f %10d %10d%n", structure, window, ops,
+                rate(ops, elapsed), elapsed / (double) ops, allocated / ops, expired);
+    }
+
+    private static Timeouts create(Structure structure, FakeClock clock) {
+        return switch (structure) {
+            case DELAY_QUEUE -> new Timeouts() {
+                final DelayQueue<NamedTask> queue = new DelayQueue<>();
+
+                public Object schedule(long seq, long deadline) {
+                    NamedTask task = new NamedTask("request-" + seq, deadline, clock);
+                    queue.offer(task);
+                    return task;
+                }
+
+                public void cancel(Object handle) {
+                    queue.remove(handle);
+                }
+
+                public int expire() {
+                    int count = 0;
+                    while (queue.poll() != null) {
+                        count++;
+                    }
+                    return count;
+                }
+
+                public int pending() {
+                    return queue.size();
+                }
+            };
+            case INDEXED_HEAP -> new Timeouts() {
+                final IndexedDelayQueue<Object> queue = new IndexedDelayQueue<>(clock::nanoTime);
+                final Object request = new Object();  // Gerçekte istek nesnesi; zaten var, timeout için yaratılmaz
+
+                public Object schedule(long seq, long deadline) {
+                    return queue.scheduleAt(request, deadline);
+                }
+
+                public void cancel(Object handle) {
+                    ((IndexedDelayQueue.Handle<?>) handle).cancel();
+                }
+
+                public int expire() {
+                    int count = 0;
+                    while (queue.poll() != null) {
+                        count++;
+                    }
+                    return count;
+                }
+
+                public int pending() {
+                    return queue.size();
+                }
+            };
+            case TIMER_WHEEL -> new Timeouts() {
+                final TimerWheel wheel = new TimerWheel(1, TimeUnit.MILLISECONDS, 512, 4, null, clock::nanoTime);
+                final Runnable onTimeout = () -> {
+                };
+
+                public Object schedule(long seq, long deadline) {
+                    return wheel.schedule(onTimeout, deadline - clock.nanoTime(), TimeUnit.NANOSECONDS);
+                }
+
+                public void cancel(Object handle) {
+                    ((TimerWheel.Timeout) handle).cancel();
+                }
+
+                public int expire() {
+                    return wheel.advance(clock.nanoTime());
+                }
+
+                public int pending() {
+                    return (int) wheel.pending();
+                }
+            };
+        };
+    }
+
+    private static String rate(long operations, long nanos) {
+        double perSecond = operations * 1e9 / Math.max(1, nanos);
+        if (perSecond >= 1e6) {
+            return String.format("%.1fM", perSecond / 1e6);
+        }
+        return String.format("%.1fK", perSecond / 1e3);
+    }
+
+    /**
+     * Rastgele schedule / cancel / poll: çıkan eleman süresi dolmuş ve iptal edilmemiş olmalı,
+     * deadline'lar sıralı çıkmalı, sonunda kurulan = dolan + iptal
+     */
+    private static void verify() {
+        FakeClock clock = new FakeClock();
+        IndexedDelayQueue<long[]> queue = new IndexedDelayQueue<>(clock::nanoTime);
+        SplittableRandom random = new SplittableRandom(7);
+        int count = 200_000;
+        @SuppressWarnings("unchecked")
+        IndexedDelayQueue.Handle<long[]>[] handles =
+                (IndexedDelayQueue.Handle<long[]>[]) new IndexedDelayQueue.Handle<?>[count];
+        boolean[] cancelled = new boolean[count];
+        AtomicLong fired = new AtomicLong();
+        long cancelCount = 0;
+        long lastDeadline = Long.MIN_VALUE;
+
+        for (int i = 0; i < count; i++) {
+            long delay = random.nextLong(0, 1_000_000);
+            handles[i] = queue.schedule(new long[]{i, clock.now + delay}, delay, TimeUnit.NANOSECONDS);
+            if (random.nextInt(4) == 0) {
+                int victim = i - random.nextInt(Math.min(i + 1, 1_000));  // Yakın zamanda kurulan: çoğu hâlâ bekliyor
+                if (handles[victim].cancel()) {
+                    cancelled[victim] = true;
+                    cancelCount++;
+                }
+            }
+            if (random.nextInt(8) == 0) {
+                clock.now += random.nextLong(0, 20_000);
+                lastDeadline = Long.MIN_VALUE;  // Saat ilerledi: yeni "dolanlar" grubu
+                long[] item;
+                while ((item = queue.poll()) != null) {
+                    check(!cancelled[(int) item[0]], "iptal edilen eleman çıktı: " + item[0]);
+                    check(item[1] <= clock.now, "süresi dolmadan çıktı: " + item[0]);
+                    check(item[1] >= lastDeadline, "sıra bozuk: " + item[0]);
+                    check(!handles[(int) item[0]].cancel(), "çıkan eleman iptal edilebildi: " + item[0]);
+                    lastDeadline = item[1];
+                    fired.incrementAndGet();
+                }
+            }
+        }
+        clock.now = Long.MAX_VALUE / 2;
+        while (queue.poll() != null) {
+            fired.incrementAndGet();
+        }
+        check(fired.get() + cancelCount == count && queue.size() == 0 && queue.cancelled() == cancelCount,
+                "doğruluk: dolan " + fired + " + iptal " + cancelCount + " != " + count);
+        System.out.println("✓ Doğruluk: " + count + " handle, " + cancelCount + " iptal; çıkanlar sıralı, "
+                + "süresi dolmuş ve iptal edilmemiş\n");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package org.example.concurrent.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Hiyerarşik hash'li zamanlayıcı çarkı (hierarchical hashed timer wheel)
+ *
+ * DelayQueue bir ikili yığındır (PriorityQueue): ekleme O(log n), remove(Object) O(n) tarama,
+ * her take() kilit alır. Milyonlarca oturum / istek timeout'u için (çoğu hiç dolmadan iptal edilir)
+ * bu pahalıdır. Çarkta (Varghese & Lauck, Linux kernel timer'ları, Netty/Kafka):
+ * - Zaman tick'lere bölünür; seviye 0'da wheelSize kova, her kova 1 tick
+ * - Seviye k'daki kova wheelSize^k tick kapsar; uzak timer üst seviyeye konur,
+ *   zamanı yaklaşınca alt seviyeye "dökülür" (cascade)
+ * - schedule(): kova indeksi bit kaydırma ile bulunur, listeye eklenir → O(1)
+ * - cancel(): çift yönlü listeden çıkarılır → O(1)
+ * - Her tick sadece o tick'in kovası işlenir; boş tick'ler neredeyse bedava
+ * Bedeli: çözünürlük tick kadar (timer en erken deadline'ında, en geç bir tick sonra çalışır).
+ *
+ * Eşzamanlılık: schedule() ve cancel() herhangi bir thread'den çağrılabilir ve kilitsizdir;
+ * istekler birer kuyruğa yazılır, kovalara sadece çark thread'i dokunur (tek yazar).
+ * Süresi dolan task'ler tick başına toplanır ve dispatcher'a BATCH_SIZE'lık gruplar halinde
+ * verilir (her timer için ayrı executor.execute() çağrısı yerine).
+ *
+ * İki kullanım:
+ * - start(): arka plan thread'i her tick'te advance(now) çağırır
+ * - advance(now) elle: test / benchmark için (clock da elle verilir), start() ile karıştırılmamalı
+ *
+ * Kullanım:
+ *   TimerWheel wheel = new TimerWheel(1, TimeUnit.MILLISECONDS, 512, executor);
+ *   wheel.start();
+ *   TimerWheel.Timeout timeout = wheel.schedule(() -> expire(session), 30, TimeUnit.SECONDS);
+ *   ...
+ *   timeout.cancel();   // oturum kapandı, O(1)
+ */
+public final class TimerWheel implements AutoCloseable {
+
+    static final int BATCH_SIZE = 1_024;
+
+    private final long tickNanos;
+    private final int bits;
+    private final int mask;
+    private final Bucket[][] levels;
+    private final Executor dispatcher;
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final ConcurrentLinkedQueue<Timeout> additions = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> cancellations = new ConcurrentLinkedQueue<>();
+    private final LongAdder pending = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private long currentTick;  // Sadece çark thread'i
+    private volatile Thread worker;
+    private volatile boolean running;
+
+    /**
+     * System.nanoTime ve 4 seviye ile: tick × wheelSize^4'ten uzun süreler en üst seviyede bekler
+     * (1ms ve 512 kova → ~795 gün), dökülünce yeniden yerleştirilir
+     *
+     * @param wheelSize  seviye başına kova (2'nin kuvvetine yuvarlanır)
+     * @param dispatcher süresi dolan task'leri çalıştırır; null ise çark thread'inde çalışır
+     */
+    public TimerWheel(long tick, TimeUnit unit, int wheelSize, Executor dispatcher) {
+        this(tick, unit, wheelSize, 4, dispatcher, System::nanoTime);
+    }
+
+    /**
+     * @param levelCount seviye sayısı: kapsanan süre = tick × wheelSize^levelCount
+     * @param clock      nanosaniye zaman kaynağı (elle sürmek için)
+     */
+    public TimerWheel(long tick, TimeUnit unit, int wheelSize, int levelCount, Executor dispatcher, LongSupplier clock) {
+        if (tick <= 0 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("tick > 0, wheelSize >= 2, levelCount >= 1 olmalı");
+        }
+        this.tickNanos = unit.toNanos(tick);
+        this.bits = 32 - Integer.numberOfLeadingZeros(wheelSize - 1);
+        if ((long) bits * levelCount >= 62) {
+            throw new IllegalArgumentException("wheelSize^levelCount çok büyük");
+        }
+        this.mask = (1 << bits) - 1;
+        this.levels = new Bucket[levelCount][1 << bits];
+        for (Bucket[] level : levels) {
+            for (int i = 0; i < level.length; i++) {
+                level[i] = new Bucket();
+            }
+        }
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+    }
+
+    /**
+     * task'i delay sonra çalıştırır (tick çözünürlüğüyle). O(1), kilitsiz.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long delayNanos = Math.max(0, unit.toNanos(delay));  // toNanos taşmada Long.MAX_VALUE'ya doyar
+        long elapsed = clock.getAsLong() - startNanos;
+        // Çok uzun süre (Long.MAX_VALUE = "hiç") toplamı taşırıp timer'ı hemen çalıştırmasın:
+        // ScheduledThreadPoolExecutor.triggerTime gibi doyurulur, en uzak tick'e konur
+        // Tavana yuvarla: timer deadline'ından ÖNCE hiç çalışmaz
+        long tick = delayNanos >= Long.MAX_VALUE - elapsed - tickNanos
+                ? Long.MAX_VALUE
+                : Math.max(1, (elapsed + delayNanos + tickNanos - 1) / tickNanos);
+        Timeout timeout = new Timeout(this, task, tick);
+        pending.increment();
+        additions.offer(timeout);
+        return timeout;
+    }
+
+    /**
+     * now'a kadarki tüm tick'leri işler, süresi dolan task'leri dispatch eder.
+     * Tek thread'den çağrılmalı (start() kullanılıyorsa onun thread'i).
+     *
+     * @return bu çağrıda süresi dolan timer sayısı
+     */
+    public int advance(long now) {
+        long targetTick = (now - startNanos) / tickNanos;
+        List<Timeout> batch = new ArrayList<>();
+        int count = 0;
+        drainAdditions(batch);
+        drainCancellations();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(batch);
+            expire(levels[0][(int) (currentTick & mask)], batch);
+            if (batch.size() >= BATCH_SIZE) {
+                count += batch.size();
+                dispatch(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        count += batch.size();
+        dispatch(batch);
+        return count;
+    }
+
+    private void drainAdditions(List<Timeout> batch) {
+        Timeout timeout;
+        while ((timeout = additions.poll()) != null) {
+            if (timeout.state != Timeout.PENDING) {
+                continue;  // Eklenmeden iptal edildi
+            }
+            place(timeout, batch);
+        }
+    }
+
+    private void drainCancellations() {
+        Timeout timeout;
+        while ((timeout = cancellations.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Seviye k: (deadline >> k·bits) ile (şimdi >> k·bits) farkı wheelSize'dan küçük olan en alt seviye.
+     * Bu kova, şimdinin alt k·bits biti sıfırlandığında (k. seviyenin sırası geldiğinde) dökülür.
+     */
+    private void place(Timeout timeout, List<Timeout> batch) {
+        long tick = timeout.deadlineTick;
+        if (tick <= currentTick) {
+            expireNow(timeout, batch);
+            return;
+        }
+        for (int level = 0; level < levels.length; level++) {
+            int shift = level * bits;
+            if ((tick >>> shift) - (currentTick >>> shift) <= mask) {
+                levels[level][(int) ((tick >>> shift) & mask)].add(timeout);
+                return;
+            }
+        }
+        // Çarkın kapsamından uzak: en üst seviyenin en uzak kovasına, dökülünce yeniden yerleştirilir
+        int top = levels.length - 1;
+        long slot = (currentTick >>> (top * bits)) + mask;
+        levels[top][(int) (slot & mask)].add(timeout);
+    }
+
+    /**
+     * Turu tamamlanan seviyelerin şimdiki kovasını bir alt seviyeye döker. Üstten alta:
+     * k. seviyeden dökülen timer (k-1). seviyenin şimdiki kovasına düşebilir, o kova da bu tick'te dökülür.
+     */
+    private void cascade(List<Timeout> batch) {
+        int highest = 0;
+        while (highest + 1 < levels.length && (currentTick & ((1L << ((highest + 1) * bits)) - 1)) == 0) {
+            highest++;
+        }
+        for (int level = highest; level >= 1; level--) {
+            Bucket bucket = levels[level][(int) ((currentTick >>> (level * bits)) & mask)];
+            Timeout timeout = bucket.clear();
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.next = null;
+                timeout.prev = null;
+                timeout.bucket = null;
+                if (timeout.state == Timeout.PENDING) {
+                    place(timeout, batch);  // deadline == şimdi ise hemen batch'e
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    private void expire(Bucket bucket, List<Timeout> batch) {
+        Timeout timeout = bucket.clear();
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.next = null;
+            timeout.prev = null;
+            timeout.bucket = null;
+            if (timeout.deadlineTick <= currentTick) {
+                expireNow(timeout, batch);
+            } else {
+                place(timeout, batch);  // Olmamalı: yerleştirme kuralı bunu engeller
+            }
+            timeout = next;
+        }
+    }
+
+    private void expireNow(Timeout timeout, List<Timeout> batch) {
+        if (timeout.transition(Timeout.PENDING, Timeout.EXPIRED)) {
+            pending.decrement();
+            expired.increment();
+            batch.add(timeout);
+        }
+    }
+
+    private void dispatch(List<Timeout> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (dispatcher == null) {
+            runAll(batch);
+            return;
+        }
+        for (int from = 0; from < batch.size(); from += BATCH_SIZE) {
+            List<Timeout> chunk = batch.subList(from, Math.min(batch.size(), from + BATCH_SIZE));
+            dispatcher.execute(() -> runAll(chunk));
+        }
+    }
+
+    private void runAll(List<Timeout> batch) {
+        for (Timeout timeout : batch) {
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                failed.increment();  // Bir task'in hatası batch'teki diğerlerini durdurmasın
+            }
+        }
+    }
+
+    /**
+     * Arka plan thread'ini başlatır: her tick sınırında uyanıp advance() çağırır
+     */
+    public synchronized TimerWheel start() {
+        if (worker != null) {
+            throw new IllegalStateException("Zaten başlatıldı");
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("timer-wheel").daemon().start(() -> {
+            while (running) {
+                long next = startNanos + (currentTick + 1) * tickNanos;
+                long sleep = next - clock.getAsLong();
+                if (sleep > 0) {
+                    LockSupport.parkNanos(this, sleep);
+                    continue;
+                }
+                advance(clock.getAsLong());
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Arka plan thread'ini durdurur; bekleyen timer'lar çalışmaz
+     */
+    @Override
+    public void close() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public long pending() {
+        return pending.sum();
+    }
+
+    public long expired() {
+        return expired.sum();
+    }
+
+    public long cancelled() {
+        return cancelled.sum();
+    }
+
+    /**
+     * Task'i exception fırlatan timer sayısı
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+    public long tickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Kova: Timeout'ların çift yönlü listesi (sadece çark thread'i dokunur)
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * Listeyi boşaltır, eski başı döner (next zinciri korunur)
+         */
+        Timeout clear() {
+            Timeout first = head;
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+
+    /**
+     * Zamanlanmış bir task. cancel() herhangi bir thread'den, O(1).
+     */
+    public static final class Timeout {
+        static final int PENDING = 0;
+        static final int EXPIRED = 1;
+        static final int CANCELLED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimerWheel wheel;
+        private final Runnable task;
+        private final long deadlineTick;
+        private volatile int state = PENDING;
+        // Kova bağlantıları: sadece çark thread'i
+        private Timeout prev;
+        private Timeout next;
+        private Bucket bucket;
+
+        Timeout(TimerWheel wheel, Runnable task, long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        boolean transition(int from, int to) {
+            return STATE.compareAndSet(this, from, to);
+        }
+
+        /**
+         * Henüz çalışmadıysa iptal eder; task çalışmaz. Kovadan çıkarma bir sonraki tick'te
+         * çark thread'inde yapılır (bellek o zaman serbest kalır).
+         *
+         * @return iptal edildiyse true, zaten çalıştıysa / iptal edildiyse false
+         */
+        public boolean cancel() {
+            if (!transition(PENDING, CANCELLED)) {
+                return false;
+            }
+            wheel.pending.decrement();
+            wheel.cancelled.increment();
+            wheel.cancellations.offer(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        /**
+         * Deadline (çarkın başlangıcına göre, tick cinsinden)
+         */
+        public long deadlineTick() {
+            return deadlineTick;
+        }
+    }
+}
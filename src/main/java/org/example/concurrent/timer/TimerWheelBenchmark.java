@@ -0,0 +1,245 @@
+package org.example.concurrent.timer;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TimerWheel vs DelayQueue - Ekleme, İptal ve Süre Dolma Throughput'u
+ *
+ * Her bekleyen timer sayısı (N) için, iki yapı da aynı sahte saatle (elle ilerletilen) sürülür,
+ * böylece süre dolması gerçek zamanı beklemeden ölçülür:
+ * 1. Ekleme: N timer, gecikme 1..60 sn (oturum / istek timeout'u gibi)
+ * 2. İptal: timer'ların yarısı iptal edilir (istek zamanında bitti)
+ *    DelayQueue.remove(Object) O(n) tarama yapar; N büyükse bir örneklem ölçülüp hız oradan hesaplanır
+ * 3. Süre dolma: saat 61. saniyeye alınır, kalan tüm timer'lar çıkarılır / çalıştırılır
+ *
+ * Çark: 1ms tick, seviye başına 512 kova, 4 seviye (≈ 2 yıl kapsar). Task'ler çark thread'inde
+ * çalışır (dispatcher yok), sadece sayaç artırır.
+ *
+ * Başta küçük bir doğruluk kontrolü: 100k rastgele timer tick tick ilerletilir,
+ * hiçbiri deadline'ından önce veya bir tick'ten geç çalışmamalı.
+ *
+ * Çalıştırma:
+ *   java ... TimerWheelBenchmark                         (10k, 1M, 10M; 10M için java -Xmx3g önerilir)
+ *   java ... TimerWheelBenchmark 100000,2000000          (timer sayıları)
+ * Heap'e sığmayacağı tahmin edilen sayılar atlanır.
+ */
+public class TimerWheelBenchmark {
+
+    private static final long MAX_DELAY_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final long MIN_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int REMOVE_SAMPLE = 2_000;
+    private static final long BYTES_PER_TIMER = 100;  // Çark: Timeout + ekleme kuyruğu düğümü + dizi referansı
+
+    /**
+     * Elle ilerletilen saat (ns)
+     */
+    static final class FakeClock {
+        final AtomicLong now = new AtomicLong();
+
+        long nanoTime() {
+            return now.get();
+        }
+    }
+
+    /**
+     * DelayQueue elemanı: DelayQueueExample.DelayedTask gibi, ama nanoTime ve isimsiz
+     */
+    static final class Entry implements Delayed {
+        final long deadline;
+        final FakeClock clock;
+
+        Entry(long deadline, FakeClock clock) {
+            this.deadline = deadline;
+            this.clock = clock;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - clock.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(deadline, ((Entry) o).deadline);
+        }
+    }
+
+    public static void main(String[] args) {
+        int[] counts = Arrays.stream((args.length > 0 ? args[0] : "10000,1000000,10000000").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        long maxHeap = Runtime.getRuntime().maxMemory();
+
+        System.out.println("=== TimerWheel vs DelayQueue ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.println("- Timer sayıları: " + Arrays.toString(counts));
+        System.out.println("- Gecikme: 1..60 sn (rastgele), yarısı iptal edilir");
+        System.out.println("- Çark: 1ms tick, 512 kova × 4 seviye");
+        System.out.println("- Heap: " + maxHeap / (1024 * 1024) + " MB");
+        System.out.println();
+
+        verify();
+
+        System.out.printf("%-11s %10s %14s %14s %14s%n", "Yapı", "N", "ekleme/sn", "iptal/sn", "süre dolma/sn");
+        for (int count : counts) {
+            if (count * BYTES_PER_TIMER > maxHeap * 0.7) {
+                System.out.printf("(%d atlandı: ~%d MB heap gerekir, -Xmx ile artırın)%n",
+                        count, count * BYTES_PER_TIMER / (1024 * 1024));
+                continue;
+            }
+            runWheel(count);
+            System.gc();
+            runDelayQueue(count);
+            System.gc();
+            System.out.println();
+        }
+
+        System.out.println("💡 DelayQueue'da her ekleme/çıkarma O(log n) ve tek bir kilit altında; remove(Object)");
+        System.out.println("   tüm diziyi tarar, milyonlarca timer'da iptal kullanılamaz hale gelir. Çarkta ekleme ve");
+        System.out.println("   iptal O(1); süre dolma kova kova ilerler. Bedeli tick çözünürlüğü ve boş tick'lerin taranması.");
+    }
+
+    private static void runWheel(int count) {
+        FakeClock clock = new FakeClock();
+        AtomicLong fired = new AtomicLong();
+        Runnable task = fired::incrementAndGet;
+        TimerWheel wheel = new TimerWheel(1, TimeUnit.MILLISECONDS, 512, 4, null, clock::nanoTime);
+        TimerWheel.Timeout[] timeouts = new TimerWheel.Timeout[count];
+        SplittableRandom random = new SplittableRandom(42);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            timeouts[i] = wheel.schedule(task, random.nextLong(MIN_DELAY_NANOS, MAX_DELAY_NANOS), TimeUnit.NANOSECONDS);
+        }
+        wheel.advance(clock.nanoTime());  // Kovalara yerleştirme çark thread'inde: ekleme maliyetine dahil
+        long insertNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < count; i += 2) {
+            timeouts[i].cancel();
+        }
+        wheel.advance(clock.nanoTime());  // Kovalardan çıkarma
+        long cancelNanos = System.nanoTime() - start;
+        int cancelled = (count + 1) / 2;
+
+        Arrays.fill(timeouts, null);
+        clock.now.set(MAX_DELAY_NANOS + TimeUnit.SECONDS.toNanos(1));
+        start = System.nanoTime();
+        int expired = wheel.advance(clock.nanoTime());
+        long expireNanos = System.nanoTime() - start;
+
+        check(expired == count - cancelled && fired.get() == expired,
+                "çark: " + expired + " timer doldu, " + (count - cancelled) + " bekleniyordu");
+        print("TimerWheel", count, count, insertNanos, cancelled, cancelNanos, expired, expireNanos, false);
+    }
+
+    private static void runDelayQueue(int count) {
+        FakeClock clock = new FakeClock();
+        DelayQueue<Entry> queue = new DelayQueue<>();
+        Entry[] entries = new Entry[count];
+        SplittableRandom random = new SplittableRandom(42);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            entries[i] = new Entry(random.nextLong(MIN_DELAY_NANOS, MAX_DELAY_NANOS), clock);
+            queue.offer(entries[i]);
+        }
+        long insertNanos = System.nanoTime() - start;
+
+        int toCancel = (count + 1) / 2;
+        boolean sampled = toCancel > REMOVE_SAMPLE * 5;
+        int cancelled = sampled ? REMOVE_SAMPLE : toCancel;
+        start = System.nanoTime();
+        for (int i = 0, removed = 0; removed < cancelled; i += 2, removed++) {
+            queue.remove(entries[i]);
+        }
+        long cancelNanos = System.nanoTime() - start;
+
+        Arrays.fill(entries, null);
+        int remaining = queue.size();
+        clock.now.set(MAX_DELAY_NANOS + TimeUnit.SECONDS.toNanos(1));
+        start = System.nanoTime();
+        int expired = 0;
+        while (queue.poll() != null) {
+            expired++;
+        }
+        long expireNanos = System.nanoTime() - start;
+
+        check(expired == remaining, "DelayQueue: " + expired + " çıktı, " + remaining + " bekleniyordu");
+        print("DelayQueue", count, count, insertNanos, cancelled, cancelNanos, expired, expireNanos, sampled);
+    }
+
+    private static void print(String name, int count, int inserted, long insertNanos, int cancelled, long cancelNanos,
+                              int expired, long expireNanos, boolean sampled) {
+        System.out.printf("%-11s %10d %14s %14s %14s%n", name, count,
+                rate(inserted, insertNanos), rate(cancelled, cancelNanos) + (sampled ? "*" : ""),
+                rate(expired, expireNanos));
+        if (sampled) {
+            System.out.printf("%-11s %10s   * iptal: %d remove() örneklemi (tamamı ~%.0f sn sürerdi)%n", "", "",
+                    cancelled, cancelNanos / 1e9 * ((count + 1) / 2) / cancelled);
+        }
+    }
+
+    private static String rate(long operations, long nanos) {
+        double perSecond = operations * 1e9 / Math.max(1, nanos);
+        if (perSecond >= 1e6) {
+            return String.format("%.1fM", perSecond / 1e6);
+        }
+        return String.format("%.1fK", perSecond / 1e3);
+    }
+
+    /**
+     * 100k rastgele timer, saat tick tick ilerler: her timer deadline'ında veya bir tick içinde çalışmalı
+     */
+    private static void verify() {
+        FakeClock clock = new FakeClock();
+        TimerWheel wheel = new TimerWheel(1, TimeUnit.MILLISECONDS, 16, 3, null, clock::nanoTime);
+        long tick = wheel.tickNanos();
+        SplittableRandom random = new SplittableRandom(7);
+        AtomicLong early = new AtomicLong();
+        AtomicLong late = new AtomicLong();
+        AtomicLong fired = new AtomicLong();
+        int count = 100_000;
+        long horizon = TimeUnit.SECONDS.toNanos(10);  // 16^3 ms ≈ 4 sn'den uzun: taşma yolu da denenir
+        int cancelled = 0;
+        for (int i = 0; i < count; i++) {
+            long delay = random.nextLong(0, horizon);
+            long deadline = clock.nanoTime() + delay;
+            TimerWheel.Timeout timeout = wheel.schedule(() -> {
+                long now = clock.nanoTime();
+                if (now < deadline) {
+                    early.incrementAndGet();
+                } else if (now - deadline > tick) {
+                    late.incrementAndGet();
+                }
+                fired.incrementAndGet();
+            }, delay, TimeUnit.NANOSECONDS);
+            if (i % 10 == 0) {
+                timeout.cancel();
+                cancelled++;
+            }
+            if (i % 100 == 0) {
+                clock.now.addAndGet(tick * random.nextInt(2));  // Ekleme sürerken saat de (tick tick) ilerler
+                wheel.advance(clock.nanoTime());
+            }
+        }
+        while (wheel.pending() > 0) {
+            clock.now.addAndGet(tick);
+            wheel.advance(clock.nanoTime());
+        }
+        check(early.get() == 0 && late.get() == 0 && fired.get() == count - cancelled,
+                "doğruluk: erken=" + early + " geç=" + late + " çalışan=" + fired + "/" + (count - cancelled));
+        System.out.println("✓ Doğruluk: " + fired + " timer deadline'ından önce değil, en geç 1 tick sonra çalıştı, "
+                + cancelled + " iptal edilen çalışmadı\n");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.executors;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/Join ile dizi toplamı: aralık eşikten büyükse ikiye böl, yarısını fork() et,
+ * diğer yarısını aynı thread'de hesapla, sonra join()
+ *
+ * fork() edilen yarı çalışan worker'ın kendi deque'sine girer. Boşta kalan worker'lar
+ * başkalarının deque'sinin diğer ucundan (en büyük, en eski parçayı) çalar.
+ * join() beklerken worker boş durmaz, kendi deque'sindeki veya çalınan task'leri çalıştırır;
+ * bu yüzden iç içe bekleme FixedThreadPool + Future.get()'teki gibi thread'leri tüketmez.
+ */
+public class ArraySumTask extends RecursiveTask<Long> {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_THRESHOLD = 10_000;
+
+    private final long[] array;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    public ArraySumTask(long[] array) {
+        this(array, 0, array.length, DEFAULT_THRESHOLD);
+    }
+
+    public ArraySumTask(long[] array, int from, int to, int threshold) {
+        this.array = array;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected Long compute() {
+        if (to - from <= threshold) {
+            long sum = 0;
+            for (int i = from; i < to; i++) {
+                sum += array[i];
+            }
+            return sum;
+        }
+        int mid = (from + to) >>> 1;
+        ArraySumTask left = new ArraySumTask(array, from, mid, threshold);
+        ArraySumTask right = new ArraySumTask(array, mid, to, threshold);
+        left.fork();                       // Sol yarı deque'ye, çalınabilir
+        long rightSum = right.compute();   // Sağ yarı bu thread'de
+        return left.join() + rightSum;     // Çalınmadıysa sol yarıyı da bu thread çalıştırır
+    }
+}
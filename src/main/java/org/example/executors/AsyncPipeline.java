@@ -0,0 +1,332 @@
+package org.example.executors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * CompletableFuture üzerine bloklamayan iş hattı (pipeline)
+ *
+ * Future ile her adım bir thread'i get()'te bekletir: invokeAll() çağıran thread tüm task'ler
+ * bitene kadar, sonucu birleştiren thread de her get()'te bloklanır. Bu sınıfta hiçbir adım
+ * beklemez: sonraki adım, önceki tamamlandığında callback olarak zamanlanır.
+ *
+ * CompletableFuture'dan farkları:
+ * - Her hesaplama adımı açıkça verilen executor'da çalışır (ortak ForkJoinPool'a sızmaz)
+ * - İptal YUKARI da yayılır: bir adım iptal edilince / süresi dolunca, onu besleyen
+ *   adımlar da iptal edilir ve çalışan task'ler interrupt edilir
+ *   (CompletableFuture.cancel() çalışan işi durdurmaz, sadece sonucu işaretler)
+ * - allOf() ilk hatada hemen biter ve kalanları iptal eder (CompletableFuture.allOf hepsini bekler)
+ * - anyOf() ilk BAŞARILI sonucu döner, kaybedenleri iptal eder (invokeAny gibi;
+ *   CompletableFuture.anyOf ilk biteni döner, hata olsa bile)
+ *
+ * Hatalar sarılmadan taşınır (CompletionException içinde değil, asıl exception).
+ * Bir adım birden fazla yerde kullanılıyorsa, bir koldaki iptal ortak adımı da iptal eder.
+ *
+ * Kullanım:
+ *   AsyncPipeline<Integer> total = AsyncPipeline.allOf(List.of(
+ *                   AsyncPipeline.supply(() -> fetch(1), io),
+ *                   AsyncPipeline.supply(() -> fetch(2), io)))
+ *           .thenApply(values -> values.stream().mapToInt(Integer::intValue).sum(), cpu)
+ *           .orTimeout(2, TimeUnit.SECONDS);
+ *   total.whenComplete((sum, error) -> ...);   // bloklamadan
+ */
+public final class AsyncPipeline<T> {
+
+    private final CompletableFuture<T> future;
+
+    private AsyncPipeline(CompletableFuture<T> future, Runnable cancelUpstream) {
+        this.future = future;
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                cancelUpstream.run();  // İptal, süre dolması veya hata: besleyen adımlara gerek kalmadı
+            }
+        });
+    }
+
+    /**
+     * task'i executor'da çalıştırır. İptal edilirse kuyruktaysa hiç başlamaz, çalışıyorsa interrupt edilir.
+     * Executor reddederse adım RejectedExecutionException ile biter.
+     */
+    public static <T> AsyncPipeline<T> supply(Callable<? extends T> task, Executor executor) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<T> work = new FutureTask<>(task::call) {
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    result.cancel(false);
+                    return;
+                }
+                try {
+                    result.complete(get());
+                } catch (ExecutionException e) {
+                    result.completeExceptionally(e.getCause());
+                } catch (InterruptedException | CancellationException e) {
+                    result.completeExceptionally(e);  // done() içinde get() beklemez, buraya düşmez
+                }
+            }
+        };
+        AsyncPipeline<T> pipeline = new AsyncPipeline<>(result, () -> work.cancel(true));
+        try {
+            executor.execute(work);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return pipeline;
+    }
+
+    /**
+     * Dışarıda tamamlanan future'ı adıma çevirir (HedgingExecutor gibi kendi tamamlama mantığı olanlar için).
+     * Adım iptal edilince / hata ile bitince cancelUpstream çalışır.
+     */
+    static <T> AsyncPipeline<T> of(CompletableFuture<T> future, Runnable cancelUpstream) {
+        return new AsyncPipeline<>(future, cancelUpstream);
+    }
+
+    /**
+     * Hazır değerle tamamlanmış adım
+     */
+    public static <T> AsyncPipeline<T> completed(T value) {
+        return new AsyncPipeline<>(CompletableFuture.completedFuture(value), () -> { });
+    }
+
+    /**
+     * Sonucu fn ile executor'da dönüştürür (thenApplyAsync, iptal edilebilir)
+     */
+    public <R> AsyncPipeline<R> thenApply(Function<? super T, ? extends R> fn, Executor executor) {
+        return thenCompose(value -> supply(() -> fn.apply(value), executor));
+    }
+
+    /**
+     * Sonuca göre yeni bir asenkron adım başlatır ve onun sonucunu bekler (düzleştirir).
+     * fn tamamlayan thread'de çalışır, kısa olmalı: sadece sonraki adımı kurar.
+     */
+    public <R> AsyncPipeline<R> thenCompose(Function<? super T, AsyncPipeline<R>> fn) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        AtomicReference<AsyncPipeline<R>> next = new AtomicReference<>();
+        AsyncPipeline<R> pipeline = new AsyncPipeline<>(result, () -> {
+            cancel();
+            AsyncPipeline<R> started = next.get();
+            if (started != null) {
+                started.cancel();
+            }
+        });
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+                return;
+            }
+            if (result.isDone()) {
+                return;  // Bu arada iptal edildi / süresi doldu, sonraki adımı hiç başlatma
+            }
+            AsyncPipeline<R> started;
+            try {
+                started = fn.apply(value);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+                return;
+            }
+            next.set(started);
+            started.pipeTo(result);
+            if (result.isDone()) {
+                started.cancel();  // set()'ten önce iptal edildiyse yukarıdaki iptal bunu göremedi
+            }
+        });
+        return pipeline;
+    }
+
+    /**
+     * İki adımın sonucunu fn ile executor'da birleştirir. Biri hata verirse diğeri beklenmez, iptal edilir.
+     */
+    public <U, R> AsyncPipeline<R> thenCombine(AsyncPipeline<U> other, BiFunction<? super T, ? super U, ? extends R> fn,
+                                               Executor executor) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        AtomicReference<AsyncPipeline<R>> combine = new AtomicReference<>();
+        AsyncPipeline<R> pipeline = new AsyncPipeline<>(result, () -> {
+            cancel();
+            other.cancel();
+            AsyncPipeline<R> started = combine.get();
+            if (started != null) {
+                started.cancel();
+            }
+        });
+        AtomicInteger remaining = new AtomicInteger(2);
+        BiConsumer<Object, Throwable> onPart = (value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+            } else if (remaining.decrementAndGet() == 0 && !result.isDone()) {
+                AsyncPipeline<R> started = supply(() -> fn.apply(future.join(), other.future.join()), executor);
+                combine.set(started);
+                started.pipeTo(result);
+                if (result.isDone()) {
+                    started.cancel();
+                }
+            }
+        };
+        future.whenComplete(onPart);
+        other.future.whenComplete(onPart);
+        return pipeline;
+    }
+
+    /**
+     * Hepsi başarılı olunca sonuçları (verilen sırayla) döner. İlk hatada hemen o hatayla biter
+     * ve henüz bitmeyen adımları iptal eder.
+     */
+    public static <T> AsyncPipeline<List<T>> allOf(List<AsyncPipeline<T>> parts) {
+        List<AsyncPipeline<T>> copy = List.copyOf(parts);
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        AsyncPipeline<List<T>> pipeline = new AsyncPipeline<>(result, () -> copy.forEach(AsyncPipeline::cancel));
+        if (copy.isEmpty()) {
+            result.complete(List.of());
+            return pipeline;
+        }
+        AtomicInteger remaining = new AtomicInteger(copy.size());
+        for (AsyncPipeline<T> part : copy) {
+            part.future.whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(unwrap(error));
+                } else if (remaining.decrementAndGet() == 0) {
+                    List<T> values = new ArrayList<>(copy.size());
+                    for (AsyncPipeline<T> p : copy) {
+                        values.add(p.future.join());
+                    }
+                    result.complete(values);
+                }
+            });
+        }
+        return pipeline;
+    }
+
+    /**
+     * İlk başarılı sonucu döner ve diğerlerini iptal eder. Hepsi hata verirse son hatayla biter
+     * (diğer hatalar suppressed olarak eklenir).
+     */
+    public static <T> AsyncPipeline<T> anyOf(List<AsyncPipeline<T>> parts) {
+        List<AsyncPipeline<T>> copy = List.copyOf(parts);
+        if (copy.isEmpty()) {
+            throw new IllegalArgumentException("anyOf en az bir adım ister");
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AsyncPipeline<T> pipeline = new AsyncPipeline<>(result, () -> copy.forEach(AsyncPipeline::cancel));
+        result.whenComplete((value, error) -> copy.forEach(AsyncPipeline::cancel));  // Kazanan belli: kaybedenler durur
+        AtomicInteger remaining = new AtomicInteger(copy.size());
+        List<Throwable> errors = new ArrayList<>();
+        for (AsyncPipeline<T> part : copy) {
+            part.future.whenComplete((value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                    return;
+                }
+                synchronized (errors) {
+                    errors.add(unwrap(error));
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    Throwable last;
+                    synchronized (errors) {
+                        last = errors.get(errors.size() - 1);
+                        errors.subList(0, errors.size() - 1).forEach(last::addSuppressed);
+                    }
+                    result.completeExceptionally(last);
+                }
+            });
+        }
+        return pipeline;
+    }
+
+    /**
+     * Süre içinde bitmezse TimeoutException ile biter ve bu adımı (ve besleyenlerini) iptal eder
+     */
+    public AsyncPipeline<T> orTimeout(long timeout, TimeUnit unit) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AsyncPipeline<T> pipeline = new AsyncPipeline<>(result, this::cancel);
+        pipeTo(result);
+        result.orTimeout(timeout, unit);
+        return pipeline;
+    }
+
+    /**
+     * Sonuç veya hata geldiğinde action'ı tamamlayan thread'de çalıştırır. Dönen adım aynı sonuçla biter;
+     * iptali bu adımı da iptal eder.
+     */
+    public AsyncPipeline<T> whenComplete(BiConsumer<? super T, ? super Throwable> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AsyncPipeline<T> pipeline = new AsyncPipeline<>(result, this::cancel);
+        future.whenComplete((value, error) -> {
+            Throwable cause = error == null ? null : unwrap(error);
+            try {
+                action.accept(value, cause);
+            } finally {
+                if (cause != null) {
+                    result.completeExceptionally(cause);
+                } else {
+                    result.complete(value);
+                }
+            }
+        });
+        return pipeline;
+    }
+
+    /**
+     * İptal eder: bekleyen sonraki adımlar CancellationException ile biter, besleyen adımlar
+     * iptal edilir, çalışan task'ler interrupt edilir. Zaten bittiyse false.
+     */
+    public boolean cancel() {
+        return future.cancel(false);
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    public boolean isCancelled() {
+        return future.isCancelled();
+    }
+
+    /**
+     * Sonucu bekler (bloklar). Hata CompletionException içinde, iptal CancellationException olarak gelir.
+     * Sadece iş hattının en ucunda (main, test) kullanılmalı.
+     */
+    public T join() {
+        return future.join();
+    }
+
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        return future.get(timeout, unit);
+    }
+
+    /**
+     * Salt okunur CompletionStage (tamamlanamaz, iptal edilemez): başka CompletableFuture koduna vermek için
+     */
+    public CompletionStage<T> toCompletionStage() {
+        return future.minimalCompletionStage();
+    }
+
+    private void pipeTo(CompletableFuture<T> target) {
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                target.completeExceptionally(unwrap(error));
+            } else {
+                target.complete(value);
+            }
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.executors;
+
+import org.example.concurrent.load.OpenLoopLoadGenerator;
+import org.example.concurrent.metrics.ConcurrentLatencyHistogram;
+import org.example.concurrent.metrics.LatencyHistogram;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bloklayan invokeAll/invokeAny vs AsyncPipeline - Tutulan Thread ve Uçtan Uca Gecikme
+ *
+ * İstekler sabit hızla gelir (OpenLoopLoadGenerator). Her istek TESTT_CallableFuture'daki gibi:
+ * - ALL: 5 × sleep(20ms) task, sonuçlar toplanır              (example5 → allOf)
+ * - ANY: sleep(30ms), sleep(10ms), sleep(20ms), ilk biten alınır (example6 → anyOf)
+ * Task'ler iki modda da aynı worker havuzunda (FixedThreadPool(workers)) çalışır.
+ *
+ * - BLOCKING(C): istek C thread'lik "çağıran" havuzuna gider, orada invokeAll/invokeAny ile
+ *   worker'ları bekler. Çağıran thread bekledikçe tutulur: Little yasası gereği
+ *   hız × gecikme kadar çağıran gerekir, azsa istekler çağıran kuyruğunda birikir.
+ * - ASYNC: istek iş hattını kurup döner, bekleyen thread yok; birleştirme son biten
+ *   worker'da callback olarak çalışır.
+ *
+ * Ölçülen: gecikme (gelmesi gereken an → sonuç, p50/p99/max), aynı anda bekleyen en fazla
+ * çağıran thread, en fazla aktif worker ve JVM'deki en yüksek thread sayısı.
+ *
+ * Çalıştırma:
+ *   java ... AsyncPipelineBenchmark                       (200 istek/sn, 600 istek, 32 worker, çağıran 2,4,8,32)
+ *   java ... AsyncPipelineBenchmark 400 2000 64 4,16,64   (hız, istek sayısı, worker, çağıran sayıları)
+ */
+public class AsyncPipelineBenchmark {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    enum Scenario {
+        ALL(new long[] {20, 20, 20, 20, 20}),
+        ANY(new long[] {30, 10, 20});
+
+        final long[] sleepMillis;
+
+        Scenario(long[] sleepMillis) {
+            this.sleepMillis = sleepMillis;
+        }
+
+        List<Callable<Long>> tasks() {
+            List<Callable<Long>> tasks = new ArrayList<>();
+            for (long millis : sleepMillis) {
+                tasks.add(() -> {
+                    Thread.sleep(millis);
+                    return millis;
+                });
+            }
+            return tasks;
+        }
+
+        Object blocking(ExecutorService workers) throws Exception {
+            if (this == ANY) {
+                return workers.invokeAny(tasks());
+            }
+            long sum = 0;
+            for (Future<Long> future : workers.invokeAll(tasks())) {
+                sum += future.get();
+            }
+            return sum;
+        }
+
+        AsyncPipeline<?> async(ExecutorService workers) {
+            List<AsyncPipeline<Long>> parts = new ArrayList<>();
+            for (Callable<Long> task : tasks()) {
+                parts.add(AsyncPipeline.supply(task, workers));
+            }
+            if (this == ANY) {
+                return AsyncPipeline.anyOf(parts);
+            }
+            return AsyncPipeline.allOf(parts).thenCompose(values ->
+                    AsyncPipeline.completed(values.stream().mapToLong(Long::longValue).sum()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        double rate = args.length > 0 ? Double.parseDouble(args[0]) : 200;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+        int[] callerCounts = Arrays.stream((args.length > 3 ? args[3] : "2,4,8,32").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+
+        System.out.println("=== Bloklayan invokeAll/invokeAny vs AsyncPipeline ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.println("- Hız: " + rate + " istek/sn, " + requests + " istek (açık döngü)");
+        System.out.println("- Worker havuzu: FixedThreadPool(" + workers + ")");
+        System.out.println("- Çağıran havuzları (BLOCKING): " + Arrays.toString(callerCounts));
+        System.out.println();
+
+        List<String> rows = new ArrayList<>();
+        for (Scenario scenario : Scenario.values()) {
+            System.out.println("--- " + scenario + ": " + Arrays.toString(scenario.sleepMillis) + " ms ---");
+            for (int callers : callerCounts) {
+                rows.add(run(scenario, callers, rate, requests, workers));
+            }
+            rows.add(run(scenario, 0, rate, requests, workers));
+            System.out.println();
+        }
+
+        System.out.println("=== ÖZET ===");
+        System.out.printf("%-4s %-14s %10s %10s %10s %9s %9s %9s%n",
+                "İş", "Mod", "p50", "p99", "max", "bekleyen", "worker", "JVM thr");
+        rows.forEach(System.out::println);
+
+        System.out.println("\n💡 BLOCKING'de her uçuştaki istek bir çağıran thread'i invokeAll/invokeAny'de tutar.");
+        System.out.println("   Çağıran sayısı hız × gecikme'nin altındaysa istekler çağıran kuyruğunda bekler ve gecikme");
+        System.out.println("   saniyelere çıkar; yeterince çağıran verince gecikme düzelir ama o kadar thread bekler.");
+        System.out.println("   ASYNC aynı gecikmeyi hiç bekleyen thread olmadan verir: sadece worker'lar çalışır.");
+    }
+
+    /**
+     * callers == 0 → ASYNC
+     */
+    private static String run(Scenario scenario, int callers, double rate, int requests, int workerCount)
+            throws Exception {
+        String mode = callers == 0 ? "ASYNC" : "BLOCKING(" + callers + ")";
+        InstrumentedThreadPoolExecutor workers = InstrumentedThreadPoolExecutor.fixed("worker", workerCount);
+        InstrumentedThreadPoolExecutor callerPool = callers == 0 ? null
+                : InstrumentedThreadPoolExecutor.fixed("caller", callers);
+        workers.prestartAllCoreThreads();
+        if (callerPool != null) {
+            callerPool.prestartAllCoreThreads();
+        }
+        ConcurrentLatencyHistogram latency = new ConcurrentLatencyHistogram();
+        CountDownLatch done = new CountDownLatch(requests);
+        THREADS.resetPeakThreadCount();
+
+        long start = System.nanoTime();
+        new OpenLoopLoadGenerator(rate, requests).run(1, (sequence, intendedStartNanos) -> {
+            if (callerPool != null) {
+                callerPool.execute(() -> {
+                    try {
+                        scenario.blocking(workers);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        latency.record(System.nanoTime() - intendedStartNanos);
+                        done.countDown();
+                    }
+                });
+            } else {
+                scenario.async(workers).whenComplete((value, error) -> {
+                    latency.record(System.nanoTime() - intendedStartNanos);
+                    done.countDown();
+                });
+            }
+        });
+        done.await();
+        long elapsed = System.nanoTime() - start;
+
+        int peakCallers = callerPool == null ? 0 : callerPool.snapshot().peakActiveCount();
+        int peakWorkers = workers.snapshot().peakActiveCount();
+        int peakThreads = THREADS.getPeakThreadCount();
+        shutdown(workers);
+        if (callerPool != null) {
+            shutdown(callerPool);
+        }
+
+        LatencyHistogram histogram = latency.snapshot();
+        System.out.printf("  %-14s %5.0f istek/sn, gecikme p50=%s p99=%s | bekleyen çağıran %d, aktif worker %d%n",
+                mode, requests * 1e9 / elapsed,
+                LatencyHistogram.formatNanos(histogram.valueAtPercentile(50)),
+                LatencyHistogram.formatNanos(histogram.valueAtPercentile(99)), peakCallers, peakWorkers);
+        return String.format("%-4s %-14s %10s %10s %10s %9d %9d %9d", scenario, mode,
+                LatencyHistogram.formatNanos(histogram.valueAtPercentile(50)),
+                LatencyHistogram.formatNanos(histogram.valueAtPercentile(99)),
+                LatencyHistogram.formatNanos(histogram.max()), peakCallers, peakWorkers, peakThreads);
+    }
+
+    private static void shutdown(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.executors;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eşzamanlılık limitli virtual thread-per-task executor
+ *
+ * Virtual thread'ler havuzlanmaz: her task kendi (ucuz) thread'inde çalışır,
+ * sleep / I/O sırasında taşıyıcı (carrier) platform thread'i bırakır.
+ * Bu yüzden "thread sayısını sınırlamak için havuz" fikri artık kaynak sınırı değildir;
+ * 1M virtual thread açmak mümkündür ama arkadaki veritabanı 1M bağlantı kaldıramaz.
+ *
+ * Sınır havuz yerine Semaphore ile konur:
+ * - execute() permit alamazsa ÇAĞIRAN bekler (geri basınç, task'ler çağıranda birikir)
+ * - Task bitince (hata olsa da) permit bırakılır
+ * Aynı anda en fazla maxConcurrency task çalışır, ama thread'ler yine task başına açılır.
+ *
+ * Limitsiz hali: Executors.newVirtualThreadPerTaskExecutor()
+ */
+public class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    public BoundedVirtualThreadExecutor(int maxConcurrency) {
+        this(maxConcurrency, "virtual-");
+    }
+
+    /**
+     * @param namePrefix thread isimleri namePrefix + sıra numarası olur
+     */
+    public BoundedVirtualThreadExecutor(int maxConcurrency, String namePrefix) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency en az 1 olmalı: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 1).factory());
+    }
+
+    /**
+     * Permit alana kadar bekler, sonra task'i yeni bir virtual thread'de başlatır.
+     *
+     * @throws RejectedExecutionException executor kapatıldıysa veya beklerken kesildiyse
+     */
+    @Override
+    public void execute(Runnable command) {
+        try {
+            executeInterruptibly(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Permit beklerken kesildi", e);
+        }
+    }
+
+    /**
+     * execute() ile aynı, ama permit beklerken kesilirse InterruptedException fırlatır
+     */
+    public void executeInterruptibly(Runnable command) throws InterruptedException {
+        if (delegate.isShutdown()) {
+            throw new RejectedExecutionException("Executor kapatıldı");
+        }
+        permits.acquire();
+        try {
+            delegate.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Şu an çalışan task sayısı
+     */
+    public int activeCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    /**
+     * Çalışan virtual thread'leri keser. Bekleyen kuyruk olmadığı için liste hep boştur.
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.executors;
+
+import org.example.concurrent.metrics.CpuTime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Elastik Havuz - CPU, I/O ve Karışık İşte Boyutun Yakınsaması
+ *
+ * Her iş türü için:
+ * 1. ElasticThreadPoolExecutor çekirdek sayısıyla başlar, kuyruk hep dolu tutulur (doymuş yük).
+ *    500ms'de bir: havuz boyutu, ölçülen W/C ve aralık throughput'u yazılır
+ * 2. Aynı yük sabit havuzlarla: örneklerdeki elle seçilmiş 3 thread, çekirdek sayısı,
+ *    ve formülün verdiği hedef (N_cpu × (1 + W/C), W/C iş tanımından)
+ *
+ * İş türleri (CPU kısmı gerçek CPU zamanıyla ölçülerek harcanır, sıra beklemek sayılmaz):
+ * - CPU:   2ms hesap                    → W/C = 0,   hedef = N_cpu
+ * - IO:    0.2ms hesap + 20ms bekleme   → W/C = 100, hedef = 101 × N_cpu
+ * - MIXED: 5ms hesap + 10ms bekleme     → W/C = 2,   hedef = 3 × N_cpu
+ *
+ * Çalıştırma:
+ *   java ... ElasticPoolBenchmark           (iş türü başına 4 sn elastik, 2'şer sn sabit; en fazla 200 thread)
+ *   java ... ElasticPoolBenchmark 8 500     (süre sn, en fazla thread)
+ */
+public class ElasticPoolBenchmark {
+
+    enum Workload {
+        CPU(2_000, 0),
+        IO(200, 20),
+        MIXED(5_000, 10);
+
+        final long cpuMicros;
+        final long sleepMillis;
+
+        Workload(long cpuMicros, long sleepMillis) {
+            this.cpuMicros = cpuMicros;
+            this.sleepMillis = sleepMillis;
+        }
+
+        double expectedRatio() {
+            return sleepMillis * 1_000.0 / cpuMicros;
+        }
+
+        void run() {
+            long target = TimeUnit.MICROSECONDS.toNanos(cpuMicros);
+            long start = CpuTime.currentThreadCpuNanos();
+            long x = 1;
+            while (CpuTime.currentThreadCpuNanos() - start < target) {
+                for (int i = 0; i < 1_000; i++) {
+                    x ^= x << 13;
+                    x ^= x >>> 7;
+                    x ^= x << 17;
+                }
+            }
+            blackhole += x;
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private static volatile long blackhole;
+
+    public static void main(String[] args) throws InterruptedException {
+        int durationSec = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int cpus = Runtime.getRuntime().availableProcessors();
+
+        System.out.println("=== Elastik Havuz: N = N_cpu × (1 + W/C) ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.println("- Çekirdek: " + cpus);
+        System.out.println("- Elastik havuz: 1.." + maxThreads + " thread, " + cpus + " ile başlar, 500ms'de bir ayar");
+        System.out.println("- Süre: elastik " + durationSec + " sn, her sabit havuz " + (durationSec / 2.0) + " sn");
+        System.out.println();
+
+        List<String> rows = new ArrayList<>();
+        for (Workload workload : Workload.values()) {
+            int formula = Math.min(maxThreads, (int) Math.round(cpus * (1 + workload.expectedRatio())));
+            System.out.printf("--- %s: %dµs hesap + %dms bekleme (beklenen W/C=%.1f, formül → %d thread) ---%n",
+                    workload, workload.cpuMicros, workload.sleepMillis, workload.expectedRatio(), formula);
+
+            ElasticThreadPoolExecutor elastic = ElasticThreadPoolExecutor.create("elastic-" + workload, maxThreads);
+            long start = System.nanoTime();
+            double elasticThroughput = drive(elastic, workload, TimeUnit.SECONDS.toNanos(durationSec), true);
+            List<ElasticThreadPoolExecutor.Resize> resizes = elastic.resizes();
+            int finalSize = elastic.getMaximumPoolSize();
+            double ratio = elastic.waitComputeRatio();
+            stop(elastic);
+            for (ElasticThreadPoolExecutor.Resize resize : resizes) {
+                System.out.printf("    %5.1fs  %s%n", (resize.nanoTime() - start) / 1e9, resize);
+            }
+            String converged = resizes.isEmpty() ? "-"
+                    : String.format("%.1fs", (resizes.get(resizes.size() - 1).nanoTime() - start) / 1e9);
+
+            StringBuilder fixedResults = new StringBuilder();
+            for (int size : new int[] {3, cpus, formula}) {
+                InstrumentedThreadPoolExecutor fixed = InstrumentedThreadPoolExecutor.fixed("fixed-" + size, size);
+                double throughput = drive(fixed, workload, TimeUnit.SECONDS.toNanos(durationSec) / 2, false);
+                stop(fixed);
+                System.out.printf("  Sabit %3d thread: %8.1f task/sn%n", size, throughput);
+                fixedResults.append(String.format(" %10.1f", throughput));
+            }
+            System.out.printf("  Elastik: son boyut %d, ölçülen W/C %.2f, son ayar %s, %.1f task/sn%n%n",
+                    finalSize, ratio, converged, elasticThroughput);
+
+            rows.add(String.format("%-6s %8.2f %8.2f %7d %7d %9s %10.1f%s",
+                    workload, workload.expectedRatio(), ratio, formula, finalSize, converged,
+                    elasticThroughput, fixedResults));
+        }
+
+        System.out.println("=== ÖZET (task/sn) ===");
+        System.out.printf("%-6s %8s %8s %7s %7s %9s %10s %10s %10s %10s%n",
+                "İş", "W/C", "ölçülen", "formül", "elastik", "son ayar", "elastik", "sabit 3", "sabit cpu", "sabit hdf");
+        rows.forEach(System.out::println);
+
+        System.out.println("\n💡 CPU-yoğun işte çekirdekten fazla thread throughput getirmez, sadece bağlam değişimi ekler;");
+        System.out.println("   elastik havuz çekirdek sayısında kalır. Bekleyen işte her thread zamanının çoğunu uykuda geçirir:");
+        System.out.println("   3 thread'lik havuz CPU boştayken kuyruğu biriktirir, elastik havuz W/C ölçüp büyür.");
+        System.out.println("   Bekleme ThreadMXBean'in BLOCKED/WAITING süresinden ölçülür; 'duvar saati - CPU' kullanılsaydı");
+        System.out.println("   CPU sırası beklemek de bekleme sayılır ve CPU-yoğun işte havuz kendi kendini büyütürdü.");
+        System.out.println("   Socket I/O RUNNABLE göründüğü için bu ölçüme girmez; öyle işte maxThreads elle verilmeli.");
+    }
+
+    /**
+     * Kuyrukta hep iş olacak şekilde durationNanos boyunca task gönderir, saniyede biten task'i döner
+     */
+    private static double drive(InstrumentedThreadPoolExecutor executor, Workload workload, long durationNanos,
+                                boolean timeline) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + durationNanos;
+        long nextReport = start + TimeUnit.MILLISECONDS.toNanos(500);
+        PoolSnapshot first = executor.snapshot();
+        PoolSnapshot previous = first;
+        while (System.nanoTime() < end) {
+            int backlog = Math.max(100, 2 * executor.getMaximumPoolSize());
+            while (executor.getQueue().size() < backlog) {
+                executor.execute(workload::run);
+            }
+            Thread.sleep(1);
+            if (timeline && System.nanoTime() >= nextReport) {
+                PoolSnapshot now = executor.snapshot();
+                System.out.printf("    %5.1fs  thread=%3d  W/C=%6.2f  %8.1f task/sn%n",
+                        (System.nanoTime() - start) / 1e9, executor.getMaximumPoolSize(),
+                        ((ElasticThreadPoolExecutor) executor).waitComputeRatio(), now.throughputSince(previous));
+                previous = now;
+                nextReport += TimeUnit.MILLISECONDS.toNanos(500);
+            }
+        }
+        return executor.snapshot().throughputSince(first);
+    }
+
+    private static void stop(ThreadPoolExecutor executor) throws InterruptedException {
+        executor.shutdownNow();  // Kuyrukta kalan iş atılır, uyuyanlar kesilir
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,232 @@
+package org.example.executors;
+
+import org.example.concurrent.metrics.CpuTime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ölçtüğü bekleme/hesaplama oranına göre boyutunu ayarlayan havuz
+ *
+ * Havuz boyutu formülü (Goetz, "Java Concurrency in Practice"):
+ *   N = N_cpu × U × (1 + W/C)
+ *   W/C: task'in beklediği süre / CPU'da çalıştığı süre, U: hedef CPU kullanımı (0..1)
+ * CPU-yoğun iş (W/C ≈ 0) → çekirdek sayısı; 50ms bekleyip 1ms hesaplayan iş → ~51 × çekirdek.
+ * newFixedThreadPool(3) gibi elle seçilen sayılar işin türü değişince yanlış kalır.
+ *
+ * Her task için (afterExecute):
+ * - C: CPU zamanı (ThreadMXBean.getCurrentThreadCpuTime farkı)
+ * - W: BLOCKED + WAITING süresi (ThreadMXBean thread contention monitoring, ms çözünürlük)
+ *   "duvar saati - CPU" KULLANILMAZ: çekirdekten fazla thread varken CPU sırası beklemek de
+ *   bekleme görünür, oran şişer, havuz büyür, sıra uzar... (pozitif geri besleme)
+ *
+ * Her resizeInterval'da ayarlayıcı thread:
+ * - Aralıkta en az MIN_SAMPLES task bittiyse oranı ölçer, üstel ortalamayla yumuşatır
+ * - Hedefi [minThreads, maxThreads] aralığına kırpar
+ * - Histerezis: hedef mevcut boyuttan %20'den (en az 1 thread) az farklıysa dokunmaz;
+ *   kuyruk boşken büyümez (bekleyen iş yoksa thread eklemek throughput getirmez)
+ * - core = max = hedef (sınırsız kuyrukta ThreadPoolExecutor core'un üstüne çıkmaz)
+ *
+ * Ölçüm maliyeti task başına ~1-2µs (iki ThreadMXBean çağrısı); ms'lik task'ler için önemsiz.
+ */
+public class ElasticThreadPoolExecutor extends InstrumentedThreadPoolExecutor {
+
+    private static final int MIN_SAMPLES = 10;
+    private static final double HYSTERESIS = 0.2;
+    private static final double SMOOTHING = 0.5;
+
+    private final int minThreads;
+    private final int maxThreads;
+    private final int cpus = Runtime.getRuntime().availableProcessors();
+    private final double targetUtilization;
+    private final ThreadLocal<long[]> taskStart = ThreadLocal.withInitial(() -> new long[2]);  // {cpu ns, bekleme ms}
+    private final LongAdder sampledTasks = new LongAdder();
+    private final LongAdder cpuNanos = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final List<Resize> resizes = new ArrayList<>();
+    private final ScheduledExecutorService resizer;
+
+    private long lastTasks;
+    private long lastCpuNanos;
+    private long lastWaitNanos;
+    private double smoothedRatio = -1;  // -1 = henüz ölçülmedi
+
+    private ElasticThreadPoolExecutor(String name, int minThreads, int maxThreads, int initialThreads,
+                                      double targetUtilization) {
+        super(name, initialSize(minThreads, maxThreads, initialThreads, targetUtilization),
+                initialSize(minThreads, maxThreads, initialThreads, targetUtilization),
+                0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        this.minThreads = minThreads;
+        this.maxThreads = maxThreads;
+        this.targetUtilization = targetUtilization;
+        this.resizer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(name + "-resizer").daemon().factory());
+    }
+
+    /**
+     * Ayarlayıcı kurucuda değil burada başlar: kurucu bitmeden adjust() başka bir thread'de çalışmasın
+     *
+     * @param initialThreads    ilk ölçüme kadar thread sayısı
+     * @param targetUtilization hedef CPU kullanımı (0..1], 1 = tüm çekirdekler
+     */
+    public static ElasticThreadPoolExecutor create(String name, int minThreads, int maxThreads, int initialThreads,
+                                                   double targetUtilization, long resizeInterval, TimeUnit unit) {
+        ElasticThreadPoolExecutor pool = new ElasticThreadPoolExecutor(name, minThreads, maxThreads, initialThreads,
+                targetUtilization);
+        pool.resizer.scheduleAtFixedRate(pool::adjust, resizeInterval, resizeInterval, unit);
+        return pool;
+    }
+
+    /**
+     * Çekirdek sayısıyla başlar, en az 1, en fazla maxThreads, tam kullanım hedefi, 500ms'de bir ayar
+     */
+    public static ElasticThreadPoolExecutor create(String name, int maxThreads) {
+        return create(name, 1, maxThreads, Runtime.getRuntime().availableProcessors(), 1.0, 500, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * super(...) argümanında çağrılır: geçersiz argümanla üst sınıf hiç kurulmaz
+     */
+    private static int initialSize(int minThreads, int maxThreads, int initialThreads, double targetUtilization) {
+        if (minThreads < 1 || maxThreads < minThreads) {
+            throw new IllegalArgumentException("1 <= minThreads <= maxThreads olmalı: " + minThreads + ", " + maxThreads);
+        }
+        if (targetUtilization <= 0 || targetUtilization > 1) {
+            throw new IllegalArgumentException("targetUtilization (0, 1] aralığında olmalı: " + targetUtilization);
+        }
+        return clamp(initialThreads, minThreads, maxThreads);
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable task) {
+        super.beforeExecute(thread, task);
+        long[] start = taskStart.get();
+        start[0] = CpuTime.currentThreadCpuNanos();
+        start[1] = CpuTime.currentThreadWaitMillis();
+    }
+
+    @Override
+    protected void afterExecute(Runnable task, Throwable error) {
+        long[] start = taskStart.get();
+        long cpu = CpuTime.currentThreadCpuNanos() - start[0];
+        long waitMillis = CpuTime.currentThreadWaitMillis() - start[1];
+        cpuNanos.add(cpu);
+        waitNanos.add(TimeUnit.MILLISECONDS.toNanos(Math.max(0, waitMillis)));
+        sampledTasks.increment();
+        super.afterExecute(task, error);
+    }
+
+    @Override
+    protected void terminated() {
+        resizer.shutdownNow();
+        super.terminated();
+    }
+
+    /**
+     * Ayarlayıcı thread: son aralığın W/C oranına göre hedef boyutu hesaplar
+     */
+    private void adjust() {
+        long tasks = sampledTasks.sum();
+        long cpu = cpuNanos.sum();
+        long wait = waitNanos.sum();
+        long intervalTasks = tasks - lastTasks;
+        if (intervalTasks < MIN_SAMPLES) {
+            return;  // Az örnekle oran gürültülü; sayaçlar birikmeye devam eder
+        }
+        double ratio = (wait - lastWaitNanos) / (double) Math.max(1_000, cpu - lastCpuNanos);
+        lastTasks = tasks;
+        lastCpuNanos = cpu;
+        lastWaitNanos = wait;
+
+        synchronized (this) {
+            smoothedRatio = smoothedRatio < 0 ? ratio : SMOOTHING * ratio + (1 - SMOOTHING) * smoothedRatio;
+            int current = getMaximumPoolSize();
+            int target = targetThreads();
+            boolean outsideBand = Math.abs(target - current) > Math.max(1, current * HYSTERESIS);
+            boolean backlog = !getQueue().isEmpty();
+            if (outsideBand && (target < current || backlog)) {
+                resize(target);
+                resizes.add(new Resize(System.nanoTime(), current, target, smoothedRatio));
+            }
+        }
+    }
+
+    private void resize(int threads) {
+        // core <= max kuralı: büyürken önce max, küçülürken önce core
+        if (threads > getMaximumPoolSize()) {
+            setMaximumPoolSize(threads);
+            setCorePoolSize(threads);
+        } else {
+            setCorePoolSize(threads);
+            setMaximumPoolSize(threads);
+        }
+    }
+
+    /**
+     * N_cpu × U × (1 + W/C), [minThreads, maxThreads] aralığında
+     */
+    public synchronized int targetThreads() {
+        if (smoothedRatio < 0) {
+            return getMaximumPoolSize();
+        }
+        return clamp((int) Math.round(cpus * targetUtilization * (1 + smoothedRatio)), minThreads, maxThreads);
+    }
+
+    /**
+     * Yumuşatılmış bekleme/hesaplama oranı (W/C), henüz ölçülmediyse -1
+     */
+    public synchronized double waitComputeRatio() {
+        return smoothedRatio;
+    }
+
+    public synchronized List<Resize> resizes() {
+        return new ArrayList<>(resizes);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Bir boyut değişikliği: ne zaman, kaçtan kaça, hangi oranla
+     */
+    public static final class Resize {
+        private final long nanoTime;
+        private final int from;
+        private final int to;
+        private final double ratio;
+
+        Resize(long nanoTime, int from, int to, double ratio) {
+            this.nanoTime = nanoTime;
+            this.from = from;
+            this.to = to;
+            this.ratio = ratio;
+        }
+
+        public long nanoTime() {
+            return nanoTime;
+        }
+
+        public int from() {
+            return from;
+        }
+
+        public int to() {
+            return to;
+        }
+
+        public double ratio() {
+            return ratio;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d → %d thread (W/C=%.2f)", from, to, ratio);
+        }
+    }
+}
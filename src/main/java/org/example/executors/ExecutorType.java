@@ -0,0 +1,46 @@
+package org.example.executors;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+/**
+ * Örneklerde ve benchmark'larda isimle seçilebilen executor türleri
+ *
+ * parallelism: FIXED'de thread sayısı, WORK_STEALING'de ForkJoinPool paralelliği, ELASTIC'te en fazla thread,
+ * VIRTUAL_BOUNDED'da eşzamanlı task limiti; SINGLE, CACHED ve VIRTUAL'da kullanılmaz.
+ *
+ * WORK_STEALING: her worker'ın kendi deque'si var, worker içinden gönderilen task
+ * o worker'ın deque'sine girer; boşta kalan worker başkasının deque'sinden çalar.
+ * ELASTIC: çekirdek sayısıyla başlar, ölçtüğü bekleme/hesaplama oranına göre büyür/küçülür.
+ */
+public enum ExecutorType {
+    SINGLE(n -> Executors.newSingleThreadExecutor()),
+    FIXED(Executors::newFixedThreadPool),
+    CACHED(n -> Executors.newCachedThreadPool()),
+    WORK_STEALING(Executors::newWorkStealingPool),
+    ELASTIC(n -> ElasticThreadPoolExecutor.create("elastic", n)),
+    VIRTUAL(n -> Executors.newVirtualThreadPerTaskExecutor()),
+    VIRTUAL_BOUNDED(BoundedVirtualThreadExecutor::new);
+
+    private final IntFunction<ExecutorService> factory;
+
+    ExecutorType(IntFunction<ExecutorService> factory) {
+        this.factory = factory;
+    }
+
+    public ExecutorService create(int parallelism) {
+        return factory.apply(parallelism);
+    }
+
+    /**
+     * Task başına yeni thread açan (havuzlamayan) türler
+     */
+    public boolean isVirtual() {
+        return this == VIRTUAL || this == VIRTUAL_BOUNDED;
+    }
+
+    public static ExecutorType parse(String arg, ExecutorType defaultType) {
+        return arg == null ? defaultType : valueOf(arg.toUpperCase());
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.executors;
+
+import org.example.concurrent.load.OpenLoopLoadGenerator;
+import org.example.concurrent.metrics.ConcurrentLatencyHistogram;
+import org.example.concurrent.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tek İstek vs invokeAny vs Hedging - Uzun Kuyruklu Gecikmede p99 ve Ek Yük
+ *
+ * Her deneme (replika çağrısı) bağımsız olarak uzun kuyruklu bir dağılımdan süre çeker:
+ * - %97: 5ms + üstel(ort. 2ms)          (normal)
+ * - %3:  50..250ms                      (yavaş replika, GC duraklaması)
+ * Tek istekte p99 yavaş kuyruğa düşer. Yavaşlık denemeye özgü olduğu için ikinci bir deneme
+ * büyük olasılıkla hızlıdır.
+ *
+ * Modlar (istekler sabit hızla gelir, task'ler FixedThreadPool(workers)'da uyur):
+ * - SINGLE:         tek deneme
+ * - INVOKE_ANY(3):  example6 gibi 3 deneme aynı anda, ilk biten (her istekte 3 kat iş başlar)
+ * - HEDGED(p95):    birincil, p95'te bitmediyse yedek; yedek oranı en fazla %10
+ *
+ * Ölçülen: gecikme (gelmesi gereken an → sonuç) p50/p95/p99/p99.9/max, istek başına başlatılan
+ * deneme (ek yük), workers × süre içinde task'lerin çalıştığı oran (kullanım).
+ * "Kazanç": SINGLE'a göre aynı yüzdelikteki gecikme farkı.
+ *
+ * Çalıştırma:
+ *   java ... HedgingBenchmark                  (500 istek/sn, 4000 istek, 32 worker)
+ *   java ... HedgingBenchmark 1000 10000 64    (hız, istek sayısı, worker)
+ */
+public class HedgingBenchmark {
+
+    private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+
+    enum Mode {
+        SINGLE, INVOKE_ANY, HEDGED
+    }
+
+    public static void main(String[] args) throws Exception {
+        double rate = args.length > 0 ? Double.parseDouble(args[0]) : 500;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 4000;
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+
+        System.out.println("=== Tek İstek vs invokeAny vs Hedging (uzun kuyruklu gecikme) ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.println("- Hız: " + rate + " istek/sn, " + requests + " istek (açık döngü)");
+        System.out.println("- Worker havuzu: FixedThreadPool(" + workers + ")");
+        System.out.println("- Deneme süresi: %97 → 5ms + üstel(2ms), %3 → 50..250ms");
+        System.out.println("- Hedging: p95'te yedek, en fazla %10 yedek, ilk 1000 istekte 20ms");
+        System.out.println();
+
+        List<LatencyHistogram> results = new ArrayList<>();
+        for (Mode mode : Mode.values()) {
+            results.add(run(mode, rate, requests, workers));
+            System.out.println();
+        }
+
+        System.out.println("=== ÖZET: kazanç (SINGLE - mod, aynı yüzdelik) ===");
+        System.out.printf("%-12s", "Mod");
+        for (double p : PERCENTILES) {
+            System.out.printf(" %10s", "p" + format(p));
+        }
+        System.out.println();
+        LatencyHistogram baseline = results.get(0);
+        for (int i = 1; i < results.size(); i++) {
+            System.out.printf("%-12s", Mode.values()[i]);
+            for (double p : PERCENTILES) {
+                long saved = baseline.valueAtPercentile(p) - results.get(i).valueAtPercentile(p);
+                System.out.printf(" %10s", (saved < 0 ? "-" : "") + LatencyHistogram.formatNanos(Math.abs(saved)));
+            }
+            System.out.println();
+        }
+
+        System.out.println("\n💡 invokeAny her isteği 3 kez başlatır: p99 düşer ama worker'lar ~3 kat iş görür;");
+        System.out.println("   havuz dolarsa kuyruk beklemesi kazancı yer. Hedging yavaş kalan ~%5'e yedek gönderir:");
+        System.out.println("   p99 ≈ p95 + normal bir denemenin süresi, ek yük ~%5. Kaybeden deneme hemen interrupt edilir.");
+    }
+
+    private static LatencyHistogram run(Mode mode, double rate, int requests, int workerCount) throws Exception {
+        InstrumentedThreadPoolExecutor workers = InstrumentedThreadPoolExecutor.fixed("worker", workerCount);
+        workers.prestartAllCoreThreads();
+        HedgingExecutor hedging = new HedgingExecutor(workers, 95, 0.1, 20, TimeUnit.MILLISECONDS);
+        ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+        ConcurrentLatencyHistogram latency = new ConcurrentLatencyHistogram();
+        LongAdder attempts = new LongAdder();
+        CountDownLatch done = new CountDownLatch(requests);
+        Callable<Long> call = () -> {
+            attempts.increment();
+            long nanos = sampleNanos();
+            Thread.sleep(Duration.ofNanos(nanos));
+            return nanos;
+        };
+
+        PoolSnapshot before = workers.snapshot();
+        new OpenLoopLoadGenerator(rate, requests).run(1, (sequence, intendedStartNanos) -> {
+            Runnable finish = () -> {
+                latency.record(System.nanoTime() - intendedStartNanos);
+                done.countDown();
+            };
+            switch (mode) {
+                case SINGLE -> AsyncPipeline.supply(call, workers).whenComplete((value, error) -> finish.run());
+                case HEDGED -> hedging.submit(call).whenComplete((value, error) -> finish.run());
+                case INVOKE_ANY -> callers.execute(() -> {
+                    try {
+                        workers.invokeAny(Collections.nCopies(3, call));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        finish.run();
+                    }
+                });
+            }
+        });
+        done.await();
+        PoolSnapshot after = workers.snapshot();
+
+        LatencyHistogram histogram = latency.snapshot();
+        System.out.printf("--- %s: deneme/istek %.2f, worker kullanımı %%%.0f ---%n",
+                mode, attempts.sum() / (double) requests, after.utilizationSince(before) * 100);
+        StringBuilder line = new StringBuilder("  ");
+        for (double p : PERCENTILES) {
+            line.append(String.format("p%s=%s  ", format(p), LatencyHistogram.formatNanos(histogram.valueAtPercentile(p))));
+        }
+        line.append("max=").append(LatencyHistogram.formatNanos(histogram.max()));
+        System.out.println(line);
+        if (mode == Mode.HEDGED) {
+            System.out.println("  " + hedging.summary().lines().findFirst().orElse(""));
+        }
+
+        hedging.close();
+        callers.shutdown();
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+        return histogram;
+    }
+
+    private static long sampleNanos() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double millis = random.nextDouble() < 0.03
+                ? 50 + random.nextDouble() * 200
+                : 5 - 2 * Math.log(1 - random.nextDouble());
+        return (long) (millis * 1_000_000);
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,276 @@
+package org.example.executors;
+
+import org.example.concurrent.metrics.ConcurrentLatencyHistogram;
+import org.example.concurrent.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedging (yedek istek) ile kuyruk gecikmesini kısaltan executor
+ *
+ * invokeAny() tüm kopyaları AYNI ANDA gönderir: 3 kopya = her istekte 3 kat yük, oysa
+ * isteklerin çoğu ilk kopyayla zaten hızlı biter. Hedging ("The Tail at Scale", Dean & Barroso):
+ * - Önce sadece birincil (primary) gönderilir
+ * - Birincil, gözlenen gecikmenin p95'i kadar sürede bitmediyse bir yedek (backup) gönderilir
+ * - Hangisi önce biterse o kazanır, diğeri hemen iptal edilir (interrupt)
+ * Sadece isteklerin ~%5'i yedek alır → ek yük ~%5, ama yavaş kuyruktaki istekler kurtulur.
+ *
+ * Ayrıntılar:
+ * - Bekleme süresi: birincil denemelerin gecikme yüzdeliği, WINDOW istekte bir yeniden hesaplanır
+ *   (pencere dolunca yeni pencere başlar; dağılım değişirse gecikme de izler).
+ *   Yedeğe kaybedip iptal edilen birincilin o ana kadarki süresi de kaydedilir (alt sınır);
+ *   kaydedilmezse yavaş örnekler kaybolur, p95 düşer, daha çok yedek gönderilir.
+ *   İlk pencere dolana kadar initialDelay kullanılır.
+ * - Yedek oranı sınırı: toplam yedek ≤ maxHedgeRate × istek + BURST. Sistem genel olarak yavaşladığında
+ *   (her istek p95'i aşıyorsa) yedekler yükü ikiye katlayıp durumu kötüleştirmesin.
+ * - Birden fazla replika verilirse her bekleme süresinde bir sonraki replikaya yedek gönderilir.
+ * - Bir deneme hata verirse yedek beklenmeden hemen gönderilir (sınıra tabi);
+ *   başlatılan tüm denemeler hata verirse istek son hatayla biter.
+ *
+ * Kullanım:
+ *   HedgingExecutor hedging = new HedgingExecutor(executor, 95, 0.1, 20, TimeUnit.MILLISECONDS);
+ *   AsyncPipeline<String> result = hedging.submit(() -> callReplica());
+ *   ...
+ *   System.out.println(hedging.summary());
+ */
+public final class HedgingExecutor implements AutoCloseable {
+
+    private static final int WINDOW = 1_000;
+    private static final int BURST = 10;
+
+    private final Executor executor;
+    private final double percentile;
+    private final double maxHedgeRate;
+    private final ScheduledExecutorService timer;
+    private final AtomicReference<ConcurrentLatencyHistogram> window =
+            new AtomicReference<>(new ConcurrentLatencyHistogram());
+    private volatile long hedgeDelayNanos;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final ConcurrentLatencyHistogram latency = new ConcurrentLatencyHistogram();
+
+    /**
+     * @param percentile   yedek gönderme eşiği (örn. 95: birincil p95'i aşınca)
+     * @param maxHedgeRate istek başına en fazla yedek oranı (örn. 0.1 = %10)
+     * @param initialDelay ilk pencere dolana kadarki bekleme süresi
+     */
+    public HedgingExecutor(Executor executor, double percentile, double maxHedgeRate,
+                           long initialDelay, TimeUnit unit) {
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException("percentile (0, 100) aralığında olmalı: " + percentile);
+        }
+        if (maxHedgeRate < 0) {
+            throw new IllegalArgumentException("maxHedgeRate negatif olamaz: " + maxHedgeRate);
+        }
+        this.executor = executor;
+        this.percentile = percentile;
+        this.maxHedgeRate = maxHedgeRate;
+        this.hedgeDelayNanos = unit.toNanos(initialDelay);
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("hedge-timer").daemon().factory());
+    }
+
+    /**
+     * Aynı task birincil ve yedek olarak (farklı thread'de) çalıştırılır
+     */
+    public <T> AsyncPipeline<T> submit(Callable<T> task) {
+        return submit(List.of(task, task));
+    }
+
+    /**
+     * replicas[0] birincil, sonrakiler sırayla yedek. Dönen adım iptal edilirse tüm denemeler iptal edilir.
+     */
+    public <T> AsyncPipeline<T> submit(List<? extends Callable<T>> replicas) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("En az bir replika gerekli");
+        }
+        requests.increment();
+        Request<T> request = new Request<>(List.copyOf(replicas));
+        request.launch();
+        return AsyncPipeline.of(request.result, request::cancelAll);
+    }
+
+    /**
+     * Tek bir isteğin durumu: başlatılan denemeler, bekleyen yedek zamanlayıcısı
+     */
+    private final class Request<T> {
+        private final List<Callable<T>> replicas;
+        private final long start = System.nanoTime();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<AsyncPipeline<T>> attempts = new ArrayList<>();
+        private int failures;
+        private boolean decided;
+        private ScheduledFuture<?> pendingHedge;
+        private Throwable lastError;
+
+        Request(List<Callable<T>> replicas) {
+            this.replicas = replicas;
+            result.whenComplete((value, error) -> {
+                long elapsed = System.nanoTime() - start;
+                latency.record(elapsed);
+                if (error != null) {
+                    failed.increment();
+                }
+                cancelAll();  // Kazanan belli (veya iptal): kalan denemeler ve zamanlayıcı durur
+            });
+        }
+
+        synchronized void launch() {
+            if (result.isDone() || attempts.size() == replicas.size()) {
+                return;
+            }
+            int index = attempts.size();
+            AsyncPipeline<T> attempt = AsyncPipeline.supply(replicas.get(index), executor);
+            attempts.add(attempt);
+            attempt.whenComplete((value, error) -> onAttemptDone(index, value, error));
+            if (attempts.size() < replicas.size()) {
+                pendingHedge = timer.schedule(() -> hedge(false), hedgeDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void onAttemptDone(int index, T value, Throwable error) {
+            if (index == 0 && (error == null || error instanceof CancellationException)) {
+                recordPrimary(System.nanoTime() - start);  // İptal edildiyse: gerçek süresinin alt sınırı
+            }
+            if (error == null) {
+                boolean won;
+                synchronized (this) {
+                    won = !decided && !result.isDone();
+                    decided = true;
+                }
+                if (won) {
+                    if (index > 0) {
+                        hedgeWins.increment();  // complete()'ten önce: sonucu bekleyen sayacı güncel görsün
+                    }
+                    result.complete(value);
+                }
+                return;
+            }
+            if (error instanceof CancellationException) {
+                return;
+            }
+            boolean allFailed;
+            synchronized (this) {
+                failures++;
+                lastError = error;
+                allFailed = failures == attempts.size() && attempts.size() == replicas.size();
+            }
+            if (allFailed) {
+                result.completeExceptionally(error);
+            } else {
+                hedge(true);  // Hata: yedeği beklemeden gönder
+            }
+        }
+
+        private void hedge(boolean afterFailure) {
+            synchronized (this) {
+                if (result.isDone() || attempts.size() == replicas.size()) {
+                    return;
+                }
+                if (pendingHedge != null) {
+                    pendingHedge.cancel(false);
+                }
+                if (!tryAcquireHedge()) {
+                    denied.increment();
+                    if (afterFailure && failures == attempts.size()) {
+                        result.completeExceptionally(lastError);  // Sınır doldu, bekleyen deneme de yok
+                    }
+                    return;
+                }
+                hedges.increment();
+            }
+            launch();
+        }
+
+        synchronized void cancelAll() {
+            if (pendingHedge != null) {
+                pendingHedge.cancel(false);
+            }
+            attempts.forEach(AsyncPipeline::cancel);
+        }
+    }
+
+    // Yaklaşık sınır: iki sayaç ayrı okunur, eşzamanlı isteklerde birkaç yedek taşabilir
+    private boolean tryAcquireHedge() {
+        return hedges.sum() < maxHedgeRate * requests.sum() + BURST;
+    }
+
+    private void recordPrimary(long nanos) {
+        ConcurrentLatencyHistogram current = window.get();
+        current.record(nanos);
+        if (current.count() >= WINDOW && window.compareAndSet(current, new ConcurrentLatencyHistogram())) {
+            hedgeDelayNanos = current.snapshot().valueAtPercentile(percentile);
+        }
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public long hedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * Yedeğin birincilden önce bittiği istek sayısı
+     */
+    public long hedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * Oran sınırı yüzünden gönderilemeyen yedek sayısı
+     */
+    public long denied() {
+        return denied.sum();
+    }
+
+    public double hedgeRate() {
+        long total = requests.sum();
+        return total == 0 ? 0 : hedges.sum() / (double) total;
+    }
+
+    /**
+     * Şu anki yedek bekleme süresi (son pencerenin yüzdeliği)
+     */
+    public long hedgeDelayNanos() {
+        return hedgeDelayNanos;
+    }
+
+    /**
+     * İstek gecikmeleri: submit → ilk başarılı sonuç (veya son hata)
+     */
+    public LatencyHistogram latency() {
+        return latency.snapshot();
+    }
+
+    public String summary() {
+        return String.format("İstek: %d, hata: %d, yedek: %d (%%%.1f, sınır %%%.0f), yedek kazandı: %d, " +
+                        "sınırdan reddedilen: %d, bekleme (p%.0f): %s%n%s",
+                requests(), failed.sum(), hedges(), hedgeRate() * 100, maxHedgeRate * 100, hedgeWins(), denied(),
+                percentile, LatencyHistogram.formatNanos(hedgeDelayNanos), latency().summary("Hedged gecikme"));
+    }
+
+    /**
+     * Zamanlayıcı thread'ini durdurur; executor çağıranındır
+     */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+}
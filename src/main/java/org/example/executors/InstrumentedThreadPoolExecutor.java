@@ -0,0 +1,444 @@
+package org.example.executors;
+
+import jdk.jfr.FlightRecorder;
+import org.example.concurrent.metrics.ConcurrentLatencyHistogram;
+import org.example.concurrent.metrics.LatencyHistogram;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ölçümlü ThreadPoolExecutor
+ *
+ * Executors.newFixedThreadPool() vb. içini göstermez: kuyrukta kaç task var, task'ler
+ * kuyrukta ne kadar bekledi, kaç task reddedildi bilinmez. Bu sınıf aynı havuzdur, artı:
+ * - execute() her task'i gönderim anıyla sarar (submit() / invokeAll() da execute()'tan geçer)
+ * - beforeExecute(): kuyruk bekleme süresi = başlama - gönderim → histogram
+ * - afterExecute():  çalışma süresi → histogram; hata (exception veya iptal) / başarı sayacı
+ * - Red sayacı: verilen RejectedExecutionHandler sarılır, politika aynen uygulanır
+ *   (CallerRunsPolicy ile çağıranda çalışan task'ler reddedilmiş sayılır, süreleri ölçülmez)
+ * - En yüksek kuyruk derinliği ve en yüksek eşzamanlı çalışan task sayısı
+ *
+ * Okuma yolları:
+ * - snapshot():        PoolSnapshot (sayaçlar + histogram kopyaları)
+ * - startReporting():  periyodik rapor satırı (System.out), havuz kapanınca durur
+ * - registerMBean():   JMX, org.example.executors:type=ThreadPool,name=&lt;ad&gt; (ThreadPoolMetricsMXBean)
+ * - JFR:               kayıt açıksa saniyede bir org.example.ThreadPoolSnapshot olayı
+ *                      (havuz ilk execute()'ta listeye girer, sonlanınca çıkar)
+ *
+ * shutdownNow() sarmalayıcıları değil asıl task'leri döndürür.
+ */
+public class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor implements ThreadPoolMetricsMXBean {
+
+    private static final Set<InstrumentedThreadPoolExecutor> LIVE = ConcurrentHashMap.newKeySet();
+
+    static {
+        FlightRecorder.addPeriodicEvent(ThreadPoolSnapshotEvent.class, InstrumentedThreadPoolExecutor::emitSnapshotEvents);
+    }
+
+    private final String name;
+    private final CountingRejectionHandler rejection;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final ConcurrentLatencyHistogram queueWait = new ConcurrentLatencyHistogram();
+    private final ConcurrentLatencyHistogram runTime = new ConcurrentLatencyHistogram();
+    private final AtomicInteger running = new AtomicInteger();
+    private final ConcurrentHashMap<Thread, TimedTask> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger peakActive = new AtomicInteger();
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+    private final AtomicReference<long[]> utilizationSample;  // {nanoTime, busyNanos}
+    private volatile ScheduledExecutorService reporter;
+    private volatile ObjectName objectName;
+    private volatile boolean live;  // LIVE'a eklendi mi
+
+    /**
+     * @param name thread adları name-1, name-2, ...; JMX ve rapor satırlarında havuz adı
+     */
+    public InstrumentedThreadPoolExecutor(String name, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                          TimeUnit unit, BlockingQueue<Runnable> workQueue) {
+        this(name, corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, new AbortPolicy());
+    }
+
+    public InstrumentedThreadPoolExecutor(String name, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                          TimeUnit unit, BlockingQueue<Runnable> workQueue,
+                                          RejectedExecutionHandler handler) {
+        this(name, corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, new CountingRejectionHandler(handler));
+    }
+
+    // Sayan handler parametreyle gelir: kurucuda (override edilebilir) getRejectedExecutionHandler() çağrılmaz
+    private InstrumentedThreadPoolExecutor(String name, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                           TimeUnit unit, BlockingQueue<Runnable> workQueue,
+                                           CountingRejectionHandler rejection) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue,
+                Thread.ofPlatform().name(name + "-", 1).factory(), rejection);
+        this.name = name;
+        this.rejection = rejection;
+        this.utilizationSample = new AtomicReference<>(new long[] {System.nanoTime(), 0});
+    }
+
+    /**
+     * Executors.newFixedThreadPool(threads) karşılığı: sınırsız LinkedBlockingQueue
+     */
+    public static InstrumentedThreadPoolExecutor fixed(String name, int threads) {
+        return new InstrumentedThreadPoolExecutor(name, threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        if (!live) {
+            publish();
+        }
+        submitted.increment();
+        super.execute(new TimedTask(command, System.nanoTime()));
+        peakQueueDepth.accumulateAndGet(getQueue().size(), Math::max);
+    }
+
+    /**
+     * JFR listesine ekler. Kurucuda değil: alt sınıf kurucusu bitmeden (alanları hazır değilken)
+     * havuz başka bir thread'e (JFR periyodik olayı) görünmesin.
+     */
+    private void publish() {
+        live = true;
+        LIVE.add(this);
+        if (isShutdown()) {
+            LIVE.remove(this);  // terminated() ile yarış: kapanan havuz listede kalmasın
+        }
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable task) {
+        super.beforeExecute(thread, task);
+        if (task instanceof TimedTask timed) {
+            long now = System.nanoTime();
+            queueWait.record(now - timed.submittedAt);
+            timed.startedAt = now;
+            inFlight.put(thread, timed);
+            peakActive.accumulateAndGet(running.incrementAndGet(), Math::max);
+        }
+    }
+
+    @Override
+    protected void afterExecute(Runnable task, Throwable error) {
+        super.afterExecute(task, error);
+        if (task instanceof TimedTask timed) {
+            long elapsed = System.nanoTime() - timed.startedAt;
+            runTime.record(elapsed);
+            busyNanos.add(elapsed);
+            inFlight.remove(Thread.currentThread());
+            running.decrementAndGet();
+            if (error != null || failedInside(timed.task)) {
+                failed.increment();
+            } else {
+                completed.increment();
+            }
+        }
+    }
+
+    /**
+     * submit() ile gelen task FutureTask'tir; exception'ı kendisi yakalar, afterExecute'a gelmez
+     */
+    private static boolean failedInside(Runnable task) {
+        if (task instanceof Future<?> future && future.isDone()) {
+            try {
+                future.get();
+            } catch (CancellationException | ExecutionException e) {
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending = super.shutdownNow();
+        List<Runnable> unwrapped = new ArrayList<>(pending.size());
+        for (Runnable task : pending) {
+            unwrapped.add(task instanceof TimedTask timed ? timed.task : task);
+        }
+        return unwrapped;
+    }
+
+    @Override
+    public boolean remove(Runnable task) {
+        for (Runnable queued : getQueue()) {
+            if (queued instanceof TimedTask timed && timed.task == task) {
+                return super.remove(queued);
+            }
+        }
+        return super.remove(task);
+    }
+
+    @Override
+    public void setRejectedExecutionHandler(RejectedExecutionHandler handler) {
+        if (handler == null) {
+            throw new NullPointerException();
+        }
+        rejection.delegate = handler;
+    }
+
+    @Override
+    public RejectedExecutionHandler getRejectedExecutionHandler() {
+        return rejection.delegate;
+    }
+
+    @Override
+    protected void terminated() {
+        super.terminated();
+        LIVE.remove(this);
+        ScheduledExecutorService scheduler = reporter;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        unregisterMBean();
+    }
+
+    // ===== Okuma =====
+
+    /**
+     * Biten task'lerin süresi + çalışmakta olanların şu ana kadarki süresi.
+     * Böylece aralıktan uzun task'ler de kullanım oranına aralık aralık yansır.
+     */
+    private long busyNanosNow(long now) {
+        long busy = busyNanos.sum();
+        for (TimedTask task : inFlight.values()) {
+            busy += Math.max(0, now - task.startedAt);
+        }
+        return busy;
+    }
+
+    public PoolSnapshot snapshot() {
+        long now = System.nanoTime();
+        return new PoolSnapshot(name, now, getPoolSize(), getLargestPoolSize(), running.get(),
+                peakActive.get(), getQueue().size(), peakQueueDepth.get(), submitted.sum(), completed.sum(), failed.sum(), rejection.count.sum(),
+                busyNanosNow(now), queueWait.snapshot(), runTime.snapshot());
+    }
+
+    /**
+     * Her period'da bir rapor satırı yazar (son satırdan bu yana throughput ve kullanım).
+     * Havuz sonlanınca (terminated) kendiliğinden durur.
+     */
+    public void startReporting(long period, TimeUnit unit) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(name + "-reporter").daemon().factory());
+        synchronized (this) {
+            if (reporter != null) {
+                scheduler.shutdown();
+                throw new IllegalStateException(name + " zaten raporluyor");
+            }
+            reporter = scheduler;
+        }
+        AtomicReference<PoolSnapshot> previous = new AtomicReference<>(snapshot());
+        scheduler.scheduleAtFixedRate(() -> {
+            PoolSnapshot now = snapshot();
+            System.out.println(now.line(previous.getAndSet(now)));
+        }, period, period, unit);
+    }
+
+    /**
+     * Platform MBeanServer'a kaydeder (JConsole → MBeans → org.example.executors).
+     * Havuz sonlanınca kayıt silinir.
+     */
+    public ObjectName registerMBean() {
+        try {
+            ObjectName objectName = new ObjectName("org.example.executors:type=ThreadPool,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            this.objectName = objectName;
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException(name + " MBean olarak kaydedilemedi", e);
+        }
+    }
+
+    private void unregisterMBean() {
+        ObjectName registered = objectName;
+        if (registered == null) {
+            return;
+        }
+        objectName = null;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(registered)) {
+                server.unregisterMBean(registered);
+            }
+        } catch (JMException e) {
+            // Kapanırken kayıt silinemezse havuzun kendisi etkilenmez
+        }
+    }
+
+    private static void emitSnapshotEvents() {
+        for (InstrumentedThreadPoolExecutor pool : LIVE) {
+            ThreadPoolSnapshotEvent event = new ThreadPoolSnapshotEvent();
+            event.pool = pool.name;
+            event.poolSize = pool.getPoolSize();
+            event.activeCount = pool.running.get();
+            event.queueDepth = pool.getQueue().size();
+            event.completed = pool.completed.sum();
+            event.rejected = pool.rejection.count.sum();
+            event.queueWaitP99 = pool.queueWait.snapshot().valueAtPercentile(99);
+            event.runTimeP99 = pool.runTime.snapshot().valueAtPercentile(99);
+            event.commit();
+        }
+    }
+
+    // ===== ThreadPoolMetricsMXBean (core/max/pool/largest/active getter'ları ThreadPoolExecutor'dan) =====
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getPeakActiveCount() {
+        return peakActive.get();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return getQueue().size();
+    }
+
+    @Override
+    public int getPeakQueueDepth() {
+        return peakQueueDepth.get();
+    }
+
+    @Override
+    public int getQueueRemainingCapacity() {
+        return getQueue().remainingCapacity();
+    }
+
+    @Override
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    @Override
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejection.count.sum();
+    }
+
+    /**
+     * Son çağrıdan bu yana (JConsole varsayılan olarak 4 sn'de bir okur)
+     */
+    @Override
+    public double getUtilization() {
+        long now = System.nanoTime();
+        long busy = busyNanosNow(now);
+        long[] previous = utilizationSample.getAndSet(new long[] {now, busy});
+        return PoolSnapshot.utilization(busy - previous[1], now - previous[0], getPoolSize());
+    }
+
+    @Override
+    public long getQueueWaitP50Micros() {
+        return micros(queueWait.snapshot(), 50);
+    }
+
+    @Override
+    public long getQueueWaitP99Micros() {
+        return micros(queueWait.snapshot(), 99);
+    }
+
+    @Override
+    public long getQueueWaitMaxMicros() {
+        return micros(queueWait.snapshot(), 100);
+    }
+
+    @Override
+    public long getRunTimeP50Micros() {
+        return micros(runTime.snapshot(), 50);
+    }
+
+    @Override
+    public long getRunTimeP99Micros() {
+        return micros(runTime.snapshot(), 99);
+    }
+
+    @Override
+    public long getRunTimeMaxMicros() {
+        return micros(runTime.snapshot(), 100);
+    }
+
+    private static long micros(LatencyHistogram histogram, double percentile) {
+        long nanos = percentile >= 100 ? histogram.max() : histogram.valueAtPercentile(percentile);
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    /**
+     * Kuyruğa giren sarmalayıcı: asıl task + gönderim anı
+     */
+    private static final class TimedTask implements Runnable {
+        final Runnable task;
+        final long submittedAt;
+        volatile long startedAt;  // Çalıştıran worker yazar, snapshot() okur
+
+        TimedTask(Runnable task, long submittedAt) {
+            this.task = task;
+            this.submittedAt = submittedAt;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();  // AbortPolicy mesajında asıl task görünsün
+        }
+    }
+
+    private static final class CountingRejectionHandler implements RejectedExecutionHandler {
+        final LongAdder count = new LongAdder();
+        volatile RejectedExecutionHandler delegate;
+
+        CountingRejectionHandler(RejectedExecutionHandler delegate) {
+            if (delegate == null) {
+                throw new NullPointerException();
+            }
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            count.increment();
+            delegate.rejectedExecution(task, executor);
+        }
+    }
+}
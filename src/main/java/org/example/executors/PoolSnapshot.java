@@ -0,0 +1,142 @@
+package org.example.executors;
+
+import org.example.concurrent.metrics.LatencyHistogram;
+
+/**
+ * InstrumentedThreadPoolExecutor'ın anlık görüntüsü (snapshot() ile alınır)
+ *
+ * Sayaçlar havuz açıldığından beri birikimlidir. Aralık değerleri (throughput,
+ * kullanım oranı) iki snapshot'ın farkından hesaplanır.
+ */
+public final class PoolSnapshot {
+
+    private final String name;
+    private final long nanoTime;
+    private final int poolSize;
+    private final int largestPoolSize;
+    private final int activeCount;
+    private final int peakActiveCount;
+    private final int queueDepth;
+    private final int peakQueueDepth;
+    private final long submitted;
+    private final long completed;
+    private final long failed;
+    private final long rejected;
+    private final long busyNanos;
+    private final LatencyHistogram queueWait;
+    private final LatencyHistogram runTime;
+
+    PoolSnapshot(String name, long nanoTime, int poolSize, int largestPoolSize, int activeCount, int peakActiveCount,
+                 int queueDepth, int peakQueueDepth, long submitted, long completed, long failed, long rejected, long busyNanos,
+                 LatencyHistogram queueWait, LatencyHistogram runTime) {
+        this.name = name;
+        this.nanoTime = nanoTime;
+        this.poolSize = poolSize;
+        this.largestPoolSize = largestPoolSize;
+        this.activeCount = activeCount;
+        this.peakActiveCount = peakActiveCount;
+        this.queueDepth = queueDepth;
+        this.peakQueueDepth = peakQueueDepth;
+        this.submitted = submitted;
+        this.completed = completed;
+        this.failed = failed;
+        this.rejected = rejected;
+        this.busyNanos = busyNanos;
+        this.queueWait = queueWait;
+        this.runTime = runTime;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int poolSize() {
+        return poolSize;
+    }
+
+    public int activeCount() {
+        return activeCount;
+    }
+
+    public int peakActiveCount() {
+        return peakActiveCount;
+    }
+
+    public int queueDepth() {
+        return queueDepth;
+    }
+
+    public int peakQueueDepth() {
+        return peakQueueDepth;
+    }
+
+    public long submitted() {
+        return submitted;
+    }
+
+    public long completed() {
+        return completed;
+    }
+
+    public long failed() {
+        return failed;
+    }
+
+    public long rejected() {
+        return rejected;
+    }
+
+    public LatencyHistogram queueWait() {
+        return queueWait;
+    }
+
+    public LatencyHistogram runTime() {
+        return runTime;
+    }
+
+    /**
+     * previous'tan bu yana saniyede biten task (başarılı + hatalı)
+     */
+    public double throughputSince(PoolSnapshot previous) {
+        long elapsed = nanoTime - previous.nanoTime;
+        long done = completed + failed - previous.completed - previous.failed;
+        return elapsed <= 0 ? 0 : done * 1e9 / elapsed;
+    }
+
+    /**
+     * previous'tan bu yana worker'ların task çalıştırarak geçirdiği süre / (süre × thread sayısı)
+     */
+    public double utilizationSince(PoolSnapshot previous) {
+        return utilization(busyNanos - previous.busyNanos, nanoTime - previous.nanoTime, poolSize);
+    }
+
+    // Sayaçlar ayrı ayrı okunduğu için oran birkaç µs taşabilir, 0..1'e kırpılır
+    static double utilization(long busyNanos, long elapsedNanos, int threads) {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return Math.min(1, Math.max(0, busyNanos / (elapsedNanos * (double) Math.max(1, threads))));
+    }
+
+    /**
+     * Periyodik rapor satırı: anlık durum + previous'tan bu yana throughput ve kullanım
+     */
+    public String line(PoolSnapshot previous) {
+        return String.format("📊 [%s] thread=%d aktif=%d kuyruk=%d | %.1f task/sn, kullanım %%%.0f | " +
+                        "bitti=%d hata=%d red=%d | kuyruk p99=%s, çalışma p99=%s",
+                name, poolSize, activeCount, queueDepth, throughputSince(previous),
+                utilizationSince(previous) * 100, completed, failed, rejected,
+                LatencyHistogram.formatNanos(queueWait.valueAtPercentile(99)),
+                LatencyHistogram.formatNanos(runTime.valueAtPercentile(99)));
+    }
+
+    public String summary() {
+        return String.format("=== %s ===%n" +
+                        "Gönderilen: %d, tamamlanan: %d, hata: %d, reddedilen: %d%n" +
+                        "Thread: %d (en fazla %d), aynı anda en fazla %d task çalıştı%n" +
+                        "Kuyruk: %d (en fazla %d)%n%s%n%s",
+                name, submitted, completed, failed, rejected, poolSize, largestPoolSize, peakActiveCount,
+                queueDepth, peakQueueDepth,
+                queueWait.summary("Kuyruk bekleme"), runTime.summary("Çalışma süresi"));
+    }
+}
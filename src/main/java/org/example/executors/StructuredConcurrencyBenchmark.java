@@ -0,0 +1,156 @@
+package org.example.executors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bir Alt Görev Hata Verince Kardeşler Ne Kadar Çabuk Durur?
+ *
+ * Fan-out: N alt görev; biri failMs sonra hata verir, diğerleri siblingMs uyur (uzun I/O).
+ * Hepsi virtual thread'de çalışır, fark sadece hatanın nasıl ele alındığında:
+ * - INVOKE_ALL: example5 gibi executor.invokeAll + future.get + executor.shutdown()
+ *               invokeAll tüm görevleri bekler; shutdown() beklemez
+ * - ALL_OF:     AsyncPipeline.allOf (ilk hatada biter, kalanları iptal eder) + executor.shutdown()
+ * - SCOPE:      TaskScope.invokeAll (ShutdownOnFailure, close() kardeşlerin bitmesini bekler)
+ *
+ * Ölçülen (hata anından itibaren):
+ * - Hata görüldü: çağıranın hatayı aldığı an
+ * - Kardeşler durdu: son kardeş thread'inin bittiği an (kaynakların serbest kaldığı an)
+ * - Dönüşte çalışan: çağıran döndüğünde hâlâ çalışan kardeş sayısı (sızan iş)
+ * - Başlamadı: hata geldiğinde henüz başlamamış, hiç çalıştırılmayan kardeş sayısı
+ * - Boşa giden iş: kardeşlerin hatadan sonra çalıştığı toplam süre (thread × sn)
+ *
+ * Çalıştırma:
+ *   java ... StructuredConcurrencyBenchmark                 (10, 100, 1000 alt görev; 1000ms uyku; 10ms'de hata)
+ *   java ... StructuredConcurrencyBenchmark 100,10000 2000 50
+ */
+public class StructuredConcurrencyBenchmark {
+
+    enum Mode {
+        INVOKE_ALL, ALL_OF, SCOPE
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] widths = Arrays.stream((args.length > 0 ? args[0] : "10,100,1000").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        long siblingMs = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        long failMs = args.length > 2 ? Long.parseLong(args[2]) : 10;
+
+        System.out.println("=== Hata Sonrası Kardeş İptali: invokeAll vs allOf vs TaskScope ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.println("- Alt görev sayıları: " + Arrays.toString(widths));
+        System.out.println("- Kardeşler: sleep(" + siblingMs + "ms), biri " + failMs + "ms sonra hata verir");
+        System.out.println("- Hepsi virtual thread");
+        System.out.println();
+
+        System.out.printf("%-11s %7s %14s %16s %16s %10s %16s%n",
+                "Mod", "N", "hata görüldü", "kardeşler durdu", "dönüşte çalışan", "başlamadı", "boşa iş (thr·s)");
+        for (int width : widths) {
+            for (Mode mode : Mode.values()) {
+                run(mode, width, siblingMs, failMs);
+            }
+            System.out.println();
+        }
+
+        System.out.println("💡 invokeAll hata veren görevi fark etmez, tüm kardeşleri sonuna kadar bekler; hata ancak");
+        System.out.println("   future.get() ile görülür. allOf hatayı hemen bildirir ve kardeşleri interrupt eder, ama");
+        System.out.println("   çağıran döndüğünde kardeşler henüz bitmemiş olabilir. TaskScope close() ile kardeşlerin");
+        System.out.println("   bitmesini de bekler: blok bittiğinde çalışan alt görev kalmaz.");
+    }
+
+    private static void run(Mode mode, int width, long siblingMs, long failMs) throws Exception {
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicLong failedAt = new AtomicLong();
+        AtomicLong lastStop = new AtomicLong();
+        LongAdder wastedNanos = new LongAdder();
+
+        List<Callable<Integer>> tasks = new ArrayList<>(width);
+        tasks.add(() -> {
+            Thread.sleep(failMs);
+            failedAt.set(System.nanoTime());
+            throw new IllegalStateException("alt görev başarısız");
+        });
+        for (int i = 1; i < width; i++) {
+            tasks.add(() -> {
+                started.incrementAndGet();
+                running.incrementAndGet();
+                try {
+                    Thread.sleep(siblingMs);
+                    return 1;
+                } finally {
+                    long now = System.nanoTime();
+                    long failed = failedAt.get();
+                    if (failed != 0 && now > failed) {
+                        wastedNanos.add(now - failed);
+                    }
+                    lastStop.accumulateAndGet(now, Math::max);
+                    running.decrementAndGet();
+                }
+            });
+        }
+
+        long seen;
+        long runningAtReturn;
+        switch (mode) {
+            case INVOKE_ALL -> {
+                ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                try {
+                    for (Future<Integer> future : executor.invokeAll(tasks)) {
+                        future.get();
+                    }
+                } catch (ExecutionException expected) {
+                    // Beklenen: hata veren görev
+                }
+                seen = System.nanoTime();
+                runningAtReturn = running.get();
+                executor.shutdown();
+            }
+            case ALL_OF -> {
+                ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                List<AsyncPipeline<Integer>> parts = new ArrayList<>(width);
+                for (Callable<Integer> task : tasks) {
+                    parts.add(AsyncPipeline.supply(task, executor));
+                }
+                try {
+                    AsyncPipeline.allOf(parts).join();
+                } catch (RuntimeException expected) {
+                    // Beklenen: CompletionException(IllegalStateException)
+                }
+                seen = System.nanoTime();
+                runningAtReturn = running.get();
+                executor.shutdown();
+            }
+            default -> {
+                try {
+                    TaskScope.invokeAll("fanout", tasks, Duration.ofSeconds(30));
+                } catch (ExecutionException expected) {
+                    // Beklenen
+                }
+                seen = System.nanoTime();
+                runningAtReturn = running.get();
+            }
+        }
+
+        // Çağıran döndükten sonra başlayan kardeş olmaz (iptal edilenler kuyrukta kalmaz); çalışanların bitmesini bekle
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(siblingMs * 2 + 5_000);
+        while (running.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        long failed = failedAt.get();
+        System.out.printf("%-11s %7d %12.1fms %14.1fms %16d %10d %16.2f%n", mode, width,
+                (seen - failed) / 1e6, (Math.max(lastStop.get(), failed) - failed) / 1e6, runningAtReturn,
+                width - 1 - started.get(), wastedNanos.sum() / 1e9);
+    }
+}
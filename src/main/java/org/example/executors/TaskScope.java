@@ -0,0 +1,420 @@
+package org.example.executors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Yapılandırılmış eşzamanlılık (structured concurrency): alt görevler bir kapsamın içinde yaşar
+ *
+ * invokeAll/invokeAny + elle shutdown() ile:
+ * - Bir alt görev hata verse de invokeAll diğerlerini sonuna kadar bekler (kardeşler iptal edilmez)
+ * - shutdown() beklemez: çağıran döndüğünde task'ler hâlâ çalışıyor olabilir (sızıntı)
+ * - Sahibi interrupt edilirse alt görevler bundan habersiz devam eder
+ *
+ * Kapsamda:
+ * - fork(): her alt görev kendi virtual thread'inde başlar
+ * - join() / joinUntil(deadline): hepsi bitene veya kapsam kapanana (shutdown) kadar bekler
+ * - shutdown(): bitmemiş alt görevler interrupt edilir, join() hemen döner;
+ *   shutdown'dan sonra biten alt görevlerin sonucu yok sayılır
+ * - close(): shutdown + TÜM alt görev thread'leri bitene kadar bekler. try-with-resources
+ *   bloğundan çıkıldığında hiçbir alt görev çalışmıyordur (iş sızmaz)
+ * Politikalar:
+ * - ShutdownOnFailure: ilk hatada kapsamı kapatır (invokeAll'un hızlı başarısız olan hali)
+ * - ShutdownOnSuccess: ilk başarılı sonuçta kapsamı kapatır (invokeAny)
+ *
+ * JDK'daki java.util.concurrent.StructuredTaskScope'un (JEP 453) API'sini izler. O sınıf Java 21-24'te
+ * preview'dır, --enable-preview ile derlenmeyen bu projede kullanılamaz. fork/join/close sahibi olan
+ * thread'den çağrılmalı; shutdown() her thread'den (alt görevlerden de) çağrılabilir.
+ *
+ * Kullanım:
+ *   try (var scope = new TaskScope.ShutdownOnFailure("siparis")) {
+ *       Subtask<User> user = scope.fork(() -> findUser());
+ *       Subtask<Order> order = scope.fork(() -> fetchOrder());
+ *       scope.joinUntil(Instant.now().plusSeconds(2));
+ *       scope.throwIfFailed();
+ *       return new Response(user.get(), order.get());
+ *   }
+ */
+public class TaskScope<T> implements AutoCloseable {
+
+    private final String name;
+    private final ThreadFactory factory;
+    private final Thread owner = Thread.currentThread();
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lock = new ReentrantLock();  // Virtual thread'i pinlemez (synchronized'ın aksine)
+    private final Condition changed = lock.newCondition();
+    private int running;
+    private volatile boolean shutdown;
+    private boolean closed;
+
+    /**
+     * Alt görevler "name-N" adlı virtual thread'lerde çalışır
+     */
+    public TaskScope(String name) {
+        this(name, Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    public TaskScope(String name, ThreadFactory factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    /**
+     * Alt görevi yeni bir thread'de başlatır. Kapsam kapandıysa görev başlatılmaz,
+     * UNAVAILABLE durumunda bir Subtask döner.
+     */
+    public <U extends T> Subtask<U> fork(Callable<? extends U> task) {
+        ensureOwner();
+        if (closed) {
+            throw new IllegalStateException("Kapsam kapatıldı: " + name);
+        }
+        Subtask<U> subtask = new Subtask<>(task);
+        if (shutdown) {
+            return subtask;
+        }
+        Thread thread = factory.newThread(() -> run(subtask));
+        lock.lock();
+        try {
+            running++;
+        } finally {
+            lock.unlock();
+        }
+        threads.add(thread);
+        thread.start();
+        if (shutdown) {
+            thread.interrupt();  // shutdown() bu thread'i kümeye eklenmeden önce taramış olabilir
+        }
+        return subtask;
+    }
+
+    private void run(Subtask<? extends T> subtask) {
+        try {
+            subtask.call();
+            if (!shutdown) {
+                subtask.publish();
+                handleComplete(subtask);
+            }
+        } finally {
+            threads.remove(Thread.currentThread());
+            lock.lock();
+            try {
+                running--;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Politika kancası: kapsam açıkken biten her alt görev için, o görevin thread'inde çağrılır
+     */
+    protected void handleComplete(Subtask<? extends T> subtask) {
+    }
+
+    /**
+     * Tüm alt görevler bitene veya kapsam kapanana kadar bekler
+     */
+    public TaskScope<T> join() throws InterruptedException {
+        ensureOwner();
+        lock.lock();
+        try {
+            while (running > 0 && !shutdown) {
+                changed.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * join() gibi, ama deadline'a kadar. Süre dolarsa kapsamı kapatır (alt görevler interrupt edilir)
+     * ve TimeoutException fırlatır.
+     */
+    public TaskScope<T> joinUntil(Instant deadline) throws InterruptedException, TimeoutException {
+        ensureOwner();
+        long remaining = Math.max(0, Duration.between(Instant.now(), deadline).toNanos());
+        lock.lock();
+        try {
+            while (running > 0 && !shutdown) {
+                if (remaining <= 0) {
+                    break;
+                }
+                remaining = changed.awaitNanos(remaining);
+            }
+            if (running == 0 || shutdown) {
+                return this;
+            }
+        } finally {
+            lock.unlock();
+        }
+        shutdown();
+        throw new TimeoutException(name + ": deadline aşıldı (" + deadline + ")");
+    }
+
+    /**
+     * Kapsamı kapatır: yeni fork başlatılmaz, bitmemiş alt görevler interrupt edilir, join() döner.
+     * Bekleme yapmaz; thread'lerin bitmesini close() bekler.
+     */
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        Thread current = Thread.currentThread();
+        for (Thread thread : threads) {
+            if (thread != current) {
+                thread.interrupt();
+            }
+        }
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Kapsamı kapatır ve tüm alt görev thread'leri bitene kadar bekler (interrupt'a rağmen).
+     * Interrupt'ı yok sayan bir alt görev close()'u o bitene kadar bekletir.
+     */
+    @Override
+    public void close() {
+        ensureOwner();
+        if (closed) {
+            return;
+        }
+        shutdown();
+        boolean interrupted = false;
+        lock.lock();
+        try {
+            while (running > 0) {
+                try {
+                    changed.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        closed = true;
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void ensureOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("Sadece kapsamı açan thread çağırabilir: " + owner.getName());
+        }
+    }
+
+    /**
+     * Tüm görevleri ayrı virtual thread'lerde çalıştırır, sonuçları sırayla döner.
+     * İlk hatada (veya deadline'da) kalanlar iptal edilir; dönüldüğünde hiçbir görev çalışmıyordur.
+     */
+    public static <T> List<T> invokeAll(String name, Collection<? extends Callable<? extends T>> tasks, Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        try (ShutdownOnFailure scope = new ShutdownOnFailure(name)) {
+            List<Subtask<? extends T>> subtasks = new ArrayList<>(tasks.size());
+            for (Callable<? extends T> task : tasks) {
+                subtasks.add(scope.fork(task));
+            }
+            scope.joinUntil(Instant.now().plus(timeout));
+            scope.throwIfFailed();
+            List<T> results = new ArrayList<>(subtasks.size());
+            for (Subtask<? extends T> subtask : subtasks) {
+                results.add(subtask.get());
+            }
+            return results;
+        }
+    }
+
+    /**
+     * İlk başarılı sonucu döner; kalanlar iptal edilir ve dönüldüğünde hiçbiri çalışmıyordur.
+     */
+    public static <T> T invokeAny(String name, Collection<? extends Callable<? extends T>> tasks, Duration timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        try (ShutdownOnSuccess<T> scope = new ShutdownOnSuccess<>(name)) {
+            for (Callable<? extends T> task : tasks) {
+                scope.fork(task);
+            }
+            scope.joinUntil(Instant.now().plus(timeout));
+            return scope.result();
+        }
+    }
+
+    /**
+     * fork() sonucu: alt görev bitip kapsam açıkken yayınlanana kadar UNAVAILABLE
+     */
+    public static final class Subtask<T> implements Supplier<T> {
+
+        public enum State {
+            UNAVAILABLE, SUCCESS, FAILED
+        }
+
+        private final Callable<? extends T> task;
+        private T value;
+        private Throwable exception;
+        private volatile State state = State.UNAVAILABLE;
+
+        Subtask(Callable<? extends T> task) {
+            this.task = task;
+        }
+
+        void call() {
+            try {
+                value = task.call();
+            } catch (Throwable t) {
+                exception = t;
+            }
+        }
+
+        void publish() {
+            state = exception == null ? State.SUCCESS : State.FAILED;
+        }
+
+        public State state() {
+            return state;
+        }
+
+        /**
+         * Başarılı sonuç; SUCCESS değilse IllegalStateException
+         */
+        @Override
+        public T get() {
+            if (state != State.SUCCESS) {
+                throw new IllegalStateException("Alt görev başarılı değil: " + state);
+            }
+            return value;
+        }
+
+        /**
+         * Hata; FAILED değilse IllegalStateException
+         */
+        public Throwable exception() {
+            if (state != State.FAILED) {
+                throw new IllegalStateException("Alt görev hata vermedi: " + state);
+            }
+            return exception;
+        }
+    }
+
+    /**
+     * İlk hatada kapsamı kapatır, kardeşler interrupt edilir
+     */
+    public static class ShutdownOnFailure extends TaskScope<Object> {
+
+        private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+        public ShutdownOnFailure(String name) {
+            super(name);
+        }
+
+        @Override
+        protected void handleComplete(Subtask<?> subtask) {
+            if (subtask.state() == Subtask.State.FAILED && firstFailure.compareAndSet(null, subtask.exception())) {
+                shutdown();
+            }
+        }
+
+        @Override
+        public ShutdownOnFailure join() throws InterruptedException {
+            super.join();
+            return this;
+        }
+
+        @Override
+        public ShutdownOnFailure joinUntil(Instant deadline) throws InterruptedException, TimeoutException {
+            super.joinUntil(deadline);
+            return this;
+        }
+
+        public Optional<Throwable> exception() {
+            return Optional.ofNullable(firstFailure.get());
+        }
+
+        /**
+         * Bir alt görev hata verdiyse ilk hatayı ExecutionException içinde fırlatır
+         */
+        public void throwIfFailed() throws ExecutionException {
+            Throwable failure = firstFailure.get();
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+        }
+    }
+
+    /**
+     * İlk başarılı sonuçta kapsamı kapatır, diğerleri interrupt edilir
+     */
+    public static class ShutdownOnSuccess<T> extends TaskScope<T> {
+
+        private final AtomicReference<Subtask<? extends T>> winner = new AtomicReference<>();
+        private final AtomicReference<Throwable> lastFailure = new AtomicReference<>();
+
+        public ShutdownOnSuccess(String name) {
+            super(name);
+        }
+
+        @Override
+        protected void handleComplete(Subtask<? extends T> subtask) {
+            if (subtask.state() == Subtask.State.SUCCESS) {
+                if (winner.compareAndSet(null, subtask)) {
+                    shutdown();
+                }
+            } else {
+                lastFailure.set(subtask.exception());
+            }
+        }
+
+        @Override
+        public ShutdownOnSuccess<T> join() throws InterruptedException {
+            super.join();
+            return this;
+        }
+
+        @Override
+        public ShutdownOnSuccess<T> joinUntil(Instant deadline) throws InterruptedException, TimeoutException {
+            super.joinUntil(deadline);
+            return this;
+        }
+
+        /**
+         * İlk başarılı sonuç. Hepsi hata verdiyse son hata ExecutionException içinde;
+         * hiç sonuç yoksa (join edilmedi / fork yok) IllegalStateException.
+         */
+        public T result() throws ExecutionException {
+            Subtask<? extends T> first = winner.get();
+            if (first != null) {
+                return first.get();
+            }
+            Throwable failure = lastFailure.get();
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+            throw new IllegalStateException("Başarılı alt görev yok");
+        }
+    }
+}
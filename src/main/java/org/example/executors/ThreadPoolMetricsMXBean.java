@@ -0,0 +1,62 @@
+package org.example.executors;
+
+/**
+ * InstrumentedThreadPoolExecutor'ın JMX arayüzü (JConsole / VisualVM / JMC'de MBeans sekmesi)
+ *
+ * ObjectName: org.example.executors:type=ThreadPool,name=&lt;havuz adı&gt;
+ * Süreler mikrosaniye. Yüzdelikler havuz açıldığından beri tüm task'ler üzerinden.
+ * setCorePoolSize / setMaximumPoolSize yazılabilir öznitelik olarak görünür:
+ * havuz çalışırken JConsole'dan büyütülüp küçültülebilir.
+ */
+public interface ThreadPoolMetricsMXBean {
+
+    String getName();
+
+    int getCorePoolSize();
+
+    void setCorePoolSize(int corePoolSize);
+
+    int getMaximumPoolSize();
+
+    void setMaximumPoolSize(int maximumPoolSize);
+
+    int getPoolSize();
+
+    int getLargestPoolSize();
+
+    int getActiveCount();
+
+    int getPeakActiveCount();
+
+    int getQueueDepth();
+
+    int getPeakQueueDepth();
+
+    int getQueueRemainingCapacity();
+
+    long getSubmittedCount();
+
+    long getCompletedCount();
+
+    long getFailedCount();
+
+    long getRejectedCount();
+
+    /**
+     * Son okumadan bu yana worker'ların task çalıştırarak geçirdiği sürenin
+     * (süre × thread sayısı) oranı, 0..1
+     */
+    double getUtilization();
+
+    long getQueueWaitP50Micros();
+
+    long getQueueWaitP99Micros();
+
+    long getQueueWaitMaxMicros();
+
+    long getRunTimeP50Micros();
+
+    long getRunTimeP99Micros();
+
+    long getRunTimeMaxMicros();
+}
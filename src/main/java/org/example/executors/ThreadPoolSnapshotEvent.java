@@ -0,0 +1,50 @@
+package org.example.executors;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Yaşayan her InstrumentedThreadPoolExecutor için periyodik JFR olayı
+ *
+ * Kayıt açıkken (ör. -XX:StartFlightRecording) saniyede bir yazılır;
+ * JMC'de Event Browser → org.example → Executors altında görünür.
+ */
+@Name("org.example.ThreadPoolSnapshot")
+@Label("Thread Pool Snapshot")
+@Description("InstrumentedThreadPoolExecutor kuyruk, worker ve gecikme durumu")
+@Category({"org.example", "Executors"})
+@Period("1 s")
+@StackTrace(false)
+class ThreadPoolSnapshotEvent extends jdk.jfr.Event {
+
+    @Label("Pool")
+    String pool;
+
+    @Label("Pool Size")
+    int poolSize;
+
+    @Label("Active Threads")
+    int activeCount;
+
+    @Label("Queue Depth")
+    int queueDepth;
+
+    @Label("Completed Tasks")
+    long completed;
+
+    @Label("Rejected Tasks")
+    long rejected;
+
+    @Label("Queue Wait p99")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueWaitP99;
+
+    @Label("Run Time p99")
+    @Timespan(Timespan.NANOSECONDS)
+    long runTimeP99;
+}
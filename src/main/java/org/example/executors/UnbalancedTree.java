@@ -0,0 +1,277 @@
+package org.example.executors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dengesiz ağaç (Unbalanced Tree Search / binom ağacı): ince taneli, önceden bölünemeyen iş grafiği
+ *
+ * Ağaç bellekte tutulmaz, her düğüm seed'inden türetilir (aynı seed → aynı ağaç):
+ * - Kök ROOT_CHILDREN çocuklu
+ * - Diğer düğümler PROBABILITY olasılıkla BRANCHING çocuklu, yoksa yaprak
+ *   (BRANCHING × PROBABILITY = 0.99 → alt ağaç boyutu ortalama 100, ama çok değişken:
+ *   çoğu kök çocuğu birkaç düğüm, birkaçı on binlerce)
+ * - Her düğümde workIterations adımlık CPU işi (dizindeki dosyaların boyutunu toplamak gibi)
+ *
+ * Hangi alt ağacın büyük olduğu önceden bilinmez; işi eşit parçalara bölmek mümkün değildir.
+ * Çocuklar ancak düğüm işlendikten sonra ortaya çıkar, yani iş çalışırken üretilir.
+ *
+ * Yürütme şekilleri:
+ * - sequential(): tek thread, referans
+ * - Node (RecursiveTask): fork/join, ForkJoinPool'da çalışır
+ * - SharedQueueWalk: her düğüm çocuklarını executor'a gönderir, bitiş sayaçla izlenir
+ *   (kimse beklemez). FixedThreadPool'da tüm task'ler TEK paylaşılan kuyruktan geçer,
+ *   WORK_STEALING'de worker'ın kendi deque'sine girer.
+ * - visitBlocking(): her düğüm çocuklarını gönderip Future.get() ile bekler. FixedThreadPool'da
+ *   bekleyen her düğüm bir thread'i tutar; ağaç derinliği thread sayısını aşınca kilitlenir
+ */
+public final class UnbalancedTree {
+
+    public static final int ROOT_CHILDREN = 2000;
+    public static final int BRANCHING = 4;
+    public static final double PROBABILITY = 0.2475;
+
+    private static final long PROBABILITY_THRESHOLD = (long) (PROBABILITY * (1L << 53));
+
+    private final long rootSeed;
+    private final int workIterations;
+    private volatile long blackhole;
+
+    public UnbalancedTree(long rootSeed, int workIterations) {
+        this.rootSeed = rootSeed;
+        this.workIterations = workIterations;
+    }
+
+    public int childCount(long seed, boolean root) {
+        if (root) {
+            return ROOT_CHILDREN;
+        }
+        return (mix(seed) >>> 11) < PROBABILITY_THRESHOLD ? BRANCHING : 0;
+    }
+
+    public static long childSeed(long seed, int index) {
+        return mix(seed + 0x9E3779B97F4A7C15L * (index + 1));
+    }
+
+    /**
+     * Düğüm başına CPU işi; sonuç kullanılır ki JIT döngüyü silmesin
+     */
+    public long work(long seed) {
+        long x = seed | 1;
+        for (int i = 0; i < workIterations; i++) {
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+        }
+        return x;
+    }
+
+    /**
+     * Tek thread'de düğüm sayısı (referans). Yığın taşmasın diye özyineleme yerine açık yığın.
+     */
+    public long sequential() {
+        return sequential(rootSeed, true);
+    }
+
+    /**
+     * seed düğümünün alt ağacındaki düğüm sayısı (kendisi dahil)
+     */
+    public long sequential(long seed, boolean root) {
+        long nodes = 0;
+        long sum = 0;
+        long[] stack = new long[1024];
+        boolean[] roots = new boolean[1024];
+        int top = 0;
+        stack[top] = seed;
+        roots[top++] = root;
+        while (top > 0) {
+            long current = stack[--top];
+            sum += work(current);
+            nodes++;
+            int children = childCount(current, roots[top]);
+            if (top + children > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2 + children);
+                roots = Arrays.copyOf(roots, stack.length);
+            }
+            for (int i = 0; i < children; i++) {
+                stack[top] = childSeed(current, i);
+                roots[top++] = false;
+            }
+        }
+        blackhole = sum;
+        return nodes;
+    }
+
+    /**
+     * Fork/join: çocuklar fork() edilir, sonuncusu bu thread'de hesaplanır, diğerleri
+     * ters sırada join() edilir (en son fork edilen deque'nin başında, çalınmadıysa hemen alınır)
+     */
+    @SuppressWarnings("serial")  // ForkJoinTask Serializable; bu task hiç serileştirilmez (WorkerLoad alanı serileştirilemez)
+    public final class Node extends RecursiveTask<Long> {
+        private final long seed;
+        private final boolean root;
+        private final WorkerLoad load;
+
+        public Node(long seed, boolean root, WorkerLoad load) {
+            this.seed = seed;
+            this.root = root;
+            this.load = load;
+        }
+
+        @Override
+        protected Long compute() {
+            load.record(work(seed));
+            int children = childCount(seed, root);
+            if (children == 0) {
+                return 1L;
+            }
+            Node[] forked = new Node[children - 1];
+            for (int i = 0; i < children - 1; i++) {
+                forked[i] = new Node(childSeed(seed, i), false, load);
+                forked[i].fork();
+            }
+            long nodes = 1 + new Node(childSeed(seed, children - 1), false, load).compute();
+            for (int i = children - 2; i >= 0; i--) {
+                nodes += forked[i].join();
+            }
+            return nodes;
+        }
+    }
+
+    public long rootSeed() {
+        return rootSeed;
+    }
+
+    public Node root(WorkerLoad load) {
+        return new Node(rootSeed, true, load);
+    }
+
+    /**
+     * Kimsenin beklemediği gezinme: her düğüm çocuklarını executor'a gönderir,
+     * bekleyen düğüm sayacı sıfıra inince bitmiştir
+     */
+    public final class SharedQueueWalk {
+        private final ExecutorService executor;
+        private final WorkerLoad load;
+        private final AtomicLong pending = new AtomicLong();
+        private final LongAdder nodes = new LongAdder();
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        public SharedQueueWalk(ExecutorService executor, WorkerLoad load) {
+            this.executor = executor;
+            this.load = load;
+        }
+
+        public long run() throws InterruptedException {
+            submit(rootSeed, true);
+            done.await();
+            return nodes.sum();
+        }
+
+        private void submit(long seed, boolean root) {
+            pending.incrementAndGet();
+            executor.execute(() -> visit(seed, root));
+        }
+
+        private void visit(long seed, boolean root) {
+            load.record(work(seed));
+            nodes.increment();
+            int children = childCount(seed, root);
+            for (int i = 0; i < children; i++) {
+                submit(childSeed(seed, i), false);
+            }
+            if (pending.decrementAndGet() == 0) {
+                done.countDown();
+            }
+        }
+    }
+
+    /**
+     * Düğüm çocuklarını gönderir ve Future.get() ile bekler: bekleyen düğüm thread'ini bırakmaz
+     */
+    public long visitBlocking(ExecutorService executor, long seed, boolean root, WorkerLoad load)
+            throws InterruptedException, ExecutionException {
+        load.record(work(seed));
+        int children = childCount(seed, root);
+        List<Future<Long>> futures = new ArrayList<>(children);
+        for (int i = 0; i < children; i++) {
+            long child = childSeed(seed, i);
+            futures.add(executor.submit(() -> visitBlocking(executor, child, false, load)));
+        }
+        long nodes = 1;
+        for (Future<Long> future : futures) {
+            nodes += future.get();
+        }
+        return nodes;
+    }
+
+    // SplitMix64 karıştırıcı
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Worker başına işlenen düğüm sayısı: iş worker'lara ne kadar eşit dağıldı?
+     * Her worker kendi sayacına yazar (paylaşılan sayaç çekişmesi olmasın).
+     */
+    public static final class WorkerLoad {
+        private final List<long[]> counters = new ArrayList<>();
+        private final ThreadLocal<long[]> local = ThreadLocal.withInitial(this::register);
+        private volatile long blackhole;
+
+        private synchronized long[] register() {
+            long[] counter = new long[2];
+            counters.add(counter);
+            return counter;
+        }
+
+        void record(long workResult) {
+            long[] counter = local.get();
+            counter[0]++;
+            counter[1] += workResult;
+        }
+
+        public synchronized int workers() {
+            return counters.size();
+        }
+
+        public synchronized long minNodes() {
+            long min = counters.isEmpty() ? 0 : Long.MAX_VALUE;
+            for (long[] counter : counters) {
+                min = Math.min(min, counter[0]);
+            }
+            return min;
+        }
+
+        public synchronized long maxNodes() {
+            long max = 0;
+            for (long[] counter : counters) {
+                max = Math.max(max, counter[0]);
+                blackhole += counter[1];
+            }
+            return max;
+        }
+
+        public synchronized String distribution() {
+            if (counters.isEmpty()) {
+                return "-";
+            }
+            long sum = 0;
+            for (long[] counter : counters) {
+                sum += counter[0];
+            }
+            return String.format("%d worker, en az %d / en çok %d düğüm (ort %d)",
+                    counters.size(), minNodes(), maxNodes(), sum / counters.size());
+        }
+    }
+}
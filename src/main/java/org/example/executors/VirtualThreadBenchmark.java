@@ -0,0 +1,230 @@
+package org.example.executors;
+
+import org.example.concurrent.metrics.ConcurrentLatencyHistogram;
+import org.example.concurrent.metrics.LatencyHistogram;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Platform Havuzları vs Virtual Thread-per-Task - Bloklayan Task'lerde Throughput, Bellek, Gecikme
+ *
+ * Task: TaskProcessorExample'daki Task.process() gibi sadece uyuyan (I/O bekleyen) iş.
+ * Bu tür işte throughput CPU'ya değil, AYNI ANDA kaç task'in bekleyebildiğine bağlıdır:
+ * - FixedThreadPool(N):  en fazla N task uyur, gerisi kuyrukta → throughput ≈ N / sleep
+ * - CachedThreadPool:    her bekleyen task'e bir platform thread (~1MB stack rezervi, çekirdek kaynağı)
+ * - Virtual:             her task'e bir virtual thread; uyurken carrier'ı bırakır, yığını heap'te
+ * - Virtual + limit:     aynısı, Semaphore ile en fazla L eşzamanlı task (gönderen bekler)
+ *
+ * Her çalıştırmada ölçülenler:
+ * - Throughput: task sayısı / (ilk gönderim → son task bitişi)
+ * - Gecikme: gönderim → task bitişi (p50/p99/max), uyku süresi dahil
+ * - Bellek: 5ms'de bir örneklenen heap kullanımının başlangıca göre en yüksek artışı
+ *   ve en yüksek platform thread sayısı. Platform thread yığınları heap dışındadır (native);
+ *   virtual thread yığınları ise heap'tedir, bu yüzden ikisi ayrı yazılır.
+ *
+ * CACHED, task sayısı 10.000'i aşınca çalıştırılmaz (o kadar platform thread açmak makineyi
+ * zorlar). Tahmini süresi 30 sn'yi aşan FIXED çalıştırmaları da atlanır.
+ *
+ * Çalıştırma:
+ *   java ... VirtualThreadBenchmark                              (10k, 100k, 1M task; 10ms uyku; havuz 200)
+ *   java ... VirtualThreadBenchmark 10000,50000 20 500           (task sayıları, uyku ms, havuz / limit)
+ *   Büyük sayılarda heap yetmezse: java -Xmx2g ...
+ */
+public class VirtualThreadBenchmark {
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static final int CACHED_MAX_TASKS = 10_000;
+    private static final long MAX_ESTIMATED_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    public static void main(String[] args) throws InterruptedException {
+        int[] taskCounts = parseCounts(args.length > 0 ? args[0] : "10000,100000,1000000");
+        int sleepMs = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int poolSize = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int virtualLimit = poolSize * 10;
+
+        System.out.println("=== Platform Havuzları vs Virtual Thread-per-Task ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.println("- Task sayıları: " + Arrays.toString(taskCounts));
+        System.out.println("- Task: sleep(" + sleepMs + "ms)");
+        System.out.println("- FixedThreadPool: " + poolSize + " thread");
+        System.out.println("- Sınırlı virtual: en fazla " + virtualLimit + " eşzamanlı");
+        System.out.println("- CPU: " + Runtime.getRuntime().availableProcessors() + " çekirdek, max heap: "
+                + Runtime.getRuntime().maxMemory() / (1024 * 1024) + "MB");
+        System.out.println();
+
+        // JIT ısınması: küçük bir tur, sonuçları yazılmaz
+        run(ExecutorType.VIRTUAL, poolSize, 10_000, 1);
+        run(ExecutorType.FIXED, poolSize, 10_000, 1);
+
+        List<Result> results = new ArrayList<>();
+        for (int taskCount : taskCounts) {
+            System.out.println("--- " + taskCount + " task ---");
+            for (ExecutorType type : new ExecutorType[] {
+                    ExecutorType.FIXED, ExecutorType.CACHED, ExecutorType.VIRTUAL, ExecutorType.VIRTUAL_BOUNDED}) {
+                int parallelism = type == ExecutorType.VIRTUAL_BOUNDED ? virtualLimit : poolSize;
+                String skip = skipReason(type, taskCount, sleepMs, poolSize);
+                if (skip != null) {
+                    System.out.printf("  %-16s atlandı: %s%n", type, skip);
+                    continue;
+                }
+                Result result = run(type, parallelism, taskCount, sleepMs);
+                System.out.println("  " + result.line());
+                results.add(result);
+            }
+            System.out.println();
+        }
+
+        System.out.println("=== ÖZET ===");
+        System.out.printf("%-16s %9s %12s %9s %9s %9s %12s %10s%n",
+                "Executor", "Task", "task/sn", "p50", "p99", "max", "heap artışı", "platform");
+        for (Result r : results) {
+            System.out.printf("%-16s %9d %12.0f %9s %9s %9s %10dMB %10d%n",
+                    r.type, r.taskCount, r.throughput(),
+                    LatencyHistogram.formatNanos(r.latency.valueAtPercentile(50)),
+                    LatencyHistogram.formatNanos(r.latency.valueAtPercentile(99)),
+                    LatencyHistogram.formatNanos(r.latency.max()),
+                    r.peakHeapDelta / (1024 * 1024), r.peakPlatformThreads);
+        }
+
+        System.out.println("\n💡 Uyuyan task'lerde FIXED'in throughput'u havuz boyutuyla sınırlı, gecikmesi kuyrukta bekleme kadar uzar.");
+        System.out.println("   Virtual thread'ler tüm task'leri aynı anda uyutur: platform thread sayısı ~carrier sayısında kalır,");
+        System.out.println("   maliyet heap'te (task başına birkaç yüz byte'lık yığın parçası) görünür.");
+        System.out.println("   Limitsiz virtual'da yüz binlerce task aynı anda uyanıp carrier kuyruğunda (çekirdek sayısı kadar carrier)");
+        System.out.println("   sıra bekler; az çekirdekte gecikme bundandır. Limit hem arkadaki kaynağı korur hem de bu birikmeyi");
+        System.out.println("   gönderene geri basınç olarak taşır: FIXED kadar yavaşlatmadan eşzamanlılığı sınırlar.");
+    }
+
+    private static String skipReason(ExecutorType type, int taskCount, int sleepMs, int poolSize) {
+        if (type == ExecutorType.CACHED && taskCount > CACHED_MAX_TASKS) {
+            return taskCount + " platform thread açar (sınır " + CACHED_MAX_TASKS + ")";
+        }
+        if (type == ExecutorType.FIXED) {
+            long estimated = TimeUnit.MILLISECONDS.toNanos(sleepMs) * taskCount / poolSize;
+            if (estimated > MAX_ESTIMATED_NANOS) {
+                return "tahmini süre " + LatencyHistogram.formatNanos(estimated) + " (" + taskCount + " × "
+                        + sleepMs + "ms / " + poolSize + " thread)";
+            }
+        }
+        return null;
+    }
+
+    private static Result run(ExecutorType type, int parallelism, int taskCount, int sleepMs)
+            throws InterruptedException {
+        System.gc();
+        Thread.sleep(100);
+        long baselineHeap = MEMORY.getHeapMemoryUsage().getUsed();
+        THREADS.resetPeakThreadCount();
+
+        Sampler sampler = new Sampler(baselineHeap);
+        sampler.start();
+
+        ConcurrentLatencyHistogram latency = new ConcurrentLatencyHistogram();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = type.create(parallelism);
+        long start = System.nanoTime();
+        for (int i = 0; i < taskCount; i++) {
+            long submittedAt = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(sleepMs);
+                } catch (InterruptedException e) {
+                    failed.incrementAndGet();
+                }
+                latency.record(System.nanoTime() - submittedAt);
+            });
+        }
+        long submitNanos = System.nanoTime() - start;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+
+        sampler.interrupt();
+        sampler.join();
+        return new Result(type, taskCount, elapsed, submitNanos, latency.snapshot(),
+                sampler.peakHeapDelta, THREADS.getPeakThreadCount(), failed.get());
+    }
+
+    /**
+     * Heap kullanımını 5ms'de bir örnekler. Virtual thread'lerin yığınları heap'te olduğu için
+     * burada görünür; GC araya girerse tepe değer düşük kalabilir (alt sınır olarak okunmalı).
+     */
+    private static final class Sampler extends Thread {
+        private final long baselineHeap;
+        volatile long peakHeapDelta;
+
+        Sampler(long baselineHeap) {
+            super("HeapSampler");
+            this.baselineHeap = baselineHeap;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (!isInterrupted()) {
+                long delta = MEMORY.getHeapMemoryUsage().getUsed() - baselineHeap;
+                if (delta > peakHeapDelta) {
+                    peakHeapDelta = delta;
+                }
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Result {
+        final ExecutorType type;
+        final int taskCount;
+        final long elapsedNanos;
+        final long submitNanos;
+        final LatencyHistogram latency;
+        final long peakHeapDelta;
+        final int peakPlatformThreads;
+        final int failed;
+
+        Result(ExecutorType type, int taskCount, long elapsedNanos, long submitNanos, LatencyHistogram latency,
+               long peakHeapDelta, int peakPlatformThreads, int failed) {
+            this.type = type;
+            this.taskCount = taskCount;
+            this.elapsedNanos = elapsedNanos;
+            this.submitNanos = submitNanos;
+            this.latency = latency;
+            this.peakHeapDelta = peakHeapDelta;
+            this.peakPlatformThreads = peakPlatformThreads;
+            this.failed = failed;
+        }
+
+        double throughput() {
+            return taskCount * 1e9 / elapsedNanos;
+        }
+
+        String line() {
+            return String.format("%-16s %.2fs, %.0f task/sn, gönderim %s, heap +%dMB, en fazla %d platform thread%s%n    %s",
+                    type, elapsedNanos / 1e9, throughput(), LatencyHistogram.formatNanos(submitNanos),
+                    peakHeapDelta / (1024 * 1024), peakPlatformThreads,
+                    failed > 0 ? ", " + failed + " task kesildi" : "",
+                    latency.summary("gecikme"));
+        }
+    }
+
+    private static int[] parseCounts(String arg) {
+        String[] parts = arg.split(",");
+        int[] counts = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            counts[i] = Integer.parseInt(parts[i].trim());
+        }
+        return counts;
+    }
+}
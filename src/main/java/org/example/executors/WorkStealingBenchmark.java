@@ -0,0 +1,229 @@
+package org.example.executors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * FixedThreadPool vs Work-Stealing - İnce Taneli, Dengesiz İş Grafiği
+ *
+ * İş: UnbalancedTree (binom ağacı, ~yüz binlerce düğüm). Her düğüm küçük bir CPU işi yapar
+ * ve çocuklarını ancak işlendikten sonra üretir. Kök çocuklarının alt ağaçları çok farklı
+ * boyutlardadır, işi baştan eşit bölmek mümkün değildir.
+ *
+ * Karşılaştırılanlar (aynı thread sayısı):
+ * - FIXED + Future.get():   özyinelemeli iş havuzda olduğu gibi; her düğüm çocuklarını bekler.
+ *                           Bekleyen düğümler thread'leri tutar → thread açlığı (kilitlenme)
+ * - FIXED + sayaç:          kimse beklemez, her düğüm çocuklarını gönderir, bitiş sayaçla izlenir.
+ *                           Tüm task'ler TEK kuyruktan (tek lock) geçer
+ * - WORK_STEALING + sayaç:  aynı kod, newWorkStealingPool: worker içinden gönderilen task
+ *                           kendi deque'sine girer, boşta kalan worker çalar
+ * - ForkJoinPool + fork/join: RecursiveTask, join() beklerken worker başka task çalıştırır
+ *
+ * Her çalıştırmada: süre, düğüm/sn, sıralıya göre hızlanma, çalma (steal) sayısı
+ * ve worker başına işlenen düğüm dağılımı. Her satır 3 denemenin en iyisidir.
+ * Tek çekirdekte de 4 thread açılır (kilitlenme ve dağılım görünsün diye), ama paralel
+ * hızlanma ancak çok çekirdekte görülür; orada sıralıdan yavaş olan her şey ek maliyettir.
+ *
+ * Çalıştırma:
+ *   java ... WorkStealingBenchmark                  (düğüm işi 50 ve 500 adım, thread = çekirdek, en az 4)
+ *   java ... WorkStealingBenchmark 10,100,1000 8 7  (düğüm işi adımları, thread sayısı, ağaç seed'i)
+ */
+public class WorkStealingBenchmark {
+
+    private static final int RUNS = 3;
+    private static final long BLOCKING_TIMEOUT_SEC = 5;
+
+    public static void main(String[] args) throws Exception {
+        int[] workIterations = parseCounts(args.length > 0 ? args[0] : "50,500");
+        int threads = args.length > 1 ? Integer.parseInt(args[1])
+                : Math.max(4, Runtime.getRuntime().availableProcessors());
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+        System.out.println("=== FixedThreadPool vs Work-Stealing: Dengesiz Ağaç ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.println("- Ağaç: kök " + UnbalancedTree.ROOT_CHILDREN + " çocuk, diğer düğümler "
+                + UnbalancedTree.PROBABILITY + " olasılıkla " + UnbalancedTree.BRANCHING + " çocuk, seed " + seed);
+        System.out.println("- Düğüm işi (adım): " + Arrays.toString(workIterations));
+        System.out.println("- Thread sayısı: " + threads + " (çekirdek: " + Runtime.getRuntime().availableProcessors() + ")");
+        printTreeShape(new UnbalancedTree(seed, 0));
+        System.out.println();
+
+        List<String> rows = new ArrayList<>();
+        for (int work : workIterations) {
+            UnbalancedTree tree = new UnbalancedTree(seed, work);
+            System.out.println("--- Düğüm işi " + work + " adım ---");
+
+            // Isınma: sıralı ve fork/join birer tur
+            tree.sequential();
+            runForkJoin(tree, threads);
+
+            Result sequential = best(() -> runSequential(tree));
+            Result blocking = runFixedBlocking(tree, threads);
+            Result fixed = best(() -> runSharedQueue(tree, ExecutorType.FIXED, threads));
+            Result stealing = best(() -> runSharedQueue(tree, ExecutorType.WORK_STEALING, threads));
+            Result forkJoin = best(() -> runForkJoin(tree, threads));
+
+            for (Result result : new Result[] {sequential, blocking, fixed, stealing, forkJoin}) {
+                if (result.nodes >= 0 && result.nodes != sequential.nodes) {
+                    throw new IllegalStateException(result.name + " yanlış düğüm sayısı: " + result.nodes);
+                }
+                System.out.println("  " + result.line(sequential));
+                rows.add(String.format("%6d  %s", work, result.row(sequential)));
+            }
+            System.out.println();
+        }
+
+        System.out.println("=== ÖZET ===");
+        System.out.printf("%6s  %-26s %10s %12s %9s %10s %14s%n",
+                "İş", "Yürütme", "süre", "düğüm/sn", "hızlanma", "steal", "en az/en çok");
+        rows.forEach(System.out::println);
+
+        System.out.println("\n💡 FIXED + Future.get(): bekleyen her düğüm bir thread'i tutar; ağaç derinliği thread sayısını");
+        System.out.println("   geçince tüm thread'ler çocuklarını bekler, çocuklar kuyrukta çalışacak thread bekler (kilitlenme).");
+        System.out.println("   FIXED + sayaç kilitlenmez ama her gönderim ve her alım tek kuyruğun lock'undan geçer;");
+        System.out.println("   düğüm işi küçüldükçe süre kuyruk çekişmesine gider.");
+        System.out.println("   Work-stealing'de gönderim worker'ın kendi deque'sine (lock'suz), çalma deque'nin öbür ucundan;");
+        System.out.println("   fork/join'de join() bekleyen worker başka düğüm çalıştırır, thread tutmaz.");
+        System.out.println("   Düğüm işi büyüdükçe (kaba taneli iş) kuyruk maliyeti önemsizleşir ve fark kapanır.");
+    }
+
+    interface Run {
+        Result run() throws Exception;
+    }
+
+    private static Result best(Run run) throws Exception {
+        Result best = null;
+        for (int i = 0; i < RUNS; i++) {
+            Result result = run.run();
+            if (best == null || result.elapsedNanos < best.elapsedNanos) {
+                best = result;
+            }
+        }
+        return best;
+    }
+
+    private static Result runSequential(UnbalancedTree tree) {
+        long start = System.nanoTime();
+        long nodes = tree.sequential();
+        return new Result("Sıralı (1 thread)", nodes, System.nanoTime() - start, -1, null);
+    }
+
+    private static Result runFixedBlocking(UnbalancedTree tree, int threads) throws Exception {
+        ExecutorService executor = ExecutorType.FIXED.create(threads);
+        UnbalancedTree.WorkerLoad load = new UnbalancedTree.WorkerLoad();
+        long start = System.nanoTime();
+        Future<Long> root = executor.submit(() -> tree.visitBlocking(executor, tree.rootSeed(), true, load));
+        long nodes;
+        try {
+            nodes = root.get(BLOCKING_TIMEOUT_SEC, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            nodes = -1;  // Thread açlığı: tüm worker'lar Future.get()'te
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        return new Result("FIXED + Future.get()", nodes, elapsed, -1, load);
+    }
+
+    private static Result runSharedQueue(UnbalancedTree tree, ExecutorType type, int threads) throws Exception {
+        ExecutorService executor = type.create(threads);
+        UnbalancedTree.WorkerLoad load = new UnbalancedTree.WorkerLoad();
+        long start = System.nanoTime();
+        long nodes = tree.new SharedQueueWalk(executor, load).run();
+        long elapsed = System.nanoTime() - start;
+        long steals = executor instanceof ForkJoinPool pool ? pool.getStealCount() : -1;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        return new Result(type + " + sayaç", nodes, elapsed, steals, load);
+    }
+
+    private static Result runForkJoin(UnbalancedTree tree, int threads) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        UnbalancedTree.WorkerLoad load = new UnbalancedTree.WorkerLoad();
+        long start = System.nanoTime();
+        long nodes = pool.invoke(tree.root(load));
+        long elapsed = System.nanoTime() - start;
+        long steals = pool.getStealCount();
+        pool.shutdown();
+        return new Result("ForkJoinPool + fork/join", nodes, elapsed, steals, load);
+    }
+
+    /**
+     * Kök çocuklarının alt ağaç boyutları: dengesizliğin ölçüsü
+     */
+    private static void printTreeShape(UnbalancedTree tree) {
+        long total = 1;
+        long largest = 0;
+        long leaves = 0;
+        long root = tree.rootSeed();
+        for (int i = 0; i < UnbalancedTree.ROOT_CHILDREN; i++) {
+            long size = tree.sequential(UnbalancedTree.childSeed(root, i), false);
+            total += size;
+            largest = Math.max(largest, size);
+            if (size == 1) {
+                leaves++;
+            }
+        }
+        System.out.printf("- Ağaç boyutu: %d düğüm; kök çocuklarının %d'i tek düğüm, en büyük alt ağaç %d düğüm (%%%.1f)%n",
+                total, leaves, largest, largest * 100.0 / total);
+    }
+
+    private static int[] parseCounts(String arg) {
+        String[] parts = arg.split(",");
+        int[] counts = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            counts[i] = Integer.parseInt(parts[i].trim());
+        }
+        return counts;
+    }
+
+    private static final class Result {
+        final String name;
+        final long nodes;         // -1 = kilitlendi
+        final long elapsedNanos;
+        final long steals;        // -1 = work-stealing havuzu değil
+        final UnbalancedTree.WorkerLoad load;  // null = sıralı
+
+        Result(String name, long nodes, long elapsedNanos, long steals, UnbalancedTree.WorkerLoad load) {
+            this.name = name;
+            this.nodes = nodes;
+            this.elapsedNanos = elapsedNanos;
+            this.steals = steals;
+            this.load = load;
+        }
+
+        String line(Result sequential) {
+            if (nodes < 0) {
+                return String.format("%-26s ⚠️  %d sn içinde bitmedi: thread açlığı (%s)",
+                        name, BLOCKING_TIMEOUT_SEC, load.distribution());
+            }
+            return String.format("%-26s %.3f sn, %.2fM düğüm/sn, %.2fx%s%n    %s",
+                    name, elapsedNanos / 1e9, throughput() / 1e6, speedup(sequential),
+                    steals >= 0 ? ", " + steals + " steal" : "", load == null ? "1 thread" : load.distribution());
+        }
+
+        String row(Result sequential) {
+            if (nodes < 0) {
+                return String.format("%-26s %10s %12s %9s %10s %14s", name, "KİLİTLENDİ", "-", "-", "-", "-");
+            }
+            return String.format("%-26s %9.3fs %12.0f %8.2fx %10s %14s",
+                    name, elapsedNanos / 1e9, throughput(), speedup(sequential),
+                    steals >= 0 ? Long.toString(steals) : "-",
+                    load == null ? "-" : load.minNodes() + "/" + load.maxNodes());
+        }
+
+        double throughput() {
+            return nodes * 1e9 / elapsedNanos;
+        }
+
+        double speedup(Result sequential) {
+            return sequential.elapsedNanos / (double) elapsedNanos;
+        }
+    }
+}
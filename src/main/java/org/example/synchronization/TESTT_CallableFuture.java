@@ -1,5 +1,11 @@
 package org.example.synchronization;
 
+import org.example.executors.AsyncPipeline;
+import org.example.executors.ExecutorType;
+import org.example.executors.HedgingExecutor;
+import org.example.executors.TaskScope;
+
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.*;
@@ -16,9 +22,21 @@ import java.util.concurrent.*;
  * - get() ile sonucu alabilirsin (bloklar, bekler)
  * - cancel() ile işlemi iptal edebilirsin
  * - isDone() ile bitip bitmediğini kontrol edebilirsin
+ *
+ * Çalıştırma:
+ *   java ... TESTT_CallableFuture           (paralel örnekler FixedThreadPool(3) ile)
+ *   java ... TESTT_CallableFuture VIRTUAL   (5., 6., 9., 10. ve 11. örnekler virtual thread-per-task ile)
+ *   Seçenekler: FIXED | CACHED | WORK_STEALING | VIRTUAL | VIRTUAL_BOUNDED (3 eşzamanlı)
+ *   Bloklayan vs asenkron benchmark: java ... org.example.executors.AsyncPipelineBenchmark
+ *   Tek istek vs invokeAny vs hedging:  java ... org.example.executors.HedgingBenchmark
+ *   Hata sonrası kardeş iptali:         java ... org.example.executors.StructuredConcurrencyBenchmark
+ *   12. ve 13. örnekler her zaman virtual thread kullanır (TaskScope), executor seçimi onları etkilemez.
  */
 public class TESTT_CallableFuture {
 
+    // 5. ve 6. örneklerin executor'u (main'in 1. argümanı)
+    private static ExecutorType parallelExecutor = ExecutorType.FIXED;
+
     /**
      * 1. RUNNABLE vs CALLABLE
      */
@@ -150,9 +168,9 @@ public class TESTT_CallableFuture {
      * 5. BİRDEN FAZLA CALLABLE - PARALEL İŞLEMLER
      */
     static void example5_MultipleCallables() {
-        System.out.println("=== 5. Birden Fazla Callable - Paralel ===\n");
+        System.out.println("=== 5. Birden Fazla Callable - Paralel (" + parallelExecutor + ") ===\n");
 
-        ExecutorService executor = Executors.newFixedThreadPool(3);
+        ExecutorService executor = parallelExecutor.create(3);
 
         // 5 görev oluştur
         List<Callable<Integer>> tasks = new ArrayList<>();
@@ -195,9 +213,9 @@ public class TESTT_CallableFuture {
      * 6. INVOKE ANY - İLK BİTEN KAZANIR
      */
     static void example6_InvokeAny() {
-        System.out.println("=== 6. invokeAny() - İlk Biten Kazanır ===\n");
+        System.out.println("=== 6. invokeAny() - İlk Biten Kazanır (" + parallelExecutor + ") ===\n");
 
-        ExecutorService executor = Executors.newFixedThreadPool(3);
+        ExecutorService executor = parallelExecutor.create(3);
 
         List<Callable<String>> tasks = new ArrayList<>();
 
@@ -297,7 +315,251 @@ public class TESTT_CallableFuture {
         System.out.println("\n");
     }
 
+    /**
+     * 9. ASENKRON PARALEL İŞLEMLER (example5'in AsyncPipeline hali)
+     * ==============================================================
+     * invokeAll() yerine allOf(): çağıran thread beklemez, toplama işi
+     * tüm sonuçlar gelince ayrı bir executor'da (combiner) çalışır.
+     * İkinci turda orTimeout(1500ms): 5 task 3 thread'de ~2 sn sürer, süre dolunca
+     * çalışan ve kuyruktaki task'ler iptal edilir (interrupt).
+     */
+    static void example9_AsyncMultipleCallables() {
+        System.out.println("=== 9. Asenkron Paralel İşlemler - allOf (" + parallelExecutor + ") ===\n");
+
+        ExecutorService executor = parallelExecutor.create(3);
+        ExecutorService combiner = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("combiner").factory());
+
+        AsyncPipeline<Integer> total = AsyncPipeline.allOf(asyncTasks(executor))
+            .thenApply(results -> {
+                System.out.println("\n✓ Tüm görevler bitti, toplama - Thread: " + Thread.currentThread().getName());
+                return results.stream().mapToInt(Integer::intValue).sum();
+            }, combiner)
+            .whenComplete((sum, error) -> System.out.println("Toplam: " + sum));
+
+        System.out.println("Main thread beklemiyor, iş hattı kuruldu\n");
+        total.join();  // Sadece örnek sırayla bitsin diye
+
+        System.out.println("\n--- Aynısı orTimeout(1500ms) ile ---\n");
+        AsyncPipeline<Integer> limited = AsyncPipeline.allOf(asyncTasks(executor))
+            .thenApply(results -> results.stream().mapToInt(Integer::intValue).sum(), combiner)
+            .orTimeout(1500, TimeUnit.MILLISECONDS)
+            .whenComplete((sum, error) -> {
+                if (error != null) {
+                    System.out.println("⚠️  " + error.getClass().getSimpleName() + ": kalan task'ler iptal edildi");
+                }
+            });
+        try {
+            limited.join();
+        } catch (CompletionException e) {
+            sleep(100);  // İptal mesajları yazılsın
+        }
+
+        executor.shutdown();
+        combiner.shutdown();
+        System.out.println("\n");
+    }
+
+    private static List<AsyncPipeline<Integer>> asyncTasks(ExecutorService executor) {
+        List<AsyncPipeline<Integer>> tasks = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            final int taskId = i;
+            tasks.add(AsyncPipeline.supply(() -> {
+                System.out.println("Task-" + taskId + " başladı - Thread: "
+                    + Thread.currentThread().getName());
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException e) {
+                    System.out.println("Task-" + taskId + " iptal edildi (interrupt)");
+                    throw e;
+                }
+                int result = taskId * 10;
+                System.out.println("Task-" + taskId + " bitti, sonuç: " + result);
+                return result;
+            }, executor));
+        }
+        return tasks;
+    }
+
+    /**
+     * 10. ASENKRON İLK BİTEN KAZANIR (example6'nın AsyncPipeline hali)
+     * =================================================================
+     * invokeAny() yerine anyOf(): ilk BAŞARILI sonuç kazanır, kaybedenler interrupt edilir.
+     * Sonuç farklı bir executor'da işlenir (adım başına executor).
+     */
+    static void example10_AsyncInvokeAny() {
+        System.out.println("=== 10. Asenkron İlk Biten Kazanır - anyOf (" + parallelExecutor + ") ===\n");
+
+        ExecutorService executor = parallelExecutor.create(3);
+        ExecutorService formatter = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("formatter").factory());
+
+        List<AsyncPipeline<String>> tasks = new ArrayList<>();
+        int[] durations = {3000, 1000, 2000};
+        for (int i = 0; i < durations.length; i++) {
+            final int taskId = i + 1;
+            final int duration = durations[i];
+            tasks.add(AsyncPipeline.supply(() -> {
+                System.out.println("Task-" + taskId + " başladı (" + duration / 1000 + " saniye)"
+                    + (taskId == 2 ? " ⚡" : ""));
+                try {
+                    Thread.sleep(duration);
+                } catch (InterruptedException e) {
+                    System.out.println("Task-" + taskId + " kaybetti, iptal edildi");
+                    throw e;
+                }
+                return "Task-" + taskId + " Sonuç";
+            }, executor));
+        }
+
+        AsyncPipeline<String> winner = AsyncPipeline.anyOf(tasks)
+            .thenApply(result -> result + " (işleyen: " + Thread.currentThread().getName() + ")", formatter);
+        System.out.println("\n✓ İlk biten: " + winner.join());
+        sleep(100);  // İptal mesajları yazılsın
+
+        executor.shutdownNow();
+        formatter.shutdown();
+        System.out.println("\n");
+    }
+
+    /**
+     * 11. HEDGING - YEDEĞİ SADECE GEREKİNCE GÖNDER
+     * =============================================
+     * invokeAny 3 görevi aynı anda başlatır (3 kat iş). Hedging önce sadece birincili gönderir,
+     * 500ms'de bitmezse sıradaki replikaya yedek gönderir; ilk biten kazanır, diğerleri iptal.
+     * Gerçekte bekleme süresi gözlenen p95'ten hesaplanır (HedgingBenchmark).
+     */
+    static void example11_Hedging() {
+        System.out.println("=== 11. Hedging - Yedek İstek (" + parallelExecutor + ") ===\n");
+
+        ExecutorService executor = parallelExecutor.create(3);
+        HedgingExecutor hedging = new HedgingExecutor(executor, 95, 1.0, 500, TimeUnit.MILLISECONDS);
+        long start = System.currentTimeMillis();
+
+        List<Callable<String>> replicas = new ArrayList<>();
+        int[] durations = {3000, 1000, 2000};
+        for (int i = 0; i < durations.length; i++) {
+            final int taskId = i + 1;
+            final int duration = durations[i];
+            replicas.add(() -> {
+                System.out.println((System.currentTimeMillis() - start) + "ms: Task-" + taskId
+                    + " başladı (" + duration / 1000 + " saniye)");
+                try {
+                    Thread.sleep(duration);
+                } catch (InterruptedException e) {
+                    System.out.println((System.currentTimeMillis() - start) + "ms: Task-" + taskId + " iptal edildi");
+                    throw e;
+                }
+                return "Task-" + taskId + " Sonuç";
+            });
+        }
+
+        String result = hedging.submit(replicas).join();
+        System.out.println("\n✓ " + (System.currentTimeMillis() - start) + "ms: " + result
+            + " (yedek: " + hedging.hedges() + ", yedek kazandı: " + hedging.hedgeWins() + ")");
+        sleep(100);  // İptal mesajları yazılsın
+
+        hedging.close();
+        executor.shutdownNow();
+        System.out.println("\n");
+    }
+
+    /**
+     * 12. YAPILANDIRILMIŞ FAN-OUT (example5'in TaskScope hali)
+     * ========================================================
+     * Her alt görev kendi virtual thread'inde, kapsam try-with-resources ile kapanır:
+     * bloktan çıkıldığında hiçbir alt görev çalışmıyordur, executor'ı kapatmayı unutmak yok.
+     * İkinci turda Task-3 300ms'de hata verir: invokeAll tüm görevleri 1 sn bekler,
+     * ShutdownOnFailure ise kardeşleri hemen interrupt eder.
+     */
+    static void example12_StructuredFanOut() {
+        System.out.println("=== 12. Yapılandırılmış Fan-out - ShutdownOnFailure ===\n");
+
+        for (int failing : new int[] {0, 3}) {
+            if (failing != 0) {
+                System.out.println("\n--- Task-" + failing + " 300ms'de hata veriyor ---\n");
+            }
+            long start = System.currentTimeMillis();
+            try (TaskScope.ShutdownOnFailure scope = new TaskScope.ShutdownOnFailure("fanout")) {
+                List<TaskScope.Subtask<Integer>> subtasks = new ArrayList<>();
+                for (int i = 1; i <= 5; i++) {
+                    final int taskId = i;
+                    subtasks.add(scope.fork(() -> {
+                        System.out.println("Task-" + taskId + " başladı - Thread: " + Thread.currentThread());
+                        try {
+                            Thread.sleep(taskId == failing ? 300 : 1000);
+                        } catch (InterruptedException e) {
+                            System.out.println("Task-" + taskId + " iptal edildi (kardeşi hata verdi)");
+                            throw e;
+                        }
+                        if (taskId == failing) {
+                            throw new IllegalStateException("Task-" + taskId + " başarısız");
+                        }
+                        return taskId * 10;
+                    }));
+                }
+
+                scope.joinUntil(Instant.now().plusSeconds(2));  // Deadline: 2 sn
+                scope.throwIfFailed();
+
+                int total = subtasks.stream().mapToInt(TaskScope.Subtask::get).sum();
+                System.out.println("\n✓ Toplam: " + total);
+            } catch (ExecutionException e) {
+                System.out.println("\n⚠️  Hata: " + e.getCause().getMessage());
+            } catch (InterruptedException | TimeoutException e) {
+                System.out.println("⚠️  " + e);
+            }
+            System.out.println("Kapsam kapandı, çalışan alt görev yok ("
+                + (System.currentTimeMillis() - start) + "ms)");
+        }
+        System.out.println("\n");
+    }
+
+    /**
+     * 13. YAPILANDIRILMIŞ İLK BİTEN KAZANIR (example6'nın TaskScope hali)
+     * ===================================================================
+     * ShutdownOnSuccess: ilk başarılı sonuçta kapsam kapanır, diğerleri interrupt edilir.
+     */
+    static void example13_StructuredFirstWins() {
+        System.out.println("=== 13. Yapılandırılmış İlk Biten Kazanır - ShutdownOnSuccess ===\n");
+
+        try (TaskScope.ShutdownOnSuccess<String> scope = new TaskScope.ShutdownOnSuccess<>("any")) {
+            int[] durations = {3000, 1000, 2000};
+            for (int i = 0; i < durations.length; i++) {
+                final int taskId = i + 1;
+                final int duration = durations[i];
+                scope.fork(() -> {
+                    System.out.println("Task-" + taskId + " başladı (" + duration / 1000 + " saniye)"
+                        + (taskId == 2 ? " ⚡" : ""));
+                    try {
+                        Thread.sleep(duration);
+                    } catch (InterruptedException e) {
+                        System.out.println("Task-" + taskId + " kaybetti, iptal edildi");
+                        throw e;
+                    }
+                    return "Task-" + taskId + " Sonuç";
+                });
+            }
+
+            scope.joinUntil(Instant.now().plusSeconds(5));
+            System.out.println("\n✓ İlk biten: " + scope.result());
+        } catch (ExecutionException | InterruptedException | TimeoutException e) {
+            System.out.println("⚠️  " + e);
+        }
+        // close() kaybedenlerin bitmesini bekledi: iptal mesajları bundan önce yazıldı
+        System.out.println("\n");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public static void main(String[] args) {
+        parallelExecutor = ExecutorType.parse(args.length > 0 ? args[0] : null, ExecutorType.FIXED);
         System.out.println("CALLABLE VE FUTURE ÖRNEKLERİ\n");
         System.out.println("==========================================\n");
 
@@ -309,6 +571,11 @@ public class TESTT_CallableFuture {
         example6_InvokeAny();
         example7_ExceptionHandling();
         example8_IsDone();
+        example9_AsyncMultipleCallables();
+        example10_AsyncInvokeAny();
+        example11_Hedging();
+        example12_StructuredFanOut();
+        example13_StructuredFirstWins();
 
         System.out.println("==========================================");
         System.out.println("Tüm örnekler tamamlandı!");
@@ -348,5 +615,10 @@ public class TESTT_CallableFuture {
  * - Exception handling: exceptionally()
  * - Callback: whenComplete()
  *
+ * org.example.executors.AsyncPipeline bunun üzerine kurulu (örnek 9 ve 10):
+ * - Her adım verilen executor'da çalışır
+ * - orTimeout() / cancel() çalışan task'leri de interrupt eder (CompletableFuture.cancel etmez)
+ * - allOf() ilk hatada biter, anyOf() ilk başarılıyı alır; ikisi de kalanları iptal eder
+ *
  * Ama önce Future'ı anlamak önemli! Temel kavramları öğrenmek için.
  */
@@ -0,0 +1,103 @@
+package org.example.synchronization;
+
+import org.example.synchronization.counter.Counter;
+import org.example.synchronization.counter.CounterType;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * SAYAÇ ÇEKİŞME EĞRİSİ (1 → N thread)
+ *
+ * Her CounterType için 1, 2, 4, ... N thread ile AYNI sayacı artırır
+ * ve toplam throughput'u (M ops/sec) tablo halinde yazar.
+ *
+ * Beklenen:
+ * - SYNCHRONIZED ve ATOMIC thread arttıkça düşer/yerinde sayar (tek cache line)
+ * - LONG_ADDER, STRIPED ve BATCHING thread sayısıyla ölçeklenir
+ *
+ * Çalıştırma:
+ *   java ... TESTT_CounterScaling            (N = çekirdek sayısı)
+ *   java ... TESTT_CounterScaling 16         (N = 16)
+ *
+ * Not: Kaba bir eğri içindir. Yayınlanacak sayılar için
+ * org.example.benchmarks.CounterLibraryBenchmark (JMH) kullanın.
+ */
+public class TESTT_CounterScaling {
+
+    private static final int INCREMENTS_PER_THREAD = 10_000_000;
+    private static final int RUNS = 3;
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0
+                ? Integer.parseInt(args[0])
+                : Runtime.getRuntime().availableProcessors();
+
+        System.out.println("=== Sayaç Çekişme Eğrisi (1 → " + maxThreads + " thread) ===");
+        System.out.println("Her thread " + INCREMENTS_PER_THREAD + " artırım, " + RUNS + " run ortalaması\n");
+
+        System.out.printf("%-14s", "Threads");
+        for (CounterType type : CounterType.values()) {
+            System.out.printf("%14s", type);
+        }
+        System.out.println();
+
+        for (int threads = 1; threads <= maxThreads; threads = nextThreadCount(threads, maxThreads)) {
+            System.out.printf("%-14d", threads);
+            for (CounterType type : CounterType.values()) {
+                double mops = measure(type, threads);
+                System.out.printf("%14.1f", mops);
+            }
+            System.out.println();
+        }
+
+        System.out.println("\n(Değerler: milyon artırım / saniye, yüksek = iyi)");
+    }
+
+    private static int nextThreadCount(int current, int max) {
+        if (current == max) {
+            return max + 1;
+        }
+        return Math.min(current * 2, max);
+    }
+
+    private static double measure(CounterType type, int threads) throws InterruptedException {
+        double totalMops = 0;
+
+        for (int run = 0; run < RUNS; run++) {
+            Counter counter = type.create();
+            CountDownLatch start = new CountDownLatch(1);
+            Thread[] workers = new Thread[threads];
+
+            for (int t = 0; t < threads; t++) {
+                workers[t] = new Thread(() -> {
+                    try {
+                        start.await();  // Thread başlatma maliyetini ölçüme katmamak için
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                        counter.increment();
+                    }
+                    counter.flush();
+                });
+                workers[t].start();
+            }
+
+            long startTime = System.nanoTime();
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            long duration = System.nanoTime() - startTime;
+
+            long expected = (long) threads * INCREMENTS_PER_THREAD;
+            if (counter.sum() != expected) {
+                throw new IllegalStateException(type + ": sum = " + counter.sum() + ", expected = " + expected);
+            }
+            totalMops += expected * 1_000.0 / duration;
+        }
+
+        return totalMops / RUNS;
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.synchronization;
+
+import org.example.synchronization.counter.ContendedCounters;
+import org.example.synchronization.counter.CounterLayout;
+import org.example.synchronization.counter.IndependentCounters;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * FALSE SHARING TESPİTİ
+ *
+ * TESTT_MultipleCounters ve TESTT_TrueParallel'da counter1 ve counter2 yan yana
+ * duran static int'ler. Lock'lar ayrı olsa bile iki değişken büyük ihtimalle
+ * AYNI cache line'da (64 byte) → her yazma diğer çekirdeğin kopyasını geçersiz kılar.
+ * "Çekişme yok" sonucu hâlâ coherence trafiği öder.
+ *
+ * Bu test 2..N bağımsız sayaç için (her thread SADECE kendi sayacını yazar)
+ * her layout'un throughput'unu ölçer ve PADDED'a göre kaybı yazar:
+ *
+ *   kayıp = 1 - (layout throughput / PADDED throughput)
+ *
+ * ADJACENT'ta belirgin kayıp (>%20) → bu donanımda false sharing var.
+ *
+ * Çalıştırma:
+ *   java -XX:-RestrictContended ... TESTT_FalseSharing        (N = çekirdek sayısı)
+ *   java -XX:-RestrictContended ... TESTT_FalseSharing 8
+ */
+public class TESTT_FalseSharing {
+
+    private static final int INCREMENTS_PER_THREAD = 50_000_000;
+    private static final int RUNS = 3;
+    private static final double DETECTION_THRESHOLD = 0.20;
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0
+                ? Integer.parseInt(args[0])
+                : Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        System.out.println("=== False Sharing Tespiti (2 → " + maxThreads + " bağımsız sayaç) ===");
+        System.out.println("Her thread kendi sayacını " + INCREMENTS_PER_THREAD + " kez artırıyor\n");
+
+        if (!ContendedCounters.isEffective()) {
+            System.out.println("⚠️  -XX:-RestrictContended verilmemiş: CONTENDED layout'u padding'siz çalışıyor!\n");
+        }
+
+        System.out.printf("%-10s", "Sayaç");
+        for (CounterLayout layout : CounterLayout.values()) {
+            System.out.printf("%14s", layout);
+        }
+        System.out.printf("%18s%n", "ADJACENT kaybı");
+
+        for (int threads = 2; threads <= maxThreads; threads++) {
+            System.out.printf("%-10d", threads);
+
+            double[] mops = new double[CounterLayout.values().length];
+            for (CounterLayout layout : CounterLayout.values()) {
+                mops[layout.ordinal()] = measure(layout, threads);
+                System.out.printf("%14.1f", mops[layout.ordinal()]);
+            }
+
+            double penalty = 1 - mops[CounterLayout.ADJACENT.ordinal()] / mops[CounterLayout.PADDED.ordinal()];
+            String verdict = penalty > DETECTION_THRESHOLD ? "  ❌ false sharing" : "  ✅";
+            System.out.printf("%17.0f%%%s%n", penalty * 100, verdict);
+        }
+
+        System.out.println("\n(Değerler: milyon artırım / saniye, yüksek = iyi)");
+        System.out.println("Production metric holder'lar için PaddedCounters layout'unu kopyalayın.");
+    }
+
+    static double measure(CounterLayout layout, int threads) throws InterruptedException {
+        double totalMops = 0;
+
+        for (int run = 0; run < RUNS; run++) {
+            IndependentCounters counters = layout.create(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            Thread[] workers = new Thread[threads];
+
+            for (int t = 0; t < threads; t++) {
+                final int index = t;
+                workers[t] = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                        counters.increment(index);  // SADECE kendi sayacı
+                    }
+                });
+                workers[t].start();
+            }
+
+            long startTime = System.nanoTime();
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            long duration = System.nanoTime() - startTime;
+
+            long expected = (long) threads * INCREMENTS_PER_THREAD;
+            if (counters.sum() != expected) {
+                throw new IllegalStateException(layout + ": sum = " + counters.sum() + ", expected = " + expected);
+            }
+            totalMops += expected * 1_000.0 / duration;
+        }
+
+        return totalMops / RUNS;
+    }
+}
@@ -1,29 +1,22 @@
 package org.example.synchronization;
 
-public class TESTT_InstanceBased {
-
-    // Instance-based synchronization için Counter sınıfı
-    static class Counter {
-        private int count = 0;
+import org.example.synchronization.counter.Counter;
+import org.example.synchronization.counter.CounterType;
 
-        // synchronized instance method → 'this' objesini kilitler
-        public synchronized void increment() {
-            int temp = count;
-            count = temp + 1;
-        }
+public class TESTT_InstanceBased {
 
-        public int getCount() {
-            return count;
-        }
-    }
+    // Instance-based synchronization için Counter artık counter paketinden geliyor.
+    // Varsayılan SYNCHRONIZED → synchronized instance method, 'this' objesini kilitler.
+    // Farklı strateji denemek için: java ... TESTT_InstanceBased ATOMIC | LONG_ADDER | STRIPED | BATCHING
 
     public static void main(String[] args) throws InterruptedException {
 
+        CounterType type = CounterType.fromArgs(args, CounterType.SYNCHRONIZED);
         long totalTime = 0;
 
         for(int run = 1; run <= 10; run++){
             // AYNI Counter objesini her iki thread de kullanacak (shared state!)
-            Counter sharedCounter = new Counter();
+            Counter sharedCounter = type.create();
 
             long startTime = System.nanoTime();
 
@@ -32,13 +25,15 @@ public class TESTT_InstanceBased {
                 for(int i = 0; i < 100000000; i++){
                     sharedCounter.increment();  // AYNI objeye erişim
                 }
+                sharedCounter.flush();  // BATCHING için: biriken değerleri yaz
             });
 
             // Thread 2 AYNI sharedCounter objesini kullanıyor
             Thread thread2 = new Thread(() -> {
                 for(int i = 0; i < 100000000; i++){
-                    sharedCounter.increment();  // AYNI objeye erişim - synchronized GEREKLI!
+                    sharedCounter.increment();  // AYNI objeye erişim - thread-safe sayaç GEREKLI!
                 }
+                sharedCounter.flush();
             });
 
             thread1.start();
@@ -51,12 +46,12 @@ public class TESTT_InstanceBased {
             long duration = (endTime - startTime) / 1_000_000;
             totalTime += duration;
 
-            System.out.println("Run #" + run + " - count = " + sharedCounter.getCount() +
+            System.out.println("Run #" + run + " - count = " + sharedCounter.sum() +
                              " (Expected: 200000000) - Time: " + duration + " ms");
         }
 
-        System.out.println("\n[INSTANCE BASED - SHARED COUNTER] Average time: " + (totalTime / 10) + " ms");
-        System.out.println("(Her iki thread de AYNI Counter instance'ını kullandı → synchronized GEREKLİ!)");
+        System.out.println("\n[INSTANCE BASED - SHARED COUNTER - " + type + "] Average time: " + (totalTime / 10) + " ms");
+        System.out.println("(Her iki thread de AYNI Counter instance'ını kullandı → thread-safe sayaç GEREKLİ!)");
     }
 
 }
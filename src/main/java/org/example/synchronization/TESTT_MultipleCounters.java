@@ -1,5 +1,8 @@
 package org.example.synchronization;
 
+import org.example.synchronization.counter.CounterLayout;
+import org.example.synchronization.counter.IndependentCounters;
+
 public class TESTT_MultipleCounters {
 
     private static int counter1 = 0;
@@ -18,6 +21,12 @@ public class TESTT_MultipleCounters {
 
     public static void main(String[] args) throws InterruptedException {
 
+        // Layout modu: java ... TESTT_MultipleCounters ADJACENT | PADDED | CONTENDED
+        if (args.length > 0) {
+            runLayoutMode(CounterLayout.valueOf(args[0].toUpperCase()));
+            return;
+        }
+
         long totalTime = 0;
 
         for(int run = 1; run <= 10; run++){
@@ -60,4 +69,47 @@ public class TESTT_MultipleCounters {
         System.out.println("(Her thread farklı counter güncelledi → lock contention YOK)");
     }
 
+    /**
+     * Lock'suz, tek yazanlı (single-writer) iki sayaç - sadece bellek yerleşimi değişiyor.
+     * counter1 ve counter2 yan yana (ADJACENT) ise lock olmasa da false sharing öder.
+     */
+    private static void runLayoutMode(CounterLayout layout) throws InterruptedException {
+
+        long totalTime = 0;
+
+        for(int run = 1; run <= 10; run++){
+            IndependentCounters counters = layout.create(2);
+
+            long startTime = System.nanoTime();
+
+            Thread thread1 = new Thread(() -> {
+                for(int i = 0; i < 100000000; i++){
+                    counters.increment(0);
+                }
+            });
+
+            Thread thread2 = new Thread(() -> {
+                for(int i = 0; i < 100000000; i++){
+                    counters.increment(1);
+                }
+            });
+
+            thread1.start();
+            thread2.start();
+
+            thread1.join();
+            thread2.join();
+
+            long endTime = System.nanoTime();
+            long duration = (endTime - startTime) / 1_000_000;
+            totalTime += duration;
+
+            System.out.println("Run #" + run + " - counter1 = " + counters.get(0) + ", counter2 = " + counters.get(1) +
+                             ", total = " + counters.sum() + " (Expected: 200000000) - Time: " + duration + " ms");
+        }
+
+        System.out.println("\n[LOCK-FREE - " + layout + " layout] Average time: " + (totalTime / 10) + " ms");
+        System.out.println("(Lock yok; fark sadece cache line paylaşımından geliyor → bkz. TESTT_FalseSharing)");
+    }
+
 }
@@ -2,6 +2,8 @@ package org.example.synchronization;
 
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * PRODUCER-CONSUMER PATTERN - GERÇEKÇİ ÖRNEK
@@ -15,35 +17,65 @@ import java.util.Queue;
  * - Consumer: Buffer'dan veri alıp işler
  * - Buffer doluysa: Producer bekler
  * - Buffer boşsa: Consumer bekler
+ *
+ * İki implementasyon var:
+ * - BoundedBuffer: synchronized + wait() / notifyAll() (klasik monitor)
+ * - LockBasedBoundedBuffer: ReentrantLock + iki Condition (notFull / notEmpty)
+ * Virtual thread'lerle farkı için bkz. TESTT_VirtualThreadPinning.
  */
 public class TESTT_ProducerConsumer {
 
+    /**
+     * Producer / Consumer'ların kullandığı ortak arayüz
+     */
+    interface Buffer {
+        void produce(int value) throws InterruptedException;
+
+        int consume() throws InterruptedException;
+
+        int size();
+    }
+
     /**
      * Bounded Buffer (Sınırlı Boyutlu Buffer)
      */
-    static class BoundedBuffer {
+    static class BoundedBuffer implements Buffer {
         private final Queue<Integer> queue = new LinkedList<>();
         private final int capacity;
+        private final boolean verbose;
 
         public BoundedBuffer(int capacity) {
+            this(capacity, true);
+        }
+
+        /**
+         * @param verbose false ise her işlemde çıktı yazılmaz (binlerce thread'li testler için)
+         */
+        public BoundedBuffer(int capacity, boolean verbose) {
             this.capacity = capacity;
+            this.verbose = verbose;
         }
 
         /**
          * Producer: Buffer'a veri ekle
          */
+        @Override
         public synchronized void produce(int value) throws InterruptedException {
             // Buffer dolu mu kontrol et
             while (queue.size() == capacity) {
-                System.out.println(Thread.currentThread().getName()
-                        + ": Buffer DOLU (" + queue.size() + "/" + capacity + "), bekliyorum...");
+                if (verbose) {
+                    System.out.println(Thread.currentThread().getName()
+                            + ": Buffer DOLU (" + queue.size() + "/" + capacity + "), bekliyorum...");
+                }
                 wait(); // Lock'u bırak ve bekle
             }
 
             // Buffer'a veri ekle
             queue.add(value);
-            System.out.println(Thread.currentThread().getName()
-                    + ": Ürettim: " + value + " | Buffer: " + queue.size() + "/" + capacity);
+            if (verbose) {
+                System.out.println(Thread.currentThread().getName()
+                        + ": Ürettim: " + value + " | Buffer: " + queue.size() + "/" + capacity);
+            }
 
             // Consumer'ları uyandır (buffer boş değil artık)
             notifyAll();
@@ -52,18 +84,23 @@ public class TESTT_ProducerConsumer {
         /**
          * Consumer: Buffer'dan veri al
          */
+        @Override
         public synchronized int consume() throws InterruptedException {
             // Buffer boş mu kontrol et
             while (queue.isEmpty()) {
-                System.out.println(Thread.currentThread().getName()
-                        + ": Buffer BOŞ, bekliyorum...");
+                if (verbose) {
+                    System.out.println(Thread.currentThread().getName()
+                            + ": Buffer BOŞ, bekliyorum...");
+                }
                 wait(); // Lock'u bırak ve bekle
             }
 
             // Buffer'dan veri al
             int value = queue.poll();
-            System.out.println(Thread.currentThread().getName()
-                    + ": Tükettim: " + value + " | Buffer: " + queue.size() + "/" + capacity);
+            if (verbose) {
+                System.out.println(Thread.currentThread().getName()
+                        + ": Tükettim: " + value + " | Buffer: " + queue.size() + "/" + capacity);
+            }
 
             // Producer'ları uyandır (buffer dolu değil artık)
             notifyAll();
@@ -71,19 +108,109 @@ public class TESTT_ProducerConsumer {
             return value;
         }
 
+        @Override
         public synchronized int size() {
             return queue.size();
         }
     }
 
+    /**
+     * Aynı buffer, synchronized + wait/notifyAll yerine ReentrantLock + Condition
+     *
+     * - notFull'da sadece producer'lar, notEmpty'de sadece consumer'lar bekler:
+     *   notifyAll() ile herkesi uyandırmak yerine karşı taraftan BİR thread'e signal() yeter
+     * - await() LockSupport.park ile bekler: virtual thread carrier'ı bırakır.
+     *   synchronized içindeki wait() ise JDK 21-23'te carrier thread'i PIN'ler
+     *   (virtual thread beklerken carrier da bekler; JDK 24'te JEP 491 ile düzeldi)
+     */
+    static class LockBasedBoundedBuffer implements Buffer {
+        private final Queue<Integer> queue = new LinkedList<>();
+        private final int capacity;
+        private final boolean verbose;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notFull = lock.newCondition();
+        private final Condition notEmpty = lock.newCondition();
+
+        public LockBasedBoundedBuffer(int capacity) {
+            this(capacity, true);
+        }
+
+        public LockBasedBoundedBuffer(int capacity, boolean verbose) {
+            this.capacity = capacity;
+            this.verbose = verbose;
+        }
+
+        @Override
+        public void produce(int value) throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                while (queue.size() == capacity) {
+                    if (verbose) {
+                        System.out.println(Thread.currentThread().getName()
+                                + ": Buffer DOLU (" + queue.size() + "/" + capacity + "), bekliyorum...");
+                    }
+                    notFull.await(); // Lock'u bırak, sadece producer'larla bekle
+                }
+
+                queue.add(value);
+                if (verbose) {
+                    System.out.println(Thread.currentThread().getName()
+                            + ": Ürettim: " + value + " | Buffer: " + queue.size() + "/" + capacity);
+                }
+
+                // Bir item eklendi → bir consumer yeter
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public int consume() throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                while (queue.isEmpty()) {
+                    if (verbose) {
+                        System.out.println(Thread.currentThread().getName()
+                                + ": Buffer BOŞ, bekliyorum...");
+                    }
+                    notEmpty.await(); // Lock'u bırak, sadece consumer'larla bekle
+                }
+
+                int value = queue.poll();
+                if (verbose) {
+                    System.out.println(Thread.currentThread().getName()
+                            + ": Tükettim: " + value + " | Buffer: " + queue.size() + "/" + capacity);
+                }
+
+                // Bir yer açıldı → bir producer yeter
+                notFull.signal();
+
+                return value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public int size() {
+            lock.lock();
+            try {
+                return queue.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
     /**
      * Producer Thread
      */
     static class Producer implements Runnable {
-        private final BoundedBuffer buffer;
+        private final Buffer buffer;
         private final int itemCount;
 
-        public Producer(BoundedBuffer buffer, int itemCount) {
+        public Producer(Buffer buffer, int itemCount) {
             this.buffer = buffer;
             this.itemCount = itemCount;
         }
@@ -108,10 +235,10 @@ public class TESTT_ProducerConsumer {
      * Consumer Thread
      */
     static class Consumer implements Runnable {
-        private final BoundedBuffer buffer;
+        private final Buffer buffer;
         private final int itemCount;
 
-        public Consumer(BoundedBuffer buffer, int itemCount) {
+        public Consumer(Buffer buffer, int itemCount) {
             this.buffer = buffer;
             this.itemCount = itemCount;
         }
@@ -234,6 +361,36 @@ public class TESTT_ProducerConsumer {
         System.out.println("\n✓ Örnek 3 tamamlandı!\n");
     }
 
+    /**
+     * ÖRNEK 4: ReentrantLock + Condition ile aynı senaryo (Örnek 2)
+     */
+    static void example4_LockBasedBuffer() {
+        System.out.println("=== ÖRNEK 4: ReentrantLock + Condition Buffer ===\n");
+
+        Buffer buffer = new LockBasedBoundedBuffer(3);
+
+        Thread[] threads = {
+            new Thread(new Producer(buffer, 5), "Producer-1"),
+            new Thread(new Producer(buffer, 5), "Producer-2"),
+            new Thread(new Consumer(buffer, 5), "Consumer-1"),
+            new Thread(new Consumer(buffer, 5), "Consumer-2")
+        };
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+
+        System.out.println("\n✓ Örnek 4 tamamlandı! (Davranış aynı, uyandırma hedefli)\n");
+    }
+
     public static void main(String[] args) {
         System.out.println("PRODUCER-CONSUMER PATTERN ÖRNEKLERİ\n");
         System.out.println("==========================================\n");
@@ -248,6 +405,10 @@ public class TESTT_ProducerConsumer {
 
         // Örnek 3
         example3_SlowConsumer();
+        sleep(1000);
+
+        // Örnek 4
+        example4_LockBasedBuffer();
 
         System.out.println("==========================================");
         System.out.println("Tüm örnekler tamamlandı!");
@@ -294,7 +455,11 @@ public class TESTT_ProducerConsumer {
  *    wait/notify yerine java.util.concurrent paketini kullanın:
  *    - ArrayBlockingQueue: Bounded buffer
  *    - LinkedBlockingQueue: Unbounded buffer
- *    - ReentrantLock + Condition: Daha esnek locking
+ *    - ReentrantLock + Condition: Daha esnek locking (bkz. LockBasedBoundedBuffer)
+ *      Ayrı notFull / notEmpty Condition'ları → notifyAll() yerine signal() yeterli
+ *
+ *    Virtual thread kullanılacaksa: synchronized içinde wait() JDK 21-23'te
+ *    carrier thread'i pinler. ReentrantLock + Condition pinlemez.
  *
  * 4. GERÇEK HAYAT KULLANIMI
  *    -----------------------
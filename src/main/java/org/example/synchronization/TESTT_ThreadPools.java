@@ -1,6 +1,13 @@
 package org.example.synchronization;
 
+import org.example.executors.ArraySumTask;
+import org.example.executors.BoundedVirtualThreadExecutor;
+import org.example.executors.ElasticThreadPoolExecutor;
+import org.example.executors.ExecutorType;
+import org.example.executors.InstrumentedThreadPoolExecutor;
+
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * THREAD POOL ÖRNEKLERİ
@@ -12,6 +19,13 @@ import java.util.concurrent.*;
  * - Thread yaratma maliyetini azaltır
  * - Thread sayısını kontrol eder (resource sınırı)
  * - Task queue ile iş yönetimi
+ *
+ * Çalıştırma:
+ *   java ... TESTT_ThreadPools                  (tüm örnekler)
+ *   java ... TESTT_ThreadPools VIRTUAL_BOUNDED  (seçilen executor ile 1000 × sleep(100ms))
+ *   Seçenekler: SINGLE | FIXED | CACHED | WORK_STEALING | ELASTIC | VIRTUAL | VIRTUAL_BOUNDED
+ *   FixedThreadPool vs work-stealing benchmark'ı: org.example.executors.WorkStealingBenchmark
+ *   Elastik havuz benchmark'ı (CPU / I/O / karışık): org.example.executors.ElasticPoolBenchmark
  */
 public class TESTT_ThreadPools {
 
@@ -47,11 +61,12 @@ public class TESTT_ThreadPools {
      * =====================
      * Sabit sayıda thread (örn: 3 thread)
      * Görevler PARALEL işlenir (3 görev aynı anda)
+     * Executors.newFixedThreadPool(3) yerine ölçümlü karşılığı: sonda kuyruk bekleme süreleri yazılır
      */
     static void example2_FixedThreadPool() {
         System.out.println("=== 2. FixedThreadPool (3 thread) ===\n");
 
-        ExecutorService executor = Executors.newFixedThreadPool(3);
+        InstrumentedThreadPoolExecutor executor = InstrumentedThreadPoolExecutor.fixed("fixed", 3);
 
         // 6 görev gönder
         for (int i = 1; i <= 6; i++) {
@@ -66,7 +81,8 @@ public class TESTT_ThreadPools {
 
         executor.shutdown();
         awaitTermination(executor);
-        System.out.println("\n✓ 6 görev, 3'er 3'er paralel işlendi\n");
+        System.out.println("\n✓ 6 görev, 3'er 3'er paralel işlendi (son 3'ü kuyrukta ~2 saniye bekledi)");
+        System.out.println(executor.snapshot().summary() + "\n");
     }
 
     /**
@@ -199,6 +215,199 @@ public class TESTT_ThreadPools {
         System.out.println("✓ shutdownNow() çağrıldı, görevler kesildi\n");
     }
 
+    /**
+     * 7. VIRTUAL THREAD PER TASK
+     * ===========================
+     * Her görev için YENİ bir virtual thread (havuz yok)
+     * Virtual thread sleep / I/O'da beklerken taşıdığı platform thread'i (carrier) bırakır
+     * → 10.000 görev aynı anda "uyur", toplam süre ~1-2 saniye (thread oluşturma dahil)
+     * Aynı iş FixedThreadPool(3) ile ~55 dakika, CachedThreadPool ile 10.000 platform thread olurdu
+     */
+    static void example7_VirtualThreadPerTask() {
+        System.out.println("=== 7. VirtualThreadPerTaskExecutor ===\n");
+
+        long start = System.currentTimeMillis();
+        AtomicInteger completed = new AtomicInteger();
+
+        // try-with-resources: close() tüm görevlerin bitmesini bekler (Java 19+)
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 1; i <= 10_000; i++) {
+                final int taskId = i;
+                executor.submit(() -> {
+                    if (taskId <= 3) {
+                        System.out.println("Task-" + taskId + " başladı - Thread: " + Thread.currentThread());
+                    }
+                    sleep(1000);
+                    completed.incrementAndGet();
+                });
+            }
+        }
+
+        System.out.println("\n✓ " + completed.get() + " görev " + (System.currentTimeMillis() - start)
+            + "ms'de bitti (her biri 1 saniye uyudu)\n");
+    }
+
+    /**
+     * 8. SINIRLI VIRTUAL THREAD
+     * ==========================
+     * Virtual thread ucuz ama arkadaki kaynak (DB bağlantısı, dış API) sınırsız değil
+     * Havuz boyutu yerine Semaphore: aynı anda en fazla 100 görev çalışır
+     * 1000 görev × 100ms / 100 eşzamanlı → ~1 saniye
+     */
+    static void example8_BoundedVirtualThreads() {
+        System.out.println("=== 8. Sınırlı Virtual Thread (Semaphore, 100 eşzamanlı) ===\n");
+
+        long start = System.currentTimeMillis();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(100);
+        for (int i = 1; i <= 1000; i++) {
+            executor.submit(() -> {
+                maxActive.accumulateAndGet(executor.activeCount(), Math::max);
+                sleep(100);
+            });  // 100 görev çalışıyorsa submit() permit açılana kadar bekler
+        }
+
+        executor.shutdown();
+        awaitTermination(executor);
+        System.out.println("✓ 1000 görev " + (System.currentTimeMillis() - start)
+            + "ms'de bitti, aynı anda en fazla " + maxActive.get() + " görev çalıştı\n");
+    }
+
+    /**
+     * 9. WORK-STEALING (ForkJoinPool)
+     * ================================
+     * Her worker'ın kendi deque'si var; fork() edilen alt görev o deque'ye girer,
+     * boşta kalan worker başkasının deque'sinden çalar (work stealing)
+     * join() beklerken worker boş durmaz, başka alt görev çalıştırır
+     * → özyinelemeli böl-yönet işleri FixedThreadPool + Future.get() gibi thread tüketmez
+     * Executors.newWorkStealingPool() = çekirdek sayısı kadar paralellikte ForkJoinPool
+     */
+    static void example9_WorkStealing() {
+        System.out.println("=== 9. Work-Stealing (ForkJoinPool + RecursiveTask) ===\n");
+
+        long[] numbers = new long[10_000_000];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = i;
+        }
+
+        long start = System.currentTimeMillis();
+        long sequential = 0;
+        for (long number : numbers) {
+            sequential += number;
+        }
+        System.out.println("Sıralı toplam: " + sequential + " (" + (System.currentTimeMillis() - start) + "ms)");
+
+        // 10M eleman, 10.000'lik yapraklara kadar ikiye bölünür → ~1000 alt görev
+        ForkJoinPool pool = new ForkJoinPool(4);
+        start = System.currentTimeMillis();
+        long parallel = pool.invoke(new ArraySumTask(numbers));
+        System.out.println("ForkJoinPool toplam: " + parallel + " (" + (System.currentTimeMillis() - start) + "ms)");
+        System.out.println("Çalınan görev (steal): " + pool.getStealCount());
+        pool.shutdown();
+
+        // Aynı havuz ExecutorService olarak da kullanılabilir
+        ExecutorService executor = ExecutorType.WORK_STEALING.create(4);
+        Future<Long> future = executor.submit(() -> new ArraySumTask(numbers).invoke());
+        try {
+            System.out.println("newWorkStealingPool üzerinden: " + future.get());
+        } catch (InterruptedException | ExecutionException e) {
+            System.out.println("Hata: " + e);
+        }
+        executor.shutdown();
+        awaitTermination(executor);
+        System.out.println("\n✓ Sonuçlar aynı: " + (sequential == parallel) + "\n");
+    }
+
+    /**
+     * 10. ÖLÇÜMLÜ HAVUZ (InstrumentedThreadPoolExecutor)
+     * ===================================================
+     * 2 çekirdek thread, en fazla 4, kuyruk kapasitesi 10, AbortPolicy
+     * Kuyruk dolunca havuz 4 thread'e büyür, o da yetmezse task reddedilir
+     * Yarım saniyede bir rapor satırı; havuz JMX'e kayıtlı (JConsole → MBeans → org.example.executors)
+     * JFR kaydı açıksa (-XX:StartFlightRecording) saniyede bir org.example.ThreadPoolSnapshot olayı
+     */
+    static void example10_InstrumentedPool() {
+        System.out.println("=== 10. Ölçümlü Havuz (kuyruk, kullanım, red metrikleri) ===\n");
+
+        InstrumentedThreadPoolExecutor executor = new InstrumentedThreadPoolExecutor("instrumented", 2, 4,
+                1, TimeUnit.SECONDS, new ArrayBlockingQueue<>(10));
+        System.out.println("JMX: " + executor.registerMBean());
+        executor.startReporting(500, TimeUnit.MILLISECONDS);
+
+        // 40 görev, 25ms arayla: 4 thread'in kaldırabileceğinden hızlı
+        int rejected = 0;
+        for (int i = 1; i <= 40; i++) {
+            final int taskId = i;
+            try {
+                executor.submit(() -> {
+                    sleep(200 + (taskId % 3) * 100);
+                    if (taskId % 10 == 0) {
+                        throw new IllegalStateException("Task-" + taskId + " hata verdi");
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                rejected++;  // Kuyruk dolu ve 4 thread meşgul
+            }
+            sleep(25);
+        }
+
+        executor.shutdown();
+        awaitTermination(executor);
+        System.out.println("\n" + executor.snapshot().summary());
+        System.out.println("Çağıranın gördüğü RejectedExecutionException: " + rejected + "\n");
+    }
+
+    /**
+     * 11. ELASTİK HAVUZ (ElasticThreadPoolExecutor)
+     * ==============================================
+     * Havuz boyutu elle seçilmez: N = çekirdek × (1 + bekleme / hesaplama)
+     * Her görevin CPU ve bekleme süresi ThreadMXBean ile ölçülür, 500ms'de bir boyut ayarlanır
+     * Görev: ~1ms hesap + 50ms uyku → W/C ≈ 50 → çekirdek başına ~50 thread
+     */
+    static void example11_ElasticPool() {
+        System.out.println("=== 11. Elastik Havuz (bekleme/hesaplama oranına göre boyut) ===\n");
+
+        ElasticThreadPoolExecutor executor = ElasticThreadPoolExecutor.create("elastic", 100);
+        System.out.println("Başlangıç: " + executor.getMaximumPoolSize() + " thread (çekirdek sayısı)");
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 2000; i++) {
+            executor.submit(() -> {
+                long end = System.nanoTime() + 1_000_000;
+                while (System.nanoTime() < end) {
+                    Thread.onSpinWait();  // ~1ms hesap
+                }
+                sleep(50);                // 50ms I/O bekleme
+            });
+        }
+
+        executor.shutdown();
+        awaitTermination(executor);
+        for (ElasticThreadPoolExecutor.Resize resize : executor.resizes()) {
+            System.out.println("Boyut değişti: " + resize);
+        }
+        System.out.printf("%n✓ 2000 görev %dms'de bitti, ölçülen W/C=%.1f%n%n",
+            System.currentTimeMillis() - start, executor.waitComputeRatio());
+    }
+
+    /**
+     * Seçilen executor ile 1000 × sleep(100ms): havuzlar ve virtual thread'ler yan yana
+     */
+    static void runSleepingTasks(ExecutorType type) {
+        System.out.println("=== " + type + " ile 1000 görev × sleep(100ms) ===\n");
+
+        long start = System.currentTimeMillis();
+        ExecutorService executor = type.create(100);  // FIXED: 100 thread, VIRTUAL_BOUNDED: 100 eşzamanlı
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> sleep(100));
+        }
+
+        executor.shutdown();
+        awaitTermination(executor);
+        System.out.println("✓ " + (System.currentTimeMillis() - start) + "ms\n");
+    }
+
     // Yardımcı metodlar
     private static void sleep(int millis) {
         try {
@@ -220,12 +429,22 @@ public class TESTT_ThreadPools {
         System.out.println("THREAD POOL ÖRNEKLERİ\n");
         System.out.println("==========================================\n");
 
+        if (args.length > 0) {
+            runSleepingTasks(ExecutorType.parse(args[0], ExecutorType.FIXED));
+            return;
+        }
+
         example1_SingleThreadExecutor();
         example2_FixedThreadPool();
         example3_CachedThreadPool();
         example4_ScheduledThreadPool();
         example5_SubmitVsExecute();
         example6_ShutdownTypes();
+        example7_VirtualThreadPerTask();
+        example8_BoundedVirtualThreads();
+        example9_WorkStealing();
+        example10_InstrumentedPool();
+        example11_ElasticPool();
 
         System.out.println("==========================================");
         System.out.println("Tüm örnekler tamamlandı!");
@@ -242,7 +461,12 @@ public class TESTT_ThreadPools {
  * | SingleThreadExecutor   | 1                  | Sıralı işlemler                   |
  * | FixedThreadPool(N)     | N (sabit)          | Sabit sayıda paralel işlem        |
  * | CachedThreadPool       | İhtiyaca göre      | Çok sayıda kısa süreli görev      |
+ * | WorkStealingPool       | Çekirdek sayısı    | Özyinelemeli / dengesiz CPU işi   |
  * | ScheduledThreadPool    | N (sabit)          | Zamanlı/periyodik görevler        |
+ * | InstrumentedThreadPool | core..max          | Kuyruk/gecikme/red metrikleri     |
+ * | ElasticThreadPool      | Ölçüme göre        | İş türü değişken/bilinmiyorsa     |
+ * | VirtualThreadPerTask   | Görev başına 1     | Çok sayıda bloklayan (I/O) görev  |
+ * | BoundedVirtualThread   | Görev başına 1     | Bloklayan görev + kaynak limiti   |
  *
  * NE ZAMAN HANGİSİ?
  * =================
@@ -262,8 +486,19 @@ public class TESTT_ThreadPools {
  * - Çok sayıda kısa süreli görev
  * - Thread sayısı değişken olabilir
  *
+ * WorkStealingPool / ForkJoinPool:
+ * - Böl-yönet (RecursiveTask): dizi toplamı, sıralama, dizin ağacı gezme
+ * - Görevlerin alt görev ürettiği, boyutu önceden bilinmeyen işler
+ * - Bloklayan (I/O) iş için DEĞİL: bloklanan worker'ın yerine thread açılmaz
+ *
  * ScheduledThreadPool:
  * - Cron job benzeri işler
  * - Periyodik temizlik/backup
  * - Heartbeat/health check
+ *
+ * VirtualThreadPerTask (Java 21+):
+ * - Görevlerin çoğu sleep / I/O / lock bekliyorsa (request başına thread)
+ * - Havuz boyutu ayarlamak yerine görev başına thread
+ * - CPU-yoğun işte platform havuzundan hızlı DEĞİL (carrier sayısı = çekirdek sayısı)
+ * - Eşzamanlılığı sınırlamak gerekiyorsa Semaphore (BoundedVirtualThreadExecutor)
  */
@@ -1,48 +1,37 @@
 package org.example.synchronization;
 
-public class TESTT_TrueParallel {
-
-    private static int counter1 = 0;
-    private static int counter2 = 0;
+import org.example.synchronization.counter.Counter;
+import org.example.synchronization.counter.CounterType;
 
-    // Her counter için FARKLI lock objeleri
-    private static final Object lock1 = new Object();
-    private static final Object lock2 = new Object();
-
-    private static void incrementCounter1(){
-        synchronized(lock1) {  // lock1 kullanıyor
-            int temp = counter1;
-            counter1 = temp + 1;
-        }
-    }
+public class TESTT_TrueParallel {
 
-    private static void incrementCounter2(){
-        synchronized(lock2) {  // lock2 kullanıyor (farklı obje!)
-            int temp = counter2;
-            counter2 = temp + 1;
-        }
-    }
+    // Her counter için FARKLI Counter objesi → FARKLI lock (SYNCHRONIZED tipinde
+    // her objenin kendi monitor'ü var). Varsayılan SYNCHRONIZED, eski lock1/lock2 ile aynı.
+    // Farklı strateji denemek için: java ... TESTT_TrueParallel ATOMIC | LONG_ADDER | STRIPED | BATCHING
 
     public static void main(String[] args) throws InterruptedException {
 
+        CounterType type = CounterType.fromArgs(args, CounterType.SYNCHRONIZED);
         long totalTime = 0;
 
         for(int run = 1; run <= 10; run++){
-            counter1 = 0;
-            counter2 = 0;
+            Counter counter1 = type.create();
+            Counter counter2 = type.create();  // farklı obje!
 
             long startTime = System.nanoTime();
 
             Thread thread1 = new Thread(() -> {
                 for(int i = 0; i < 100000000; i++){
-                    incrementCounter1();
+                    counter1.increment();
                 }
+                counter1.flush();
             });
 
             Thread thread2 = new Thread(() -> {
                 for(int i = 0; i < 100000000; i++){
-                    incrementCounter2();
+                    counter2.increment();
                 }
+                counter2.flush();
             });
 
             thread1.start();
@@ -55,13 +44,13 @@ public class TESTT_TrueParallel {
             long duration = (endTime - startTime) / 1_000_000;
             totalTime += duration;
 
-            int total = counter1 + counter2;
-            System.out.println("Run #" + run + " - counter1 = " + counter1 + ", counter2 = " + counter2 +
+            long total = counter1.sum() + counter2.sum();
+            System.out.println("Run #" + run + " - counter1 = " + counter1.sum() + ", counter2 = " + counter2.sum() +
                              ", total = " + total + " (Expected: 200000000) - Time: " + duration + " ms");
         }
 
-        System.out.println("\n[TRUE PARALLEL - Different Lock Objects] Average time: " + (totalTime / 10) + " ms");
-        System.out.println("(Her thread FARKLI lock objesi kullandı → GERÇEK paralellik!)");
+        System.out.println("\n[TRUE PARALLEL - Different Counter Objects - " + type + "] Average time: " + (totalTime / 10) + " ms");
+        System.out.println("(Her thread FARKLI sayaç objesi kullandı → GERÇEK paralellik!)");
     }
 
 }
@@ -0,0 +1,447 @@
+package org.example.synchronization;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.concurrent.metrics.CpuTime;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * VIRTUAL THREAD PINNING - MONITOR vs ReentrantLock BUFFER'LAR
+ *
+ * Virtual thread bloklandığında (park) carrier platform thread'inden iner, carrier başka
+ * virtual thread'i çalıştırır. Ama JDK 21-23'te şu durumlarda İNEMEZ, carrier'ı da bloklar (pinning):
+ * - synchronized blok/metod İÇİNDE bloklama (sleep, I/O, j.u.c lock)
+ * - synchronized içinde Object.wait() → carrier wait() bitene kadar meşgul.
+ *   Scheduler bunu geçici EK carrier açarak telafi etmeye çalışır (en fazla 256)
+ * - Monitor'a girmek için bekleme (contended synchronized)
+ * JDK 24'te (JEP 491) synchronized ve wait() artık pinlemez.
+ *
+ * BoundedBuffer (TESTT_ProducerConsumer) ve SingleElementBuffer (TESTT_WaitNotify)
+ * synchronized + wait() ile bekler. Lock tabanlı kardeşleri ReentrantLock + Condition kullanır.
+ * Bu test her birini binlerce virtual producer/consumer ile çalıştırır ve ölçer:
+ * - Throughput: item/sn
+ * - JFR olayları (sadece virtual thread'lerden):
+ *   jdk.VirtualThreadPinned - pinned iken PARK (ör. synchronized içinde sleep)
+ *   jdk.JavaMonitorWait     - wait() içinde geçen süre; JDK 21-23'te bu süre boyunca carrier tutulur
+ *   jdk.JavaMonitorEnter    - monitor'a girmek için bekleme (JDK 21-23'te yine carrier tutulur)
+ *   JDK 24+'ta bu iki olay sadece bekleme süresidir: virtual thread carrier'dan iner
+ *   ("carrier tutuldu" yorumu sadece JDK 24 öncesinde yazılır)
+ * - Carrier'lar: başlangıç ve en yüksek carrier sayısı (telafi için açılan ekler) ve
+ *   kullanım oranı = carrier CPU zamanı / (süre × çekirdek sayısı)
+ *
+ * 1 sn boyunca hiç item tüketilmezse thread'ler kesilir ve TAKILDI yazılır (ilerliyor ama
+ * zaman aşımına yetişmediyse SÜRE DOLDU). Takılmanın iki ayrı sebebi olabilir,
+ * bu yüzden her buffer platform thread'lerle de (kontrol grubu) çalıştırılır:
+ * - Sadece virtual'da takıldıysa: tüm carrier'lar wait() içinde pinli (pinning, JDK 21-23)
+ * - Platform'da da takıldıysa: notify() yanlış tarafı uyandırdı (kayıp uyandırma).
+ *   SingleElementBuffer tek monitor + notify() kullanır, çok producer/consumer için tasarlanmadı
+ *
+ * Çalıştırma:
+ *   java ... TESTT_VirtualThreadPinning                        (100+100 ve 1000+1000 thread, 200 item)
+ *   java ... TESTT_VirtualThreadPinning 100,2000,5000 20 16 30 (thread sayıları, item/producer,
+ *                                                               kapasite, zaman aşımı sn)
+ *   JDK 21-23'te pinning'i konsolda görmek için: -Djdk.tracePinnedThreads=short
+ *   (JDK 24'te bu bayrak kaldırıldı; pinning sadece jdk.VirtualThreadPinned olayıyla görünür)
+ */
+public class TESTT_VirtualThreadPinning {
+
+    /**
+     * Test edilen buffer'lar için ortak arayüz (int değerler)
+     */
+    interface Channel {
+        void put(int value) throws InterruptedException;
+
+        int take() throws InterruptedException;
+    }
+
+    // SingleElementBuffer'lar String taşır
+    interface StringPut {
+        void put(String value) throws InterruptedException;
+    }
+
+    interface StringTake {
+        String take() throws InterruptedException;
+    }
+
+    private static final String CARRIER_CLASS = "jdk.internal.misc.CarrierThread";
+    // JEP 491 öncesi: synchronized içinde wait() / monitor girişi carrier'ı tutar
+    private static final boolean MONITORS_PIN = Runtime.version().feature() < 24;
+    // Bu kadar süre hiç item tüketilmezse takıldı sayılır
+    private static final long STALL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private enum Outcome {
+        FINISHED, STALLED, TIMED_OUT
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] threadCounts = parseCounts(args.length > 0 ? args[0] : "100,1000");
+        int itemsPerProducer = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int capacity = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        int timeoutSec = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+
+        System.out.println("=== Virtual Thread Pinning: synchronized/wait vs ReentrantLock/Condition ===\n");
+        System.out.println("Test Parametreleri:");
+        System.out.println("- JDK: " + Runtime.version() + (MONITORS_PIN
+                ? " (synchronized/wait() carrier'ı pinler)" : " (JEP 491: synchronized/wait() pinlemez)"));
+        System.out.println("- Producer = consumer sayısı: " + Arrays.toString(threadCounts));
+        System.out.println("- Producer başına item: " + itemsPerProducer);
+        System.out.println("- BoundedBuffer kapasitesi: " + capacity);
+        System.out.println("- Çekirdek (varsayılan carrier sayısı): " + Runtime.getRuntime().availableProcessors());
+        System.out.println("- Zaman aşımı: " + timeoutSec + " sn");
+        System.out.println();
+
+        // Lock tabanlılar önce: monitor'lu çalıştırmaların açtığı ek carrier'lar
+        // (boşta ~30 sn yaşar) lock tabanlıların carrier ölçümünü bozmasın
+        Map<String, Supplier<Channel>> buffers = new LinkedHashMap<>();
+        buffers.put("BoundedBuffer (ReentrantLock)",
+                () -> channel(new TESTT_ProducerConsumer.LockBasedBoundedBuffer(capacity, false)));
+        buffers.put("SingleElement (ReentrantLock)", () -> {
+            TESTT_WaitNotify.LockBasedSingleElementBuffer b = new TESTT_WaitNotify.LockBasedSingleElementBuffer(false);
+            return channel(b::produce, b::consume);
+        });
+        buffers.put("BoundedBuffer (synchronized)",
+                () -> channel(new TESTT_ProducerConsumer.BoundedBuffer(capacity, false)));
+        buffers.put("SingleElement (synchronized)", () -> {
+            TESTT_WaitNotify.SingleElementBuffer b = new TESTT_WaitNotify.SingleElementBuffer(false);
+            return channel(b::produce, b::consume);
+        });
+
+        // Isınma: lock tabanlı buffer ile küçük bir tur, sonuçlar yazılmaz
+        run(buffers.values().iterator().next().get(), 50, 100, 10, true, false);
+
+        List<String> rows = new ArrayList<>();
+        for (Map.Entry<String, Supplier<Channel>> entry : buffers.entrySet()) {
+            for (int threads : threadCounts) {
+                for (boolean virtual : new boolean[] {true, false}) {
+                    String name = String.format("%s %d+%d %s", entry.getKey(), threads, threads,
+                            virtual ? "virtual" : "platform");
+                    System.out.println("--- " + name + " ---");
+                    Result result = run(entry.getValue().get(), threads, itemsPerProducer, timeoutSec, virtual, true);
+                    System.out.println(result.details());
+                    rows.add(String.format("%-50s %s", name, result.row()));
+                }
+            }
+        }
+
+        System.out.println("\n=== SONUÇLAR ===");
+        System.out.printf("%-50s %10s %7s %20s %11s %9s%n",
+                "Buffer", "item/sn", "pinned", "monitor bekleme", "carrier", "kullanım");
+        rows.forEach(System.out::println);
+
+        if (MONITORS_PIN) {
+            System.out.println("\n💡 synchronized + wait(): JDK 21-23'te wait() içindeki her virtual thread bir carrier'ı tutar");
+            System.out.println("   (monitor bekleme sütunu). Scheduler ek carrier açarak telafi eder, 256'da durur;");
+            System.out.println("   bekleyen thread sayısı bunu aşınca kimse ilerleyemez. Platform'da takılmayıp virtual'da TAKILAN = pinning.");
+        } else {
+            System.out.println("\n💡 JDK " + Runtime.version().feature() + " (JEP 491): wait() ve monitor girişinde virtual thread carrier'dan iner;");
+            System.out.println("   monitor bekleme sütunu sadece bekleme süresidir, carrier sayısı çekirdek sayısında kalmalı.");
+            System.out.println("   Pinning farkını görmek için aynı testi JDK 21-23 ile çalıştırın.");
+        }
+        System.out.println("   Platform'da da TAKILAN = notify() yanlış tarafı uyandırdı (pinning'den bağımsız bir hata).");
+        System.out.println("   ReentrantLock + Condition: await() park eder, carrier serbest kalır, carrier sayısı çekirdek sayısında kalır;");
+        System.out.println("   ayrı Condition'lar sayesinde signal() hep karşı tarafı uyandırır.");
+    }
+
+    private static Channel channel(TESTT_ProducerConsumer.Buffer buffer) {
+        return new Channel() {
+            public void put(int value) throws InterruptedException {
+                buffer.produce(value);
+            }
+
+            public int take() throws InterruptedException {
+                return buffer.consume();
+            }
+        };
+    }
+
+    private static Channel channel(StringPut put, StringTake take) {
+        return new Channel() {
+            public void put(int value) throws InterruptedException {
+                put.put(Integer.toString(value));
+            }
+
+            public int take() throws InterruptedException {
+                return Integer.parseInt(take.take());
+            }
+        };
+    }
+
+    private static Result run(Channel channel, int threadCount, int itemsPerProducer, int timeoutSec,
+                              boolean virtual, boolean record) throws Exception {
+        long totalItems = (long) threadCount * itemsPerProducer;
+        LongAdder consumed = new LongAdder();
+        Thread.Builder builder = virtual ? Thread.ofVirtual() : Thread.ofPlatform();
+
+        Recording recording = null;
+        if (record && virtual) {
+            recording = new Recording();
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.enable("jdk.JavaMonitorWait").withThreshold(Duration.ZERO).withStackTrace();
+            recording.enable("jdk.JavaMonitorEnter").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+        }
+        Map<Long, Long> carrierCpuAtStart = carrierCpuNanos();
+        CarrierSampler sampler = new CarrierSampler();
+        sampler.start();
+
+        List<Thread> threads = new ArrayList<>(2 * threadCount);
+        CountDownLatch done = new CountDownLatch(2 * threadCount);
+        long start = System.nanoTime();
+        for (int c = 0; c < threadCount; c++) {
+            // Toplam item consumer'lara olabildiğince eşit bölünür
+            long quota = totalItems / threadCount + (c < totalItems % threadCount ? 1 : 0);
+            threads.add(builder.name("consumer-" + c).start(() -> {
+                try {
+                    for (long i = 0; i < quota; i++) {
+                        channel.take();
+                        consumed.increment();
+                    }
+                } catch (InterruptedException e) {
+                    // Zaman aşımı → kesildi
+                } finally {
+                    done.countDown();
+                }
+            }));
+        }
+        for (int p = 0; p < threadCount; p++) {
+            threads.add(builder.name("producer-" + p).start(() -> {
+                try {
+                    for (int i = 0; i < itemsPerProducer; i++) {
+                        channel.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    // Zaman aşımı → kesildi
+                } finally {
+                    done.countDown();
+                }
+            }));
+        }
+
+        long deadline = start + TimeUnit.SECONDS.toNanos(timeoutSec);
+        Outcome outcome = Outcome.FINISHED;
+        long lastConsumed = 0;
+        long lastProgressAt = start;
+        while (!done.await(50, TimeUnit.MILLISECONDS)) {
+            long now = System.nanoTime();
+            long current = consumed.sum();
+            if (current != lastConsumed) {
+                lastConsumed = current;
+                lastProgressAt = now;
+            } else if (now - lastProgressAt > STALL_NANOS) {
+                outcome = Outcome.STALLED;
+                break;
+            }
+            if (now - deadline > 0) {
+                outcome = Outcome.TIMED_OUT;
+                break;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (outcome != Outcome.FINISHED) {
+            threads.forEach(Thread::interrupt);
+            for (Thread thread : threads) {
+                thread.join(Duration.ofSeconds(5));
+            }
+        }
+
+        sampler.interrupt();
+        sampler.join();
+        long carrierCpu = 0;
+        for (Map.Entry<Long, Long> entry : carrierCpuNanos().entrySet()) {
+            carrierCpu += entry.getValue() - carrierCpuAtStart.getOrDefault(entry.getKey(), 0L);
+        }
+
+        Result result = new Result(virtual, consumed.sum(), totalItems, elapsed, outcome, carrierCpuAtStart.size(),
+                Math.max(carrierCpuAtStart.size(), sampler.peakCarriers), carrierCpu);
+        if (recording != null) {
+            recording.stop();
+            readEvents(recording, result);
+            recording.close();
+        }
+        return result;
+    }
+
+    private static void readEvents(Recording recording, Result result) throws IOException {
+        Path file = Files.createTempFile("pinning", ".jfr");
+        try {
+            recording.dump(file);
+            Map<String, Integer> byMethod = new HashMap<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getThread() == null || !event.getThread().isVirtual()) {
+                    continue;  // Carrier sampler, JFR vb.
+                }
+                switch (event.getEventType().getName()) {
+                    case "jdk.VirtualThreadPinned":
+                        result.pinnedEvents++;
+                        byMethod.merge(ownFrame(event), 1, Integer::sum);
+                        break;
+                    case "jdk.JavaMonitorWait":
+                    case "jdk.JavaMonitorEnter":
+                        result.monitorEvents++;
+                        result.monitorNanos += event.getDuration().toNanos();
+                        byMethod.merge(ownFrame(event), 1, Integer::sum);
+                        break;
+                    default:
+                        break;
+                }
+            }
+            byMethod.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .ifPresent(top -> result.topFrame = top.getKey() + " (" + top.getValue() + " olay)");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // Yığında JDK dışındaki ilk metod: bekleyen (JDK 21-23'te carrier'ı tutan) bizim kodumuz
+    private static String ownFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "?";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("org.example")) {
+                return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+            }
+        }
+        return "?";
+    }
+
+    private static int[] parseCounts(String arg) {
+        String[] parts = arg.split(",");
+        int[] counts = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            counts[i] = Integer.parseInt(parts[i].trim());
+        }
+        return counts;
+    }
+
+    /**
+     * Yaşayan carrier thread'leri ve şimdiye kadarki CPU zamanları
+     * (Thread.getAllStackTraces() virtual thread'leri içermez, carrier'lar platform thread'dir)
+     */
+    private static Map<Long, Long> carrierCpuNanos() {
+        Map<Long, Long> cpu = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getClass().getName().equals(CARRIER_CLASS)) {
+                cpu.put(thread.threadId(), CpuTime.threadCpuNanos(thread));
+            }
+        }
+        return cpu;
+    }
+
+    /**
+     * 10ms'de bir yaşayan carrier sayısını örnekler
+     */
+    private static final class CarrierSampler extends Thread {
+        volatile int peakCarriers;
+
+        CarrierSampler() {
+            super("CarrierSampler");
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (!isInterrupted()) {
+                int carriers = carrierCpuNanos().size();
+                if (carriers > peakCarriers) {
+                    peakCarriers = carriers;
+                }
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Result {
+        final boolean virtual;
+        final long consumed;
+        final long total;
+        final long elapsedNanos;
+        final Outcome outcome;
+        final int carriersAtStart;
+        final int peakCarriers;
+        final long carrierCpuNanos;
+        long pinnedEvents;
+        long monitorEvents;
+        long monitorNanos;
+        String topFrame = "-";
+
+        Result(boolean virtual, long consumed, long total, long elapsedNanos, Outcome outcome,
+               int carriersAtStart, int peakCarriers, long carrierCpuNanos) {
+            this.virtual = virtual;
+            this.consumed = consumed;
+            this.total = total;
+            this.elapsedNanos = elapsedNanos;
+            this.outcome = outcome;
+            this.carriersAtStart = carriersAtStart;
+            this.peakCarriers = peakCarriers;
+            this.carrierCpuNanos = carrierCpuNanos;
+        }
+
+        double throughput() {
+            return consumed * 1e9 / elapsedNanos;
+        }
+
+        // Carrier'ların toplam CPU'su / (duvar saati × çekirdek): 1.0 = tüm çekirdekler iş yaptı
+        double carrierUtilization() {
+            return carrierCpuNanos / (elapsedNanos * (double) Runtime.getRuntime().availableProcessors());
+        }
+
+        String outcomeNote() {
+            switch (outcome) {
+                case STALLED:
+                    return "TAKILDI";
+                case TIMED_OUT:
+                    return "SÜRE DOLDU";
+                default:
+                    return "";
+            }
+        }
+
+        String details() {
+            String line = String.format("  %s%d/%d item, %.2f sn, %.0f item/sn%n",
+                    outcome == Outcome.FINISHED ? "" : "⚠️  " + outcomeNote() + ", kesildi: ",
+                    consumed, total, elapsedNanos / 1e9, throughput());
+            if (!virtual) {
+                return line + (outcome == Outcome.STALLED
+                        ? "  Platform thread'lerle de takıldı → pinning değil, kayıp uyandırma (notify())\n" : "");
+            }
+            return line + String.format(
+                    "  JFR: VirtualThreadPinned %d, monitor bekleme %d olay / %.2f sn%s, en sık: %s%n" +
+                            "  Carrier: başta %d, en fazla %d thread, kullanım %%%.0f (CPU %.2f sn)%n",
+                    pinnedEvents, monitorEvents, monitorNanos / 1e9, MONITORS_PIN ? " (carrier tutuldu)" : "", topFrame,
+                    carriersAtStart, peakCarriers, carrierUtilization() * 100, carrierCpuNanos / 1e9);
+        }
+
+        String row() {
+            String stuckNote = outcome == Outcome.FINISHED ? "" : "  " + outcomeNote() + " (" + consumed + "/" + total + ")";
+            if (!virtual) {
+                return String.format("%10.0f %7s %20s %11s %9s%s", throughput(), "-", "-", "-", "-", stuckNote);
+            }
+            return String.format("%10.0f %7d %20s %11s %8.0f%%%s",
+                    throughput(), pinnedEvents, monitorEvents + " / " + String.format("%.1fs", monitorNanos / 1e9),
+                    carriersAtStart + " → " + peakCarriers, carrierUtilization() * 100, stuckNote);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package org.example.synchronization;
 
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * WAIT() ve NOTIFY() AÇIKLAMASI
  *
@@ -95,18 +98,32 @@ public class TESTT_WaitNotify {
      */
     static class SingleElementBuffer {
         private String data = null;
+        private final boolean verbose;
+
+        SingleElementBuffer() {
+            this(true);
+        }
+
+        // verbose false: çıktı yok (binlerce thread'li testler için)
+        SingleElementBuffer(boolean verbose) {
+            this.verbose = verbose;
+        }
 
         // Producer: Veri üret ve buffer'a koy
         public synchronized void produce(String value) throws InterruptedException {
             // Buffer doluysa bekle
             while (data != null) {
-                System.out.println(Thread.currentThread().getName() + ": Buffer dolu, bekliyorum...");
+                if (verbose) {
+                    System.out.println(Thread.currentThread().getName() + ": Buffer dolu, bekliyorum...");
+                }
                 wait(); // Lock'u bırak ve bekle
             }
 
             // Buffer boş, veriyi koy
             data = value;
-            System.out.println(Thread.currentThread().getName() + ": Veri ürettim: " + data);
+            if (verbose) {
+                System.out.println(Thread.currentThread().getName() + ": Veri ürettim: " + data);
+            }
 
             // Consumer'ı uyandır
             notify();
@@ -116,14 +133,18 @@ public class TESTT_WaitNotify {
         public synchronized String consume() throws InterruptedException {
             // Buffer boşsa bekle
             while (data == null) {
-                System.out.println(Thread.currentThread().getName() + ": Buffer boş, bekliyorum...");
+                if (verbose) {
+                    System.out.println(Thread.currentThread().getName() + ": Buffer boş, bekliyorum...");
+                }
                 wait(); // Lock'u bırak ve bekle
             }
 
             // Buffer dolu, veriyi al
             String value = data;
             data = null; // Buffer'ı temizle
-            System.out.println(Thread.currentThread().getName() + ": Veri tükettim: " + value);
+            if (verbose) {
+                System.out.println(Thread.currentThread().getName() + ": Veri tükettim: " + value);
+            }
 
             // Producer'ı uyandır
             notify();
@@ -256,6 +277,126 @@ public class TESTT_WaitNotify {
         }
     }
 
+    /**
+     * ÖRNEK 4: Tek Eleman Buffer - ReentrantLock + Condition
+     *
+     * SingleElementBuffer'da producer'lar ve consumer'lar AYNI monitor'da bekler;
+     * birden fazla producer/consumer varsa notify() yanlış tarafı uyandırabilir
+     * (producer, başka bir producer'ı uyandırır → herkes bekler).
+     * Burada iki ayrı Condition var: signal() hep karşı tarafa gider.
+     *
+     * Virtual thread'de de güvenli: await() carrier'ı bırakır,
+     * synchronized içindeki wait() ise JDK 21-23'te carrier'ı pinler.
+     */
+    static class LockBasedSingleElementBuffer {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notFull = lock.newCondition();   // Producer'lar burada bekler
+        private final Condition notEmpty = lock.newCondition();  // Consumer'lar burada bekler
+        private String data = null;
+        private final boolean verbose;
+
+        LockBasedSingleElementBuffer() {
+            this(true);
+        }
+
+        LockBasedSingleElementBuffer(boolean verbose) {
+            this.verbose = verbose;
+        }
+
+        public void produce(String value) throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                while (data != null) {
+                    if (verbose) {
+                        System.out.println(Thread.currentThread().getName() + ": Buffer dolu, bekliyorum...");
+                    }
+                    notFull.await(); // Lock'u bırak ve bekle
+                }
+
+                data = value;
+                if (verbose) {
+                    System.out.println(Thread.currentThread().getName() + ": Veri ürettim: " + data);
+                }
+
+                // Sadece consumer'lardan birini uyandır
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public String consume() throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                while (data == null) {
+                    if (verbose) {
+                        System.out.println(Thread.currentThread().getName() + ": Buffer boş, bekliyorum...");
+                    }
+                    notEmpty.await(); // Lock'u bırak ve bekle
+                }
+
+                String value = data;
+                data = null;
+                if (verbose) {
+                    System.out.println(Thread.currentThread().getName() + ": Veri tükettim: " + value);
+                }
+
+                // Sadece producer'lardan birini uyandır
+                notFull.signal();
+
+                return value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public static void demonstrate() {
+            System.out.println("=== ÖRNEK 4: Tek Eleman Buffer - ReentrantLock + Condition ===\n");
+
+            LockBasedSingleElementBuffer buffer = new LockBasedSingleElementBuffer();
+
+            // 2 producer, 2 consumer: tek monitor + notify() olsaydı yanlış taraf uyanabilirdi
+            Thread[] threads = new Thread[4];
+            for (int p = 0; p < 2; p++) {
+                final int id = p + 1;
+                threads[p] = new Thread(() -> {
+                    try {
+                        for (int i = 1; i <= 3; i++) {
+                            buffer.produce("P" + id + "-Data-" + i);
+                            Thread.sleep(300);
+                        }
+                    } catch (InterruptedException e) {
+                        e.printStackTrace();
+                    }
+                }, "Producer-" + id);
+                threads[p + 2] = new Thread(() -> {
+                    try {
+                        for (int i = 1; i <= 3; i++) {
+                            buffer.consume();
+                            Thread.sleep(500);
+                        }
+                    } catch (InterruptedException e) {
+                        e.printStackTrace();
+                    }
+                }, "Consumer-" + id);
+            }
+
+            for (Thread thread : threads) {
+                thread.start();
+            }
+
+            try {
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+
+            System.out.println("\n");
+        }
+    }
+
     // Yardımcı metot
     private static void sleep(int millis) {
         try {
@@ -283,6 +424,10 @@ public class TESTT_WaitNotify {
 
         // Örnek 3b: notifyAll() - tüm thread'ler
         NotifyVsNotifyAll.demonstrateNotifyAll();
+        sleep(500);
+
+        // Örnek 4: ReentrantLock + Condition
+        LockBasedSingleElementBuffer.demonstrate();
 
         System.out.println("==========================================");
         System.out.println("Tüm örnekler tamamlandı!");
@@ -325,4 +470,10 @@ public class TESTT_WaitNotify {
  * 5. InterruptedException
  *    - wait() sırasında thread interrupt edilirse bu exception fırlatılır
  *    - Mutlaka handle edilmeli (try-catch)
+ *
+ * 6. wait()/notify() vs ReentrantLock + Condition
+ *    - Monitor'un TEK bekleme kümesi var, Lock'un istediğin kadar Condition'ı
+ *    - await() / signal() / signalAll() = wait() / notify() / notifyAll()
+ *    - Virtual thread: synchronized içinde wait() JDK 21-23'te carrier'ı pinler,
+ *      await() pinlemez (bkz. TESTT_VirtualThreadPinning)
  */
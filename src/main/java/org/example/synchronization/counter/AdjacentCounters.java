@@ -0,0 +1,37 @@
+package org.example.synchronization.counter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Yan yana sayaçlar (padding YOK)
+ *
+ * [c0][c1][c2][c3][c4][c5][c6][c7] → 8 long = 64 byte = tek cache line!
+ *
+ * TESTT_MultipleCounters'daki ardışık static int'lerin karşılığı.
+ * Her thread kendi sayacına yazsa da donanım seviyesinde çekişme vardır.
+ */
+public class AdjacentCounters implements IndependentCounters {
+
+    private final AtomicLongArray values;
+
+    public AdjacentCounters(int size) {
+        this.values = new AtomicLongArray(size);
+    }
+
+    @Override
+    public void increment(int index) {
+        // Tek yazan thread → okuma + lazySet yeterli (CAS gereksiz),
+        // ama her artırım gerçekten belleğe (cache'e) yazılır
+        values.lazySet(index, values.get(index) + 1);
+    }
+
+    @Override
+    public long get(int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public int size() {
+        return values.length();
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.synchronization.counter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AtomicLong tabanlı lock-free sayaç
+ *
+ * Lock yok ama tek bir cache line üzerinde CAS yapılıyor.
+ * Thread sayısı arttıkça CAS hataları ve cache line ping-pong'u artar.
+ */
+public class AtomicCounter implements Counter {
+
+    private final AtomicLong count = new AtomicLong();
+
+    @Override
+    public void increment() {
+        count.incrementAndGet();
+    }
+
+    @Override
+    public void add(long delta) {
+        count.addAndGet(delta);
+    }
+
+    @Override
+    public long sum() {
+        return count.get();
+    }
+
+    @Override
+    public void reset() {
+        count.set(0);
+    }
+}
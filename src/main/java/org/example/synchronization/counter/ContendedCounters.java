@@ -0,0 +1,76 @@
+package org.example.synchronization.counter;
+
+import jdk.internal.vm.annotation.Contended;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.management.ManagementFactory;
+
+/**
+ * @Contended ile padding'li sayaçlar
+ *
+ * JVM, @Contended alanların etrafına kendisi padding ekler
+ * (LongAdder ve Thread'in içindeki alanlar da böyle korunur).
+ *
+ * DİKKAT: JDK dışındaki sınıflar için @Contended varsayılan olarak YOK SAYILIR!
+ *   java -XX:-RestrictContended ...
+ * bayrağı olmadan bu sınıf AdjacentCounters'tan farksız davranabilir
+ * (hücre objeleri heap'te yan yana ayrıldığı için).
+ * isEffective() bu durumu tespit etmek içindir.
+ */
+public class ContendedCounters implements IndependentCounters {
+
+    static final class Cell {
+        @Contended
+        volatile long value;
+    }
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Cell.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Cell[] cells;
+
+    public ContendedCounters(int size) {
+        this.cells = new Cell[size];
+        for (int i = 0; i < size; i++) {
+            cells[i] = new Cell();
+        }
+    }
+
+    @Override
+    public void increment(int index) {
+        Cell cell = cells[index];
+        VALUE.setRelease(cell, cell.value + 1);
+    }
+
+    @Override
+    public long get(int index) {
+        return cells[index].value;
+    }
+
+    @Override
+    public int size() {
+        return cells.length;
+    }
+
+    /**
+     * @Contended bu JVM'de uygulama sınıfları için etkin mi?
+     * (-XX:-RestrictContended verilmiş mi)
+     */
+    public static boolean isEffective() {
+        try {
+            var diagnostic = ManagementFactory.getPlatformMXBean(
+                    com.sun.management.HotSpotDiagnosticMXBean.class);
+            return "false".equals(diagnostic.getVMOption("RestrictContended").getValue());
+        } catch (RuntimeException e) {
+            return false;  // HotSpot değil veya bayrak yok
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.synchronization.counter;
+
+/**
+ * Ortak sayaç arayüzü
+ *
+ * TESTT_* örneklerindeki sayaç stratejileri bu arayüzün arkasında toplanır.
+ * Böylece aynı harness farklı implementasyonlarla çalıştırılıp
+ * hot path için en ucuz DOĞRU sayaç seçilebilir.
+ *
+ * Implementasyonlar:
+ * - SynchronizedCounter: Tek monitor, her artırım lock alır
+ * - AtomicCounter: Tek AtomicLong, CAS ile artırım
+ * - LongAdderCounter: JDK LongAdder (dinamik hücreler)
+ * - StripedCounter: Cache-line padding'li, thread başına şeritlenmiş hücreler
+ * - BatchingCounter: Thread-local biriktir, belli aralıklarla paylaşılan sayaca flush et
+ */
+public interface Counter {
+
+    /**
+     * Sayacı 1 artırır
+     */
+    default void increment() {
+        add(1);
+    }
+
+    /**
+     * Sayaca delta ekler
+     */
+    void add(long delta);
+
+    /**
+     * Toplam değeri döner
+     *
+     * Striped/batching implementasyonlarda eşzamanlı artırımlar sırasında
+     * anlık (snapshot) bir değerdir; tüm thread'ler durduktan sonra kesindir.
+     */
+    long sum();
+
+    /**
+     * Çağıran thread'in biriktirdiği değerleri paylaşılan duruma yazar.
+     * Sadece biriktiren implementasyonlar (BatchingCounter) için anlamlıdır.
+     */
+    default void flush() {
+    }
+
+    /**
+     * Sayacı sıfırlar (eşzamanlı artırım yokken çağrılmalı)
+     */
+    void reset();
+}
@@ -0,0 +1,26 @@
+package org.example.synchronization.counter;
+
+import java.util.function.IntFunction;
+
+/**
+ * Bağımsız sayaçların bellek yerleşimi (layout) - harness'lerde isimle seçmek için
+ *
+ * - ADJACENT: Yan yana, aynı cache line'ı paylaşır (false sharing)
+ * - PADDED: Dizi içinde 128 byte aralıklı (bayrak gerektirmez)
+ * - CONTENDED: @Contended alanlar (-XX:-RestrictContended gerekir)
+ */
+public enum CounterLayout {
+    ADJACENT(AdjacentCounters::new),
+    PADDED(PaddedCounters::new),
+    CONTENDED(ContendedCounters::new);
+
+    private final IntFunction<IndependentCounters> factory;
+
+    CounterLayout(IntFunction<IndependentCounters> factory) {
+        this.factory = factory;
+    }
+
+    public IndependentCounters create(int size) {
+        return factory.apply(size);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.synchronization.counter;
+
+import java.util.function.Supplier;
+
+/**
+ * Sayaç stratejileri - harness'lerde isimle seçmek için
+ *
+ * Örnek: java ... TESTT_InstanceBased STRIPED
+ */
+public enum CounterType {
+    SYNCHRONIZED(SynchronizedCounter::new),
+    ATOMIC(AtomicCounter::new),
+    LONG_ADDER(LongAdderCounter::new),
+    STRIPED(StripedCounter::new),
+    BATCHING(BatchingCounter::new);
+
+    private final Supplier<Counter> factory;
+
+    CounterType(Supplier<Counter> factory) {
+        this.factory = factory;
+    }
+
+    public Counter create() {
+        return factory.get();
+    }
+
+    /**
+     * Program argümanından tip okur, argüman yoksa varsayılanı döner
+     */
+    public static CounterType fromArgs(String[] args, CounterType defaultType) {
+        if (args.length == 0) {
+            return defaultType;
+        }
+        return valueOf(args[0].toUpperCase());
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.synchronization.counter;
+
+/**
+ * Birbirinden BAĞIMSIZ sayaçlar grubu (her sayacı tek bir thread yazar)
+ *
+ * TESTT_MultipleCounters / TESTT_TrueParallel'daki counter1, counter2 gibi.
+ * Lock yok, çekişme yok... ama sayaçlar bellekte YAN YANA duruyorsa
+ * aynı cache line'ı paylaşırlar ve her yazma diğer çekirdeğin
+ * cache line kopyasını geçersiz kılar → FALSE SHARING.
+ *
+ * Implementasyonlar sadece bellek yerleşiminde (layout) farklıdır,
+ * bkz. CounterLayout.
+ */
+public interface IndependentCounters {
+
+    /**
+     * index numaralı sayacı 1 artırır.
+     * Her index için TEK yazan thread olmalıdır (single-writer).
+     */
+    void increment(int index);
+
+    long get(int index);
+
+    int size();
+
+    default long sum() {
+        long sum = 0;
+        for (int i = 0; i < size(); i++) {
+            sum += get(i);
+        }
+        return sum;
+    }
+}
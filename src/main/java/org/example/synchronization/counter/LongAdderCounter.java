@@ -0,0 +1,34 @@
+package org.example.synchronization.counter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDK LongAdder tabanlı sayaç
+ *
+ * Çekişme olduğunda hücre sayısını dinamik olarak artırır (@Contended hücreler).
+ * Yazma ucuz, sum() tüm hücreleri toplar.
+ */
+public class LongAdderCounter implements Counter {
+
+    private final LongAdder adder = new LongAdder();
+
+    @Override
+    public void increment() {
+        adder.increment();
+    }
+
+    @Override
+    public void add(long delta) {
+        adder.add(delta);
+    }
+
+    @Override
+    public long sum() {
+        return adder.sum();
+    }
+
+    @Override
+    public void reset() {
+        adder.reset();
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.synchronization.counter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Padding'li sayaçlar (production metric holder'lara kopyalanabilecek layout)
+ *
+ * [pad x16][c0][pad x15][c1][pad x15] ... [cN][pad x15]
+ *
+ * - Sayaçlar arası 128 byte → iki sayaç asla aynı cache line'da değil
+ *   (adjacent-line prefetcher iki line'ı birlikte çektiği için 64 değil 128)
+ * - Baştaki ve sondaki padding dizinin header'ı ve komşu objelerle paylaşımı önler
+ *   (dizi (size + 1) × 16 long: son sayaçtan sonra 15 long = 120 byte kalır)
+ *
+ * Sadece JDK API'si kullanır, JVM bayrağı gerekmez.
+ */
+public class PaddedCounters implements IndependentCounters {
+
+    private static final int PADDING = 16;  // 16 long = 128 byte
+
+    private final AtomicLongArray values;
+    private final int size;
+
+    public PaddedCounters(int size) {
+        this.size = size;
+        this.values = new AtomicLongArray((size + 1) * PADDING);
+    }
+
+    private static int offset(int index) {
+        return (index + 1) * PADDING;
+    }
+
+    @Override
+    public void increment(int index) {
+        int i = offset(index);
+        values.lazySet(i, values.get(i) + 1);
+    }
+
+    @Override
+    public long get(int index) {
+        return values.get(offset(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
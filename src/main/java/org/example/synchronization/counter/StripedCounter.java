@@ -0,0 +1,77 @@
+package org.example.synchronization.counter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cache-line padding'li, thread başına şeritlenmiş (striped) sayaç
+ *
+ * LongAdder'a benzer ama hücre sayısı sabittir ve her thread ID'sine göre
+ * her zaman AYNI hücreye yazar. Hücreler arasında PADDING bırakılır:
+ *
+ *   [cell0 | 15 boş long] [cell1 | 15 boş long] ...
+ *
+ * 16 long = 128 byte → iki hücre asla aynı cache line'da olmaz
+ * (adjacent-line prefetch yapan işlemciler için de güvenli).
+ *
+ * Thread sayısı ≤ stripe sayısı ise her thread kendi cache line'ına yazar,
+ * CAS neredeyse hiç başarısız olmaz.
+ */
+public class StripedCounter implements Counter {
+
+    // 128 byte / 8 byte = 16 long (1 değer + 15 padding)
+    private static final int PADDING = 16;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+
+    public StripedCounter() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public StripedCounter(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes > 0 olmalı: " + stripes);
+        }
+        // 2'nin kuvvetine yuvarla → modulo yerine maske
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.mask = size - 1;
+        this.cells = new AtomicLongArray(size * PADDING);
+    }
+
+    private int index() {
+        long id = Thread.currentThread().threadId();
+        // Ardışık thread ID'lerini dağıtmak için karıştır
+        int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return ((h ^ (h >>> 16)) & mask) * PADDING;
+    }
+
+    @Override
+    public void increment() {
+        cells.getAndIncrement(index());
+    }
+
+    @Override
+    public void add(long delta) {
+        cells.getAndAdd(index(), delta);
+    }
+
+    @Override
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i <= mask; i++) {
+            cells.set(i * PADDING, 0);
+        }
+    }
+
+    public int stripes() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.synchronization.counter;
+
+/**
+ * Klasik synchronized sayaç (TESTT_InstanceBased.Counter ile aynı strateji)
+ *
+ * Her artırım 'this' monitor'ünü alır → tüm thread'ler sıraya girer.
+ */
+public class SynchronizedCounter implements Counter {
+
+    private long count = 0;
+
+    @Override
+    public synchronized void add(long delta) {
+        count += delta;
+    }
+
+    @Override
+    public synchronized long sum() {
+        return count;
+    }
+
+    @Override
+    public synchronized void reset() {
+        count = 0;
+    }
+}